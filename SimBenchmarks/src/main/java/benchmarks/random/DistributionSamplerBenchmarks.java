@@ -0,0 +1,175 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks.random;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.apache.commons.math3.distribution.GammaDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.UniformRealDistribution;
+import org.apache.commons.math3.distribution.WeibullDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.LogNormalDistributionImpl;
+import mathtools.distribution.tools.DistributionRandomNumber;
+import mathtools.distribution.tools.DistributionSampleBuffer;
+import mathtools.distribution.tools.DistributionSampler;
+import mathtools.distribution.tools.RandomGeneratorMode;
+
+/**
+ * Misst die Zeit pro Zufallszahl fr typische Verteilungen, jeweils ber
+ * {@link DistributionRandomNumber#random(AbstractRealDistribution)}, ber die direkten Sampler,
+ * ber die tabellenbasierten Sampler und ber einen {@link DistributionSampleBuffer}.
+ * @author Alexander Herzog
+ * @see DistributionSampler
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class DistributionSamplerBenchmarks {
+	/**
+	 * Zu prfende Verteilung
+	 */
+	@Param({"Uniform","Exponential","Normal","Gamma","LogNormal","Weibull","Empirical"})
+	public String distributionName;
+
+	/**
+	 * Name des zu verwendenden Generators (siehe {@link RandomGeneratorMode#name})
+	 */
+	@Param({"ThreadLocalRandom","XoRoShiRo128++"})
+	public String generatorName;
+
+	/**
+	 * Zu verwendender Generator
+	 */
+	private RandomGenerator generator;
+
+	/**
+	 * Zu prfende Verteilung
+	 */
+	private AbstractRealDistribution distribution;
+
+	/**
+	 * Direkter Sampler (ohne Tabellen)
+	 */
+	private DistributionSampler directSampler;
+
+	/**
+	 * Sampler mit Tabellen (Alias-Tabelle bzw. Tabelle zur schnellen Inversion, sofern mglich)
+	 */
+	private DistributionSampler tableSampler;
+
+	/**
+	 * Puffer auf Basis des Samplers mit Tabellen
+	 */
+	private DistributionSampleBuffer buffer;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public DistributionSamplerBenchmarks() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Liefert die Verteilung zu einem Namen.
+	 * @param name	Name der Verteilung
+	 * @return	Verteilung
+	 */
+	private static AbstractRealDistribution getDistribution(final String name) {
+		switch (name) {
+		case "Uniform": return new UniformRealDistribution(null,0,120);
+		case "Exponential": return new ExponentialDistribution(null,60);
+		case "Normal": return new NormalDistribution(null,60,10);
+		case "Gamma": return new GammaDistribution(null,3,20);
+		case "LogNormal": return new LogNormalDistributionImpl(60,20);
+		case "Weibull": return new WeibullDistribution(null,1.5,60);
+		case "Empirical":
+			final DataDistributionImpl empirical=new DataDistributionImpl(86400,86400);
+			for (int i=0;i<empirical.densityData.length;i++) empirical.densityData[i]=1+Math.sin(i*Math.PI/43200);
+			return empirical;
+		default: throw new IllegalArgumentException(name);
+		}
+	}
+
+	/**
+	 * Legt Generator, Verteilung und Sampler an.
+	 */
+	@Setup
+	public void setup() {
+		generator=RandomGeneratorMode.fromName(generatorName).getGenerator(false);
+		distribution=getDistribution(distributionName);
+		directSampler=DistributionRandomNumber.getSampler(distribution);
+		tableSampler=DistributionRandomNumber.getSampler(distribution,true);
+		buffer=new DistributionSampleBuffer(tableSampler,false);
+	}
+
+	/**
+	 * Zufallszahl ber {@link DistributionRandomNumber#random(AbstractRealDistribution)}
+	 * @return	Zufallszahl
+	 */
+	@Benchmark
+	public double random() {
+		return DistributionRandomNumber.random(distribution);
+	}
+
+	/**
+	 * Zufallszahl ber den direkten Sampler
+	 * @return	Zufallszahl
+	 */
+	@Benchmark
+	public double directSampler() {
+		return directSampler.random(generator);
+	}
+
+	/**
+	 * Zufallszahl ber den Sampler mit Tabellen
+	 * @return	Zufallszahl
+	 */
+	@Benchmark
+	public double tableSampler() {
+		return tableSampler.random(generator);
+	}
+
+	/**
+	 * Zufallszahl aus dem Puffer
+	 * @return	Zufallszahl
+	 */
+	@Benchmark
+	public double buffer() {
+		return buffer.next(generator);
+	}
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks.random;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mathtools.distribution.tools.RandomGeneratorMode;
+
+/**
+ * Misst die Zeit pro Zufallszahl fr alle ber {@link RandomGeneratorMode} verfgbaren Generatoren.
+ * @author Alexander Herzog
+ * @see RandomGeneratorMode
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class RandomGeneratorBenchmarks {
+	/**
+	 * Name des zu prfenden Generators (siehe {@link RandomGeneratorMode#name})
+	 */
+	@Param({"ThreadLocalRandom","Random","Well512a","Well19937c","MersenneTwister","ISAAC","XoRoShiRo128++","XoRoShiRo128**","XoRoShiRo64**","L32X64Mix","Drand48"})
+	public String generatorName;
+
+	/**
+	 * Zu prfender Generator
+	 */
+	private RandomGenerator generator;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public RandomGeneratorBenchmarks() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Legt den zu prfenden Generator an.
+	 */
+	@Setup
+	public void setup() {
+		generator=RandomGeneratorMode.fromName(generatorName).getGenerator(false);
+	}
+
+	/**
+	 * Erzeugt eine gleichverteilte Fliekommazahl.
+	 * @return	Zufallszahl
+	 */
+	@Benchmark
+	public double nextDouble() {
+		return generator.nextDouble();
+	}
+
+	/**
+	 * Erzeugt eine 64-Bit-Ganzzahl.
+	 * @return	Zufallszahl
+	 */
+	@Benchmark
+	public long nextLong() {
+		return generator.nextLong();
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Dieses Package enthlt JMH-Benchmarks fr die Zufallszahlengeneratoren und die Verteilungs-Sampler.
+ * @author Alexander Herzog
+ */
+package benchmarks.random;
@@ -0,0 +1,165 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks.simcore;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simcore.Event;
+import simcore.SimData;
+import simcore.eventcache.AssociativeEventCache;
+import simcore.eventcache.EventCache;
+import simcore.eventcache.HashMapEventCache;
+import simcore.eventcache.ListEventCache;
+import simcore.eventcache.ListEventCacheLocked;
+import simcore.eventcache.NoEventCache;
+
+/**
+ * Misst die Zeit fr das Holen und Zurckgeben von Ereignissen fr alle Implementierungen von {@link EventCache}.<br>
+ * Pro Aufruf werden {@link #BATCH_SIZE} Ereignisse (abwechselnd von drei verschiedenen Klassen) aus dem Cache
+ * geholt und anschlieend wieder in den Cache gelegt. Eine Operation entspricht einem Holen und einem Zurckgeben.
+ * @author Alexander Herzog
+ * @see EventCache
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class EventCacheBenchmarks {
+	/**
+	 * Anzahl an Ereignissen, die pro Aufruf geholt und zurckgegeben werden
+	 */
+	public static final int BATCH_SIZE=48;
+
+	/**
+	 * Name des zu prfenden Caches
+	 */
+	@Param({"NoEventCache","ListEventCache","ListEventCacheLocked","HashMapEventCache","AssociativeEventCache"})
+	public String eventCacheName;
+
+	/**
+	 * Zu prfender Cache
+	 */
+	private EventCache eventCache;
+
+	/**
+	 * Zwischenspeicher fr die geholten Ereignisse
+	 */
+	private final Event[] events=new Event[BATCH_SIZE];
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public EventCacheBenchmarks() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Weiteres Ereignis fr die Cache-Messung (wird nicht ausgefhrt)
+	 */
+	public static final class DummyEventA extends Event {
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public DummyEventA() {
+			/*
+			 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+			 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+			 */
+		}
+
+		@Override
+		public void run(final SimData data) {}
+	}
+
+	/**
+	 * Weiteres Ereignis fr die Cache-Messung (wird nicht ausgefhrt)
+	 */
+	public static final class DummyEventB extends Event {
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public DummyEventB() {
+			/*
+			 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+			 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+			 */
+		}
+
+		@Override
+		public void run(final SimData data) {}
+	}
+
+	/**
+	 * Legt einen neuen Cache an.
+	 * @param name	Name des Caches
+	 * @return	Neuer Cache
+	 */
+	private static EventCache getEventCache(final String name) {
+		switch (name) {
+		case "NoEventCache": return new NoEventCache();
+		case "ListEventCache": return new ListEventCache();
+		case "ListEventCacheLocked": return new ListEventCacheLocked();
+		case "HashMapEventCache": return new HashMapEventCache();
+		case "AssociativeEventCache": return new AssociativeEventCache();
+		default: throw new IllegalArgumentException(name);
+		}
+	}
+
+	/**
+	 * Legt den Cache an und befllt ihn mit je einem Block an Ereignissen pro Klasse.
+	 */
+	@Setup
+	public void setup() {
+		eventCache=getEventCache(eventCacheName);
+		getAndPut();
+	}
+
+	/**
+	 * Holt {@link #BATCH_SIZE} Ereignisse aus dem Cache und gibt sie anschlieend wieder zurck.
+	 * @return	Zuletzt geholtes Ereignis
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public Event getAndPut() {
+		final EventCache eventCache=this.eventCache;
+		final Event[] events=this.events;
+		for (int i=0;i<BATCH_SIZE;i+=3) {
+			events[i]=eventCache.get(HoldEvent.class);
+			events[i+1]=eventCache.get(DummyEventA.class);
+			events[i+2]=eventCache.get(DummyEventB.class);
+		}
+		for (int i=0;i<BATCH_SIZE;i++) eventCache.put(events[i]);
+		return events[BATCH_SIZE-1];
+	}
+}
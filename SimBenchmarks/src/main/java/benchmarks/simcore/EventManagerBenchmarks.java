@@ -0,0 +1,140 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks.simcore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simcore.Event;
+import simcore.SimData;
+import simcore.eventcache.HashMapEventCache;
+import simcore.eventmanager.EventManager;
+import simcore.eventmanager.LongRunMultiPriorityQueueEventManager;
+import simcore.eventmanager.LongRunMultiSortedArrayListEventManager;
+import simcore.eventmanager.MapEventManager;
+import simcore.eventmanager.MultiArrayEventManager;
+import simcore.eventmanager.MultiArrayEventManagerWithHeapSort;
+import simcore.eventmanager.MultiPriorityQueueEventManager;
+import simcore.eventmanager.PriorityQueueEventManager;
+import simcore.eventmanager.TwoListsEventManager;
+
+/**
+ * Misst die Zeit pro Ereignis fr alle Implementierungen von {@link EventManager}
+ * ber das "Hold"-Modell (siehe {@link HoldEvent}).<br>
+ * Pro Aufruf wird ein simulierter Tag mit {@link #EVENTS_PER_DAY} Ereignissen ausgefhrt;
+ * {@link #queueSize} gibt an, wie viele Ereignisse dabei gleichzeitig in der Ereignisliste stehen.
+ * Das Anlegen der Ereignisverwaltung und der initialen Ereignisse ist in der Messung enthalten,
+ * fllt aber gegenber der Anzahl an ausgefhrten Ereignissen kaum ins Gewicht.
+ * @author Alexander Herzog
+ * @see EventManager
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=3,time=2)
+@Measurement(iterations=5,time=2)
+@Fork(1)
+public class EventManagerBenchmarks {
+	/**
+	 * Anzahl an Ereignissen pro simuliertem Tag
+	 */
+	public static final int EVENTS_PER_DAY=100_000;
+
+	/**
+	 * Anzahl an Teilwarteschlangen fr die "LongRun"-Ereignisverwaltungen
+	 */
+	private static final int SPLIT_LEVEL=8;
+
+	/**
+	 * Name der zu prfenden Ereignisverwaltung
+	 */
+	@Param({"PriorityQueue","MultiPriorityQueue","MultiArray","MultiArrayHeapSort","MultiArrayArraysSort","TwoLists","Map","LongRunMultiPriorityQueue","LongRunMultiSortedArrayList"})
+	public String eventManagerName;
+
+	/**
+	 * Anzahl an gleichzeitig in der Ereignisliste befindlichen Ereignissen
+	 */
+	@Param({"10","1000","10000"})
+	public int queueSize;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public EventManagerBenchmarks() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Legt eine neue Ereignisverwaltung an.
+	 * @param name	Name der Ereignisverwaltung
+	 * @return	Neue Ereignisverwaltung
+	 */
+	private static EventManager getEventManager(final String name) {
+		switch (name) {
+		case "PriorityQueue": return new PriorityQueueEventManager();
+		case "MultiPriorityQueue": return new MultiPriorityQueueEventManager();
+		case "MultiArray": return new MultiArrayEventManager();
+		case "MultiArrayHeapSort": return new MultiArrayEventManagerWithHeapSort(true);
+		case "MultiArrayArraysSort": return new MultiArrayEventManagerWithHeapSort(false);
+		case "TwoLists": return new TwoListsEventManager();
+		case "Map": return new MapEventManager();
+		case "LongRunMultiPriorityQueue": return new LongRunMultiPriorityQueueEventManager(SPLIT_LEVEL);
+		case "LongRunMultiSortedArrayList": return new LongRunMultiSortedArrayListEventManager(SPLIT_LEVEL);
+		default: throw new IllegalArgumentException(name);
+		}
+	}
+
+	/**
+	 * Simuliert einen Tag im "Hold"-Modell.
+	 * @return	Anzahl an ausgefhrten Ereignissen
+	 */
+	@Benchmark
+	@OperationsPerInvocation(EVENTS_PER_DAY)
+	public long holdDay() {
+		final SimData simData=new SimData(getEventManager(eventManagerName),new HashMapEventCache(),0,1,1000);
+		final SplittableRandom random=new SplittableRandom(queueSize);
+
+		final int chainLength=Math.max(1,EVENTS_PER_DAY/queueSize);
+		final long maxStep=HoldEvent.DAY_LENGTH/(chainLength+1);
+		final List<Event> initialEvents=new ArrayList<>(queueSize);
+		for (int i=0;i<queueSize;i++) {
+			final HoldEvent event=(HoldEvent)simData.getEvent(HoldEvent.class);
+			event.init(random.nextLong(maxStep),chainLength,maxStep,random);
+			initialEvents.add(event);
+		}
+		simData.eventManager.addInitialEvents(initialEvents);
+
+		simData.eventManager.executeNextEvents(simData,Integer.MAX_VALUE,Integer.MAX_VALUE);
+		return simData.eventManager.eventCount();
+	}
+}
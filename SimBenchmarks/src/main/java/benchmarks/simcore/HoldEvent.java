@@ -0,0 +1,85 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks.simcore;
+
+import java.util.SplittableRandom;
+
+import simcore.Event;
+import simcore.SimData;
+
+/**
+ * Ereignis fr das klassische "Hold"-Modell zur Messung der Ereignisverwaltung:
+ * Bei der Ausfhrung wird (bis die vorgegebene Anzahl an Wiederholungen erreicht ist)
+ * ein neues Ereignis desselben Typs aus dem Cache geholt und in der Zukunft eingeplant.
+ * Die Anzahl an Ereignissen in der Ereignisliste bleibt so konstant.
+ * @author Alexander Herzog
+ * @see EventManagerBenchmarks
+ */
+public final class HoldEvent extends Event {
+	/**
+	 * Lnge eines simulierten Tages in Millisekunden<br>
+	 * (Einige Ereignisverwaltungen sind auf Zeitpunkte innerhalb eines Tages ausgelegt.)
+	 */
+	public static final long DAY_LENGTH=86_400_000L;
+
+	/**
+	 * Anzahl an noch ausstehenden Ausfhrungen dieser Kette (einschlielich der aktuellen)
+	 */
+	private int remaining;
+
+	/**
+	 * Maximaler Abstand zum nchsten Ereignis der Kette
+	 */
+	private long maxStep;
+
+	/**
+	 * Zufallszahlengenerator fr die Abstnde
+	 */
+	private SplittableRandom random;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * (Muss ffentlich sein, da die Ereignis-Caches neue Objekte per Reflection anlegen.)
+	 */
+	public HoldEvent() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Initialisierung des Ereignisses (nach der Erstellung oder nach dem Holen aus dem Event-Cache)
+	 * @param time	Geplante Ausfhrungszeit
+	 * @param remaining	Anzahl an noch ausstehenden Ausfhrungen dieser Kette (einschlielich dieser)
+	 * @param maxStep	Maximaler Abstand zum nchsten Ereignis der Kette
+	 * @param random	Zufallszahlengenerator fr die Abstnde
+	 */
+	public void init(final long time, final int remaining, final long maxStep, final SplittableRandom random) {
+		super.init(time);
+		this.remaining=remaining;
+		this.maxStep=maxStep;
+		this.random=random;
+	}
+
+	@Override
+	public void run(final SimData data) {
+		if (remaining<=1) return;
+		final HoldEvent next=(HoldEvent)data.getEvent(HoldEvent.class);
+		next.init(time+1+random.nextLong(maxStep),remaining-1,maxStep,random);
+		data.eventManager.addEvent(next);
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Dieses Package enthlt JMH-Benchmarks fr die Ereignisverwaltung und die Ereignis-Caches des Simulatorkerns.
+ * @author Alexander Herzog
+ */
+package benchmarks.simcore;
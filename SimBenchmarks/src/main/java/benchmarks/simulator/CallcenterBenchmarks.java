@@ -0,0 +1,109 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks.simulator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simulator.Simulator;
+import simulator.editmodel.EditModel;
+import simulator.statistics.Statistics;
+
+/**
+ * Misst die Laufzeit vollstndiger Simulationslufe des Callcenter-Modells
+ * (Standardmodell mit {@link #CALLS} Anrufen) bei verschiedenen Auslastungen der Bediener.<br>
+ * Die Auslastung wird ber die mittlere Zwischenankunftszeit eingestellt; Bedienzeiten und
+ * Anzahl an Bedienern entsprechen dem Standardmodell. ber {@link #threads} kann eingestellt
+ * werden, auf wie vielen Threads der Lauf verteilt werden soll.
+ * @author Alexander Herzog
+ * @see Simulator
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3,time=5)
+@Measurement(iterations=5,time=5)
+@Fork(1)
+public class CallcenterBenchmarks {
+	/**
+	 * Anzahl an zu simulierenden Anrufen pro Lauf
+	 */
+	public static final int CALLS=100_000;
+
+	/**
+	 * Auslastung der Bediener
+	 */
+	@Param({"0.5","0.8","0.95"})
+	public double load;
+
+	/**
+	 * Maximal zu verwendende Anzahl an Threads
+	 */
+	@Param({"1","4"})
+	public int threads;
+
+	/**
+	 * Zu simulierendes Modell
+	 */
+	private EditModel editModel;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public CallcenterBenchmarks() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Erstellt das zu simulierende Modell.
+	 */
+	@Setup
+	public void setup() {
+		editModel=new EditModel();
+		final double workingTime=editModel.workingTimeDist.getNumericalMean();
+		editModel.interArrivalTimeDist=new ExponentialDistribution(null,workingTime/(editModel.agents*load));
+		editModel.callsToSimulate=CALLS;
+		editModel.callsToSimulateWarmUp=CALLS/10;
+	}
+
+	/**
+	 * Fhrt einen vollstndigen Simulationslauf durch.
+	 * @return	Statistikergebnisse des Laufs
+	 */
+	@Benchmark
+	public Statistics run() {
+		final Simulator simulator=new Simulator(threads,editModel,null);
+		final String error=simulator.prepare();
+		if (error!=null) throw new IllegalStateException(error);
+		simulator.start();
+		return simulator.getStatistic();
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Dieses Package enthlt JMH-Benchmarks fr vollstndige Simulationslufe des Callcenter-Simulators.
+ * @author Alexander Herzog
+ */
+package benchmarks.simulator;
@@ -0,0 +1,194 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks.statistics;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import statistics.StatisticsDataPerformanceIndicator;
+import statistics.StatisticsTimePerformanceIndicator;
+
+/**
+ * Misst die Zeit fr die Erfassung eines Wertes ber {@link StatisticsDataPerformanceIndicator#add(double)}
+ * (in verschiedenen Konfigurationen) und einer Zustandsnderung ber {@link StatisticsTimePerformanceIndicator#set(double, int)}.<br>
+ * Die Werte werden vorab erzeugt, so dass nur die Erfassung selbst gemessen wird.
+ * @author Alexander Herzog
+ * @see StatisticsDataPerformanceIndicator
+ * @see StatisticsTimePerformanceIndicator
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class StatisticsBenchmarks {
+	/**
+	 * Anzahl an vorab erzeugten Werten und zugleich Anzahl an erfassten Werten pro Aufruf
+	 */
+	private static final int BATCH_SIZE=4096;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public StatisticsBenchmarks() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Zustand fr die Messung von {@link StatisticsDataPerformanceIndicator#add(double)}
+	 */
+	@State(Scope.Thread)
+	public static class DataState {
+		/**
+		 * Konfiguration des Datenstatistikobjekts:
+		 * "plain" (nur Hufigkeitsverteilung), "welford" (Varianz ber den Welford-Algorithmus),
+		 * "batchMeans" (zustzlich Batch-Means) oder "correlation" (zustzlich Autokorrelation)
+		 */
+		@Param({"plain","welford","batchMeans","correlation"})
+		public String dataMode;
+
+		/**
+		 * Zu prfendes Datenstatistikobjekt
+		 */
+		private StatisticsDataPerformanceIndicator indicator;
+
+		/**
+		 * Vorab erzeugte Werte (exponentialverteilt, Mittelwert 180)
+		 */
+		private final double[] values=new double[BATCH_SIZE];
+
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public DataState() {
+			final SplittableRandom random=new SplittableRandom(1);
+			for (int i=0;i<BATCH_SIZE;i++) values[i]=-180*Math.log(1-random.nextDouble());
+		}
+
+		/**
+		 * Legt das Statistikobjekt neu an (damit die Gre des Objekts nicht ber die Messung hinweg wchst).
+		 */
+		@Setup(Level.Iteration)
+		public void setup() {
+			switch (dataMode) {
+			case "plain": indicator=new StatisticsDataPerformanceIndicator(new String[] {"Data"},7200,7200,-1,1,false); break;
+			case "welford": indicator=new StatisticsDataPerformanceIndicator(new String[] {"Data"},7200,7200,-1,1,true); break;
+			case "batchMeans": indicator=new StatisticsDataPerformanceIndicator(new String[] {"Data"},7200,7200,-1,100,false); break;
+			case "correlation": indicator=new StatisticsDataPerformanceIndicator(new String[] {"Data"},7200,7200,1000,1,false); break;
+			default: throw new IllegalArgumentException(dataMode);
+			}
+		}
+	}
+
+	/**
+	 * Zustand fr die Messung von {@link StatisticsTimePerformanceIndicator#set(double, int)}
+	 */
+	@State(Scope.Thread)
+	public static class TimeState {
+		/**
+		 * Zu prfendes Zeitstatistikobjekt
+		 */
+		private StatisticsTimePerformanceIndicator indicator;
+
+		/**
+		 * Vorab erzeugte Zeitabstnde (exponentialverteilt, Mittelwert 1)
+		 */
+		private final double[] timeSteps=new double[BATCH_SIZE];
+
+		/**
+		 * Vorab erzeugte Zustnde (Irrfahrt auf 0..30)
+		 */
+		private final int[] states=new int[BATCH_SIZE];
+
+		/**
+		 * Aktuelle Zeit
+		 */
+		private double time;
+
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public TimeState() {
+			final SplittableRandom random=new SplittableRandom(1);
+			int state=0;
+			for (int i=0;i<BATCH_SIZE;i++) {
+				timeSteps[i]=-Math.log(1-random.nextDouble());
+				state=Math.max(0,Math.min(30,state+(random.nextBoolean()?1:-1)));
+				states[i]=state;
+			}
+		}
+
+		/**
+		 * Legt das Statistikobjekt neu an.
+		 */
+		@Setup(Level.Iteration)
+		public void setup() {
+			indicator=new StatisticsTimePerformanceIndicator(new String[] {"Time"});
+			time=0;
+		}
+	}
+
+	/**
+	 * Erfasst {@link #BATCH_SIZE} Werte ber {@link StatisticsDataPerformanceIndicator#add(double)}.
+	 * @param state	Zustand mit Statistikobjekt und Werten
+	 * @return	Statistikobjekt
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public StatisticsDataPerformanceIndicator dataAdd(final DataState state) {
+		final StatisticsDataPerformanceIndicator indicator=state.indicator;
+		final double[] values=state.values;
+		for (int i=0;i<BATCH_SIZE;i++) indicator.add(values[i]);
+		return indicator;
+	}
+
+	/**
+	 * Erfasst {@link #BATCH_SIZE} Zustandsnderungen ber {@link StatisticsTimePerformanceIndicator#set(double, int)}.
+	 * @param state	Zustand mit Statistikobjekt, Zeitabstnden und Zustnden
+	 * @return	Statistikobjekt
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public StatisticsTimePerformanceIndicator timeSet(final TimeState state) {
+		final StatisticsTimePerformanceIndicator indicator=state.indicator;
+		final double[] timeSteps=state.timeSteps;
+		final int[] states=state.states;
+		double time=state.time;
+		for (int i=0;i<BATCH_SIZE;i++) {
+			time+=timeSteps[i];
+			indicator.set(time,states[i]);
+		}
+		state.time=time;
+		return indicator;
+	}
+}
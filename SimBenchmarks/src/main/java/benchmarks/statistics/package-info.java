@@ -0,0 +1,5 @@
+/**
+ * Dieses Package enthlt JMH-Benchmarks fr die Erfassung von Statistikdaten.
+ * @author Alexander Herzog
+ */
+package benchmarks.statistics;
@@ -0,0 +1,341 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Spaltenorientierte Variante von {@link Table}.<br>
+ * Die Daten werden spaltenweise in primitiven Arrays ({@code long[]}, {@code double[]})
+ * vorgehalten und erst dann in Zeichenketten umgewandelt, wenn eine Zelle tatschlich
+ * angezeigt oder exportiert werden soll. Die bergebenen Arrays werden dabei nicht kopiert.<br>
+ * Unterhalb der Datenzeilen knnen zustzliche Textzeilen (z.B. Kenngren wie Mittelwert usw.)
+ * angefgt werden.
+ * @author Alexander Herzog
+ * @see Table
+ */
+public final class ColumnTable {
+	/**
+	 * Datentyp einer Spalte
+	 * @see ColumnTable#getColumnType(int)
+	 */
+	public enum ColumnType {
+		/** Fortlaufender 0-basierter Zeilenindex (ohne eigenes Datenarray) */
+		INDEX,
+		/** Ganzzahlen */
+		LONG,
+		/** Fliekommazahlen, die gerundet als Ganzzahlen ausgegeben werden */
+		ROUNDED,
+		/** Fliekommazahlen mit fester Anzahl an Nachkommastellen */
+		NUMBER,
+		/** Fliekommazahlen, die als Prozentwerte ausgegeben werden */
+		PERCENT,
+		/** Zeichenketten */
+		TEXT
+	}
+
+	/**
+	 * Daten einer einzelnen Spalte
+	 */
+	private static final class Column {
+		/** Datentyp der Spalte */
+		public final ColumnType type;
+		/** Anzahl an Datenzeilen in dieser Spalte */
+		public final int size;
+		/** Ganzzahlige Werte (nur bei {@link ColumnType#LONG}) */
+		public final long[] longs;
+		/** Fliekommawerte (bei {@link ColumnType#ROUNDED}, {@link ColumnType#NUMBER} und {@link ColumnType#PERCENT}) */
+		public final double[] doubles;
+		/** Zeichenketten (nur bei {@link ColumnType#TEXT}) */
+		public final String[] texts;
+		/** Faktor, mit dem die Fliekommawerte vor der Ausgabe multipliziert werden */
+		public final double scale;
+		/** Anzahl an auszugebenden Nachkommastellen */
+		public final int digits;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param type	Datentyp der Spalte
+		 * @param size	Anzahl an Datenzeilen in dieser Spalte
+		 * @param longs	Ganzzahlige Werte (kann <code>null</code> sein)
+		 * @param doubles	Fliekommawerte (kann <code>null</code> sein)
+		 * @param texts	Zeichenketten (kann <code>null</code> sein)
+		 * @param scale	Faktor, mit dem die Fliekommawerte vor der Ausgabe multipliziert werden
+		 * @param digits	Anzahl an auszugebenden Nachkommastellen
+		 */
+		public Column(final ColumnType type, final int size, final long[] longs, final double[] doubles, final String[] texts, final double scale, final int digits) {
+			this.type=type;
+			this.size=size;
+			this.longs=longs;
+			this.doubles=doubles;
+			this.texts=texts;
+			this.scale=scale;
+			this.digits=digits;
+		}
+
+		/**
+		 * Liefert den Zahlenwert einer Zelle.
+		 * @param row	0-basierter Zeilenindex
+		 * @return	Zahlenwert oder <code>NaN</code>, wenn die Zelle keinen Zahlenwert enthlt
+		 */
+		public double getNumber(final int row) {
+			if (row<0 || row>=size) return Double.NaN;
+			switch (type) {
+			case INDEX: return row;
+			case LONG: return longs[row];
+			case ROUNDED: return Math.round(doubles[row]);
+			case NUMBER: return doubles[row]*scale;
+			case PERCENT: return doubles[row]*scale;
+			default: return Double.NaN;
+			}
+		}
+
+		/**
+		 * Liefert den Inhalt einer Zelle als Zeichenkette.
+		 * @param row	0-basierter Zeilenindex
+		 * @return	Inhalt der Zelle (ist nie <code>null</code>)
+		 */
+		public String getValue(final int row) {
+			if (row<0 || row>=size) return "";
+			switch (type) {
+			case INDEX: return Integer.toString(row);
+			case LONG: return Long.toString(longs[row]);
+			case ROUNDED: return Long.toString(Math.round(doubles[row]));
+			case NUMBER: return NumberTools.formatNumber(doubles[row]*scale,digits);
+			case PERCENT: return NumberTools.formatPercent(doubles[row]*scale,digits);
+			case TEXT: final String text=texts[row]; return (text==null)?"":text;
+			default: return "";
+			}
+		}
+	}
+
+	/** Spalten der Tabelle */
+	private final List<Column> columns;
+
+	/** Zustzliche Textzeilen unterhalb der Datenzeilen */
+	private final List<String[]> footer;
+
+	/** Anzahl an Datenzeilen (Maximum ber alle Spalten) */
+	private int dataRows;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public ColumnTable() {
+		columns=new ArrayList<>();
+		footer=new ArrayList<>();
+		dataRows=0;
+	}
+
+	/**
+	 * Fgt eine Spalte hinzu.
+	 * @param column	Neue Spalte
+	 * @return	Liefert das Tabellenobjekt selbst zurck
+	 */
+	private ColumnTable addColumn(final Column column) {
+		columns.add(column);
+		dataRows=Math.max(dataRows,column.size);
+		return this;
+	}
+
+	/**
+	 * Fgt eine Spalte mit den fortlaufenden Zeilennummern 0, 1, 2, ... hinzu.
+	 * @param size	Anzahl an Datenzeilen
+	 * @return	Liefert das Tabellenobjekt selbst zurck
+	 */
+	public ColumnTable addIndexColumn(final int size) {
+		return addColumn(new Column(ColumnType.INDEX,Math.max(0,size),null,null,null,1.0,0));
+	}
+
+	/**
+	 * Fgt eine Spalte mit Ganzzahlen hinzu.
+	 * @param values	Werte der Spalte (wird nicht kopiert)
+	 * @return	Liefert das Tabellenobjekt selbst zurck
+	 */
+	public ColumnTable addLongColumn(final long[] values) {
+		return addColumn(new Column(ColumnType.LONG,values.length,values,null,null,1.0,0));
+	}
+
+	/**
+	 * Fgt eine Spalte mit Fliekommazahlen hinzu, die gerundet als Ganzzahlen ausgegeben werden.
+	 * @param values	Werte der Spalte (wird nicht kopiert)
+	 * @return	Liefert das Tabellenobjekt selbst zurck
+	 */
+	public ColumnTable addRoundedColumn(final double[] values) {
+		return addColumn(new Column(ColumnType.ROUNDED,values.length,null,values,null,1.0,0));
+	}
+
+	/**
+	 * Fgt eine Spalte mit Fliekommazahlen hinzu.
+	 * @param values	Werte der Spalte (wird nicht kopiert)
+	 * @param scale	Faktor, mit dem die Werte vor der Ausgabe multipliziert werden
+	 * @param digits	Anzahl an auszugebenden Nachkommastellen
+	 * @return	Liefert das Tabellenobjekt selbst zurck
+	 */
+	public ColumnTable addNumberColumn(final double[] values, final double scale, final int digits) {
+		return addColumn(new Column(ColumnType.NUMBER,values.length,null,values,null,scale,digits));
+	}
+
+	/**
+	 * Fgt eine Spalte mit Fliekommazahlen hinzu, die als Prozentwerte ausgegeben werden.
+	 * @param values	Werte der Spalte (wird nicht kopiert)
+	 * @param scale	Faktor, mit dem die Werte vor der Ausgabe multipliziert werden (z.B. 1/Summe, um Anteile auszugeben)
+	 * @param digits	Anzahl an auszugebenden Nachkommastellen
+	 * @return	Liefert das Tabellenobjekt selbst zurck
+	 */
+	public ColumnTable addPercentColumn(final double[] values, final double scale, final int digits) {
+		return addColumn(new Column(ColumnType.PERCENT,values.length,null,values,null,scale,digits));
+	}
+
+	/**
+	 * Fgt eine Spalte mit Zeichenketten hinzu.
+	 * @param values	Werte der Spalte (wird nicht kopiert)
+	 * @return	Liefert das Tabellenobjekt selbst zurck
+	 */
+	public ColumnTable addTextColumn(final String[] values) {
+		return addColumn(new Column(ColumnType.TEXT,values.length,null,null,values,1.0,0));
+	}
+
+	/**
+	 * Fgt unterhalb der Datenzeilen eine weitere Textzeile an.
+	 * @param cells	Zellen der Zeile
+	 */
+	public void addFooterLine(final String... cells) {
+		footer.add(Arrays.copyOf(cells,cells.length));
+	}
+
+	/**
+	 * Liefert die Anzahl an Spalten.
+	 * @return	Anzahl an Spalten
+	 */
+	public int getColumnCount() {
+		int count=columns.size();
+		for (String[] line: footer) count=Math.max(count,line.length);
+		return count;
+	}
+
+	/**
+	 * Liefert den Datentyp einer Spalte.
+	 * @param col	0-basierter Spaltenindex
+	 * @return	Datentyp der Spalte oder <code>null</code>, wenn der Index ungltig ist
+	 */
+	public ColumnType getColumnType(final int col) {
+		if (col<0 || col>=columns.size()) return null;
+		return columns.get(col).type;
+	}
+
+	/**
+	 * Liefert die Anzahl an Datenzeilen (ohne die Zusatzzeilen).
+	 * @return	Anzahl an Datenzeilen
+	 * @see #getRowCount()
+	 */
+	public int getDataRowCount() {
+		return dataRows;
+	}
+
+	/**
+	 * Liefert die Gesamtanzahl an Zeilen (Datenzeilen und Zusatzzeilen).
+	 * @return	Gesamtanzahl an Zeilen
+	 * @see #getDataRowCount()
+	 */
+	public int getRowCount() {
+		return dataRows+footer.size();
+	}
+
+	/**
+	 * Liefert den Zahlenwert einer Zelle ohne den Umweg ber eine Zeichenkette.
+	 * @param row	0-basierter Zeilenindex
+	 * @param col	0-basierter Spaltenindex
+	 * @return	Zahlenwert oder <code>NaN</code>, wenn es sich um eine Text- oder Zusatzzeilen-Zelle handelt
+	 */
+	public double getNumber(final int row, final int col) {
+		if (row<0 || row>=dataRows || col<0 || col>=columns.size()) return Double.NaN;
+		return columns.get(col).getNumber(row);
+	}
+
+	/**
+	 * Liefert den Inhalt einer Zelle. Die Umwandlung in eine Zeichenkette erfolgt erst bei diesem Aufruf.
+	 * @param row	0-basierter Zeilenindex
+	 * @param col	0-basierter Spaltenindex
+	 * @return	Inhalt der Zelle (ist nie <code>null</code>)
+	 */
+	public String getValue(final int row, final int col) {
+		if (row<0 || col<0) return "";
+		if (row<dataRows) {
+			if (col>=columns.size()) return "";
+			return columns.get(col).getValue(row);
+		}
+		final int footerIndex=row-dataRows;
+		if (footerIndex>=footer.size()) return "";
+		final String[] line=footer.get(footerIndex);
+		if (col>=line.length || line[col]==null) return "";
+		return line[col];
+	}
+
+	/**
+	 * Liefert eine Zeile der Tabelle.
+	 * @param row	0-basierter Zeilenindex
+	 * @return	Zellen der Zeile
+	 */
+	public List<String> getLine(final int row) {
+		final int cols=(row<dataRows)?columns.size():((row-dataRows<footer.size())?footer.get(row-dataRows).length:0);
+		final List<String> line=new ArrayList<>(cols);
+		for (int i=0;i<cols;i++) line.add(getValue(row,i));
+		return line;
+	}
+
+	/**
+	 * Wandelt die Daten in ein zeilenorientiertes {@link Table}-Objekt um.
+	 * @return	Neues {@link Table}-Objekt mit denselben Zellinhalten
+	 */
+	public Table toTable() {
+		final int rows=getRowCount();
+		final List<List<String>> data=new ArrayList<>(rows);
+		for (int i=0;i<rows;i++) data.add(getLine(i));
+		return new Table(Table.IndexMode.ROWS,data);
+	}
+
+	/**
+	 * Gibt die Tabelle als Tabulator-getrennte Spalten aus, ohne zuvor ein {@link Table}-Objekt anzulegen.
+	 * @param output	Ausgabeobjekt
+	 * @throws IOException	Reicht Exceptions des Ausgabeobjektes durch
+	 */
+	public void toStringTabs(final Appendable output) throws IOException {
+		final int rows=getRowCount();
+		for (int i=0;i<rows;i++) {
+			final int cols=(i<dataRows)?columns.size():footer.get(i-dataRows).length;
+			for (int j=0;j<cols;j++) {
+				if (j>0) output.append('\t');
+				output.append(getValue(i,j));
+			}
+			output.append('\n');
+		}
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder result=new StringBuilder();
+		try {
+			toStringTabs(result);
+		} catch (IOException e) {
+			return "";
+		}
+		return result.toString();
+	}
+}
@@ -15,22 +15,92 @@
  */
 package mathtools;
 
-import org.apache.commons.math3.util.CombinatoricsUtils;
+import java.util.Arrays;
+
 import org.apache.commons.math3.util.FastMath;
 
 /**
  * Bestimmt die mittlere Wartezeit in einem M/M/c/infty oder M/M/c/K+M Warteschlangenmodell gem
- * der Erlang C Formel.
+ * der Erlang C Formel.<br>
+ * Die Berechnungen erfolgen rekursiv (Erlang-B-Rekursion bzw. Zustandswahrscheinlichkeiten im
+ * logarithmischen Raum) und bleiben daher auch fr Tausende von Bedienern und lange Warteschlangen
+ * numerisch stabil und bentigen nur linear viele Rechenschritte.
  * @author Alexander Herzog
- * @version 1.1
+ * @version 1.2
  */
 public final class ErlangC {
+	/**
+	 * Zustandswahrscheinlichkeiten, die relativ zur grten Zustandswahrscheinlichkeit kleiner als
+	 * dieser Wert sind, werden als 0 betrachtet.
+	 * @see #extErlangCStateProbabilities(double, double, double, int, int)
+	 */
+	private static final double MIN_RELATIVE_PROBABILITY=1E-20;
+
+	/**
+	 * Maximale Anzahl an betrachteten Zustnden, wenn eine unbegrenzte Systemgre angegeben wurde
+	 * @see #extErlangCStateProbabilities(double, double, double, int, int)
+	 */
+	private static final int MAX_STATES_INFINITE_SYSTEM=1_000_000;
+
+	/**
+	 * Spalte der Wartewahrscheinlichkeit P(W&gt;0) in den Ergebnissen von {@link #staffing(double, double, double, int, int, double)}
+	 */
+	public static final int STAFFING_WAITING_PROBABILITY=0;
+
+	/**
+	 * Spalte der mittleren Wartezeit E[W] in den Ergebnissen von {@link #staffing(double, double, double, int, int, double)}
+	 */
+	public static final int STAFFING_MEAN_WAITING_TIME=1;
+
+	/**
+	 * Spalte des Service-Levels P(W&le;t) in den Ergebnissen von {@link #staffing(double, double, double, int, int, double)}
+	 */
+	public static final int STAFFING_SERVICE_LEVEL=2;
+
+	/**
+	 * Spalte der Abbruchwahrscheinlichkeit P(A) in den Ergebnissen von {@link #staffing(double, double, double, int, int, double)}
+	 */
+	public static final int STAFFING_CANCEL_PROBABILITY=3;
+
+	/**
+	 * Faktor, ab dem die Gewichte in {@link #staffingExt(double, double, double, int, int, double, double[][])} neu skaliert werden
+	 */
+	private static final double RESCALE_LIMIT=1E250;
+
 	/**
 	 * Diese Klasse kann nicht instanziert werden.
 	 */
 	private ErlangC() {
 	}
 
+	/**
+	 * Berechnet die Blockierungswahrscheinlichkeit in einem M/M/c/c Modell gem der Erlang B Formel.<br>
+	 * Die Berechnung erfolgt ber die Rekursion B(0)=1, B(n)=a*B(n-1)/(n+a*B(n-1)).
+	 * @param a	Angebotene Last (a=lambda/mu)
+	 * @param c	Anzahl an Bedienern
+	 * @return	Blockierungswahrscheinlichkeit
+	 */
+	public static double erlangB(final double a, final int c) {
+		if (a<=0) return (c<=0)?1:0;
+		double b=1;
+		for (int n=1;n<=c;n++) b=a*b/(n+a*b);
+		return b;
+	}
+
+	/**
+	 * Berechnet die Wartewahrscheinlichkeit P1 in einem M/M/c/infty Modell gem der Erlang C Formel.<br>
+	 * Die Berechnung erfolgt ber die Erlang-B-Formel: C=c*B/(c-a*(1-B)).
+	 * @param a	Angebotene Last (a=lambda/mu)
+	 * @param c	Anzahl an Bedienern
+	 * @return	Wartewahrscheinlichkeit (ist a&ge;c, so wird 1 geliefert)
+	 * @see #erlangB(double, int)
+	 */
+	public static double erlangC(final double a, final int c) {
+		if (a>=c) return 1;
+		final double b=erlangB(a,c);
+		return c*b/(c-a*(1-b));
+	}
+
 	/**
 	 * Liefert die mittlere Wartezeit in einem M/M/c/infty Modell gem der Erlang C Formel.
 	 * @param lambda	Ankunftsrate
@@ -40,20 +110,17 @@ public final class ErlangC {
 	 */
 	public static double waitingTime(final double lambda, final double mu, final int c) {
 		if (mu<=0) return Double.POSITIVE_INFINITY;
-		double a=lambda/mu;
-		double p1=FastMath.pow(a,c)/CombinatoricsUtils.factorial(c)*c/(c-a);
-
-		double s=1;
-		for (int n=1;n<=c-1;n++) s+=FastMath.pow(a,n)/CombinatoricsUtils.factorial(n);
-		p1=p1/(s+p1);
-
-		return p1/(c*mu-lambda);
+		if (lambda>=c*mu) return Double.POSITIVE_INFINITY;
+		return erlangC(lambda/mu,c)/(c*mu-lambda);
 	}
 
 	/**
 	 * Berechnet C[n] fr ein M/M/c/K+M Modell gem der Erlang C Formel.<br>
 	 * Der Parameter K ist dabei die Systemgre, d.h. die Summe aus Warteraumgre und Anzahl an Agenten,
-	 * also insbesondere nicht nur die Warteraumgre.
+	 * also insbesondere nicht nur die Warteraumgre.<br>
+	 * Die Werte sind nicht normiert und knnen fr groe Anzahlen an Bedienern auerhalb des
+	 * darstellbaren Zahlenbereichs liegen; fr solche Flle sollte
+	 * {@link #extErlangCStateProbabilities(double, double, double, int, int)} verwendet werden.
 	 * @param lambda	Ankunftsrate
 	 * @param mu	Bedienrate
 	 * @param nu	Warteabbruchrate
@@ -68,32 +135,106 @@ public final class ErlangC {
 		if (K==Integer.MAX_VALUE) K=Math.min(100*c,5000);
 
 		final double[] Cn=new double[K+1];
+		Cn[0]=1;
+		for (int n=1;n<=K;n++) {
+			if (n>c && Cn[n-1]<=10E-20) continue;
+			Cn[n]=Cn[n-1]*a/getStateDivisor(mu,nu,c,n);
+		}
+
+		return Cn;
+	}
+
+	/**
+	 * Liefert den Nenner des bergangs von Zustand n-1 zu Zustand n (bezogen auf die Bedienrate),
+	 * d.h. C[n]=C[n-1]*a/getStateDivisor(...).
+	 * @param mu	Bedienrate
+	 * @param nu	Warteabbruchrate
+	 * @param c	Anzahl an Bedienern
+	 * @param n	Zustand
+	 * @return	Nenner des bergangs
+	 */
+	private static double getStateDivisor(final double mu, final double nu, final int c, final int n) {
+		if (n<=c) return n;
+		return c+(n-c)*nu/mu;
+	}
+
+	/**
+	 * Berechnet die (normierten) Zustandswahrscheinlichkeiten P(N=n) fr ein M/M/c/K+M Modell.<br>
+	 * Die Berechnung erfolgt rekursiv im logarithmischen Raum; die Werte bleiben daher auch fr
+	 * Tausende von Bedienern und lange Warteschlangen darstellbar.<br>
+	 * Ab dem Zustand mit der grten Wahrscheinlichkeit werden Zustnde, deren Wahrscheinlichkeit
+	 * vernachlssigbar klein ist, abgeschnitten. Das gelieferte Array kann daher krzer als K+1 sein;
+	 * der letzte Eintrag steht dann fr die (vernachlssigbar kleine) Wahrscheinlichkeit, dass das System voll ist.
+	 * @param lambda	Ankunftsrate
+	 * @param mu	Bedienrate
+	 * @param nu	Warteabbruchrate
+	 * @param c	Anzahl an Bedienern
+	 * @param K	Systemgre (=Summe aus c und Warteraumgre; <code>Integer.MAX_VALUE</code> fr ein System ohne Begrenzung)
+	 * @return	Array mit den Zustandswahrscheinlichkeiten (Lnge hchstens K+1)
+	 */
+	public static double[] extErlangCStateProbabilities(final double lambda, final double mu, final double nu, final int c, int K) { /* M/M/c/K+M (K=System size=c+Waiting room size */
+		if (K==Integer.MAX_VALUE) K=MAX_STATES_INFINITE_SYSTEM;
+		if (lambda<=0 || mu<=0 || K<=0) return new double[]{1};
+
+		final double logA=FastMath.log(lambda/mu);
+		final double logMinRelative=FastMath.log(MIN_RELATIVE_PROBABILITY);
 
-		for (int n=0;n<=Math.min(c,K);n++) {
-			if (n<=10) {
-				Cn[n]=FastMath.pow(a,n)/CombinatoricsUtils.factorial(n);
+		double[] logW=new double[Math.min(K,Math.max(1024,2*c))+1];
+		logW[0]=0;
+		double max=0;
+		int last=0;
+		for (int n=1;n<=K;n++) {
+			final double logWn=logW[n-1]+logA-FastMath.log(getStateDivisor(mu,nu,c,n));
+			if (logWn<max+logMinRelative && logWn<logW[n-1]) break;
+			if (n>=logW.length) logW=Arrays.copyOf(logW,(int)Math.min(K+1L,2L*logW.length));
+			logW[n]=logWn;
+			if (logWn>max) max=logWn;
+			last=n;
+		}
+
+		final double[] pi=new double[last+1];
+		double sum=0;
+		for (int n=0;n<=last;n++) {
+			pi[n]=FastMath.exp(logW[n]-max);
+			sum+=pi[n];
+		}
+		for (int n=0;n<=last;n++) pi[n]/=sum;
+		return pi;
+	}
+
+	/**
+	 * Berechnet die Wahrscheinlichkeit P(W&le;t) in einem M/M/c/K+M Modell.<br>
+	 * Die dafr bentigten Werte der regularisierten Gamma-Funktion Q(n-c+1,(c*mu+nu)*t) werden
+	 * ber die Poisson-Verteilungsfunktion rekursiv bestimmt.
+	 * @param pi	Zustandswahrscheinlichkeiten (siehe {@link #extErlangCStateProbabilities(double, double, double, int, int)})
+	 * @param mu	Bedienrate
+	 * @param nu	Warteabbruchrate
+	 * @param c	Anzahl an Bedienern
+	 * @param t	Wartezeitschranke
+	 * @return	Wahrscheinlichkeit P(W&le;t)
+	 */
+	public static double extErlangCWaitingTimeProbability(final double[] pi, final double mu, final double nu, final int c, final double t) {
+		final int K=pi.length-1;
+		double p=1-pi[K];
+		if (c<=K-1) {
+			final double x=(c*mu+nu)*Math.max(0,t);
+			if (x==0) {
+				for (int n=c;n<=K-1;n++) p-=pi[n];
 			} else {
-				if (n==11) {
-					double m=1; for (int i=1;i<=n;i++) m*=a/i;
-					Cn[n]=m;
-				} else {
-					Cn[n]=Cn[n-1]*a/n;
+				/* Q(k,x)=P(Poisson(x)<=k-1), Summanden im logarithmischen Raum */
+				final double logX=FastMath.log(x);
+				double logTerm=-x;
+				double poissonCDF=FastMath.exp(logTerm);
+				for (int n=c;n<=K-1;n++) {
+					p-=pi[n]*Math.min(1,poissonCDF);
+					final int k=n-c+1;
+					logTerm+=logX-FastMath.log(k);
+					poissonCDF+=FastMath.exp(logTerm);
 				}
 			}
 		}
-		double temp=1;
-		if (c<=10) {
-			temp=FastMath.pow(a,c)/CombinatoricsUtils.factorial(c);
-		} else {
-			for (int i=1;i<=c;i++) temp*=a/i;
-		}
-		if (a>0) for (int n=c+1;n<=K;n++) {
-			if (Cn[n-1]<=10E-20) {Cn[n]=0; continue;}
-			double p=1; for (int i=1;i<=n-c;i++) p*=a/(c+i*nu/mu);
-			Cn[n]=temp*p;
-		}
-
-		return Cn;
+		if (Double.isNaN(p) || p<0) return 0;
+		return Math.min(1,p);
 	}
 
 	/**
@@ -109,16 +250,162 @@ public final class ErlangC {
 	 */
 	public static double waitingTimeExt(double lambda, double mu, double nu, int c, int K) { /* M/M/c/K+M (K=System size=c+Waiting room size */
 		if (lambda<=0.0) return 0.0;
-		final double[] Cn=extErlangCCn(lambda,mu,nu,c,K);
-		K=Cn.length-1;
-
-		double pi0=0; for (int n=0;n<=K;n++) pi0+=Cn[n];
-		if (pi0==0.0) return 0.0;
-		pi0=1/pi0;
+		final double[] pi=extErlangCStateProbabilities(lambda,mu,nu,c,K);
+		K=pi.length-1;
 
 		double s=0;
-		for (int n=c+1;n<=K;n++) s+=(n-c)*Cn[n]*pi0;
-		return s/(lambda*(1-Cn[K]*pi0));
+		for (int n=c+1;n<=K;n++) s+=(n-c)*pi[n];
+		return s/(lambda*(1-pi[K]));
+	}
+
+	/**
+	 * Berechnet die Kenngren eines M/M/c/infty+M Modells fr eine Reihe von aufeinanderfolgenden Bedienerzahlen.<br>
+	 * Die Berechnung erfolgt inkrementell, d.h. die Ergebnisse fr c-1 Bediener werden fr c Bediener
+	 * weiterverwendet (ohne Warteabbrche ber die Erlang-B-Rekursion, mit Warteabbrchen ber die
+	 * Prfixsummen der Zustandsgewichte).
+	 * @param lambda	Ankunftsrate
+	 * @param mu	Bedienrate
+	 * @param nu	Warteabbruchrate (0 fr ein M/M/c/infty Modell)
+	 * @param cMin	Kleinste Anzahl an Bedienern
+	 * @param cMax	Grte Anzahl an Bedienern
+	 * @param t	Wartezeitschranke fr den Service-Level
+	 * @return	Array mit einem Eintrag pro Bedienerzahl von cMin bis cMax; jeder Eintrag enthlt die Werte gem {@link #STAFFING_WAITING_PROBABILITY}, {@link #STAFFING_MEAN_WAITING_TIME}, {@link #STAFFING_SERVICE_LEVEL} und {@link #STAFFING_CANCEL_PROBABILITY}
+	 */
+	public static double[][] staffing(final double lambda, final double mu, final double nu, int cMin, final int cMax, final double t) {
+		cMin=Math.max(1,cMin);
+		final double[][] results=new double[Math.max(0,cMax-cMin+1)][4];
+		if (results.length==0) return results;
+
+		if (lambda<=0 || mu<=0) {
+			for (double[] row: results) row[STAFFING_SERVICE_LEVEL]=1;
+			return results;
+		}
+
+		if (nu<=0) {
+			staffingErlangC(lambda,mu,cMin,cMax,t,results);
+		} else {
+			staffingExt(lambda,mu,nu,cMin,cMax,t,results);
+		}
+		return results;
+	}
+
+	/**
+	 * Berechnet die Kenngren eines M/M/c/infty Modells fr eine Reihe von Bedienerzahlen ber die Erlang-B-Rekursion.
+	 * @param lambda	Ankunftsrate
+	 * @param mu	Bedienrate
+	 * @param cMin	Kleinste Anzahl an Bedienern
+	 * @param cMax	Grte Anzahl an Bedienern
+	 * @param t	Wartezeitschranke fr den Service-Level
+	 * @param results	Ergebnisarray (siehe {@link #staffing(double, double, double, int, int, double)})
+	 */
+	private static void staffingErlangC(final double lambda, final double mu, final int cMin, final int cMax, final double t, final double[][] results) {
+		final double a=lambda/mu;
+		double b=1;
+		for (int c=1;c<=cMax;c++) {
+			b=a*b/(c+a*b);
+			if (c<cMin) continue;
+			final double[] row=results[c-cMin];
+			if (a>=c) {
+				row[STAFFING_WAITING_PROBABILITY]=1;
+				row[STAFFING_MEAN_WAITING_TIME]=Double.POSITIVE_INFINITY;
+				row[STAFFING_SERVICE_LEVEL]=0;
+			} else {
+				final double pc=c*b/(c-a*(1-b));
+				row[STAFFING_WAITING_PROBABILITY]=pc;
+				row[STAFFING_MEAN_WAITING_TIME]=pc/(c*mu-lambda);
+				row[STAFFING_SERVICE_LEVEL]=1-pc*FastMath.exp(-(c*mu-lambda)*Math.max(0,t));
+			}
+			row[STAFFING_CANCEL_PROBABILITY]=0;
+		}
+	}
+
+	/**
+	 * Berechnet die Kenngren eines M/M/c/infty+M Modells fr eine Reihe von Bedienerzahlen.<br>
+	 * Die (logarithmierte) Summe der Zustandsgewichte a^n/n! fr n&lt;c wird dabei von Bedienerzahl
+	 * zu Bedienerzahl fortgeschrieben; nur die Zustnde ab c werden fr jede Bedienerzahl neu berechnet.
+	 * @param lambda	Ankunftsrate
+	 * @param mu	Bedienrate
+	 * @param nu	Warteabbruchrate
+	 * @param cMin	Kleinste Anzahl an Bedienern
+	 * @param cMax	Grte Anzahl an Bedienern
+	 * @param t	Wartezeitschranke fr den Service-Level
+	 * @param results	Ergebnisarray (siehe {@link #staffing(double, double, double, int, int, double)})
+	 */
+	private static void staffingExt(final double lambda, final double mu, final double nu, final int cMin, final int cMax, final double t, final double[][] results) {
+		final double a=lambda/mu;
+		final double logA=FastMath.log(a);
+		final double logRescale=FastMath.log(RESCALE_LIMIT);
+
+		double logPrefix=Double.NEGATIVE_INFINITY; /* log(Summe a^n/n! fr n<c) */
+		double logWc=0; /* log(a^c/c!) */
+		for (int c=0;c<=cMax;c++) {
+			if (c>0) {
+				logPrefix=logSum(logPrefix,logWc);
+				logWc+=logA-FastMath.log(c);
+			}
+			if (c<cMin) continue;
+
+			/* Zustnde ab c (relativ zu a^c/c!) */
+			final double x=(c*mu+nu)*Math.max(0,t);
+			final boolean poissonLinear=(x<700);
+			double poissonTerm=poissonLinear?FastMath.exp(-x):-x;
+			double poissonCDF=poissonLinear?poissonTerm:FastMath.exp(poissonTerm);
+			final double logX=(x>0)?FastMath.log(x):Double.NEGATIVE_INFINITY;
+
+			double logScale=logWc;
+			double w=1;
+			double wMax=1;
+			double s0=0;
+			double s1=0;
+			double sQ=0;
+			for (int k=0;k<=MAX_STATES_INFINITE_SYSTEM;k++) {
+				s0+=w;
+				s1+=k*w;
+				sQ+=w*Math.min(1,poissonCDF);
+
+				final double ratio=a/(c+(k+1)*nu/mu);
+				w*=ratio;
+				if (ratio<1 && w<wMax*MIN_RELATIVE_PROBABILITY) break;
+				if (w>wMax) wMax=w;
+				if (w>RESCALE_LIMIT) {
+					w/=RESCALE_LIMIT;
+					wMax/=RESCALE_LIMIT;
+					s0/=RESCALE_LIMIT;
+					s1/=RESCALE_LIMIT;
+					sQ/=RESCALE_LIMIT;
+					logScale+=logRescale;
+				}
+
+				if (poissonLinear) {
+					poissonTerm*=x/(k+1);
+					poissonCDF+=poissonTerm;
+				} else {
+					poissonTerm+=logX-FastMath.log(k+1);
+					poissonCDF+=FastMath.exp(poissonTerm);
+				}
+			}
+
+			final double logTotal=logSum(logPrefix,logScale+FastMath.log(s0));
+			final double factor=FastMath.exp(logScale-logTotal);
+			final double ENQ=s1*factor;
+			final double[] row=results[c-cMin];
+			row[STAFFING_WAITING_PROBABILITY]=Math.min(1,s0*factor);
+			row[STAFFING_MEAN_WAITING_TIME]=ENQ/lambda;
+			row[STAFFING_SERVICE_LEVEL]=Math.max(0,Math.min(1,1-sQ*factor));
+			row[STAFFING_CANCEL_PROBABILITY]=ENQ*nu/lambda;
+		}
 	}
 
+	/**
+	 * Berechnet log(exp(logA)+exp(logB)) ohne ber- oder Unterlauf.
+	 * @param logA	Logarithmus des ersten Summanden
+	 * @param logB	Logarithmus des zweiten Summanden
+	 * @return	Logarithmus der Summe
+	 */
+	private static double logSum(final double logA, final double logB) {
+		if (logA==Double.NEGATIVE_INFINITY) return logB;
+		if (logB==Double.NEGATIVE_INFINITY) return logA;
+		if (logA>logB) return logA+FastMath.log1p(FastMath.exp(logB-logA));
+		return logB+FastMath.log1p(FastMath.exp(logA-logB));
+	}
 }
@@ -0,0 +1,103 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools;
+
+/**
+ * Bestimmung der Lnge der Einschwingphase einer Simulation
+ * ber die MSER-Regel (Marginal Standard Error Rule).<br>
+ * Zu einer Messreihe wird der Abschneidepunkt d bestimmt, fr den die Gre
+ * MSER(d)=Summe_{i&gt;d} (x_i-m_d)^2/(n-d)^2 minimal wird (m_d ist dabei
+ * der Mittelwert der Werte nach dem Abschneidepunkt). Bei MSER-5 wird die Regel
+ * auf Batch-Mittelwerte ber jeweils 5 Messwerte angewandt.
+ * @author Alexander Herzog
+ * @version 1.0
+ */
+public final class MSER {
+	/**
+	 * Batch-Gre bei MSER-5
+	 * @see #getBatchMeans(double[], int, int)
+	 */
+	public static final int MSER5_BATCH_SIZE=5;
+
+	/**
+	 * Diese Klasse kann nicht instanziert werden.
+	 */
+	private MSER() {
+	}
+
+	/**
+	 * Berechnet die Mittelwerte ber jeweils <code>batchSize</code> aufeinanderfolgende Messwerte.
+	 * Ein unvollstndiger letzter Batch wird nicht bercksichtigt.
+	 * @param data	Messreihe
+	 * @param count	Anzahl der zu bercksichtigenden Werte aus <code>data</code>
+	 * @param batchSize	Anzahl an Werten pro Batch
+	 * @return	Batch-Mittelwerte
+	 */
+	public static double[] getBatchMeans(final double[] data, final int count, final int batchSize) {
+		final int batches=Math.min(count,data.length)/Math.max(1,batchSize);
+		final double[] means=new double[batches];
+		for (int i=0;i<batches;i++) {
+			double sum=0;
+			for (int j=0;j<batchSize;j++) sum+=data[i*batchSize+j];
+			means[i]=sum/batchSize;
+		}
+		return means;
+	}
+
+	/**
+	 * Bestimmt den Abschneidepunkt gem MSER-Regel.<br>
+	 * Es werden nur Abschneidepunkte bis zur Hlfte der Messreihe betrachtet; bei mehreren
+	 * minimalen Werten wird der kleinste Abschneidepunkt gewhlt.
+	 * @param data	Messreihe (bei MSER-5 die Batch-Mittelwerte)
+	 * @param count	Anzahl der zu bercksichtigenden Werte aus <code>data</code>
+	 * @return	Anzahl an Werten vom Beginn der Messreihe, die verworfen werden sollen
+	 */
+	public static int getTruncationPoint(final double[] data, final int count) {
+		final int n=Math.min(count,data.length);
+		if (n<2) return 0;
+
+		/* Summen und Quadratsummen der Werte ab Position d, von hinten aufgebaut; Verschiebung um den letzten Wert zur Vermeidung von Auslschung */
+		final double shift=data[n-1];
+		double sum=0;
+		double sum2=0;
+		final int maxD=n/2;
+		final double[] mser=new double[maxD+1];
+		for (int i=n-1;i>=0;i--) {
+			final double x=data[i]-shift;
+			sum+=x;
+			sum2+=x*x;
+			if (i<=maxD) {
+				final int m=n-i;
+				mser[i]=Math.max(0,sum2-sum*sum/m)/((double)m*m);
+			}
+		}
+
+		int best=0;
+		for (int d=1;d<=maxD;d++) if (mser[d]<mser[best]) best=d;
+		return best;
+	}
+
+	/**
+	 * Bestimmt den Abschneidepunkt gem MSER-5-Regel.
+	 * @param data	Messreihe (Einzelwerte)
+	 * @param count	Anzahl der zu bercksichtigenden Werte aus <code>data</code>
+	 * @return	Anzahl an Einzelwerten vom Beginn der Messreihe, die verworfen werden sollen
+	 * @see #MSER5_BATCH_SIZE
+	 */
+	public static int getMSER5TruncationPoint(final double[] data, final int count) {
+		return getTruncationPoint(getBatchMeans(data,count,MSER5_BATCH_SIZE),Integer.MAX_VALUE)*MSER5_BATCH_SIZE;
+	}
+}
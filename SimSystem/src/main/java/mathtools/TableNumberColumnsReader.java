@@ -0,0 +1,636 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.poi.xssf.binary.XSSFBSheetHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+
+/**
+ * Diese Klasse liest die Spalten einer Tabellendatei im Streaming-Modus
+ * direkt in <code>double[]</code>-Arrays ein, ohne zuvor eine {@link Table}
+ * aus Zeichenketten aufzubauen. Text-Dateien (csv, tsv, txt) werden dabei
+ * blockweise von mehreren Threads parallel zerlegt, xlsx-Dateien werden
+ * zellenweise ber den {@link TableXLSXReader} verarbeitet.<br>
+ * Alle anderen Tabellenformate werden ber {@link Table#load(File)} geladen
+ * und anschlieend in Spalten umgewandelt.
+ * @author Alexander Herzog
+ * @see Table
+ * @see TableXLSXReader
+ * @version 1.0
+ */
+public class TableNumberColumnsReader {
+	/**
+	 * Anzahl an Zeilen, die jeweils zu einem Block zusammengefasst
+	 * (und bei Text-Dateien in einem Arbeitsschritt zerlegt) werden
+	 */
+	private static final int CHUNK_ROWS=16_384;
+
+	/**
+	 * Zehnerpotenzen fr die schnelle, exakte Umwandlung
+	 * von Dezimalzahlen mit wenigen Nachkommastellen
+	 * @see #parseNumber(String, int, int)
+	 */
+	private static final double[] POW10={1E0,1E1,1E2,1E3,1E4,1E5,1E6,1E7,1E8,1E9,1E10,1E11,1E12,1E13,1E14,1E15,1E16,1E17,1E18,1E19,1E20,1E21,1E22};
+
+	/**
+	 * Grte Mantisse, die noch exakt als <code>double</code> dargestellt werden kann (2^53)
+	 * @see #parseNumber(String, int, int)
+	 */
+	private static final long MAX_EXACT_MANTISSA=1L<<53;
+
+	/** Zu lesende Tabellendatei */
+	private final File file;
+
+	/** Spaltenberschriften (wenn die erste Zeile nicht nur aus Zahlen besteht) oder <code>null</code> */
+	private String[] headings;
+
+	/** Blcke mit jeweils bis zu {@link #CHUNK_ROWS} Datenzeilen */
+	private final List<Chunk> chunks;
+
+	/** Anzahl an Spalten */
+	private int columnCount;
+
+	/** Anzahl an Datenzeilen (ohne berschriftenzeile) */
+	private int rowCount;
+
+	/** Anzahl an gltigen Zahlen pro Spalte */
+	private int[] validCount;
+
+	/** Anzahl an nicht leeren, aber nicht als Zahl interpretierbaren Zellen pro Spalte */
+	private int[] invalidCount;
+
+	/** Spaltenweise Daten (wird erst in {@link #mergeChunks()} aus {@link #chunks} erstellt) */
+	private double[][] columns;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param file	Zu lesende Tabellendatei
+	 */
+	public TableNumberColumnsReader(final File file) {
+		this.file=file;
+		chunks=new ArrayList<>();
+		clear();
+	}
+
+	/**
+	 * Setzt alle bislang geladenen Daten zurck.
+	 */
+	private void clear() {
+		headings=null;
+		chunks.clear();
+		columnCount=0;
+		rowCount=0;
+		validCount=new int[0];
+		invalidCount=new int[0];
+		columns=new double[0][];
+	}
+
+	/**
+	 * Ldt die Datei.
+	 * @return	Liefert im Erfolgsfall <code>true</code>
+	 */
+	public boolean process() {
+		clear();
+		if (file==null || !file.isFile()) return false;
+
+		final boolean ok;
+		switch (Table.getSaveModeFromFileName(file,true,false)) {
+		case SAVEMODE_TABS: ok=processText(';'); break;
+		case SAVEMODE_CSV: ok=processText(';'); break;
+		case SAVEMODE_CSVR: ok=processText(','); break;
+		case SAVEMODE_XLSX: ok=processXLSX(); break;
+		default: ok=processTable(); break;
+		}
+
+		if (!ok) {
+			clear();
+			return false;
+		}
+
+		mergeChunks();
+		return true;
+	}
+
+	/**
+	 * Ldt eine Text-Datei (csv, tsv, txt).
+	 * Die Zeilen werden auf dem aufrufenden Thread gelesen und blockweise
+	 * von einem Thread-Pool in Zahlen zerlegt.
+	 * @param defaultDivider	Spaltentrenner, wenn eine Zeile keine Tabulatoren enthlt
+	 * @return	Liefert im Erfolgsfall <code>true</code>
+	 */
+	private boolean processText(final char defaultDivider) {
+		final int threadCount=Math.max(1,Runtime.getRuntime().availableProcessors());
+		final ExecutorService executor=Executors.newFixedThreadPool(threadCount,runnable->{
+			final Thread thread=new Thread(runnable,"TableNumberColumnsReader");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try (InputStream stream=new FileInputStream(file)) {
+			try (InputStreamReader reader=new InputStreamReader(stream,StandardCharsets.UTF_8)) {
+				try (BufferedReader bufferedReader=new BufferedReader(reader)) {
+					final List<Future<Chunk>> futures=new ArrayList<>();
+					int waitIndex=0;
+
+					String[] lines=new String[CHUNK_ROWS];
+					int lineCount=0;
+					boolean firstLine=true;
+					String line;
+					while ((line=bufferedReader.readLine())!=null) {
+						if (firstLine) {
+							firstLine=false;
+							if (line.startsWith("\uFEFF")) line=line.substring(1);
+							if (processHeadingLine(splitCells(line,getDivider(line,defaultDivider)))) continue;
+						}
+						lines[lineCount++]=line;
+						if (lineCount==CHUNK_ROWS) {
+							final String[] chunkLines=lines;
+							futures.add(executor.submit(()->parseLines(chunkLines,CHUNK_ROWS,defaultDivider)));
+							lines=new String[CHUNK_ROWS];
+							lineCount=0;
+							/* Nicht beliebig viele unverarbeitete Zeilen im Speicher halten */
+							if (futures.size()-waitIndex>2*threadCount) futures.get(waitIndex++).get();
+						}
+					}
+					if (lineCount>0) {
+						final String[] chunkLines=lines;
+						final int chunkLineCount=lineCount;
+						futures.add(executor.submit(()->parseLines(chunkLines,chunkLineCount,defaultDivider)));
+					}
+
+					for (Future<Chunk> future: futures) chunks.add(future.get());
+					return true;
+				}
+			}
+		} catch (IOException | ExecutionException e) {
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Bestimmt den Spaltentrenner fr eine Zeile
+	 * (analog zu der Verarbeitung in {@link Table#load(File)}).
+	 * @param line	Zeile
+	 * @param defaultDivider	Spaltentrenner, wenn die Zeile keine Tabulatoren enthlt
+	 * @return	Spaltentrenner fr die Zeile
+	 */
+	private static char getDivider(final String line, final char defaultDivider) {
+		return (line.indexOf('\t')>=0)?'\t':defaultDivider;
+	}
+
+	/**
+	 * Zerlegt eine Zeile in einzelne Zeichenketten.
+	 * (Wird nur fr die erste Zeile verwendet, die ggf. berschriften enthlt.)
+	 * @param line	Zu zerlegende Zeile
+	 * @param divider	Spaltentrenner
+	 * @return	Zellen der Zeile
+	 */
+	private static List<String> splitCells(final String line, final char divider) {
+		final List<String> cells=new ArrayList<>();
+		final int len=line.length();
+		int cellStart=0;
+		boolean inText=false;
+		for (int pos=0;pos<=len;pos++) {
+			if (pos<len) {
+				final char c=line.charAt(pos);
+				if (c=='"') inText=!inText;
+				if (c!=divider || inText) continue;
+			}
+			int from=cellStart;
+			int to=pos;
+			if (to-from>=2 && line.charAt(from)=='"' && line.charAt(to-1)=='"') {from++; to--;}
+			cells.add(line.substring(from,to).replace("\"\"","\""));
+			cellStart=pos+1;
+		}
+		return cells;
+	}
+
+	/**
+	 * Verarbeitet die erste Zeile der Tabelle.
+	 * Enthlt diese Zellen, die keine Zahlen sind, so wird sie als berschriftenzeile interpretiert.
+	 * @param cells	Zellen der ersten Zeile
+	 * @return	Liefert <code>true</code>, wenn die Zeile als berschriftenzeile verwendet wurde (und folglich nicht mehr als Datenzeile verarbeitet werden muss)
+	 */
+	private boolean processHeadingLine(final List<String> cells) {
+		for (String cell: cells) {
+			if (cell.isBlank()) continue;
+			if (Double.isNaN(parseNumber(cell,0,cell.length()))) {
+				headings=cells.toArray(String[]::new);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Zerlegt einen Block von Text-Zeilen in Zahlen.
+	 * (Diese Methode wird parallel auf mehreren Threads ausgefhrt und greift daher
+	 * nur auf ihre Parameter und auf unvernderliche statische Daten zu.)
+	 * @param lines	Zeilen
+	 * @param lineCount	Anzahl an zu verwendenden Eintrgen in <code>lines</code>
+	 * @param defaultDivider	Spaltentrenner, wenn eine Zeile keine Tabulatoren enthlt
+	 * @return	Block mit den Zahlenwerten
+	 */
+	private static Chunk parseLines(final String[] lines, final int lineCount, final char defaultDivider) {
+		final Chunk chunk=new Chunk(lineCount);
+		for (int row=0;row<lineCount;row++) {
+			final String line=lines[row];
+			lines[row]=null;
+			final char divider=getDivider(line,defaultDivider);
+			final int len=line.length();
+			int col=0;
+			int cellStart=0;
+			boolean inText=false;
+			for (int pos=0;pos<=len;pos++) {
+				if (pos<len) {
+					final char c=line.charAt(pos);
+					if (c=='"') inText=!inText;
+					if (c!=divider || inText) continue;
+				}
+				int from=cellStart;
+				int to=pos;
+				if (to-from>=2 && line.charAt(from)=='"' && line.charAt(to-1)=='"') {from++; to--;}
+				chunk.setCell(row,col,line,from,to);
+				col++;
+				cellStart=pos+1;
+			}
+			chunk.rows++;
+		}
+		return chunk;
+	}
+
+	/**
+	 * Ldt eine xlsx-Datei (nur das erste Tabellenblatt).
+	 * @return	Liefert im Erfolgsfall <code>true</code>
+	 */
+	private boolean processXLSX() {
+		final SheetToChunks handler=new SheetToChunks();
+		if (!new TableXLSXReader(file).processFirstTableCells(handler)) return false;
+		handler.finish();
+		return true;
+	}
+
+	/**
+	 * Ldt eine Datei, deren Format nicht direkt gestreamt werden kann,
+	 * ber {@link Table#load(File)} und wandelt die Daten dann in Spalten um.
+	 * @return	Liefert im Erfolgsfall <code>true</code>
+	 */
+	private boolean processTable() {
+		final Table table=new Table();
+		if (!table.load(file)) return false;
+		final int size=table.getSize(0);
+		Chunk chunk=null;
+		for (int i=0;i<size;i++) {
+			final List<String> line=table.getLine(i);
+			if (i==0 && processHeadingLine(line)) continue;
+			if (chunk==null || chunk.rows==CHUNK_ROWS) chunks.add(chunk=new Chunk(CHUNK_ROWS));
+			for (int j=0;j<line.size();j++) {
+				final String cell=line.get(j);
+				chunk.setCell(chunk.rows,j,cell,0,cell.length());
+			}
+			chunk.rows++;
+		}
+		return true;
+	}
+
+	/**
+	 * Fasst die einzelnen Blcke zu vollstndigen Spalten zusammen.
+	 * Die Blcke werden dabei spaltenweise freigegeben, so dass
+	 * nie die gesamten Daten doppelt im Speicher gehalten werden mssen.
+	 */
+	private void mergeChunks() {
+		rowCount=0;
+		columnCount=(headings==null)?0:headings.length;
+		for (Chunk chunk: chunks) {
+			rowCount+=chunk.rows;
+			columnCount=Math.max(columnCount,chunk.cols.length);
+		}
+
+		columns=new double[columnCount][];
+		validCount=new int[columnCount];
+		invalidCount=new int[columnCount];
+		for (int col=0;col<columnCount;col++) {
+			final double[] column=new double[rowCount];
+			int offset=0;
+			for (Chunk chunk: chunks) {
+				if (col<chunk.cols.length) {
+					System.arraycopy(chunk.cols[col],0,column,offset,chunk.rows);
+					chunk.cols[col]=null;
+					validCount[col]+=chunk.valid[col];
+					invalidCount[col]+=chunk.invalid[col];
+				} else {
+					Arrays.fill(column,offset,offset+chunk.rows,Double.NaN);
+				}
+				offset+=chunk.rows;
+			}
+			columns[col]=column;
+		}
+		chunks.clear();
+	}
+
+	/**
+	 * Wandelt einen Teil einer Zeichenkette in eine Zahl um.
+	 * Einfache Dezimalzahlen (mit "." oder "," als Dezimaltrenner) werden direkt
+	 * ohne Anlegen von Zwischenobjekten umgewandelt, alle anderen Flle werden
+	 * an {@link NumberTools#getDouble(String)} bergeben.
+	 * @param text	Zeichenkette
+	 * @param from	Startposition (inklusive)
+	 * @param to	Endposition (exklusive)
+	 * @return	Zahlenwert oder <code>Double.NaN</code>, wenn die Zeichenkette leer ist oder keine Zahl darstellt
+	 */
+	private static double parseNumber(final String text, int from, int to) {
+		while (from<to && text.charAt(from)==' ') from++;
+		while (to>from && text.charAt(to-1)==' ') to--;
+		if (from>=to) return Double.NaN;
+
+		int pos=from;
+		final boolean negative=(text.charAt(pos)=='-');
+		if (negative) pos++;
+		long mantissa=0;
+		int digits=0;
+		int decimals=-1;
+		boolean plain=(pos<to);
+		for (;pos<to;pos++) {
+			final char c=text.charAt(pos);
+			if (c>='0' && c<='9') {
+				mantissa=mantissa*10+(c-'0');
+				digits++;
+				if (decimals>=0) decimals++;
+				if (digits>18) {plain=false; break;}
+				continue;
+			}
+			if ((c=='.' || c==',') && decimals<0) {decimals=0; continue;}
+			plain=false;
+			break;
+		}
+
+		if (plain && digits>0 && mantissa<MAX_EXACT_MANTISSA && decimals<POW10.length) {
+			final double value=(decimals>0)?(mantissa/POW10[decimals]):mantissa;
+			return negative?-value:value;
+		}
+
+		final Double D=NumberTools.getDouble(text.substring(from,to));
+		return (D==null)?Double.NaN:D.doubleValue();
+	}
+
+	/**
+	 * Liefert die Spaltenberschriften.
+	 * @return	Spaltenberschriften oder <code>null</code>, wenn die erste Zeile der Tabelle nur Zahlen enthielt
+	 */
+	public String[] getHeadings() {
+		return headings;
+	}
+
+	/**
+	 * Liefert die Anzahl an Spalten.
+	 * @return	Anzahl an Spalten
+	 */
+	public int getColumnCount() {
+		return columnCount;
+	}
+
+	/**
+	 * Liefert die Anzahl an Datenzeilen (ohne eine eventuelle berschriftenzeile).
+	 * @return	Anzahl an Datenzeilen
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Liefert eine vollstndige Spalte.
+	 * Leere und nicht als Zahl interpretierbare Zellen werden dabei als <code>Double.NaN</code> dargestellt.
+	 * @param index	0-basierter Index der Spalte
+	 * @return	Spalte (kein Kopie, sondern das intern verwendete Array) oder <code>null</code>, wenn der Index ungltig ist
+	 */
+	public double[] getColumn(final int index) {
+		if (index<0 || index>=columnCount) return null;
+		return columns[index];
+	}
+
+	/**
+	 * Liefert alle gltigen Zahlen einer Spalte.
+	 * @param index	0-basierter Index der Spalte
+	 * @return	Gltige Zahlen der Spalte oder <code>null</code>, wenn der Index ungltig ist
+	 */
+	public double[] getNumbers(final int index) {
+		if (index<0 || index>=columnCount) return null;
+		final double[] column=columns[index];
+		if (validCount[index]==column.length) return column;
+		final double[] result=new double[validCount[index]];
+		int nr=0;
+		for (double value: column) if (!Double.isNaN(value)) result[nr++]=value;
+		return result;
+	}
+
+	/**
+	 * Gibt an, ob eine Spalte (abgesehen von der berschrift und leeren Zellen) nur aus Zahlen besteht.
+	 * @param index	0-basierter Index der Spalte
+	 * @return	Liefert <code>true</code>, wenn die Spalte mindestens eine Zahl und keine ungltigen Zellen enthlt
+	 */
+	public boolean isNumberColumn(final int index) {
+		if (index<0 || index>=columnCount) return false;
+		return validCount[index]>0 && invalidCount[index]==0;
+	}
+
+	/**
+	 * Liefert den Index der einzigen Zahlenspalte.
+	 * @return	Index der Spalte oder -1, wenn es keine oder mehrere Zahlenspalten gibt
+	 * @see #isNumberColumn(int)
+	 */
+	public int getNumberColumnIndex() {
+		int result=-1;
+		for (int i=0;i<columnCount;i++) if (isNumberColumn(i)) {
+			if (result>=0) return -1;
+			result=i;
+		}
+		return result;
+	}
+
+	/**
+	 * Block aus mehreren Datenzeilen in Spaltenform
+	 */
+	private static class Chunk {
+		/** Maximale Anzahl an Zeilen in dem Block */
+		private final int capacity;
+		/** Tatschliche Anzahl an Zeilen in dem Block */
+		private int rows;
+		/** Spalten (jeweils mit {@link #capacity} Eintrgen) */
+		private double[][] cols;
+		/** Anzahl an gltigen Zahlen pro Spalte */
+		private int[] valid;
+		/** Anzahl an ungltigen Zellen pro Spalte */
+		private int[] invalid;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param capacity	Maximale Anzahl an Zeilen in dem Block
+		 */
+		public Chunk(final int capacity) {
+			this.capacity=capacity;
+			cols=new double[0][];
+			valid=new int[0];
+			invalid=new int[0];
+		}
+
+		/**
+		 * Stellt sicher, dass eine bestimmte Spalte existiert.
+		 * @param col	0-basierter Index der Spalte
+		 * @return	Spalte
+		 */
+		private double[] getCol(final int col) {
+			if (col>=cols.length) {
+				final int oldLength=cols.length;
+				cols=Arrays.copyOf(cols,col+1);
+				valid=Arrays.copyOf(valid,col+1);
+				invalid=Arrays.copyOf(invalid,col+1);
+				for (int i=oldLength;i<=col;i++) {
+					cols[i]=new double[capacity];
+					Arrays.fill(cols[i],Double.NaN);
+				}
+			}
+			return cols[col];
+		}
+
+		/**
+		 * Stellt den Wert einer Zelle ein.
+		 * @param row	0-basierter Index der Zeile innerhalb des Blocks
+		 * @param col	0-basierter Index der Spalte
+		 * @param text	Zeichenkette, die den Zelleninhalt enthlt
+		 * @param from	Startposition des Zelleninhalts in <code>text</code> (inklusive)
+		 * @param to	Endposition des Zelleninhalts in <code>text</code> (exklusive)
+		 */
+		public void setCell(final int row, final int col, final String text, final int from, final int to) {
+			final double value=parseNumber(text,from,to);
+			if (Double.isNaN(value)) {
+				if (to>from && !text.substring(from,to).isBlank()) {
+					getCol(col);
+					invalid[col]++;
+				}
+				return;
+			}
+			getCol(col)[row]=value;
+			valid[col]++;
+		}
+	}
+
+	/**
+	 * bertrgt die Zellen eines xlsx-Tabellenblattes direkt in {@link Chunk}-Objekte
+	 * @see TableNumberColumnsReader#processXLSX()
+	 */
+	private class SheetToChunks implements SheetContentsHandler {
+		/** Aktueller Block */
+		private Chunk chunk;
+		/** Wurde die erste Zeile bereits verarbeitet? */
+		private boolean firstRowDone;
+		/** Zellen der ersten Zeile (zur Erkennung einer berschriftenzeile) */
+		private final List<String> firstRow;
+		/** Zeilennummer in der Arbeitsmappe der zuletzt begonnenen Zeile */
+		private int lastRowNum;
+
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public SheetToChunks() {
+			firstRow=new ArrayList<>();
+			lastRowNum=-1;
+		}
+
+		/**
+		 * Liefert den Block, in den die nchste Zeile geschrieben werden soll
+		 * (und legt diesen bei Bedarf an).
+		 * @return	Aktueller Block
+		 */
+		private Chunk getChunk() {
+			if (chunk==null || chunk.rows==CHUNK_ROWS) chunks.add(chunk=new Chunk(CHUNK_ROWS));
+			return chunk;
+		}
+
+		/**
+		 * Verarbeitet die gepufferte erste Zeile.
+		 */
+		private void finishFirstRow() {
+			if (firstRowDone) return;
+			firstRowDone=true;
+			if (firstRow.isEmpty() || processHeadingLine(firstRow)) return;
+			final Chunk firstChunk=getChunk();
+			for (int i=0;i<firstRow.size();i++) {
+				final String cell=firstRow.get(i);
+				firstChunk.setCell(firstChunk.rows,i,cell,0,cell.length());
+			}
+			firstChunk.rows++;
+		}
+
+		/**
+		 * Schliet die Verarbeitung ab.
+		 */
+		public void finish() {
+			finishFirstRow();
+		}
+
+		@Override
+		public void startRow(int rowNum) {
+			if (firstRowDone) {
+				/* Leere Zeilen, die in der xlsx-Datei nicht gespeichert sind */
+				for (int i=lastRowNum+1;i<rowNum;i++) getChunk().rows++;
+				getChunk();
+			}
+			lastRowNum=rowNum;
+		}
+
+		@Override
+		public void endRow(int rowNum) {
+			if (firstRowDone) chunk.rows++; else finishFirstRow();
+		}
+
+		@Override
+		public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+			if (formattedValue==null) return;
+			final int col=(cellReference==null)?0:Table.numberFromColumnNameIgnoreRowNumbers(cellReference);
+			if (!firstRowDone) {
+				while (firstRow.size()<col) firstRow.add("");
+				firstRow.add(formattedValue);
+				return;
+			}
+			chunk.setCell(chunk.rows,col,formattedValue,0,formattedValue.length());
+		}
+
+		@Override
+		public void hyperlinkCell(String cellReference, String formattedValue, String arg2, String arg3, XSSFComment comment) {
+			cell(cellReference,formattedValue,comment);
+		}
+	}
+}
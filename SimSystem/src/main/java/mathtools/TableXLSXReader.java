@@ -53,7 +53,7 @@ import org.xml.sax.XMLReader;
  * @author Alexander Herzog
  * @see Table
  * @see MultiTable
- * @version 1.1
+ * @version 1.2
  */
 public class TableXLSXReader {
 	/** Zu lesende Tabellendatei */
@@ -88,8 +88,22 @@ public class TableXLSXReader {
 	 * @return	Liefert im Erfolgsfall <code>true</code>
 	 */
 	private boolean processSheet(final String name, final StylesTable styles, final ReadOnlySharedStringsTable strings, InputStream stream, Table useTable) {
-		final InputSource sheetSource=new InputSource(stream);
 		final Table table=(useTable==null)?new Table():useTable;
+		if (!processSheet(styles,strings,stream,new SheetToTable(table))) return false;
+		if (useTable==null) multiTable.add(name,table);
+		return true;
+	}
+
+	/**
+	 * Verarbeitet ein einzelnes Tabellenblatt und bergibt die Zellen an einen {@link SheetContentsHandler}
+	 * @param styles	Arbeitsmappenweite Styles (fr {@link XSSFSheetXMLHandler})
+	 * @param strings	Geteilte Strings (fr {@link XSSFSheetXMLHandler})
+	 * @param stream	Eingabestream
+	 * @param sheetHandler	Empfnger der Zellen
+	 * @return	Liefert im Erfolgsfall <code>true</code>
+	 */
+	private boolean processSheet(final StylesTable styles, final ReadOnlySharedStringsTable strings, InputStream stream, final SheetContentsHandler sheetHandler) {
+		final InputSource sheetSource=new InputSource(stream);
 
 		try {
 			final XMLReader sheetParser=XMLHelper.newXMLReader();
@@ -102,7 +116,7 @@ public class TableXLSXReader {
 			formatter=DateFormat.getDateInstance(DateFormat.LONG,Locale.getDefault());
 			styles.putNumberFormat((short)15,((SimpleDateFormat)formatter).toPattern());
 
-			final ContentHandler handler=new XSSFSheetXMLHandler(styles,null,strings,new SheetToTable(table),new CachedDataFormatter(),false);
+			final ContentHandler handler=new XSSFSheetXMLHandler(styles,null,strings,sheetHandler,new CachedDataFormatter(),false);
 
 			sheetParser.setContentHandler(handler);
 			sheetParser.parse(sheetSource);
@@ -110,7 +124,6 @@ public class TableXLSXReader {
 			return false;
 		}
 
-		if (useTable==null) multiTable.add(name,table);
 		return true;
 	}
 
@@ -137,6 +150,28 @@ public class TableXLSXReader {
 		}
 	}
 
+	/**
+	 * Verarbeitung des OPC-Datenobjektes, das die xlsx-Arbeitsmappe enthlt,
+	 * wobei nur das erste Tabellenblatt an einen {@link SheetContentsHandler} bergeben wird
+	 * @param xlsxPackage	OPC-Datenobjekt, das die xlsx-Arbeitsmappe enthlt
+	 * @param sheetHandler	Empfnger der Zellen des ersten Tabellenblatts
+	 * @return	Liefert im Erfolgsfall <code>true</code>
+	 */
+	private boolean processOPCPacakgeFirstSheet(final OPCPackage xlsxPackage, final SheetContentsHandler sheetHandler) {
+		try {
+			final CachedReadOnlySharedStringsTable strings=new CachedReadOnlySharedStringsTable(xlsxPackage);
+			final XSSFReader xssfReader=new XSSFReader(xlsxPackage);
+			final StylesTable styles=xssfReader.getStylesTable();
+			final XSSFReader.SheetIterator iter=(XSSFReader.SheetIterator) xssfReader.getSheetsData();
+			if (!iter.hasNext()) return false;
+			try (InputStream stream=iter.next()) {
+				return processSheet(styles,strings,stream,sheetHandler);
+			}
+		} catch (IOException | SAXException | OpenXML4JException e1) {
+			return false;
+		}
+	}
+
 	/**
 	 * Verarbeitet die gesamte Arbeitsmappe.
 	 * Das Ergebnis kann im Erfolgsfall ber die Funktion {@link TableXLSXReader#getTable()} abgerufen werden.
@@ -167,6 +202,23 @@ public class TableXLSXReader {
 		}
 	}
 
+	/**
+	 * bergibt die Zellen der ersten Tabelle der Datei direkt an einen {@link SheetContentsHandler},
+	 * ohne eine {@link Table} aufzubauen.
+	 * @param sheetHandler	Empfnger der Zellen
+	 * @return	Liefert im Erfolgsfall <code>true</code>.
+	 * @see TableNumberColumnsReader
+	 */
+	public boolean processFirstTableCells(final SheetContentsHandler sheetHandler) {
+		if (file==null || !file.isFile() || sheetHandler==null) return false;
+
+		try (OPCPackage xlsxPackage=OPCPackage.open(file,PackageAccess.READ)) {
+			return processOPCPacakgeFirstSheet(xlsxPackage,sheetHandler);
+		} catch (InvalidFormatException | IOException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * Transformation eines XLSX-Tabellenblattes in eine {@link Table}-basierte Tabelle
 	 * (ber einen {@link SheetContentsHandler})
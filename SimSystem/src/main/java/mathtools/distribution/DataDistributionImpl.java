@@ -818,6 +818,34 @@ public final class DataDistributionImpl extends AbstractRealDistribution impleme
 		return dist;
 	}
 
+	/**
+	 * Erstellt ein <code>DataDistributionImpl</code>-Objekt auf Basis der bergeben Messwerten (nicht Dichtewerten).
+	 * Nicht ganzzahlige Messwerte werden dabei auf die nchste Ganzzahl gerundet.
+	 * @param samples	Array, dass die Messwerte enthlt
+	 * @param normalize	Soll die Verteilung nach dem Laden normalisiert werden?
+	 * @return	Neues Objekt vom Typ <code>DataDistributionImpl</code> oder <code>null</code>, wenn negative oder ungltige Messwerte enthalten sind
+	 */
+	public static DataDistributionImpl createFromSamplesArray(final double[] samples, final boolean normalize) {
+		if (samples==null || samples.length==0) return new DataDistributionImpl(1,0);
+
+		double max=0;
+		for (double sample: samples) {
+			if (!(sample>=0) || sample>=Integer.MAX_VALUE-1) return null;
+			if (sample>max) max=sample;
+		}
+		final int maxIndex=(int)Math.round(max);
+		final DataDistributionImpl dist=new DataDistributionImpl(maxIndex+1,maxIndex+1);
+
+		final double[] density=dist.densityData;
+		for (double sample: samples) density[(int)Math.round(sample)]++;
+		if (normalize) {
+			dist.normalizeDensity();
+			dist.updateCumulativeDensity();
+		}
+
+		return dist;
+	}
+
 	/**
 	 * Erstellt ein <code>DataDistributionImpl</code>-Objekt auf Basis der bergebenen Messwerten (eine Zeile) oder Dichtewerten (zwei Zeilen).
 	 * @param samples	Array, dass die Messwerte enthlt
@@ -22,10 +22,12 @@ import org.apache.commons.math3.distribution.NormalDistribution;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.util.FastMath;
 
+import mathtools.distribution.tools.ZigguratRandom;
+
 /**
  * Klasse zur Abbildung der Lognormalverteilung
  * @author Alexander Herzog
- * @version 1.2
+ * @version 1.3
  */
 public final class LogNormalDistributionImpl extends AbstractRealDistribution implements Cloneable, DistributionWithRandom {
 	/**
@@ -173,51 +175,16 @@ public final class LogNormalDistributionImpl extends AbstractRealDistribution im
 	@Override
 	public boolean isSupportConnected() {return true;}
 
-	/*private static final double TwoTimesPI=2*Math.PI;*/
-
-	/**
-	 * Es werden immer zwei Pseudozufallszahlen gleichzeitig generiert.
-	 * Steht eine zweite Zahl direkt zur Verfgung?
-	 * @see #nextRandom
-	 * @see #random(RandomGenerator)
-	 */
-	private boolean randomAvailable=false;
-
 	/**
-	 * Es werden immer zwei Pseudozufallszahlen gleichzeitig generiert.
-	 * Wenn eine zweite zur Verfgung steht, so wird sie hier angeboten.
-	 * @see #randomAvailable
-	 * @see #random(RandomGenerator)
+	 * Erzeugt eine Zufallszahl gem der Verteilung.<br>
+	 * Die zu Grunde liegende standardnormalverteilte Zufallszahl wird ber das Ziggurat-Verfahren
+	 * erzeugt. Im Gegensatz zur frher verwendeten Polar-Methode wird dabei keine zweite Zahl
+	 * zwischengespeichert, so dass das Verteilungsobjekt auch von mehreren Threads gleichzeitig
+	 * zur Erzeugung von Zufallszahlen verwendet werden kann.
+	 * @see ZigguratRandom#nextNormal(RandomGenerator)
 	 */
-	private double nextRandom=0;
-
 	@Override
 	public double random(final RandomGenerator generator) {
-		if (!randomAvailable) {
-			/* https://de.wikipedia.org/wiki/Box-Muller-Methode - Vertrgt sich nicht gut mit dem linearen Kongruenz Math.random() */
-			/*
-			final double r1=TwoTimesPI*rnd.nextDouble();
-			final double r2=StrictMath.sqrt(-2*Math.log(rnd.nextDouble()));
-			randomAvailable=true; ohne Nutzung der anderen Zahl langsamer, aber bessere Werte (in Bezug auf die Kenngren)
-			nextRandom=FastMath.exp(-StrictMath.sin(r1)*r2*sigma+mu);
-			return FastMath.exp(StrictMath.cos(r1)*r2*sigma+mu);
-			 */
-
-			/* https://de.wikipedia.org/wiki/Polar-Methode */
-			double q=10, u=0, v=0;
-			while (q==0 || q>=1) {
-				u=2*generator.nextDouble()-1;
-				v=2*generator.nextDouble()-1;
-				q=u*u+v*v;
-			}
-			final double p=StrictMath.sqrt(-2*Math.log(q)/q); /* StrictMath.log ist schneller als FastMath. Math.log laut Code StrictMath.log auf, aber in Wirklichkeit scheint hier der Compiler Magic zu machen, so dass Math.log schneller ist. */
-			randomAvailable=true;
-			final double product=p*sigma;
-			nextRandom=FastMath.exp(v*product+mu);
-			return FastMath.exp(u*product+mu);
-		} else {
-			randomAvailable=false;
-			return nextRandom;
-		}
+		return FastMath.exp(ZigguratRandom.nextNormal(generator)*sigma+mu);
 	}
 }
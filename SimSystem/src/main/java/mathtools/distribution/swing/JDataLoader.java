@@ -49,6 +49,7 @@ import javax.swing.table.TableModel;
 import mathtools.MultiTable;
 import mathtools.NumberTools;
 import mathtools.Table;
+import mathtools.TableNumberColumnsReader;
 
 /**
  * Dialog, der das Laden von Zahlenreihen oder auch Textreihen aus beliebigen Tabellendateien ermglicht
@@ -56,7 +57,7 @@ import mathtools.Table;
  * eindeutige, passende Reihe in der Datei, so wird diese sofort zurckgeliefert. Andernfalls wird der
  * Auswahldialog angezeigt.)
  * @author Alexander Herzog
- * @version 1.1
+ * @version 1.2
  */
 public class JDataLoader extends JDialog {
 	/**
@@ -512,6 +513,16 @@ public class JDataLoader extends JDialog {
 	 */
 	public static MultiTable loadTable(final Component owner, final String fileLoadTitle) {
 		File file=Table.showLoadDialog(owner,fileLoadTitle); if (file==null) return null;
+		return loadNonEmptyTables(owner,file);
+	}
+
+	/**
+	 * Versucht Tabellendaten aus einer Datei zu laden und entfernt dabei leere Tabellenbltter.
+	 * @param owner	bergeordnetes Element (zur Anzeige von Fehlermeldungen)
+	 * @param file	Tabellendatei
+	 * @return	Liefert im Erfolgsfall eine {@link MultiTable}, sonst <code>null</code>.
+	 */
+	private static MultiTable loadNonEmptyTables(final Component owner, final File file) {
 		MultiTable multiTable=loadTable(owner,file); if (multiTable==null) return null;
 
 		/* Leere Tabellen weglassen */
@@ -525,6 +536,33 @@ public class JDataLoader extends JDialog {
 		return (result.size()>0)?result:null;
 	}
 
+	/**
+	 * Dateigre ab der {@link #loadNumbersStreaming(File, int, int)} versucht,
+	 * eine eindeutige Zahlenspalte ohne Aufbau einer {@link MultiTable} zu laden
+	 */
+	private static final long STREAMING_MIN_FILE_SIZE=4*1024*1024;
+
+	/**
+	 * Versucht aus einer groen Tabellendatei direkt die einzige Zahlenspalte zu laden.
+	 * Dabei wird keine {@link MultiTable} aus Zeichenketten aufgebaut, sondern die Daten
+	 * werden per {@link TableNumberColumnsReader} direkt in ein Zahlen-Array gelesen.
+	 * @param file	Tabellendatei
+	 * @param minValues	Minimale Anzahl an Daten in der Spalte, die verlangt werden.
+	 * @param maxValues	Maximale Anzahl an Daten in der Spalte, die verlangt werden.
+	 * @return	Liefert im Erfolgsfall die Zahlen, sonst <code>null</code> (dann muss der Weg ber eine {@link MultiTable} gegangen werden)
+	 */
+	private static double[] loadNumbersStreaming(final File file, final int minValues, final int maxValues) {
+		if (file==null || !file.isFile() || file.length()<STREAMING_MIN_FILE_SIZE) return null;
+		final TableNumberColumnsReader reader=new TableNumberColumnsReader(file);
+		if (!reader.process()) return null;
+		final int index=reader.getNumberColumnIndex();
+		if (index<0) return null;
+		final double[] numbers=reader.getNumbers(index);
+		if (numbers.length<minValues || numbers.length>maxValues) return null;
+		for (double number: numbers) if (number<0) return null;
+		return numbers;
+	}
+
 	/**
 	 * Liefert eine in einer {@link MultiTable} enthaltene Zeichenketten-Reihe
 	 * der angegebenen Lnge zurck. Ist diese eindeutig, so wird sie direkt zurckgegeben;
@@ -707,7 +745,10 @@ public class JDataLoader extends JDialog {
 	 * @return	Im Erfolgsfall wird ein Array der verlangten Gre zurckgegeben. Im Fehlerfall <code>null</code>. Im Fehlerfall wird auerdem ein <code>JOptionPane</code>-Fehlerdialog angezeigt.
 	 */
 	public static double[] loadNumbers(final Component owner, final String fileLoadTitle, final int minValues, final int maxValues) {
-		final MultiTable multiTable=loadTable(owner,fileLoadTitle);
+		final File file=Table.showLoadDialog(owner,fileLoadTitle); if (file==null) return null;
+		final double[] streamedData=loadNumbersStreaming(file,minValues,maxValues);
+		if (streamedData!=null) return streamedData;
+		final MultiTable multiTable=loadNonEmptyTables(owner,file);
 		if (multiTable==null) return null;
 		return loadNumbersFromMultiTable(owner,multiTable,minValues,maxValues);
 	}
@@ -771,6 +812,8 @@ public class JDataLoader extends JDialog {
 	 * @return	Im Erfolgsfall wird ein Array der verlangten Gre zurckgegeben. Im Fehlerfall <code>null</code>. Im Fehlerfall wird auerdem ein <code>JOptionPane</code>-Fehlerdialog angezeigt.
 	 */
 	public static double[] loadNumbersFromFile(final Component owner, final File file, final int minValues, final int maxValues) {
+		final double[] streamedData=loadNumbersStreaming(file,minValues,maxValues);
+		if (streamedData!=null) return streamedData;
 		final MultiTable multiTable=loadTable(owner,file);
 		if (multiTable==null) return null;
 		return loadNumbersFromMultiTable(owner,multiTable,minValues,maxValues);
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+import mathtools.distribution.DataDistributionImpl;
+
+/**
+ * Erzeugt Zufallszahlen gem einer empirischen Verteilung ({@link DataDistributionImpl})
+ * ber eine Alias-Tabelle (Verfahren nach Walker in der Variante von Vose).<br>
+ * Die Auswahl der Klasse erfolgt so unabhngig von der Anzahl an Klassen in konstanter Zeit
+ * (statt per Bisektion ber die Verteilungsfunktion). Innerhalb der gewhlten Klasse wird
+ * wie bei {@link DataDistributionImpl#random(RandomGenerator)} gleichverteilt interpoliert;
+ * dafr wird der nicht fr die Auswahl bentigte Anteil derselben Zufallszahl verwendet.<br>
+ * Die Tabelle wird beim Anlegen aus der Dichte berechnet; sptere nderungen an der
+ * Verteilung werden nicht bercksichtigt. Objekte dieser Klasse werden nach dem Anlegen
+ * nicht mehr verndert und knnen daher von mehreren Threads gleichzeitig verwendet werden.
+ * @author Alexander Herzog
+ * @see DistributionRandomNumber#getSampler(org.apache.commons.math3.distribution.AbstractRealDistribution, boolean)
+ */
+public final class AliasTableSampler implements DistributionSampler {
+	/**
+	 * Wahrscheinlichkeit, innerhalb einer Spalte die Klasse selbst (und nicht den Alias) zu whlen
+	 */
+	private final double[] probability;
+
+	/**
+	 * Alternative Klasse pro Spalte
+	 */
+	private final int[] alias;
+
+	/**
+	 * Anzahl an Spalten (=Anzahl an Klassen) als Fliekommazahl
+	 */
+	private final double size;
+
+	/**
+	 * Kehrwert des Umrechnungsfaktors zwischen Klassen und Trgerbereich
+	 * @see DataDistributionImpl#getArgumentScaleFactor()
+	 */
+	private final double inverseScale;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Ist nicht ffentlich, Objekte werden ber {@link #build(DataDistributionImpl)} angelegt.
+	 * @param density	Dichte (Summe muss grer als 0 sein)
+	 * @param sum	Summe der Dichtewerte
+	 * @param scale	Umrechnungsfaktor zwischen Klassen und Trgerbereich
+	 */
+	private AliasTableSampler(final double[] density, final double sum, final double scale) {
+		final int n=density.length;
+		probability=new double[n];
+		alias=new int[n];
+		size=n;
+		inverseScale=1/scale;
+
+		/* Vose: Klassen in "zu klein" und "zu gro" (bezogen auf den Mittelwert 1) aufteilen */
+		final double[] scaled=new double[n];
+		final int[] small=new int[n];
+		final int[] large=new int[n];
+		int smallCount=0;
+		int largeCount=0;
+		for (int i=0;i<n;i++) {
+			scaled[i]=density[i]*n/sum;
+			if (scaled[i]<1) small[smallCount++]=i; else large[largeCount++]=i;
+		}
+
+		while (smallCount>0 && largeCount>0) {
+			final int l=small[--smallCount];
+			final int g=large[--largeCount];
+			probability[l]=scaled[l];
+			alias[l]=g;
+			scaled[g]=(scaled[g]+scaled[l])-1;
+			if (scaled[g]<1) small[smallCount++]=g; else large[largeCount++]=g;
+		}
+
+		/* Verbleibende Spalten (nur Rundungsfehler) vollstndig der Klasse selbst zuordnen */
+		while (largeCount>0) {
+			final int g=large[--largeCount];
+			probability[g]=1;
+			alias[g]=g;
+		}
+		while (smallCount>0) {
+			final int l=small[--smallCount];
+			probability[l]=1;
+			alias[l]=l;
+		}
+	}
+
+	/**
+	 * Erstellt fr eine empirische Verteilung eine Alias-Tabelle.
+	 * @param distribution	Empirische Verteilung
+	 * @return	Sampler-Objekt oder <code>null</code>, wenn die Dichte leer ist oder ungltige Werte enthlt
+	 */
+	public static AliasTableSampler build(final DataDistributionImpl distribution) {
+		if (distribution==null) return null;
+		final double[] density=distribution.densityData;
+		if (density==null || density.length==0) return null;
+		double sum=0;
+		for (double d: density) {
+			if (!(d>=0) || Double.isInfinite(d)) return null;
+			sum+=d;
+		}
+		if (!(sum>0) || Double.isInfinite(sum)) return null;
+		return new AliasTableSampler(density,sum,distribution.getArgumentScaleFactor());
+	}
+
+	@Override
+	public double random(final RandomGenerator generator) {
+		final double u=generator.nextDouble()*size;
+		final int column=(int)u;
+		final double p=probability[column];
+		final double fraction=u-column;
+
+		/* Die Position innerhalb der Klasse ergibt sich aus der relativen Lage von fraction im gewhlten Teil der Spalte */
+		if (fraction<p) return (column+fraction/p)*inverseScale;
+		return (alias[column]+(fraction-p)/(1-p))*inverseScale;
+	}
+}
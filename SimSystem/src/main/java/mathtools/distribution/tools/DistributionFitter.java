@@ -22,6 +22,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.commons.math3.distribution.AbstractRealDistribution;
 import org.apache.commons.math3.distribution.ChiSquaredDistribution;
@@ -36,7 +37,7 @@ import mathtools.distribution.OnePointDistributionImpl;
  * Versucht zu gegebenen Messwerten eine Verteilungsfunktion zu finden,
  * die diese mglichst gut beschreibt.
  * @author Alexander Herzog
- * @version 2.1
+ * @version 2.3
  */
 public class DistributionFitter extends DistributionFitterBase {
 	/**
@@ -91,15 +92,59 @@ public class DistributionFitter extends DistributionFitterBase {
 	 */
 	protected final List<String> outputInfo;
 
+	/**
+	 * Kandidaten, deren quadrierte Abweichung um mehr als diesen Faktor ber der
+	 * Abweichung der besten Verteilung liegt, gelten als chancenlos;
+	 * fr sie werden keine Anpassungstests mehr durchgefhrt.
+	 * @see #process(DataDistributionImpl)
+	 */
+	private static final double HOPELESS_FIT_FACTOR=1_000;
+
+	/**
+	 * Einmalig pro Verarbeitung berechnete, normierte Dichtewerte der Messwerte
+	 * (wird von allen Kandidaten gemeinsam verwendet)
+	 * @see #calcSquaredDiff(AbstractRealDistribution)
+	 */
+	private double[] sampleValues;
+
+	/**
+	 * Sollen die ber die Momente angepassten Verteilungen zustzlich per Maximum-Likelihood-Schtzung verbessert werden?
+	 * @see #setMaximumLikelihoodRefinement(boolean)
+	 */
+	private boolean maximumLikelihoodRefinement;
+
 	/**
 	 * Konstruktor der Klasse
 	 */
 	public DistributionFitter() {
 		fits=new ArrayList<>();
 		outputInfo=new ArrayList<>();
+		maximumLikelihoodRefinement=false;
 		clear();
 	}
 
+	/**
+	 * Stellt ein, ob die ber die Momente angepassten Verteilungen zustzlich
+	 * per Maximum-Likelihood-Schtzung auf Basis der klassierten Messwerte
+	 * verbessert werden sollen. Dies liefert insbesondere bei Messwerten mit
+	 * ausgeprgten Rndern bessere Anpassungen, bentigt aber mehr Rechenzeit.
+	 * @param maximumLikelihoodRefinement	Maximum-Likelihood-Schtzung durchfhren (Vorgabe: <code>false</code>)
+	 * @see DistributionFitterLikelihood
+	 */
+	public void setMaximumLikelihoodRefinement(final boolean maximumLikelihoodRefinement) {
+		this.maximumLikelihoodRefinement=maximumLikelihoodRefinement;
+	}
+
+	/**
+	 * Gibt an, ob die ber die Momente angepassten Verteilungen zustzlich
+	 * per Maximum-Likelihood-Schtzung verbessert werden.
+	 * @return	Maximum-Likelihood-Schtzung wird durchgefhrt
+	 * @see #setMaximumLikelihoodRefinement(boolean)
+	 */
+	public boolean isMaximumLikelihoodRefinement() {
+		return maximumLikelihoodRefinement;
+	}
+
 	/**
 	 * Setzt alle geladenen Daten und Verarbeitetungsergebnisse zurck.
 	 */
@@ -120,22 +165,67 @@ public class DistributionFitter extends DistributionFitterBase {
 		final double mean=samples.getMean();
 		final double sd=samples.getStandardDeviation();
 		/* Sowohl samples.getMax() als auch dist.getMax() liefern nicht das, was wir brauchen */
-		double min=dist.densityData.length-1;
-		double max=0;
+		int minIndex=dist.densityData.length-1;
+		int maxIndex=0;
 		for (int i=0;i<dist.densityData.length;i++) if (dist.densityData[i]>0) {
-			if (i<min) min=i;
-			if (i>max) max=i;
+			if (i<minIndex) minIndex=i;
+			if (i>maxIndex) maxIndex=i;
 		}
+		final double min=minIndex;
+		final double max=maxIndex;
 		outputPlain.append(String.format(ComparedDistributions,getFitDistributionCount())+"\n");
 		outputHTML.append("<h3>"+String.format(ComparedDistributions,getFitDistributionCount())+"</h3>\n");
 
-		/* Fits berechnen */
+		/* Histogramm der Messwerte einmalig fr alle Kandidaten aufbereiten */
+		sampleValues=calcSampleValues();
+
+		/* Verteilungen anpassen und quadrierte Abweichungen berechnen (parallel ber alle Kandidaten) */
 		final Set<Class<? extends AbstractDistributionWrapper>> candidates=new HashSet<>(getFitDistributions());
-		for (String name: DistributionTools.getDistributionNames()) {
-			final AbstractDistributionWrapper wrapper=DistributionTools.getWrapper(name);
-			if (calcMatch(wrapper,mean,sd,min,max)) {
-				candidates.remove(wrapper.getClass());
-			}
+		final AbstractDistributionWrapper[] wrappers=Arrays.stream(DistributionTools.getDistributionNames()).map(name->DistributionTools.getWrapper(name)).toArray(AbstractDistributionWrapper[]::new);
+		final int size=wrappers.length;
+		final AbstractRealDistribution[] fitDistributions=new AbstractRealDistribution[size];
+		final double[] diff=new double[size];
+		IntStream.range(0,size).parallel().forEach(i->{
+			if (wrappers[i]==null) return;
+			final AbstractRealDistribution fit=wrappers[i].getDistributionForFit(mean,sd,min,max);
+			if (fit==null) return;
+			diff[i]=calcSquaredDiff(fit);
+			if (!Double.isNaN(diff[i])) fitDistributions[i]=fit;
+		});
+
+		/* Optional: Verbesserung der nicht chancenlosen Kandidaten per Maximum-Likelihood-Schtzung (parallel) */
+		if (maximumLikelihoodRefinement && sd>=0.00001) {
+			final double preHopelessDiff=getBestDiff(fitDistributions,diff)*HOPELESS_FIT_FACTOR;
+			final DistributionFitterLikelihood likelihood=new DistributionFitterLikelihood(rawSamples);
+			IntStream.range(0,size).parallel().forEach(i->{
+				if (fitDistributions[i]==null || diff[i]>preHopelessDiff) return;
+				final AbstractRealDistribution refined=likelihood.refine(wrappers[i],fitDistributions[i],mean,sd,min,max);
+				if (refined==null) return;
+				final double refinedDiff=calcSquaredDiff(refined);
+				if (Double.isNaN(refinedDiff)) return;
+				fitDistributions[i]=refined;
+				diff[i]=refinedDiff;
+			});
+		}
+
+		/* Anpassungstests nur fr Kandidaten durchfhren, die nicht chancenlos sind (ebenfalls parallel) */
+		final double hopelessDiff=getBestDiff(fitDistributions,diff)*HOPELESS_FIT_FACTOR;
+		final double[] pKS=new double[size];
+		final double[] pChiSqr=new double[size];
+		final double[] pAndersonDarling=new double[size];
+		Arrays.fill(pKS,Double.NaN);
+		IntStream.range(0,size).parallel().forEach(i->{
+			final AbstractRealDistribution fit=fitDistributions[i];
+			if (fit==null || diff[i]>hopelessDiff) return;
+			pKS[i]=calcPValueKS(fit);
+			pChiSqr[i]=calcPValueChiSqr(fit);
+			pAndersonDarling[i]=(fit instanceof NormalDistribution)?calcPValueAndersonDarling(fit):0;
+		});
+
+		/* Fits in der Reihenfolge der Kandidaten erfassen */
+		for (int i=0;i<size;i++) if (fitDistributions[i]!=null) {
+			addFit(fitDistributions[i],diff[i],pKS[i],pChiSqr[i],pAndersonDarling[i]);
+			candidates.remove(wrappers[i].getClass());
 		}
 
 		/* Ergebnisse fr Fits ausgeben */
@@ -176,11 +266,39 @@ public class DistributionFitter extends DistributionFitterBase {
 		return true;
 	}
 
+	/**
+	 * Liefert die kleinste quadrierte Abweichung ber alle angepassten Verteilungen.
+	 * @param fitDistributions	Angepasste Verteilungen (Eintrge knnen <code>null</code> sein)
+	 * @param diff	Quadrierte Abweichungen der angepassten Verteilungen
+	 * @return	Kleinste quadrierte Abweichung (oder <code>Infinity</code>, wenn keine Verteilung angepasst werden konnte)
+	 */
+	private static double getBestDiff(final AbstractRealDistribution[] fitDistributions, final double[] diff) {
+		double bestDiff=Double.POSITIVE_INFINITY;
+		for (int i=0;i<fitDistributions.length;i++) if (fitDistributions[i]!=null) bestDiff=Math.min(bestDiff,diff[i]);
+		return bestDiff;
+	}
+
+	/**
+	 * Berechnet die auf Summe 1 normierten Dichtewerte der Messwerte an den Stellen,
+	 * an denen in {@link #calcSquaredDiff(AbstractRealDistribution)} die Kandidaten ausgewertet werden.
+	 * @return	Normierte Dichtewerte der Messwerte
+	 * @see #sampleValues
+	 */
+	private double[] calcSampleValues() {
+		final int max=Math.min(1_000_000,samples.densityData.length*2);
+		final double[] values=new double[max];
+		double sum=0;
+		for (int i=0;i<max;i++) sum+=values[i]=samples.density(i);
+		if (sum==0) sum=1;
+		for (int i=0;i<max;i++) values[i]/=sum;
+		return values;
+	}
+
 	/**
 	 * Berechnet die quadrierte mittlere Abweichung zwischen einer Verteilung und den Messwerten
 	 * @param dist	Verteilung zu der die Abweichung berechnet werden sollen
 	 * @return	Quadrierte mittlere Abweichung
-	 * @see #calcMatch(AbstractRealDistribution)
+	 * @see #sampleValues
 	 */
 	private double calcSquaredDiff(AbstractRealDistribution dist) {
 		double diff=0;
@@ -190,20 +308,18 @@ public class DistributionFitter extends DistributionFitterBase {
 		if (samples.getStandardDeviation()<0.00001 && dist instanceof OnePointDistributionImpl) {
 			if (Math.abs(((OnePointDistributionImpl)dist).point-samples.getMean())<0.01) diff=0; else diff=Double.POSITIVE_INFINITY;
 		} else {
-			final int max=Math.min(1_000_000,samples.densityData.length*2);
-			double[] valuesSamples=new double[max];
-			double[] valuesDist=new double[max];
-			double sumSamples=0, sumDist=0;
+			final double[] valuesSamples=sampleValues;
+			final int max=valuesSamples.length;
+			final double[] valuesDist=new double[max];
+			double sumDist=0;
 			for (int i=0;i<max;i++) {
-				sumSamples+=valuesSamples[i]=samples.density(i);
 				double d=dist.density(i);
 				if (i==0 && (Double.isInfinite(d) || Double.isNaN(d))) d=0;
 				sumDist+=valuesDist[i]=d;
 			}
-			if (sumSamples==0) sumSamples=1;
 			if (sumDist==0) sumDist=1;
 			for (int i=0;i<max;i++) {
-				double a=valuesSamples[i]/sumSamples;
+				double a=valuesSamples[i];
 				double b=valuesDist[i]/sumDist;
 				if (a>10E100 || b>10E100) continue;
 				/*System.out.println("x="+i+", f(x)="+NumberTools.formatNumber(b,2)+", values(x)="+NumberTools.formatNumber(a,2));*/
@@ -220,7 +336,7 @@ public class DistributionFitter extends DistributionFitterBase {
 	 * p-Value gem Kolmogorov-Smirnov-Anpassungstest ausrechnen
 	 * @param dist	Verteilung zwischen der und den Messwerten der p-Value bestimmt werden soll
 	 * @return	p-Value gem Kolmogorov-Smirnov-Anpassungstest
-	 * @see #calcMatch(AbstractRealDistribution)
+	 * @see #process(DataDistributionImpl)
 	 */
 	private double calcPValueKS(AbstractRealDistribution dist) {
 		double maxDiff=0;
@@ -242,7 +358,7 @@ public class DistributionFitter extends DistributionFitterBase {
 	 * p-Value gem chi-Anpassungstest ausrechnen
 	 * @param dist	Verteilung zwischen der und den Messwerten der p-Value bestimmt werden soll
 	 * @return	p-Value gem chi-Anpassungstest
-	 * @see #calcMatch(AbstractRealDistribution)
+	 * @see #process(DataDistributionImpl)
 	 */
 	private double calcPValueChiSqr(AbstractRealDistribution dist) {
 		double sumRelDif=0;
@@ -279,7 +395,7 @@ public class DistributionFitter extends DistributionFitterBase {
 	 * p-Value gem Anderson-Darling-Anpassungstest ausrechnen
 	 * @param dist	Verteilung zwischen der und den Messwerten der p-Value bestimmt werden soll
 	 * @return	p-Value gem Anderson-Darling-Anpassungstest
-	 * @see #calcMatch(AbstractRealDistribution)
+	 * @see #process(DataDistributionImpl)
 	 */
 	private double calcPValueAndersonDarling(AbstractRealDistribution dist) {
 		/* Siehe https://en.wikipedia.org/wiki/AndersonDarling_test */
@@ -335,25 +451,16 @@ public class DistributionFitter extends DistributionFitterBase {
 	}
 
 	/**
-	 * Berechnet, wie gut eine vorgegebene Verteilung zu den Messwerten passt
-	 * (quadrierte mittlere Abweichung und auch verschiedene Anpassungstests)
-	 * @param dist	Zu prfende Verteilung
-	 * @return	Gibt an, ob fr die gegebene Verteilung eine Anpassung vorgenommen werden konnte.
+	 * Erfasst eine angepasste Verteilung inkl. der Angaben, wie gut diese zu den Messwerten passt.
+	 * @param dist	Angepasste Verteilung
+	 * @param diff	Quadrierte mittlere Abweichung
+	 * @param pKS	p-Value gem Kolmogorov-Smirnov-Anpassungstest (<code>NaN</code>, wenn die Verteilung chancenlos ist und daher nicht getestet wurde)
+	 * @param pChiSqr	p-Value gem chi-Anpassungstest
+	 * @param pAndersonDarling	p-Value gem Anderson-Darling-Anpassungstest
 	 * @see #fits
 	 */
-	private boolean calcMatch(final AbstractRealDistribution dist) {
-		/* Quadrierte mittlere Abweichung ausrechnen */
-		final double diff=calcSquaredDiff(dist);
-		if (Double.isNaN(diff)) return false;
-
-		/* p-Value gem Kolmogorov-Smirnov-Anpassungstest ausrechnen */
-		final double pKS=calcPValueKS(dist);
-
-		/* p-Value gem chi-Anpassungstest ausrechnen */
-		final double pChiSqr=calcPValueChiSqr(dist);
-
-		/* p-Value gem Anderson-Darling-Anpassungstest ausrechnen */
-		final double pAndersonDarling=(dist instanceof NormalDistribution)?calcPValueAndersonDarling(dist):0;
+	private void addFit(final AbstractRealDistribution dist, final double diff, final double pKS, final double pChiSqr, final double pAndersonDarling) {
+		final boolean tested=!Double.isNaN(pKS);
 
 		/* Ausgabe */
 
@@ -366,42 +473,27 @@ public class DistributionFitter extends DistributionFitterBase {
 		outputPlain.append(DistributionTools.getDistributionName(dist)+" ");
 		outputPlain.append("("+DistributionTools.getDistributionInfo(dist)+")\n");
 		outputPlain.append(MeanSquares+": "+diffStr+"\n");
-		outputPlain.append(PValue+": "+NumberTools.formatPercent(pKS)+"\n");
-		outputPlain.append(PValueChiSqr+": "+NumberTools.formatPercent(pChiSqr)+"\n");
-		if (dist instanceof NormalDistribution) {
+		if (tested) {
+			outputPlain.append(PValue+": "+NumberTools.formatPercent(pKS)+"\n");
+			outputPlain.append(PValueChiSqr+": "+NumberTools.formatPercent(pChiSqr)+"\n");
+		}
+		if (tested && dist instanceof NormalDistribution) {
 			outputPlain.append(PValueAndersonDarling+": "+NumberTools.formatPercent(pAndersonDarling)+"\n");
 		}
 
 		outputHTML.append("<u>"+DistributionTools.getDistributionName(dist)+"</u><br>\n");
 		outputHTML.append("("+DistributionTools.getDistributionInfo(dist)+")<br>");
 		outputHTML.append(MeanSquares+": <b>"+diffStr+"</b><br>");
-		outputHTML.append(PValue+": "+NumberTools.formatPercent(pKS)+"<br>");
-		outputHTML.append(PValueChiSqr+": "+NumberTools.formatPercent(pChiSqr)+"<br>");
-		if (dist instanceof NormalDistribution) {
+		if (tested) {
+			outputHTML.append(PValue+": "+NumberTools.formatPercent(pKS)+"<br>");
+			outputHTML.append(PValueChiSqr+": "+NumberTools.formatPercent(pChiSqr)+"<br>");
+		}
+		if (tested && dist instanceof NormalDistribution) {
 			outputHTML.append(PValueAndersonDarling+": "+NumberTools.formatPercent(pAndersonDarling)+"<br>");
 		}
 
 		/* Qualitt des Fits speichern */
 		fits.add(new Fit(dist,diff,outputPlain.toString(),outputHTML.toString()));
-
-		return true;
-	}
-
-	/**
-	 * Versucht eine Verteilung an die Messwerte anzupassen und berechnet dann,
-	 * wenn die Anpassung mglich ist, die Abweichung
-	 * @param wrapper	Typ der Verteilung
-	 * @param min	Minimal aufgetretener Messwert
-	 * @param max	Maximal aufgetretener Messwert
-	 * @param mean	Einzustellender Erwartungswert
-	 * @param sd	Einzustellende Standardabweichung
-	 * @return	Gibt an, ob fr die gegebene Verteilung eine Anpassung vorgenommen werden konnte.
-	 */
-	private boolean calcMatch(final AbstractDistributionWrapper wrapper, final double mean, final double sd, final double min, final double max) {
-		if (wrapper==null) return false;
-		final AbstractRealDistribution fit=wrapper.getDistributionForFit(mean,sd,min,max);
-		if (fit==null) return false;
-		return calcMatch(fit);
 	}
 
 	/**
@@ -15,6 +15,7 @@
  */
 package mathtools.distribution.tools;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -90,12 +91,81 @@ public abstract class DistributionFitterBase {
 	 */
 	protected DataDistributionImpl samples;
 
+	/**
+	 * Vorgabewert fr die relative nderung von Mittelwert oder Standardabweichung,
+	 * ab der bei der fortlaufenden Anpassung die Verteilungen neu bewertet werden
+	 * @see #setLiveRefitThreshold(double)
+	 */
+	public static final double DEFAULT_LIVE_REFIT_THRESHOLD=0.01;
+
+	/**
+	 * Relativer Zuwachs an Messwerten, ab dem bei der fortlaufenden Anpassung die
+	 * Verteilungen auch ohne nderung von Mittelwert und Standardabweichung neu bewertet werden
+	 * (da sich die Form des Histogramms verndert haben kann)
+	 * @see #addSamples(double[])
+	 */
+	private static final double LIVE_REFIT_GROWTH=0.25;
+
+	/**
+	 * Histogramm der fortlaufend bergebenen Messwerte (Anzahl pro Wert; kann lnger als bentigt sein)
+	 * @see #addSamples(double[])
+	 */
+	private double[] liveDensity;
+
+	/**
+	 * Grter bislang im Histogramm {@link #liveDensity} belegter Index
+	 */
+	private int liveMaxIndex;
+
+	/**
+	 * Anzahl der fortlaufend bergebenen gltigen Messwerte
+	 */
+	private long liveCount;
+
+	/**
+	 * Summe der fortlaufend bergebenen Messwerte
+	 */
+	private double liveSum;
+
+	/**
+	 * Summe der Quadrate der fortlaufend bergebenen Messwerte
+	 */
+	private double liveSum2;
+
+	/**
+	 * Anzahl an Messwerten bei der letzten Bewertung der Verteilungen
+	 */
+	private long liveFitCount;
+
+	/**
+	 * Grter belegter Index bei der letzten Bewertung der Verteilungen
+	 */
+	private int liveFitMaxIndex;
+
+	/**
+	 * Mittelwert bei der letzten Bewertung der Verteilungen
+	 */
+	private double liveFitMean;
+
+	/**
+	 * Standardabweichung bei der letzten Bewertung der Verteilungen
+	 */
+	private double liveFitSd;
+
+	/**
+	 * Relative nderung von Mittelwert oder Standardabweichung, ab der die Verteilungen neu bewertet werden
+	 * @see #setLiveRefitThreshold(double)
+	 */
+	private double liveRefitThreshold;
+
 	/**
 	 * Konstruktor der Klasse
 	 */
 	public DistributionFitterBase() {
 		outputPlain=new StringBuilder();
 		outputHTML=new StringBuilder();
+		liveRefitThreshold=DEFAULT_LIVE_REFIT_THRESHOLD;
+		resetLive();
 	}
 
 	/**
@@ -145,6 +215,25 @@ public abstract class DistributionFitterBase {
 		return process(dist);
 	}
 
+	/**
+	 * Verarbeitet eine Reihe von Messwerten, die als Zahlen vorliegen
+	 * (z.B. aus einer per {@link mathtools.TableNumberColumnsReader} geladenen Spalte)
+	 * @param data	Zu verarbeitende Messwerte
+	 * @return	Gibt <code>true</code> zurck, wenn die Daten verarbeitet werden konnten.
+	 */
+	public boolean processSamples(double[] data) {
+		clear();
+		DataDistributionImpl dist=DataDistributionImpl.createFromSamplesArray(data,false);
+		if (dist==null) {
+			outputPlain.append(ErrorInvalidFormat+"\n");
+			outputHTML.append(ErrorInvalidFormat+"<br>\n");
+			return false;
+		}
+
+		if (!prepareProcessing(dist)) return false;
+		return process(dist);
+	}
+
 	/**
 	 * Verarbeitet eine Reihe von Dichte-Angaben (zwei Zeilen)
 	 * @param data	ZU verarbeitende Dichte-Angaben
@@ -195,6 +284,120 @@ public abstract class DistributionFitterBase {
 		return process(dist);
 	}
 
+	/**
+	 * Setzt die fortlaufend per {@link #addSamples(double[])} erfassten Messwerte zurck.<br>
+	 * (Die Ergebnisse der letzten Anpassung bleiben bis zur nchsten Verarbeitung erhalten.)
+	 * @see #addSamples(double[])
+	 */
+	public void resetLive() {
+		liveDensity=new double[0];
+		liveMaxIndex=-1;
+		liveCount=0;
+		liveSum=0;
+		liveSum2=0;
+		liveFitCount=0;
+		liveFitMaxIndex=-1;
+		liveFitMean=0;
+		liveFitSd=0;
+	}
+
+	/**
+	 * Stellt ein, ab welcher relativen nderung von Mittelwert oder Standardabweichung
+	 * bei der fortlaufenden Anpassung die Verteilungen neu bewertet werden.
+	 * @param liveRefitThreshold	Relative nderung (Werte &le;0 bedeuten, dass nach jedem Block neu bewertet wird)
+	 * @see #DEFAULT_LIVE_REFIT_THRESHOLD
+	 * @see #addSamples(double[])
+	 */
+	public void setLiveRefitThreshold(final double liveRefitThreshold) {
+		this.liveRefitThreshold=liveRefitThreshold;
+	}
+
+	/**
+	 * Liefert die Anzahl der bislang fortlaufend per {@link #addSamples(double[])} erfassten gltigen Messwerte.
+	 * @return	Anzahl der fortlaufend erfassten Messwerte
+	 */
+	public long getLiveSampleCount() {
+		return liveCount;
+	}
+
+	/**
+	 * Fgt einen Block weiterer Messwerte zu den fortlaufend erfassten Messwerten hinzu
+	 * (z.B. aus laufend eintreffenden Gesprchsdatenstzen).<br>
+	 * Histogramm, Summe und Quadratsumme werden dabei direkt aktualisiert. Die Verteilungen
+	 * werden nur dann neu angepasst und bewertet, wenn sich das Ergebnis verndert haben kann:
+	 * wenn sich Mittelwert oder Standardabweichung um mehr als den per {@link #setLiveRefitThreshold(double)}
+	 * eingestellten Anteil verndert haben, wenn sich der Wertebereich vergrert hat oder wenn
+	 * seit der letzten Bewertung deutlich mehr Messwerte hinzugekommen sind.<br>
+	 * Ungltige Werte (negative Werte, <code>NaN</code> usw.) werden bersprungen.
+	 * @param data	Neue Messwerte
+	 * @return	Gibt <code>true</code> zurck, wenn die Verteilungen neu bewertet wurden; bei <code>false</code> sind die bisherigen Ergebnisse weiterhin gltig
+	 * @see #resetLive()
+	 * @see #refitLive()
+	 */
+	public boolean addSamples(final double[] data) {
+		if (data==null || data.length==0) return false;
+
+		/* Histogramm und Summen aktualisieren */
+		for (double sample: data) {
+			if (!(sample>=0) || sample>=Integer.MAX_VALUE-1) continue;
+			final int index=(int)Math.round(sample);
+			if (index>=liveDensity.length) liveDensity=Arrays.copyOf(liveDensity,Math.max(index+1,2*liveDensity.length));
+			liveDensity[index]++;
+			if (index>liveMaxIndex) liveMaxIndex=index;
+			liveCount++;
+			liveSum+=index;
+			liveSum2+=((double)index)*index;
+		}
+		if (liveCount==0) return false;
+
+		/* Prfen, ob sich das Ergebnis verndert haben kann */
+		if (liveFitCount==0 || liveMaxIndex>liveFitMaxIndex || liveCount>=liveFitCount*(1+LIVE_REFIT_GROWTH)) return refitLive();
+		final double mean=getLiveMean();
+		final double sd=getLiveStandardDeviation();
+		final double scale=Math.max(liveFitSd,1E-10);
+		if (Math.abs(mean-liveFitMean)>liveRefitThreshold*scale) return refitLive();
+		if (Math.abs(sd-liveFitSd)>liveRefitThreshold*scale) return refitLive();
+
+		return false;
+	}
+
+	/**
+	 * Mittelwert der fortlaufend erfassten Messwerte
+	 * @return	Mittelwert der fortlaufend erfassten Messwerte
+	 */
+	private double getLiveMean() {
+		return (liveCount==0)?0:liveSum/liveCount;
+	}
+
+	/**
+	 * Standardabweichung der fortlaufend erfassten Messwerte
+	 * @return	Standardabweichung der fortlaufend erfassten Messwerte
+	 */
+	private double getLiveStandardDeviation() {
+		if (liveCount<2) return 0;
+		final double mean=liveSum/liveCount;
+		return Math.sqrt(Math.max(0,(liveSum2-liveCount*mean*mean)/(liveCount-1)));
+	}
+
+	/**
+	 * Passt die Verteilungen unabhngig von den Schwellenwerten an die
+	 * bislang fortlaufend erfassten Messwerte an und bewertet sie neu.
+	 * @return	Gibt <code>true</code> zurck, wenn die Daten verarbeitet werden konnten.
+	 * @see #addSamples(double[])
+	 */
+	public boolean refitLive() {
+		liveFitCount=liveCount;
+		liveFitMaxIndex=liveMaxIndex;
+		liveFitMean=getLiveMean();
+		liveFitSd=getLiveStandardDeviation();
+
+		clear();
+		if (liveMaxIndex<0) return false;
+		final DataDistributionImpl dist=new DataDistributionImpl(liveMaxIndex+1,Arrays.copyOf(liveDensity,liveMaxIndex+1));
+		if (!prepareProcessing(dist)) return false;
+		return process(dist);
+	}
+
 	/**
 	 * Vorverarbeitung der Messwerte
 	 * (Normalisierung, Ausgabe der generellen Informationen in {@link #outputPlain} and {@link #outputHTML})
@@ -0,0 +1,203 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.optim.InitialGuess;
+import org.apache.commons.math3.optim.MaxEval;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.apache.commons.math3.optim.nonlinear.scalar.ObjectiveFunction;
+import org.apache.commons.math3.optim.nonlinear.scalar.noderiv.NelderMeadSimplex;
+import org.apache.commons.math3.optim.nonlinear.scalar.noderiv.SimplexOptimizer;
+
+import mathtools.distribution.AbstractDiscreteRealDistribution;
+import mathtools.distribution.DataDistributionImpl;
+
+/**
+ * Berechnet die Log-Likelihood von Verteilungen in Bezug auf
+ * klassierte Messwerte und verbessert per Maximum-Likelihood-Schtzung
+ * die ber die Momente angepassten Verteilungen.<br>
+ * Die Messwerte werden dafr einmalig auf hchstens {@link #MAX_BINS} belegte Klassen
+ * reduziert (primitive Arrays mit Klassengrenzen und Hufigkeiten), so dass pro
+ * Auswertung der Zielfunktion keine Objekte angelegt werden mssen.<br>
+ * Objekte dieser Klasse werden nach dem Anlegen nicht mehr verndert und
+ * knnen daher von mehreren Threads gleichzeitig verwendet werden.
+ * @author Alexander Herzog
+ * @see DistributionFitter#setMaximumLikelihoodRefinement(boolean)
+ */
+public final class DistributionFitterLikelihood {
+	/**
+	 * Maximale Anzahl an Auswertungen der Zielfunktion pro Verteilung
+	 */
+	private static final int MAX_EVALUATIONS=200;
+
+	/**
+	 * Maximale Anzahl an Klassen, auf die die Messwerte fr die Berechnung der Log-Likelihood zusammengefasst werden
+	 */
+	public static final int MAX_BINS=256;
+
+	/**
+	 * Kleinste bercksichtigte Wahrscheinlichkeit einer Klasse
+	 * (verhindert <code>log(0)</code>, wenn eine Verteilung einen Messwert ausschliet)
+	 */
+	private static final double MIN_PROBABILITY=1E-300;
+
+	/**
+	 * Untere Grenzen der belegten Klassen
+	 */
+	private final double[] lower;
+
+	/**
+	 * Obere Grenzen der belegten Klassen
+	 */
+	private final double[] upper;
+
+	/**
+	 * Anzahl an Messwerten in den belegten Klassen
+	 */
+	private final double[] counts;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param rawSamples	Nicht normierte Messwerte-Dichte (Anzahl an Messwerten pro Klasse)
+	 */
+	public DistributionFitterLikelihood(final DataDistributionImpl rawSamples) {
+		final double[] density=rawSamples.densityData;
+		final double scale=rawSamples.getArgumentScaleFactor();
+
+		/* Benachbarte Werte zu maximal MAX_BINS Klassen gleicher Breite zusammenfassen */
+		final int width=Math.max(1,(density.length+MAX_BINS-1)/MAX_BINS);
+		final double[] groupCounts=new double[(density.length+width-1)/width];
+		for (int i=0;i<density.length;i++) if (density[i]>0) groupCounts[i/width]+=density[i];
+
+		int used=0;
+		for (double d: groupCounts) if (d>0) used++;
+		lower=new double[used];
+		upper=new double[used];
+		counts=new double[used];
+
+		/* Wert i umfasst die Werte, die auf i gerundet wurden, also [i-0.5;i+0.5) */
+		int nr=0;
+		for (int i=0;i<groupCounts.length;i++) if (groupCounts[i]>0) {
+			final int first=i*width;
+			final int last=Math.min(density.length,first+width)-1;
+			lower[nr]=(first==0)?Double.NEGATIVE_INFINITY:(first-0.5)/scale;
+			upper[nr]=(last+0.5)/scale;
+			counts[nr]=groupCounts[i];
+			nr++;
+		}
+	}
+
+	/**
+	 * Liefert die Anzahl an belegten Klassen.
+	 * @return	Anzahl an belegten Klassen
+	 */
+	public int getBinCount() {
+		return counts.length;
+	}
+
+	/**
+	 * Berechnet die Log-Likelihood einer Verteilung in Bezug auf die klassierten Messwerte.
+	 * @param dist	Zu prfende Verteilung
+	 * @return	Log-Likelihood (kann <code>-Infinity</code> sein, wenn die Verteilung nicht verwendet werden kann)
+	 */
+	public double logLikelihood(final AbstractRealDistribution dist) {
+		if (dist==null) return Double.NEGATIVE_INFINITY;
+		final double[] lower=this.lower;
+		final double[] upper=this.upper;
+		final double[] counts=this.counts;
+		final int size=counts.length;
+
+		double sum=0;
+		double lastUpper=Double.NaN;
+		double lastCdf=0;
+		for (int i=0;i<size;i++) {
+			/* Bei direkt aufeinanderfolgenden Klassen kann der Verteilungsfunktionswert der letzten Obergrenze wiederverwendet werden */
+			final double cdfLower=(lower[i]==lastUpper)?lastCdf:((lower[i]==Double.NEGATIVE_INFINITY)?0:dist.cumulativeProbability(lower[i]));
+			final double cdfUpper=dist.cumulativeProbability(upper[i]);
+			lastUpper=upper[i];
+			lastCdf=cdfUpper;
+			final double p=cdfUpper-cdfLower;
+			if (Double.isNaN(p)) return Double.NEGATIVE_INFINITY;
+			sum+=counts[i]*Math.log(Math.max(p,MIN_PROBABILITY));
+		}
+		return sum;
+	}
+
+	/**
+	 * Versucht die Parameter einer ber die Momente angepassten Verteilung so zu verndern,
+	 * dass die Log-Likelihood in Bezug auf die Messwerte maximal wird.<br>
+	 * Optimiert werden dabei der Erwartungswert und die Standardabweichung, die
+	 * {@link AbstractDistributionWrapper#getDistributionForFit(double, double, double, double)}
+	 * bergeben werden; auf diese Weise kann das Verfahren fr alle Verteilungen
+	 * verwendet werden, fr die eine Anpassung ber die Momente mglich ist.<br>
+	 * Diskrete Verteilungen werden nicht verbessert: Deren Verteilungsfunktionen werden
+	 * ber Summen der Zhldichte berechnet, was die Optimierung sehr teuer macht, und fr die
+	 * blichen einparametrigen diskreten Verteilungen stimmt die Momenten-Schtzung ohnehin
+	 * mit der Maximum-Likelihood-Schtzung berein.
+	 * @param wrapper	Wrapper der Verteilung
+	 * @param start	ber die Momente angepasste Verteilung
+	 * @param mean	Erwartungswert der Messwerte
+	 * @param sd	Standardabweichung der Messwerte
+	 * @param min	Minimal aufgetretener Messwert
+	 * @param max	Maximal aufgetretener Messwert
+	 * @return	Verteilung mit hherer Log-Likelihood oder <code>null</code>, wenn keine Verbesserung erzielt werden konnte
+	 */
+	public AbstractRealDistribution refine(final AbstractDistributionWrapper wrapper, final AbstractRealDistribution start, final double mean, final double sd, final double min, final double max) {
+		if (wrapper==null || start==null || counts.length<2 || sd<=0) return null;
+		if (start instanceof AbstractDiscreteRealDistribution) return null;
+
+		final double startValue=logLikelihood(start);
+		if (Double.isInfinite(startValue) && startValue<0) return null;
+
+		/* Bester bisher gefundener Punkt (bleibt auch erhalten, wenn die maximale Anzahl an Auswertungen erreicht wird) */
+		final double[] bestPoint=new double[]{mean,sd};
+		final double[] bestValue=new double[]{startValue};
+
+		final ObjectiveFunction objective=new ObjectiveFunction(point->{
+			if (point[1]<=0) return Double.NEGATIVE_INFINITY;
+			final double value;
+			try {
+				value=logLikelihood(wrapper.getDistributionForFit(point[0],point[1],min,max));
+			} catch (IllegalArgumentException e) {
+				/* Parameter fr diese Verteilung nicht zulssig */
+				return Double.NEGATIVE_INFINITY;
+			}
+			if (Double.isNaN(value)) return Double.NEGATIVE_INFINITY;
+			if (value>bestValue[0]) {
+				bestValue[0]=value;
+				bestPoint[0]=point[0];
+				bestPoint[1]=point[1];
+			}
+			return value;
+		});
+
+		try {
+			new SimplexOptimizer(1E-9,1E-9).optimize(
+					new MaxEval(MAX_EVALUATIONS),
+					objective,
+					GoalType.MAXIMIZE,
+					new InitialGuess(new double[]{mean,sd}),
+					new NelderMeadSimplex(new double[]{Math.max(Math.abs(mean),sd)*0.1,sd*0.1}));
+		} catch (MathIllegalStateException e) {
+			/* Maximale Anzahl an Auswertungen erreicht; es wird der beste bis dahin gefundene Punkt verwendet */
+		}
+
+		if (!(bestValue[0]>startValue)) return null;
+		return wrapper.getDistributionForFit(bestPoint[0],bestPoint[1],min,max);
+	}
+}
@@ -24,15 +24,19 @@ import org.apache.commons.math3.distribution.UniformRealDistribution;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.util.FastMath;
 
+import mathtools.distribution.DataDistributionImpl;
 import mathtools.distribution.DistributionWithRandom;
 
 /**
  * Da die Klasse {@link AbstractRealDistribution} keine Funktionen zur
  * Erzeugung von Zufallszahlen gem der jeweiligen Verteilung enthlt, wird
  * dies durch diese Klasse nachgerstet.<br><br>
- * Die Klasse besitzt nur eine statische Methode <code>Random</code> die eine Zufallszahl erzeugt.
+ * Die Klasse besitzt nur eine statische Methode <code>Random</code> die eine Zufallszahl erzeugt.<br>
+ * Fr hufig bentigte Zufallszahlen kann ber {@link #getSampler(AbstractRealDistribution)}
+ * vorab ein {@link DistributionSampler}-Objekt erstellt werden, welches ohne erneute
+ * Typprfung auskommt.
  * @author Alexander Herzog
- * @version 2.3
+ * @version 2.6
  */
 public final class DistributionRandomNumber {
 
@@ -57,11 +61,13 @@ public final class DistributionRandomNumber {
 	}
 
 	/**
-	 * Liefert eine standardnormalverteilte Zufallszahl zurck.
+	 * Liefert eine standardnormalverteilte Zufallszahl zurck.<br>
+	 * Die Zufallszahl wird ber das Ziggurat-Verfahren erzeugt.
 	 * @return Standardnormalverteilte Zufallszahl
+	 * @see ZigguratRandom#nextNormal(RandomGenerator)
 	 */
 	public static double getStdNormalRandom() {
-		return generator.nextGaussian();
+		return ZigguratRandom.nextNormal(generator);
 	}
 
 	/**
@@ -135,7 +141,7 @@ public final class DistributionRandomNumber {
 		final double c = 1 / (3 * FastMath.sqrt(d));
 
 		while (true) {
-			final double x = generator.nextGaussian();
+			final double x = ZigguratRandom.nextNormal(generator);
 			final double v = (1 + c * x) * (1 + c * x) * (1 + c * x);
 
 			if (v <= 0) {
@@ -174,7 +180,7 @@ public final class DistributionRandomNumber {
 		}
 
 		if (distribution instanceof ExponentialDistribution) {
-			return -Math.log(1-generator.nextDouble())*((ExponentialDistribution)distribution).getMean(); /* StrictMath.log ist schneller als FastMath. Math.log laut Code StrictMath.log auf, aber in Wirklichkeit scheint hier der Compiler Magic zu machen, so dass Math.log schneller ist. */
+			return ZigguratRandom.nextExponential(generator)*((ExponentialDistribution)distribution).getMean();
 		}
 
 		if (distribution instanceof NormalDistribution) {
@@ -186,7 +192,7 @@ public final class DistributionRandomNumber {
 			final double beta=((GammaDistribution)distribution).getScale();
 			if (Math.abs(alpha-1)<0.00000001) {
 				/* Ist Exp-Verteilung mit E=1/(1/beta) */
-				return -Math.log(1-generator.nextDouble())*beta; /* StrictMath.log ist schneller als FastMath. Math.log laut Code StrictMath.log auf, aber in Wirklichkeit scheint hier der Compiler Magic zu machen, so dass Math.log schneller ist. */
+				return ZigguratRandom.nextExponential(generator)*beta;
 			}
 			return randomGammaDirect(alpha,beta);
 			/*
@@ -225,4 +231,301 @@ public final class DistributionRandomNumber {
 		}
 		return (d>=0)?d:0;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Erstellt ein Sampler-Objekt fr eine Verteilung.<br>
+	 * Der Verteilungstyp wird dabei nur einmal bestimmt und alle von den Parametern
+	 * abhngigen Konstanten werden vorab berechnet. Die erzeugten Zufallszahlen
+	 * stimmen (bei gleichem Zustand des Zufallszahlengenerators) mit denen von
+	 * {@link #random(AbstractRealDistribution)} berein.<br>
+	 * Da die Parameter beim Erstellen ausgelesen werden, darf die Verteilung danach nicht mehr verndert werden.
+	 * @param distribution	Verteilungsfunktion gem der Zufallszahlen erzeugt werden sollen
+	 * @return	Sampler-Objekt fr die Verteilung
+	 * @see DistributionSampler
+	 */
+	public static DistributionSampler getSampler(final AbstractRealDistribution distribution) {
+		return getSampler(distribution,false);
+	}
+
+	/**
+	 * Erstellt ein Sampler-Objekt fr eine Verteilung.<br>
+	 * Der Verteilungstyp wird dabei nur einmal bestimmt und alle von den Parametern
+	 * abhngigen Konstanten werden vorab berechnet.<br>
+	 * Optional knnen vorab berechnete Tabellen verwendet werden:
+	 * Fr empirische Verteilungen wird dann eine Alias-Tabelle (siehe {@link AliasTableSampler}) angelegt,
+	 * fr Verteilungen, fr die keine direkte Methode zur Erzeugung von Zufallszahlen zur Verfgung
+	 * steht, eine Tabelle zur schnellen Inversion (siehe {@link InversionTableSampler}), die erst beim
+	 * Abruf der ersten Zufallszahl erstellt wird.
+	 * Die so erzeugten Zufallszahlen folgen derselben Verteilung, stimmen aber nicht mehr exakt mit
+	 * denen von {@link #random(AbstractRealDistribution)} berein.<br>
+	 * Da die Parameter beim Erstellen ausgelesen werden, darf die Verteilung danach nicht mehr verndert werden.
+	 * @param distribution	Verteilungsfunktion gem der Zufallszahlen erzeugt werden sollen
+	 * @param useTables	Sollen fr empirische Verteilungen und fr Verteilungen ohne direkte Methode zur Erzeugung von Zufallszahlen Tabellen verwendet werden?
+	 * @return	Sampler-Objekt fr die Verteilung
+	 * @see DistributionSampler
+	 * @see AliasTableSampler
+	 * @see InversionTableSampler
+	 */
+	public static DistributionSampler getSampler(final AbstractRealDistribution distribution, final boolean useTables) {
+		if (useTables && distribution instanceof DataDistributionImpl) {
+			final AliasTableSampler aliasSampler=AliasTableSampler.build((DataDistributionImpl)distribution);
+			if (aliasSampler!=null) return aliasSampler;
+		}
+
+		if (distribution instanceof DistributionWithRandom) {
+			final DistributionWithRandom withRandom=(DistributionWithRandom)distribution;
+			return generator->withRandom.random(generator);
+		}
+
+		if (distribution instanceof UniformRealDistribution) {
+			final UniformRealDistribution uniform=(UniformRealDistribution)distribution;
+			return new UniformSampler(uniform.getSupportLowerBound(),uniform.getSupportUpperBound());
+		}
+
+		if (distribution instanceof ExponentialDistribution) {
+			return new ExponentialSampler(((ExponentialDistribution)distribution).getMean());
+		}
+
+		if (distribution instanceof NormalDistribution) {
+			final NormalDistribution normal=(NormalDistribution)distribution;
+			return new NormalSampler(normal.getMean(),normal.getStandardDeviation());
+		}
+
+		if (distribution instanceof GammaDistribution) {
+			final double alpha=((GammaDistribution)distribution).getShape();
+			final double beta=((GammaDistribution)distribution).getScale();
+			if (Math.abs(alpha-1)<0.00000001) return new ExponentialSampler(beta);
+			if (alpha<1) return new GammaSmallShapeSampler(alpha,beta);
+			return new GammaSampler(alpha,beta);
+		}
+
+		if (distribution instanceof CauchyDistribution) {
+			final CauchyDistribution cauchy=(CauchyDistribution)distribution;
+			return new CauchySampler(cauchy.getMedian(),cauchy.getScale());
+		}
+
+		if (useTables) return new LazyInversionTableSampler(distribution);
+		return generator->distribution.inverseCumulativeProbability(generator.nextDouble());
+	}
+
+	/**
+	 * Sampler, der beim Abruf der ersten Zufallszahl eine Inversionstabelle fr die Verteilung anlegt.<br>
+	 * Kann die Verteilung nicht tabelliert werden, wird die exakte Umkehrfunktion verwendet.
+	 * Werden von mehreren Threads gleichzeitig die ersten Zufallszahlen abgerufen, wird die
+	 * Tabelle eventuell mehrfach (mit identischem Ergebnis) angelegt.
+	 * @see DistributionRandomNumber#getSampler(AbstractRealDistribution, boolean)
+	 * @see InversionTableSampler
+	 */
+	private static final class LazyInversionTableSampler implements DistributionSampler {
+		/** Verteilung */
+		private final AbstractRealDistribution distribution;
+		/** Tatschlich zu verwendender Sampler (<code>null</code>, solange noch keine Zufallszahl abgerufen wurde) */
+		private volatile DistributionSampler sampler;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param distribution	Verteilung
+		 */
+		public LazyInversionTableSampler(final AbstractRealDistribution distribution) {
+			this.distribution=distribution;
+		}
+
+		@Override
+		public double random(final RandomGenerator generator) {
+			DistributionSampler s=sampler;
+			if (s==null) {
+				s=InversionTableSampler.build(distribution);
+				if (s==null) s=g->distribution.inverseCumulativeProbability(g.nextDouble());
+				sampler=s;
+			}
+			return s.random(generator);
+		}
+	}
+
+	/**
+	 * Sampler fr die Gleichverteilung
+	 * @see DistributionRandomNumber#getSampler(AbstractRealDistribution)
+	 */
+	private static final class UniformSampler implements DistributionSampler {
+		/** Untere Grenze des Trgers */
+		private final double lower;
+		/** Breite des Trgers */
+		private final double width;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param lower	Untere Grenze des Trgers
+		 * @param upper	Obere Grenze des Trgers
+		 */
+		public UniformSampler(final double lower, final double upper) {
+			this.lower=lower;
+			width=upper-lower;
+		}
+
+		@Override
+		public double random(final RandomGenerator generator) {
+			return lower+width*generator.nextDouble();
+		}
+	}
+
+	/**
+	 * Sampler fr die Exponentialverteilung
+	 * @see DistributionRandomNumber#getSampler(AbstractRealDistribution)
+	 */
+	private static final class ExponentialSampler implements DistributionSampler {
+		/** Erwartungswert */
+		private final double mean;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param mean	Erwartungswert
+		 */
+		public ExponentialSampler(final double mean) {
+			this.mean=mean;
+		}
+
+		@Override
+		public double random(final RandomGenerator generator) {
+			return ZigguratRandom.nextExponential(generator)*mean;
+		}
+	}
+
+	/**
+	 * Sampler fr die Normalverteilung
+	 * @see DistributionRandomNumber#getSampler(AbstractRealDistribution)
+	 */
+	private static final class NormalSampler implements DistributionSampler {
+		/** Erwartungswert */
+		private final double mean;
+		/** Standardabweichung */
+		private final double sd;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param mean	Erwartungswert
+		 * @param sd	Standardabweichung
+		 */
+		public NormalSampler(final double mean, final double sd) {
+			this.mean=mean;
+			this.sd=sd;
+		}
+
+		@Override
+		public double random(final RandomGenerator generator) {
+			return ZigguratRandom.nextNormal(generator)*sd+mean;
+		}
+	}
+
+	/**
+	 * Sampler fr die Gamma-Verteilung mit Form-Parameter &lt;1 (Algorithmus GS)
+	 * @see DistributionRandomNumber#getSampler(AbstractRealDistribution)
+	 * @see DistributionRandomNumber#randomGammaDirect(double, double)
+	 */
+	private static final class GammaSmallShapeSampler implements DistributionSampler {
+		/** Form-Parameter */
+		private final double shape;
+		/** Skalierungsparameter */
+		private final double scale;
+		/** Konstante b des Algorithmus GS */
+		private final double bGS;
+		/** Kehrwert des Form-Parameters */
+		private final double inverseShape;
+		/** Form-Parameter minus 1 */
+		private final double shapeMinus1;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param shape	Form-Parameter
+		 * @param scale	Skalierungsparameter
+		 */
+		public GammaSmallShapeSampler(final double shape, final double scale) {
+			this.shape=shape;
+			this.scale=scale;
+			bGS=1+shape*inverseE;
+			inverseShape=1/shape;
+			shapeMinus1=shape-1;
+		}
+
+		@Override
+		public double random(final RandomGenerator generator) {
+			while (true) {
+				final double p=bGS*generator.nextDouble();
+				if (p<=1) {
+					final double x=Math.pow(p,inverseShape);
+					if (generator.nextDouble()<=FastMath.exp(-x)) return scale*x;
+				} else {
+					final double x=-1*Math.log((bGS-p)/shape);
+					if (generator.nextDouble()<=Math.pow(x,shapeMinus1)) return scale*x;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sampler fr die Gamma-Verteilung mit Form-Parameter &ge;1 (Verfahren nach Marsaglia und Tsang)
+	 * @see DistributionRandomNumber#getSampler(AbstractRealDistribution)
+	 * @see DistributionRandomNumber#randomGammaDirect(double, double)
+	 */
+	private static final class GammaSampler implements DistributionSampler {
+		/** Konstante d=shape-1/3 */
+		private final double d;
+		/** Konstante c=1/(3*sqrt(d)) */
+		private final double c;
+		/** Produkt aus Skalierungsparameter und d */
+		private final double scaleD;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param shape	Form-Parameter
+		 * @param scale	Skalierungsparameter
+		 */
+		public GammaSampler(final double shape, final double scale) {
+			d=shape-0.333333333333333333;
+			c=1/(3*FastMath.sqrt(d));
+			scaleD=scale*d;
+		}
+
+		@Override
+		public double random(final RandomGenerator generator) {
+			while (true) {
+				final double x=ZigguratRandom.nextNormal(generator);
+				final double v=(1+c*x)*(1+c*x)*(1+c*x);
+				if (v<=0) continue;
+
+				final double x2=x*x;
+				final double u=generator.nextDouble();
+
+				/* Squeeze */
+				if (u<1-0.0331*x2*x2) return scaleD*v;
+				if (Math.log(u)<0.5*x2+d*(1-v+Math.log(v))) return scaleD*v;
+			}
+		}
+	}
+
+	/**
+	 * Sampler fr die Cauchy-Verteilung
+	 * @see DistributionRandomNumber#getSampler(AbstractRealDistribution)
+	 */
+	private static final class CauchySampler implements DistributionSampler {
+		/** Median */
+		private final double median;
+		/** Skalierungsparameter */
+		private final double scale;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param median	Median
+		 * @param scale	Skalierungsparameter
+		 */
+		public CauchySampler(final double median, final double scale) {
+			this.median=median;
+			this.scale=scale;
+		}
+
+		@Override
+		public double random(final RandomGenerator generator) {
+			final double x=1/FastMath.tan(Math.PI*generator.nextDouble());
+			return scale*x+median;
+		}
+	}
+}
@@ -33,7 +33,7 @@ import mathtools.distribution.DistributionWithRandom;
  * Objekte dieser Klasse mssen thread-individuell verwendet werden.
  * Aus Performance-Grnden ist diese Klasse nicht thread-sicher.
  * @author Alexander Herzog
- * @version 1.1
+ * @version 1.2
  */
 public class DistributionRandomNumberThreadLocal {
 	/**
@@ -119,11 +119,13 @@ public class DistributionRandomNumberThreadLocal {
 	}
 
 	/**
-	 * Liefert eine standardnormalverteilte Zufallszahl zurck.
+	 * Liefert eine standardnormalverteilte Zufallszahl zurck.<br>
+	 * Die Zufallszahl wird ber das Ziggurat-Verfahren erzeugt.
 	 * @return Standardnormalverteilte Zufallszahl
+	 * @see ZigguratRandom#nextNormal(RandomGenerator)
 	 */
 	public double getStdNormalRandom() {
-		return generator.nextGaussian();
+		return ZigguratRandom.nextNormal(generator);
 	}
 
 	/**
@@ -197,7 +199,7 @@ public class DistributionRandomNumberThreadLocal {
 		final double c = 1 / (3 * FastMath.sqrt(d));
 
 		while (true) {
-			final double x = generator.nextGaussian();
+			final double x = ZigguratRandom.nextNormal(generator);
 			final double v = (1 + c * x) * (1 + c * x) * (1 + c * x);
 
 			if (v <= 0) {
@@ -236,7 +238,7 @@ public class DistributionRandomNumberThreadLocal {
 		}
 
 		if (distribution instanceof ExponentialDistribution) {
-			return -Math.log(1-generator.nextDouble())*((ExponentialDistribution)distribution).getMean(); /* StrictMath.log ist schneller als FastMath. Math.log laut Code StrictMath.log auf, aber in Wirklichkeit scheint hier der Compiler Magic zu machen, so dass Math.log schneller ist. */
+			return ZigguratRandom.nextExponential(generator)*((ExponentialDistribution)distribution).getMean();
 		}
 
 		if (distribution instanceof NormalDistribution) {
@@ -248,7 +250,7 @@ public class DistributionRandomNumberThreadLocal {
 			final double beta=((GammaDistribution)distribution).getScale();
 			if (Math.abs(alpha-1)<0.00000001) {
 				/* Ist Exp-Verteilung mit E=1/(1/beta) */
-				return -Math.log(1-generator.nextDouble())*beta; /* StrictMath.log ist schneller als FastMath. Math.log laut Code StrictMath.log auf, aber in Wirklichkeit scheint hier der Compiler Magic zu machen, so dass Math.log schneller ist. */
+				return ZigguratRandom.nextExponential(generator)*beta;
 			}
 			return randomGammaDirect(alpha,beta);
 			/*
@@ -0,0 +1,118 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Puffer fr Zufallszahlen gem einer Verteilung.<br>
+ * Die Zufallszahlen werden blockweise in einer kurzen Schleife ber einen {@link DistributionSampler}
+ * erzeugt und in einem <code>double</code>-Array vorgehalten. Der Aufwand fr den Aufruf des
+ * Zufallszahlengenerators und des Samplers verteilt sich so auf viele Zufallszahlen.<br>
+ * Jeder Puffer stellt einen eigenen Zufallszahlenstrom dar: Die Werte werden genau in der
+ * Reihenfolge geliefert, in der sie erzeugt wurden. Wird fr jeden Strom ein eigener Puffer verwendet
+ * und werden die Puffer immer in derselben Reihenfolge aus demselben (mit einem festen Seed
+ * initialisierten) Generator befllt, so ist die Simulation reproduzierbar.<br>
+ * Objekte dieser Klasse sind <b>nicht</b> thread-sicher; jeder Simulationsthread bentigt eigene Puffer.
+ * @author Alexander Herzog
+ * @see DistributionSampler
+ */
+public final class DistributionSampleBuffer {
+	/**
+	 * Standardgre fr einen Block an Zufallszahlen
+	 */
+	public static final int DEFAULT_SIZE=256;
+
+	/**
+	 * Sampler, ber den die Zufallszahlen erzeugt werden
+	 */
+	private final DistributionSampler sampler;
+
+	/**
+	 * Sollen nur nicht-negative Zufallszahlen erzeugt werden?
+	 * @see DistributionSampler#randomNonNegative(RandomGenerator)
+	 */
+	private final boolean nonNegative;
+
+	/**
+	 * Vorab erzeugte Zufallszahlen
+	 */
+	private final double[] buffer;
+
+	/**
+	 * Index der nchsten zu liefernden Zufallszahl in {@link #buffer}
+	 * (ist gleich der Lnge des Puffers, wenn dieser neu befllt werden muss)
+	 */
+	private int index;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param sampler	Sampler, ber den die Zufallszahlen erzeugt werden
+	 * @param size	Anzahl an Zufallszahlen, die jeweils am Stck erzeugt werden
+	 * @param nonNegative	Sollen nur nicht-negative Zufallszahlen erzeugt werden?
+	 */
+	public DistributionSampleBuffer(final DistributionSampler sampler, final int size, final boolean nonNegative) {
+		this.sampler=sampler;
+		this.nonNegative=nonNegative;
+		buffer=new double[Math.max(1,size)];
+		index=buffer.length;
+	}
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Es wird die Standardblockgre {@link #DEFAULT_SIZE} verwendet.
+	 * @param sampler	Sampler, ber den die Zufallszahlen erzeugt werden
+	 * @param nonNegative	Sollen nur nicht-negative Zufallszahlen erzeugt werden?
+	 */
+	public DistributionSampleBuffer(final DistributionSampler sampler, final boolean nonNegative) {
+		this(sampler,DEFAULT_SIZE,nonNegative);
+	}
+
+	/**
+	 * Befllt den Puffer vollstndig neu.
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 */
+	private void fill(final RandomGenerator generator) {
+		final DistributionSampler sampler=this.sampler;
+		final double[] buffer=this.buffer;
+		final int size=buffer.length;
+		if (nonNegative) {
+			for (int i=0;i<size;i++) buffer[i]=sampler.randomNonNegative(generator);
+		} else {
+			for (int i=0;i<size;i++) buffer[i]=sampler.random(generator);
+		}
+		index=0;
+	}
+
+	/**
+	 * Liefert die nchste Zufallszahl aus dem Puffer.<br>
+	 * Ist der Puffer leer, wird er zuvor ber den angegebenen Generator neu befllt.
+	 * @param generator	Zu verwendender Zufallszahlengenerator (wird nur beim Neubefllen verwendet)
+	 * @return	Zufallszahl gem der Verteilung
+	 */
+	public double next(final RandomGenerator generator) {
+		if (index==buffer.length) fill(generator);
+		return buffer[index++];
+	}
+
+	/**
+	 * Verwirft alle noch nicht abgerufenen Zufallszahlen.<br>
+	 * Beim nchsten Aufruf von {@link #next(RandomGenerator)} wird der Puffer neu befllt.
+	 */
+	public void clear() {
+		index=buffer.length;
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Vorab fr eine konkrete Verteilung erstelltes Objekt zur Erzeugung von Zufallszahlen.<br>
+ * Im Gegensatz zu {@link DistributionRandomNumber#random(org.apache.commons.math3.distribution.AbstractRealDistribution)}
+ * wird der Verteilungstyp nur einmal beim Anlegen des Samplers bestimmt und alle von den
+ * Parametern abhngigen Konstanten werden vorab berechnet, so dass pro Zufallszahl nur
+ * noch ein einziger Methodenaufruf erfolgt.
+ * @author Alexander Herzog
+ * @see DistributionRandomNumber#getSampler(org.apache.commons.math3.distribution.AbstractRealDistribution)
+ */
+@FunctionalInterface
+public interface DistributionSampler {
+	/**
+	 * Maximale Anzahl an Versuchen in {@link #randomNonNegative(RandomGenerator)},
+	 * eine nicht-negative Zufallszahl zu erhalten
+	 */
+	int MAX_NON_NEGATIVE_TRYS=10;
+
+	/**
+	 * Erzeugt eine Zufallszahl gem der Verteilung.
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @return	Zufallszahl gem der Verteilung
+	 */
+	double random(final RandomGenerator generator);
+
+	/**
+	 * Erzeugt eine nicht-negative Zufallszahl gem der Verteilung.
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @return	Nicht-negative Zufallszahl gem der Verteilung (0, wenn auch nach mehreren Versuchen keine nicht-negative Zahl erzeugt werden konnte)
+	 * @see DistributionRandomNumber#randomNonNegative(org.apache.commons.math3.distribution.AbstractRealDistribution)
+	 */
+	default double randomNonNegative(final RandomGenerator generator) {
+		double d=random(generator);
+		if (d>=0) return d;
+
+		int count=0;
+		while (d<0 && count<MAX_NON_NEGATIVE_TRYS) {
+			count++;
+			d=random(generator);
+		}
+		return (d>=0)?d:0;
+	}
+}
@@ -0,0 +1,315 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Erzeugt Zufallszahlen fr beliebige stetige Verteilungen ber eine vorab berechnete,
+ * stckweise kubische Nherung der Umkehrfunktion der Verteilungsfunktion
+ * (Hermite-Interpolation nach Hrmann und Leydold).<br>
+ * Die Sttzstellen werden beim Anlegen adaptiv so gewhlt, dass der Fehler in der
+ * Wahrscheinlichkeit (<code>|F(x)-u|</code>) an den Intervallmitten hchstens {@link #MAX_ERROR}
+ * betrgt. ber eine Fhrungstabelle wird das passende Intervall pro Zufallszahl in im Mittel
+ * konstanter Zeit gefunden. Fr die uersten Rnder (Wahrscheinlichkeit jeweils
+ * {@link #TAIL_PROBABILITY}) wird die exakte Umkehrfunktion der Verteilung verwendet.<br>
+ * Objekte dieser Klasse werden nach dem Anlegen nicht mehr verndert und
+ * knnen daher von mehreren Threads gleichzeitig verwendet werden.
+ * @author Alexander Herzog
+ * @see DistributionRandomNumber#getSampler(AbstractRealDistribution, boolean)
+ */
+public final class InversionTableSampler implements DistributionSampler {
+	/**
+	 * Maximal zulssiger Fehler in der Wahrscheinlichkeit an den Prfstellen
+	 */
+	public static final double MAX_ERROR=1E-10;
+
+	/**
+	 * Wahrscheinlichkeit der beiden Rnder, fr die die exakte Umkehrfunktion verwendet wird
+	 */
+	public static final double TAIL_PROBABILITY=1E-10;
+
+	/**
+	 * Anzahl an Intervallen fr die Startaufteilung (gleiche Wahrscheinlichkeiten)
+	 */
+	private static final int START_INTERVALS=32;
+
+	/**
+	 * Maximale Anzahl an Intervallen (wird diese berschritten, kann die Verteilung nicht tabelliert werden)
+	 */
+	private static final int MAX_INTERVALS=16_384;
+
+	/**
+	 * Maximale Rekursionstiefe bei der Unterteilung eines Startintervalls
+	 */
+	private static final int MAX_DEPTH=64;
+
+	/**
+	 * Zu Grunde liegende Verteilung (fr die Rnder)
+	 */
+	private final AbstractRealDistribution distribution;
+
+	/**
+	 * Wahrscheinlichkeit an der unteren Grenze des tabellierten Bereichs
+	 */
+	private final double uMin;
+
+	/**
+	 * Wahrscheinlichkeit an der oberen Grenze des tabellierten Bereichs
+	 */
+	private final double uMax;
+
+	/**
+	 * Untere Wahrscheinlichkeitsgrenzen der Intervalle (ein zustzlicher Eintrag fr die Obergrenze des letzten Intervalls)
+	 */
+	private final double[] u;
+
+	/**
+	 * Kehrwerte der Intervallbreiten (in Bezug auf die Wahrscheinlichkeiten)
+	 */
+	private final double[] inverseWidth;
+
+	/**
+	 * Polynomkoeffizienten (konstanter Anteil) pro Intervall
+	 */
+	private final double[] c0;
+
+	/**
+	 * Polynomkoeffizienten (linearer Anteil) pro Intervall
+	 */
+	private final double[] c1;
+
+	/**
+	 * Polynomkoeffizienten (quadratischer Anteil) pro Intervall
+	 */
+	private final double[] c2;
+
+	/**
+	 * Polynomkoeffizienten (kubischer Anteil) pro Intervall
+	 */
+	private final double[] c3;
+
+	/**
+	 * Fhrungstabelle: Index des ersten mglichen Intervalls pro Tabellenabschnitt
+	 */
+	private final int[] guide;
+
+	/**
+	 * Umrechnungsfaktor von Wahrscheinlichkeiten auf Indices in {@link #guide}
+	 */
+	private final double guideFactor;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Ist nicht ffentlich, Objekte werden ber {@link #build(AbstractRealDistribution)} angelegt.
+	 * @param distribution	Zu Grunde liegende Verteilung
+	 * @param knots	Sttzstellen (je Zeile: x, u=F(x), dx/du)
+	 * @param count	Anzahl an Sttzstellen
+	 */
+	private InversionTableSampler(final AbstractRealDistribution distribution, final double[][] knots, final int count) {
+		this.distribution=distribution;
+		final int intervals=count-1;
+		u=new double[count];
+		inverseWidth=new double[intervals];
+		c0=new double[intervals];
+		c1=new double[intervals];
+		c2=new double[intervals];
+		c3=new double[intervals];
+
+		for (int i=0;i<count;i++) u[i]=knots[i][1];
+		for (int i=0;i<intervals;i++) {
+			final double h=knots[i+1][1]-knots[i][1];
+			inverseWidth[i]=1/h;
+			final double[] coefficients=getCoefficients(knots[i],knots[i+1]);
+			c0[i]=coefficients[0];
+			c1[i]=coefficients[1];
+			c2[i]=coefficients[2];
+			c3[i]=coefficients[3];
+		}
+		uMin=u[0];
+		uMax=u[intervals];
+
+		guide=new int[intervals];
+		guideFactor=intervals/(uMax-uMin);
+		int index=0;
+		for (int j=0;j<intervals;j++) {
+			final double uGuide=uMin+j/guideFactor;
+			while (index<intervals-1 && u[index+1]<=uGuide) index++;
+			guide[j]=index;
+		}
+	}
+
+	/**
+	 * Berechnet die Koeffizienten des kubischen Hermite-Polynoms fr ein Intervall
+	 * (in Abhngigkeit von <code>t=(u-u0)/(u1-u0)</code>).<br>
+	 * Ist an einem der beiden Rnder keine Ableitung verfgbar, wird linear interpoliert.
+	 * @param left	Linke Sttzstelle (x, u, dx/du)
+	 * @param right	Rechte Sttzstelle (x, u, dx/du)
+	 * @return	Koeffizienten (konstant, linear, quadratisch, kubisch)
+	 */
+	private static double[] getCoefficients(final double[] left, final double[] right) {
+		final double h=right[1]-left[1];
+		final double p0=left[0];
+		final double p1=right[0];
+		if (Double.isNaN(left[2]) || Double.isNaN(right[2])) return new double[]{p0,p1-p0,0,0};
+		final double m0=h*left[2];
+		final double m1=h*right[2];
+		return new double[]{p0,m0,3*(p1-p0)-2*m0-m1,2*(p0-p1)+m0+m1};
+	}
+
+	/**
+	 * Wertet ein Intervallpolynom aus.
+	 * @param coefficients	Koeffizienten (konstant, linear, quadratisch, kubisch)
+	 * @param t	Relative Position im Intervall (0..1)
+	 * @return	Interpolierter x-Wert
+	 */
+	private static double evaluate(final double[] coefficients, final double t) {
+		return coefficients[0]+t*(coefficients[1]+t*(coefficients[2]+t*coefficients[3]));
+	}
+
+	/**
+	 * Liefert die Ableitung der Umkehrfunktion an einer Stelle.
+	 * @param distribution	Verteilung
+	 * @param x	Stelle
+	 * @return	Ableitung <code>1/f(x)</code> oder <code>NaN</code>, wenn die Dichte dort 0 oder nicht endlich ist
+	 */
+	private static double getInverseDensity(final AbstractRealDistribution distribution, final double x) {
+		final double f=distribution.density(x);
+		if (!(f>0) || Double.isInfinite(f)) return Double.NaN;
+		return 1/f;
+	}
+
+	/**
+	 * Erstellt eine Sttzstelle
+	 * @param distribution	Verteilung
+	 * @param x	x-Wert
+	 * @return	Sttzstelle (x, u=F(x), dx/du)
+	 */
+	private static double[] getKnot(final AbstractRealDistribution distribution, final double x) {
+		return new double[]{x,distribution.cumulativeProbability(x),getInverseDensity(distribution,x)};
+	}
+
+	/**
+	 * Unterteilt ein Intervall rekursiv so lange, bis die Fehlerschranke eingehalten wird.
+	 * @param distribution	Verteilung
+	 * @param left	Linke Sttzstelle
+	 * @param right	Rechte Sttzstelle
+	 * @param knots	Liste der Sttzstellen, an die die inneren Sttzstellen und die rechte Sttzstelle angehngt werden
+	 * @param count	Anzahl an bisher in <code>knots</code> eingetragenen Sttzstellen
+	 * @param depth	Aktuelle Rekursionstiefe
+	 * @return	Neue Anzahl an Sttzstellen oder -1, wenn die maximale Anzahl an Intervallen berschritten wurde
+	 */
+	private static int refine(final AbstractRealDistribution distribution, final double[] left, final double[] right, final double[][] knots, int count, final int depth) {
+		if (count>=knots.length || depth>MAX_DEPTH) return -1;
+
+		final double[] coefficients=getCoefficients(left,right);
+		final double x=evaluate(coefficients,0.5);
+		final double uMiddle=(left[1]+right[1])/2;
+
+		if (x>left[0] && x<right[0]) {
+			final double[] middle=getKnot(distribution,x);
+			if (Math.abs(middle[1]-uMiddle)<=MAX_ERROR) {
+				knots[count]=right;
+				return count+1;
+			}
+			if (middle[1]>left[1] && middle[1]<right[1]) {
+				count=refine(distribution,left,middle,knots,count,depth+1);
+				if (count<0) return -1;
+				return refine(distribution,middle,right,knots,count,depth+1);
+			}
+		}
+
+		/* Hermite-Polynom nicht monoton in diesem Intervall: Intervall in der Mitte teilen */
+		final double xMiddle=(left[0]+right[0])/2;
+		if (!(xMiddle>left[0] && xMiddle<right[0])) return -1;
+		final double[] middle=getKnot(distribution,xMiddle);
+		/* Verteilungsfunktion in einem Teilintervall konstant (oder nicht monoton): keine Tabellierung mglich */
+		if (!(middle[1]>left[1] && middle[1]<right[1])) return -1;
+		count=refine(distribution,left,middle,knots,count,depth+1);
+		if (count<0) return -1;
+		return refine(distribution,middle,right,knots,count,depth+1);
+	}
+
+	/**
+	 * Erstellt fr eine Verteilung eine Tabelle zur schnellen Inversion.
+	 * @param distribution	Stetige Verteilung
+	 * @return	Sampler-Objekt oder <code>null</code>, wenn die Verteilung nicht mit der geforderten Genauigkeit tabelliert werden kann
+	 */
+	public static InversionTableSampler build(final AbstractRealDistribution distribution) {
+		if (distribution==null) return null;
+		try {
+			final double[] x=new double[START_INTERVALS+1];
+			for (int i=0;i<=START_INTERVALS;i++) {
+				x[i]=distribution.inverseCumulativeProbability(TAIL_PROBABILITY+(1-2*TAIL_PROBABILITY)*i/START_INTERVALS);
+				if (!Double.isFinite(x[i])) return null;
+			}
+
+			final double[][] knots=new double[MAX_INTERVALS+1][];
+			int count=0;
+			double[] last=null;
+			for (int i=0;i<=START_INTERVALS;i++) {
+				if (last!=null && x[i]<=last[0]) continue; /* Mehrere Startwerte an derselben Stelle */
+				final double[] knot=getKnot(distribution,x[i]);
+				if (Double.isNaN(knot[1])) return null;
+				if (last==null) {
+					knots[count++]=knot;
+				} else {
+					if (knot[1]<=last[1]) continue;
+					count=refine(distribution,last,knot,knots,count,0);
+					if (count<0) return null;
+				}
+				last=knots[count-1];
+			}
+			if (count<2) return null;
+
+			return new InversionTableSampler(distribution,Arrays.copyOf(knots,count),count);
+		} catch (RuntimeException e) {
+			/* Verteilungsfunktion oder Umkehrfunktion nicht auswertbar */
+			return null;
+		}
+	}
+
+	/**
+	 * Liefert die Anzahl an Intervallen der Tabelle.
+	 * @return	Anzahl an Intervallen
+	 */
+	public int getIntervalCount() {
+		return inverseWidth.length;
+	}
+
+	/**
+	 * Berechnet die Umkehrfunktion der Verteilungsfunktion ber die Tabelle.
+	 * @param p	Wahrscheinlichkeit (0..1)
+	 * @return	Nherungsweise Umkehrfunktion an der Stelle <code>p</code>
+	 */
+	public double inverseCumulativeProbability(final double p) {
+		if (p<uMin || p>=uMax) return distribution.inverseCumulativeProbability(p);
+
+		int index=guide[Math.min(guide.length-1,(int)((p-uMin)*guideFactor))];
+		while (u[index+1]<=p) index++;
+
+		final double t=(p-u[index])*inverseWidth[index];
+		return c0[index]+t*(c1[index]+t*(c2[index]+t*c3[index]));
+	}
+
+	@Override
+	public double random(final RandomGenerator generator) {
+		return inverseCumulativeProbability(generator.nextDouble());
+	}
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.PoissonDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Einfache statistische Tests zur Beurteilung der Qualitt eines Zufallszahlengenerators.<br>
+ * Alle Tests verwenden ausschlielich {@link RandomGenerator#nextDouble()} (so wie die Verteilungen
+ * und Sampler auch) und liefern jeweils einen p-Wert. Bei einem guten Generator sind die p-Werte
+ * gleichverteilt auf [0;1]; Werte sehr nahe an 0 (oder bei mehrfacher Wiederholung auffllig hufig
+ * kleine Werte) deuten auf einen schlechten Generator hin.<br>
+ * Die Tests ersetzen keine umfangreichen Testbatterien (wie TestU01), erlauben aber einen schnellen
+ * Vergleich der ber {@link RandomGeneratorMode} verfgbaren Generatoren in der eigenen Umgebung.
+ * @author Alexander Herzog
+ * @see RandomGeneratorMode
+ */
+public final class RandomGeneratorQuality {
+	/**
+	 * Anzahl an Geburtstagen pro Durchgang im Birthday-Spacings-Test
+	 */
+	private static final int BIRTHDAYS=512;
+
+	/**
+	 * Anzahl an Tagen im "Jahr" im Birthday-Spacings-Test (2^24)
+	 */
+	private static final int DAYS=1<<24;
+
+	/**
+	 * Anzahl an Klassen fr die Anzahl an doppelten Abstnden im Birthday-Spacings-Test
+	 * (die letzte Klasse fasst alle greren Werte zusammen)
+	 */
+	private static final int BIRTHDAY_CLASSES=6;
+
+	/**
+	 * Diese Klasse stellt nur statische Methoden zur Verfgung und kann nicht instanziert werden.
+	 */
+	private RandomGeneratorQuality() {
+	}
+
+	/**
+	 * Berechnet den p-Wert zu einer Chi-Teststatistik.
+	 * @param chiSquare	Teststatistik
+	 * @param degreesOfFreedom	Anzahl an Freiheitsgraden
+	 * @return	p-Wert (Wahrscheinlichkeit fr eine mindestens so groe Teststatistik)
+	 */
+	private static double chiSquarePValue(final double chiSquare, final int degreesOfFreedom) {
+		return 1-new ChiSquaredDistribution(null,degreesOfFreedom).cumulativeProbability(chiSquare);
+	}
+
+	/**
+	 * Chi-Anpassungstest der erzeugten Zufallszahlen auf die Gleichverteilung ber ein Histogramm.
+	 * @param generator	Zu prfender Zufallszahlengenerator
+	 * @param count	Anzahl an zu erzeugenden Zufallszahlen
+	 * @param bins	Anzahl an Klassen im Histogramm (mindestens 2)
+	 * @return	p-Wert des Tests
+	 */
+	public static double chiSquareHistogram(final RandomGenerator generator, final int count, final int bins) {
+		final long[] histogram=new long[bins];
+		for (int i=0;i<count;i++) {
+			final int bin=(int)(generator.nextDouble()*bins);
+			histogram[Math.min(bin,bins-1)]++;
+		}
+		final double expected=((double)count)/bins;
+		double chiSquare=0;
+		for (long observed: histogram) {
+			final double delta=observed-expected;
+			chiSquare+=delta*delta/expected;
+		}
+		return chiSquarePValue(chiSquare,bins-1);
+	}
+
+	/**
+	 * Prft die Korrelation zwischen jeweils aufeinanderfolgenden Zufallszahlen (Lag 1).<br>
+	 * Bei unabhngigen Werten ist der mit der Wurzel der Anzahl skalierte Korrelationskoeffizient
+	 * nherungsweise standardnormalverteilt; es wird ein zweiseitiger Test durchgefhrt.
+	 * @param generator	Zu prfender Zufallszahlengenerator
+	 * @param count	Anzahl an zu erzeugenden Zufallszahlen (mindestens 3)
+	 * @return	p-Wert des Tests
+	 */
+	public static double serialCorrelation(final RandomGenerator generator, final int count) {
+		double last=generator.nextDouble();
+		final double first=last;
+		double sum=last;
+		double sum2=last*last;
+		double sumProduct=0;
+		for (int i=1;i<count;i++) {
+			final double x=generator.nextDouble();
+			sum+=x;
+			sum2+=x*x;
+			sumProduct+=last*x;
+			last=x;
+		}
+		/* Zyklische Schtzung: letzter Wert wird mit dem ersten verbunden */
+		sumProduct+=last*first;
+
+		final double mean=sum/count;
+		final double variance=sum2/count-mean*mean;
+		if (variance<=0) return 0;
+		final double r=(sumProduct/count-mean*mean)/variance;
+		final double z=r*Math.sqrt(count);
+		return 2*(1-new NormalDistribution(null,0,1).cumulativeProbability(Math.abs(z)));
+	}
+
+	/**
+	 * Birthday-Spacings-Test nach Marsaglia.<br>
+	 * In jedem Durchgang werden 512 "Geburtstage" in einem "Jahr" mit 2^24 Tagen gezogen, sortiert und die
+	 * Abstnde zwischen den Geburtstagen bestimmt. Die Anzahl an mehrfach auftretenden Abstnden ist
+	 * Poisson-verteilt mit Erwartungswert 2; die ber alle Durchgnge beobachteten Anzahlen werden per
+	 * Chi-Test mit der Poisson-Verteilung verglichen.<br>
+	 * Verwendet werden dabei die hchstwertigen 24 Bits der Zufallszahlen.
+	 * @param generator	Zu prfender Zufallszahlengenerator
+	 * @param rounds	Anzahl an Durchgngen (sollte mindestens 100 betragen)
+	 * @return	p-Wert des Tests
+	 */
+	public static double birthdaySpacings(final RandomGenerator generator, final int rounds) {
+		final int[] birthdays=new int[BIRTHDAYS];
+		final int[] spacings=new int[BIRTHDAYS];
+		final long[] observed=new long[BIRTHDAY_CLASSES];
+
+		for (int round=0;round<rounds;round++) {
+			for (int i=0;i<BIRTHDAYS;i++) birthdays[i]=(int)(generator.nextDouble()*DAYS);
+			Arrays.sort(birthdays);
+			spacings[0]=birthdays[0];
+			for (int i=1;i<BIRTHDAYS;i++) spacings[i]=birthdays[i]-birthdays[i-1];
+			Arrays.sort(spacings);
+			int duplicates=0;
+			for (int i=1;i<BIRTHDAYS;i++) if (spacings[i]==spacings[i-1]) duplicates++;
+			observed[Math.min(duplicates,BIRTHDAY_CLASSES-1)]++;
+		}
+
+		final double lambda=((double)BIRTHDAYS)*BIRTHDAYS*BIRTHDAYS/(4.0*DAYS);
+		final PoissonDistribution poisson=new PoissonDistribution(null,lambda,PoissonDistribution.DEFAULT_EPSILON,PoissonDistribution.DEFAULT_MAX_ITERATIONS);
+		double chiSquare=0;
+		for (int i=0;i<BIRTHDAY_CLASSES;i++) {
+			final double p=(i<BIRTHDAY_CLASSES-1)?poisson.probability(i):(1-poisson.cumulativeProbability(BIRTHDAY_CLASSES-2));
+			final double expected=p*rounds;
+			final double delta=observed[i]-expected;
+			chiSquare+=delta*delta/expected;
+		}
+		return chiSquarePValue(chiSquare,BIRTHDAY_CLASSES-1);
+	}
+
+	/**
+	 * Misst die mittlere Zeit zur Erzeugung einer Zufallszahl ber {@link RandomGenerator#nextDouble()}.<br>
+	 * Es handelt sich um eine einfache Messung ohne Aufwrmphase; fr belastbare Werte sollte die
+	 * Methode mehrfach aufgerufen und nur die spteren Ergebnisse verwendet werden.
+	 * @param generator	Zu prfender Zufallszahlengenerator
+	 * @param count	Anzahl an zu erzeugenden Zufallszahlen
+	 * @return	Mittlere Zeit pro Zufallszahl in Nanosekunden
+	 */
+	public static double nanosPerDraw(final RandomGenerator generator, final int count) {
+		final long start=System.nanoTime();
+		double sum=0;
+		for (int i=0;i<count;i++) sum+=generator.nextDouble();
+		final long time=System.nanoTime()-start;
+		if (sum<0) return Double.NaN; /* Kann nicht auftreten, verhindert aber, dass die Schleife wegoptimiert wird. */
+		return ((double)time)/Math.max(1,count);
+	}
+
+	/**
+	 * Misst die mittlere Zeit zur Erzeugung einer Zufallszahl ber einen {@link DistributionSampler}.
+	 * @param sampler	Zu prfender Sampler
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @param count	Anzahl an zu erzeugenden Zufallszahlen
+	 * @return	Mittlere Zeit pro Zufallszahl in Nanosekunden
+	 * @see #nanosPerDraw(RandomGenerator, int)
+	 */
+	public static double nanosPerDraw(final DistributionSampler sampler, final RandomGenerator generator, final int count) {
+		final long start=System.nanoTime();
+		double sum=0;
+		for (int i=0;i<count;i++) sum+=sampler.random(generator);
+		final long time=System.nanoTime()-start;
+		if (Double.isNaN(sum)) return Double.NaN;
+		return ((double)time)/Math.max(1,count);
+	}
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Erzeugt standardnormalverteilte und exponentialverteilte Zufallszahlen
+ * ber das Ziggurat-Verfahren nach Marsaglia und Tsang
+ * (in der Variante mit Fliekomma-Tabellen nach Doornik).<br>
+ * In den allermeisten Fllen wird pro Zufallszahl nur eine gleichverteilte Zufallszahl, eine
+ * Multiplikation und ein Vergleich bentigt; Logarithmus, Wurzel und Exponentialfunktion werden
+ * nur in den seltenen Fllen (Keile und Rnder) ausgewertet.<br>
+ * Die Methoden verwenden ausschlielich {@link RandomGenerator#nextDouble()} und knnen daher mit allen
+ * ber {@link RandomGeneratorMode} verfgbaren Zufallszahlengeneratoren verwendet werden (unabhngig davon,
+ * wie viele Bits diese fr eine Fliekommazahl liefern). Die Nummer der Schicht wird dabei aus den
+ * hchstwertigen Bits bestimmt, der verbleibende Anteil derselben Zufallszahl bestimmt die Position in der Schicht.<br>
+ * Die Klasse besitzt nur statische Methoden und hlt keinen Zustand auer den beim Laden berechneten Tabellen.
+ * @author Alexander Herzog
+ * @see DistributionRandomNumber
+ */
+public final class ZigguratRandom {
+	/**
+	 * Anzahl an Schichten fr die Normalverteilung
+	 */
+	private static final int NORMAL_LAYERS=128;
+
+	/**
+	 * Beginn des Randbereichs der Normalverteilung
+	 */
+	private static final double NORMAL_R=3.442619855899;
+
+	/**
+	 * Flche pro Schicht fr die Normalverteilung
+	 */
+	private static final double NORMAL_V=9.91256303526217E-3;
+
+	/**
+	 * Anzahl an Schichten fr die Exponentialverteilung
+	 */
+	private static final int EXPONENTIAL_LAYERS=256;
+
+	/**
+	 * Beginn des Randbereichs der Exponentialverteilung
+	 */
+	private static final double EXPONENTIAL_R=7.69711747013104972;
+
+	/**
+	 * Flche pro Schicht fr die Exponentialverteilung
+	 */
+	private static final double EXPONENTIAL_V=3.949659822581572E-3;
+
+	/**
+	 * Rechte Grenzen der Schichten fr die Normalverteilung
+	 */
+	private static final double[] normalX=new double[NORMAL_LAYERS+1];
+
+	/**
+	 * Verhltnis der rechten Grenzen zweier benachbarter Schichten fr die Normalverteilung
+	 * (Schwelle, bis zu der ein Wert ohne weitere Prfung angenommen werden kann)
+	 */
+	private static final double[] normalRatio=new double[NORMAL_LAYERS];
+
+	/**
+	 * Dichtewerte (ohne Normierungsfaktor) an den Schichtgrenzen fr die Normalverteilung
+	 */
+	private static final double[] normalF=new double[NORMAL_LAYERS+1];
+
+	/**
+	 * Rechte Grenzen der Schichten fr die Exponentialverteilung
+	 */
+	private static final double[] exponentialX=new double[EXPONENTIAL_LAYERS+1];
+
+	/**
+	 * Verhltnis der rechten Grenzen zweier benachbarter Schichten fr die Exponentialverteilung
+	 * (Schwelle, bis zu der ein Wert ohne weitere Prfung angenommen werden kann)
+	 */
+	private static final double[] exponentialRatio=new double[EXPONENTIAL_LAYERS];
+
+	/**
+	 * Dichtewerte an den Schichtgrenzen fr die Exponentialverteilung
+	 */
+	private static final double[] exponentialF=new double[EXPONENTIAL_LAYERS+1];
+
+	static {
+		/* Normalverteilung */
+		double f=Math.exp(-0.5*NORMAL_R*NORMAL_R);
+		normalX[0]=NORMAL_V/f;
+		normalX[1]=NORMAL_R;
+		for (int i=2;i<NORMAL_LAYERS;i++) {
+			normalX[i]=Math.sqrt(-2*Math.log(NORMAL_V/normalX[i-1]+f));
+			f=Math.exp(-0.5*normalX[i]*normalX[i]);
+		}
+		normalX[NORMAL_LAYERS]=0;
+		for (int i=0;i<NORMAL_LAYERS;i++) normalRatio[i]=normalX[i+1]/normalX[i];
+		for (int i=0;i<=NORMAL_LAYERS;i++) normalF[i]=Math.exp(-0.5*normalX[i]*normalX[i]);
+
+		/* Exponentialverteilung */
+		f=Math.exp(-EXPONENTIAL_R);
+		exponentialX[0]=EXPONENTIAL_V/f;
+		exponentialX[1]=EXPONENTIAL_R;
+		for (int i=2;i<EXPONENTIAL_LAYERS;i++) {
+			exponentialX[i]=-Math.log(EXPONENTIAL_V/exponentialX[i-1]+f);
+			f=Math.exp(-exponentialX[i]);
+		}
+		exponentialX[EXPONENTIAL_LAYERS]=0;
+		for (int i=0;i<EXPONENTIAL_LAYERS;i++) exponentialRatio[i]=exponentialX[i+1]/exponentialX[i];
+		for (int i=0;i<=EXPONENTIAL_LAYERS;i++) exponentialF[i]=Math.exp(-exponentialX[i]);
+	}
+
+	/**
+	 * Diese Klasse stellt nur statische Methoden zur Verfgung und kann nicht instanziert werden.
+	 */
+	private ZigguratRandom() {
+	}
+
+	/**
+	 * Erzeugt eine standardnormalverteilte Zufallszahl.
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @return	Standardnormalverteilte Zufallszahl
+	 */
+	public static double nextNormal(final RandomGenerator generator) {
+		while (true) {
+			final double d=generator.nextDouble()*NORMAL_LAYERS;
+			final int i=(int)d;
+			final double u=2*(d-i)-1;
+			final double x=u*normalX[i];
+
+			/* Innerhalb des Rechtecks der Schicht: direkt annehmen (der Normalfall) */
+			if (Math.abs(u)<normalRatio[i]) return x;
+
+			/* Unterste Schicht: Randbereich */
+			if (i==0) return (u<0)?-normalTail(generator):normalTail(generator);
+
+			/* Keil zwischen Rechteck und Dichtefunktion */
+			if (normalF[i]+generator.nextDouble()*(normalF[i+1]-normalF[i])<Math.exp(-0.5*x*x)) return x;
+		}
+	}
+
+	/**
+	 * Erzeugt eine Zufallszahl aus dem Randbereich (Werte grer als {@link #NORMAL_R}) der Standardnormalverteilung.
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @return	Zufallszahl aus dem Randbereich
+	 */
+	private static double normalTail(final RandomGenerator generator) {
+		double x;
+		double y;
+		do {
+			x=-Math.log(1-generator.nextDouble())/NORMAL_R;
+			y=-Math.log(1-generator.nextDouble());
+		} while (2*y<x*x);
+		return NORMAL_R+x;
+	}
+
+	/**
+	 * Erzeugt eine exponentialverteilte Zufallszahl mit Erwartungswert 1.
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @return	Exponentialverteilte Zufallszahl mit Erwartungswert 1
+	 */
+	public static double nextExponential(final RandomGenerator generator) {
+		double offset=0;
+		while (true) {
+			final double d=generator.nextDouble()*EXPONENTIAL_LAYERS;
+			final int i=(int)d;
+			final double u=d-i;
+			final double x=u*exponentialX[i];
+
+			/* Innerhalb des Rechtecks der Schicht: direkt annehmen (der Normalfall) */
+			if (u<exponentialRatio[i]) return offset+x;
+
+			/* Unterste Schicht: Randbereich ist wegen der Gedchtnislosigkeit wieder exponentialverteilt */
+			if (i==0) {
+				offset+=EXPONENTIAL_R;
+				continue;
+			}
+
+			/* Keil zwischen Rechteck und Dichtefunktion */
+			if (exponentialF[i]+generator.nextDouble()*(exponentialF[i+1]-exponentialF[i])<Math.exp(-x)) return offset+x;
+		}
+	}
+}
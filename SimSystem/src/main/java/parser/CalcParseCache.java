@@ -0,0 +1,128 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import parser.coresymbols.CalcSymbol;
+
+/**
+ * Systemweiter Cache fr die Ergebnisse von {@link CalcSystem#parse(String)}.<br>
+ * Zu jedem Paar aus Ausdruck und Variablennamen wird das Ergebnis des Parsens
+ * und Vereinfachens gespeichert: der vereinfachte Baum aus Rechensymbolen, ein
+ * konstanter Zahlenwert oder die Fehlerposition. Die Bume im Cache werden selbst
+ * nie ausgewertet; jedes Rechensystem erhlt eine eigene Kopie.<br>
+ * Der Cache hlt hchstens {@link #MAX_SIZE} Eintrge; bei berschreiten wird der
+ * am lngsten nicht mehr verwendete Eintrag entfernt.
+ * @author Alexander Herzog
+ * @see CalcSystem#useParseCache
+ */
+final class CalcParseCache {
+	/**
+	 * Maximale Anzahl an Eintrgen im Cache
+	 */
+	private static final int MAX_SIZE=256;
+
+	/**
+	 * Zuordnung von Schlsseln (siehe {@link #getKey(String, String[])}) zu
+	 * vereinfachten Bumen ({@link CalcSymbol}), konstanten Werten ({@link Double})
+	 * oder Fehlerpositionen ({@link Integer})
+	 */
+	private static final Map<String,Object> cache=new LinkedHashMap<>(MAX_SIZE*4/3+1,0.75f,true) {
+		/**
+		 * Serialisierungs-ID der Klasse
+		 * @see java.io.Serializable
+		 */
+		private static final long serialVersionUID=-2915446236734306357L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String,Object> eldest) {
+			return size()>MAX_SIZE;
+		}
+	};
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Diese Klasse kann nicht instanziert werden. Sie stellt nur statische Methoden zur Verfgung.
+	 */
+	private CalcParseCache() {
+	}
+
+	/**
+	 * Bildet den Schlssel fr einen Ausdruck und die zugehrigen Variablennamen.
+	 * @param text	Ausdruck
+	 * @param variables	Variablennamen (die Reihenfolge bestimmt die Indices der Variablen und ist daher Teil des Schlssels)
+	 * @return	Schlssel fr den Cache
+	 */
+	private static String getKey(final String text, final String[] variables) {
+		final StringBuilder key=new StringBuilder(text);
+		for (String variable: variables) {
+			key.append('\0');
+			if (variable!=null) key.append(variable);
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Liefert das gespeicherte Ergebnis fr einen Ausdruck.
+	 * @param text	Ausdruck
+	 * @param variables	Variablennamen
+	 * @return	Kopie des vereinfachten Baums ({@link CalcSymbol}), konstanter Wert ({@link Double}), Fehlerposition ({@link Integer}) oder <code>null</code>, wenn der Ausdruck nicht im Cache enthalten ist
+	 */
+	public static Object get(final String text, final String[] variables) {
+		final Object result;
+		synchronized(cache) {
+			result=cache.get(getKey(text,variables));
+		}
+		if (result instanceof CalcSymbol) return ((CalcSymbol)result).cloneSymbol();
+		return result;
+	}
+
+	/**
+	 * Speichert einen vereinfachten Baum im Cache.
+	 * @param text	Ausdruck
+	 * @param variables	Variablennamen
+	 * @param root	Wurzel des vereinfachten Baums (es wird eine Kopie gespeichert, der Baum selbst kann daher weiter verwendet werden)
+	 */
+	public static void put(final String text, final String[] variables, final CalcSymbol root) {
+		putObject(text,variables,root.cloneSymbol());
+	}
+
+	/**
+	 * Speichert einen konstanten Wert oder eine Fehlerposition im Cache.
+	 * @param text	Ausdruck
+	 * @param variables	Variablennamen
+	 * @param value	Konstanter Wert ({@link Double}) oder Fehlerposition ({@link Integer})
+	 */
+	public static void put(final String text, final String[] variables, final Number value) {
+		putObject(text,variables,value);
+	}
+
+	/**
+	 * Speichert einen Eintrag im Cache.
+	 * @param text	Ausdruck
+	 * @param variables	Variablennamen
+	 * @param value	Zu speichernder Wert
+	 */
+	private static void putObject(final String text, final String[] variables, final Object value) {
+		if (value==null) return;
+		final String key=getKey(text,variables);
+		synchronized(cache) {
+			cache.put(key,value);
+		}
+	}
+}
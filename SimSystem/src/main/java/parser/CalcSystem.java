@@ -15,6 +15,7 @@
  */
 package parser;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +25,7 @@ import org.apache.commons.math3.distribution.AbstractRealDistribution;
 import mathtools.NumberTools;
 import mathtools.distribution.tools.DistributionRandomNumber;
 import mathtools.distribution.tools.DistributionRandomNumberThreadLocal;
+import parser.coresymbols.CalcProgram;
 import parser.coresymbols.CalcSymbol;
 import parser.coresymbols.CalcSymbolMiddleOperator;
 import parser.coresymbols.CalcSymbolPreOperator;
@@ -31,7 +33,7 @@ import parser.coresymbols.CalcSymbolPreOperator;
 /**
  * Formel-Praser
  * @author Alexander Herzog
- * @version 4.1
+ * @version 4.5
  */
 public class CalcSystem extends CalcSystemBase {
 	/**
@@ -39,6 +41,28 @@ public class CalcSystem extends CalcSystemBase {
 	 */
 	protected CalcSymbol root;
 
+	/**
+	 * Kompilierte Form von {@link #root} (ist <code>null</code>, wenn {@link #root} <code>null</code> ist oder {@link #compileExpressions} <code>false</code> ist)<br>
+	 * (<code>volatile</code>, da {@link #compile()} das Programm ggf. erst bei der ersten Verwendung aus einem beliebigen Thread heraus anlegt)
+	 * @see #compile()
+	 */
+	private volatile CalcProgram program;
+
+	/**
+	 * Sollen die Ausdrcke nach dem Parsen in ein {@link CalcProgram} bersetzt werden?
+	 * (Wenn nicht, werden die Ausdrcke direkt ber den Baum der Rechensymbole berechnet.)
+	 */
+	public static boolean compileExpressions=true;
+
+	/**
+	 * Sollen die Ergebnisse von {@link #parse(String)} (vereinfachte Bume, konstante Werte
+	 * und Fehlerpositionen) systemweit zwischengespeichert werden, so dass derselbe Ausdruck
+	 * mit denselben Variablennamen nicht erneut geparst werden muss?<br>
+	 * Der Cache wird nur fr Rechensysteme ohne benutzerdefinierte Funktionen (siehe {@link #getUserFunctions()}) verwendet.
+	 * @see CalcParseCache
+	 */
+	public static boolean useParseCache=true;
+
 	/**
 	 * Cache fr positive Double-Werte, um das Boxing/Unboxing zu vermeiden
 	 * @see CalcSymbol
@@ -222,7 +246,9 @@ public class CalcSystem extends CalcSystemBase {
 
 	/**
 	 * Versucht den bergebenen bergebenen Ausdruck zu interpretieren, dabei werden
-	 * Variablennamen erkannt usw., es wird aber noch kein konkreter Wert berechnet.
+	 * Variablennamen erkannt usw., es wird aber noch kein konkreter Wert berechnet.<br>
+	 * Wurde derselbe Ausdruck mit denselben Variablennamen bereits verarbeitet, so wird
+	 * eine Kopie des bereits vereinfachten Baums verwendet (siehe {@link #useParseCache}).
 	 * @param text	Ausdruck, der verarbeitet werden soll
 	 * @return	Gibt <code>-1</code> zurck, wenn der Ausdruck verarbeitet werden konnte.
 	 */
@@ -231,18 +257,32 @@ public class CalcSystem extends CalcSystemBase {
 		if (text!=null) text=text.trim();
 		this.text=text;
 		root=null;
+		program=null;
 		unsetPlainNumber();
 		if (text==null || text.isEmpty()) return 0;
 
 		final Double D=CalcParser.isNumber(text);
 		if (D!=null) {setPlainNumber(D); root=null; return -1;}
 
+		final boolean cacheable=useParseCache && getUserFunctions()==null;
+		if (cacheable) {
+			final Object cached=CalcParseCache.get(text,variables);
+			if (cached instanceof Integer) return (Integer)cached;
+			if (cached instanceof Double) {setPlainNumber((Double)cached); return -1;}
+			if (cached instanceof CalcSymbol) {
+				root=(CalcSymbol)cached;
+				if (compileExpressions) program=CalcProgram.compile(root,this);
+				return -1;
+			}
+		}
+
 		final CalcParser parser=new CalcParser(getCalcSymbolList());
 
 		Object obj=parser.parse(text);
 		if (obj instanceof CalcSymbol) {
 			root=(CalcSymbol)obj;
 		} else {
+			if (cacheable) CalcParseCache.put(text,variables,(Integer)obj);
 			return (Integer)obj;
 		}
 
@@ -250,9 +290,31 @@ public class CalcSystem extends CalcSystemBase {
 		if (o instanceof CalcSymbol) root=(CalcSymbol)o;
 		if (o instanceof Double) {setPlainNumber((Double)o); root=null;}
 
+		if (cacheable) {
+			if (root!=null) CalcParseCache.put(text,variables,root); else CalcParseCache.put(text,variables,getConstValue());
+		}
+
+		if (root!=null && compileExpressions) program=CalcProgram.compile(root,this);
+
 		return -1;
 	}
 
+	/**
+	 * Liefert den bereits geparsten Ausdruck in kompilierter Form.<br>
+	 * Das Programm kann auch direkt als {@link java.util.function.DoubleUnaryOperator} (fr Ausdrcke
+	 * mit einer Variable) bzw. als {@link java.util.function.ToDoubleFunction} ber den Variablenwerten
+	 * verwendet werden. Das Programm kann von mehreren Threads gleichzeitig verwendet werden, sofern
+	 * die Variablenwerte jeweils bergeben werden (siehe {@link #evaluate(double[])}).
+	 * @return	Programm zur Berechnung des Ausdrucks oder <code>null</code>, wenn noch kein Ausdruck erfolgreich geparst wurde
+	 */
+	public CalcProgram compile() {
+		if (isConstValue()) return CalcProgram.compile(getConstValue(),this);
+		if (root==null) return null;
+		CalcProgram compiled=program;
+		if (compiled==null) program=compiled=CalcProgram.compile(root,this);
+		return compiled;
+	}
+
 	/**
 	 * Berechnet den bereits geparsten Ausdruck auf Basis der bekannten Variablennamen und der hier angegebenen Werte.
 	 * @param variableValues	Liste mit den Werten der Variablen
@@ -266,6 +328,8 @@ public class CalcSystem extends CalcSystemBase {
 		}
 		if (root==null) throw new MathCalcError(this);
 		if (variableValues!=null) values=variableValues;
+		final CalcProgram compiled=program;
+		if (compiled!=null) return compiled.calc(values);
 		try {
 			return root.getValue(this);
 		} catch (Exception e) {
@@ -285,6 +349,8 @@ public class CalcSystem extends CalcSystemBase {
 		if (isConstValue()) return getConstValue();
 		if (root==null) return fallbackValue;
 		if (variableValues!=null) values=variableValues;
+		final CalcProgram compiled=program;
+		if (compiled!=null) return compiled.calcOrDefault(values,fallbackValue);
 
 		if (root instanceof CalcSymbolMiddleOperator) {
 			return ((CalcSymbolMiddleOperator)root).getValueOrDefault(this,fallbackValue);
@@ -301,6 +367,71 @@ public class CalcSystem extends CalcSystemBase {
 		}
 	}
 
+	/**
+	 * Berechnet den bereits geparsten Ausdruck fr die angegebenen Variablenwerte.<br>
+	 * Im Gegensatz zu {@link #calc(double[])} werden die Werte dabei nicht in {@link #values}
+	 * hinterlegt, sondern direkt an die Rechensymbole weitergereicht. Ein einmal geparster
+	 * Ausdruck kann daher ber diese Methode von mehreren Threads gleichzeitig (z.B. aus
+	 * einem parallelen Stream heraus) ausgewertet werden. Der Ausdruck darf dabei nicht
+	 * parallel neu geparst und nicht parallel ber {@link #calc(double[])} ausgewertet werden.
+	 * @param variableValues	Werte der Variablen (kann <code>null</code> sein, dann werden die in {@link #values} hinterlegten Werte verwendet)
+	 * @return	Zahlenwert des Ergebnisses
+	 * @throws MathCalcError	Fehler whrend der Berechnung
+	 * @see #evaluateOrDefault(double[], double)
+	 * @see #compile()
+	 */
+	public double evaluate(final double[] variableValues) throws MathCalcError {
+		if (isConstValue()) return getConstValue();
+		final CalcProgram program=compile();
+		if (program==null) throw new MathCalcError(this);
+		return program.calc(variableValues);
+	}
+
+	/**
+	 * Berechnet den bereits geparsten Ausdruck fr die angegebenen Variablenwerte.<br>
+	 * Die Methode kann von mehreren Threads gleichzeitig aufgerufen werden (siehe {@link #evaluate(double[])}).
+	 * @param variableValues	Werte der Variablen (kann <code>null</code> sein, dann werden die in {@link #values} hinterlegten Werte verwendet)
+	 * @param fallbackValue	Wert, der zurckgegeben werden soll, wenn der Ausdruck nicht berechnet werden konnte
+	 * @return	Berechneter Wert oder im Fehlerfall der Vorgabewert
+	 * @see #evaluate(double[])
+	 */
+	public double evaluateOrDefault(final double[] variableValues, final double fallbackValue) {
+		if (isConstValue()) return getConstValue();
+		final CalcProgram program=compile();
+		if (program==null) return fallbackValue;
+		return program.calcOrDefault(variableValues,fallbackValue);
+	}
+
+	/**
+	 * Berechnet den bereits geparsten Ausdruck fr viele Variablenbelegungen auf einmal.<br>
+	 * Die Berechnung erfolgt nicht Zeile fr Zeile, sondern Rechenschritt fr Rechenschritt
+	 * ber ganzen Arrays; groe Eingaben werden in Blcken parallel berechnet.
+	 * Die Methode kann wie {@link #evaluate(double[])} von mehreren Threads gleichzeitig aufgerufen werden.
+	 * @param columns	Werte der Variablen; <code>columns[i][j]</code> ist der Wert der i-ten Variable in der j-ten Zeile
+	 * @param results	Array, in das die Ergebnisse geschrieben werden (die Lnge legt die Anzahl an Zeilen fest); Zeilen, die nicht berechnet werden konnten, erhalten den Wert {@link Double#NaN}
+	 * @see CalcProgram#calcBatch(double[][], double[])
+	 */
+	public void evaluateBatch(final double[][] columns, final double[] results) {
+		final CalcProgram program=compile();
+		if (program==null) {
+			Arrays.fill(results,Double.NaN);
+		} else {
+			program.calcBatch(columns,results);
+		}
+	}
+
+	/**
+	 * Berechnet den bereits geparsten Ausdruck fr viele Werte der ersten (einzigen) Variable auf einmal.
+	 * @param x	Werte der ersten (einzigen) Variable
+	 * @return	Ergebnisse; Werte, die nicht berechnet werden konnten, sind {@link Double#NaN}
+	 * @see #evaluateBatch(double[][], double[])
+	 */
+	public double[] evaluateBatch(final double[] x) {
+		final double[] results=new double[x.length];
+		evaluateBatch(new double[][] {x},results);
+		return results;
+	}
+
 	/**
 	 * Berechnet den Wert eines Ausdrucks ohne weitere Variablen
 	 * @param text	Zu berechnender Ausdruck
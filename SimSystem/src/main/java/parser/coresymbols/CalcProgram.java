@@ -0,0 +1,856 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parser.coresymbols;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+import parser.CalcSystem;
+import parser.MathCalcError;
+
+/**
+ * Kompilierte Form eines Baums aus Rechensymbolen.<br>
+ * Jedes Symbol wird in ein auf seine Aufgabe spezialisiertes, unvernderliches Rechenobjekt
+ * bersetzt. Bei der Berechnung entfallen so die Prfungen, Zwischenspeicher und
+ * <code>try</code>/<code>catch</code>-Blcke der {@link CalcSymbol#getValue(CalcSystem)}-Methoden.
+ * Zahlen, Variablen und die Grundrechenarten werden direkt ausgefhrt; Operatoren und Funktionen
+ * werden ber ihre <code>calc</code>-Methoden aufgerufen. Symbole, die sich nicht bersetzen lassen,
+ * werden weiterhin ber den Baum ausgewertet.<br>
+ * Die Rechenobjekte selbst besitzen keinen vernderlichen Zustand: Parameter-Arrays fr Funktionsaufrufe
+ * werden pro Aufruf angelegt, und das Rechensystem wird den Funktionssymbolen nur einmalig beim bersetzen
+ * zugewiesen. Ein Programm kann daher von mehreren Threads gleichzeitig verwendet werden, sofern die
+ * Variablenwerte jeweils bergeben werden (bei <code>null</code> werden die in dem Rechensystem hinterlegten
+ * Werte gelesen, die von anderen Threads verndert werden knnen). Funktionen, die sich Werte zwischen zwei
+ * Aufrufen merken (siehe {@link CalcSymbolPreOperator#isReentrant()}), sowie Symbole, die ber den Baum
+ * ausgewertet werden, werden dabei synchronisiert ber das Rechensystem aufgerufen.<br>
+ * ber {@link #calcBatch(double[][], double[])} kann der Ausdruck fr viele Variablenbelegungen auf
+ * einmal berechnet werden. Die Rechenobjekte arbeiten dabei jeweils auf ganzen Arrays, so dass
+ * die Schleifen fr die Grundrechenarten vom JIT-Compiler vektorisiert werden knnen. Zeilen, in denen
+ * ein Operand einer Funktion oder eines Operators {@link Double#NaN} ist, werden einzeln ber
+ * {@link #calc(double[])} berechnet, so dass die Ergebnisse stets mit der Einzelberechnung bereinstimmen.
+ * @author Alexander Herzog
+ * @see CalcSystem#compile()
+ */
+public final class CalcProgram implements DoubleUnaryOperator, ToDoubleFunction<double[]> {
+	/**
+	 * Operationen, die direkt (ohne Aufruf der <code>calc</code>-Methode des Operators) ausgefhrt werden knnen
+	 * @see CalcSymbolMiddleOperator#getDirectOperation()
+	 */
+	public enum DirectOperation {
+		/** Addition */
+		ADD,
+		/** Subtraktion */
+		SUBTRACT,
+		/** Multiplikation */
+		MULTIPLY,
+		/** Division (Division durch 0 fhrt zu einem Fehler) */
+		DIVIDE
+	}
+
+	/**
+	 * Anzahl an Zeilen, die bei {@link #calcBatch(double[][], double[])} jeweils gemeinsam berechnet werden
+	 * (die Zwischenergebnisse eines Blocks sollen in den Cache passen)
+	 */
+	private static final int BATCH_CHUNK_SIZE=1024;
+
+	/**
+	 * Ab wie vielen Zeilen sollen die Blcke bei {@link #calcBatch(double[][], double[])} parallel berechnet werden?
+	 */
+	private static final int BATCH_PARALLEL_MIN_SIZE=16*BATCH_CHUNK_SIZE;
+
+	/** Wurzel der bersetzten Rechenobjekte */
+	private final Node root;
+	/** Anzahl an Rechenobjekten */
+	private final int nodeCount;
+	/** Anzahl an Symbolen, die ber den Baum ausgewertet werden */
+	private final int treeSymbolCount;
+	/** Rechensystem, dem die Variablenwerte entnommen werden, wenn keine Werte bergeben werden */
+	private final CalcSystem calcSystem;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Programme werden ber {@link #compile(CalcSymbol, CalcSystem)} oder {@link #compile(double, CalcSystem)} erstellt.
+	 * @param builder	Erfasste Rechenobjekte
+	 * @param calcSystem	Rechensystem, dem die Variablenwerte entnommen werden, wenn keine Werte bergeben werden
+	 */
+	private CalcProgram(final Builder builder, final CalcSystem calcSystem) {
+		root=builder.stack.pop();
+		nodeCount=builder.nodeCount;
+		treeSymbolCount=builder.treeSymbolCount;
+		this.calcSystem=calcSystem;
+	}
+
+	/**
+	 * bersetzt einen Baum aus Rechensymbolen in ein Programm.
+	 * @param root	Wurzelknoten des (bereits vereinfachten) Baums
+	 * @param calcSystem	Rechensystem, zu dem der Baum gehrt
+	 * @return	Programm zur Berechnung des Ausdrucks
+	 */
+	public static CalcProgram compile(final CalcSymbol root, final CalcSystem calcSystem) {
+		final Builder builder=new Builder(calcSystem);
+		root.compile(builder);
+		return new CalcProgram(builder,calcSystem);
+	}
+
+	/**
+	 * Erstellt ein Programm, welches stets einen konstanten Wert liefert.
+	 * @param value	Konstanter Wert
+	 * @param calcSystem	Rechensystem, zu dem der Ausdruck gehrt
+	 * @return	Programm, welches stets den konstanten Wert liefert
+	 */
+	public static CalcProgram compile(final double value, final CalcSystem calcSystem) {
+		final Builder builder=new Builder(calcSystem);
+		builder.addConstant(null,value);
+		return new CalcProgram(builder,calcSystem);
+	}
+
+	/**
+	 * Liefert die Anzahl an Rechenobjekten in dem Programm.
+	 * @return	Anzahl an Rechenobjekten
+	 */
+	public int getInstructionCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * Liefert die Anzahl an Symbolen, die nicht bersetzt werden konnten und daher ber den Baum ausgewertet werden.
+	 * @return	Anzahl an ber den Baum ausgewerteten Symbolen
+	 */
+	public int getTreeSymbolCount() {
+		return treeSymbolCount;
+	}
+
+	/**
+	 * Berechnet den Ausdruck.
+	 * @param variableValues	Werte der Variablen (kann <code>null</code> sein, dann werden die zuletzt in dem Rechensystem hinterlegten Werte verwendet; dies ist nicht threadsicher)
+	 * @return	Ergebnis
+	 * @throws MathCalcError	Fehler whrend der Berechnung
+	 */
+	public double calc(final double[] variableValues) throws MathCalcError {
+		final double[] values=(variableValues==null)?calcSystem.values:variableValues;
+		try {
+			return root.calc(values);
+		} catch (RuntimeException e) {
+			throw new MathCalcError(e);
+		}
+	}
+
+	/**
+	 * Berechnet den Ausdruck.
+	 * @param variableValues	Werte der Variablen (kann <code>null</code> sein, dann werden die zuletzt in dem Rechensystem hinterlegten Werte verwendet; dies ist nicht threadsicher)
+	 * @param fallbackValue	Wert, der zurckgegeben werden soll, wenn der Ausdruck nicht berechnet werden konnte
+	 * @return	Ergebnis oder im Fehlerfall der Vorgabewert
+	 */
+	public double calcOrDefault(final double[] variableValues, final double fallbackValue) {
+		final double[] values=(variableValues==null)?calcSystem.values:variableValues;
+		try {
+			return root.calc(values);
+		} catch (MathCalcError | RuntimeException e) {
+			return fallbackValue;
+		}
+	}
+
+	/**
+	 * Berechnet den Ausdruck fr eine einzelne Variable.
+	 * @param x	Wert der ersten (einzigen) Variable
+	 * @return	Ergebnis oder im Fehlerfall {@link Double#NaN}
+	 */
+	@Override
+	public double applyAsDouble(final double x) {
+		return calcOrDefault(new double[] {x},Double.NaN);
+	}
+
+	/**
+	 * Berechnet den Ausdruck fr mehrere Variablen.
+	 * @param variableValues	Werte der Variablen
+	 * @return	Ergebnis oder im Fehlerfall {@link Double#NaN}
+	 */
+	@Override
+	public double applyAsDouble(final double[] variableValues) {
+		return calcOrDefault(variableValues,Double.NaN);
+	}
+
+	/**
+	 * Berechnet den Ausdruck fr viele Variablenbelegungen auf einmal.<br>
+	 * Groe Eingaben werden in Blcken parallel berechnet.
+	 * @param columns	Werte der Variablen; <code>columns[i][j]</code> ist der Wert der i-ten Variable in der j-ten Zeile
+	 * @param results	Array, in das die Ergebnisse geschrieben werden (die Lnge legt die Anzahl an Zeilen fest); Zeilen, die nicht berechnet werden konnten, erhalten den Wert {@link Double#NaN}
+	 */
+	public void calcBatch(final double[][] columns, final double[] results) {
+		final int chunks=(results.length+BATCH_CHUNK_SIZE-1)/BATCH_CHUNK_SIZE;
+		if (results.length<BATCH_PARALLEL_MIN_SIZE) {
+			for (int i=0;i<chunks;i++) calcBatchChunk(columns,i*BATCH_CHUNK_SIZE,results);
+		} else {
+			IntStream.range(0,chunks).parallel().forEach(i->calcBatchChunk(columns,i*BATCH_CHUNK_SIZE,results));
+		}
+	}
+
+	/**
+	 * Berechnet den Ausdruck fr viele Werte der ersten (einzigen) Variable auf einmal.
+	 * @param x	Werte der ersten (einzigen) Variable
+	 * @return	Ergebnisse; Werte, die nicht berechnet werden konnten, sind {@link Double#NaN}
+	 * @see #calcBatch(double[][], double[])
+	 */
+	public double[] calcBatch(final double[] x) {
+		final double[] results=new double[x.length];
+		calcBatch(new double[][] {x},results);
+		return results;
+	}
+
+	/**
+	 * Berechnet einen Block von Zeilen fr {@link #calcBatch(double[][], double[])}.
+	 * @param columns	Werte der Variablen
+	 * @param offset	Index der ersten Zeile des Blocks
+	 * @param results	Array fr alle Ergebnisse
+	 */
+	private void calcBatchChunk(final double[][] columns, final int offset, final double[] results) {
+		final int length=Math.min(BATCH_CHUNK_SIZE,results.length-offset);
+		final double[] chunk=new double[length];
+		try {
+			root.calcBatch(columns,offset,length,chunk);
+		} catch (RuntimeException e) {
+			Arrays.fill(chunk,Double.NaN);
+		}
+		System.arraycopy(chunk,0,results,offset,length);
+	}
+
+	/**
+	 * Liefert fr eine Zeile die Werte aller Variablen.
+	 * @param columns	Werte der Variablen
+	 * @param row	Zeile
+	 * @param values	Array, in das die Werte der Variablen geschrieben werden
+	 * @return	Gibt <code>false</code> zurck, wenn fr mindestens eine Variable kein Wert vorliegt
+	 */
+	private static boolean getRow(final double[][] columns, final int row, final double[] values) {
+		for (int i=0;i<values.length;i++) {
+			if (columns[i]==null || columns[i].length<=row) return false;
+			values[i]=columns[i][row];
+		}
+		return true;
+	}
+
+	/**
+	 * Basisklasse der bersetzten Rechenobjekte
+	 */
+	private abstract static class Node {
+		/**
+		 * Konstruktor der Klasse
+		 */
+		protected Node() {
+		}
+
+		/**
+		 * Berechnet den Wert des Rechenobjekts.
+		 * @param values	Werte der Variablen
+		 * @return	Wert des Rechenobjekts
+		 * @throws MathCalcError	Fehler whrend der Berechnung
+		 */
+		public abstract double calc(final double[] values) throws MathCalcError;
+
+		/**
+		 * Berechnet den Wert des Rechenobjekts fr einen Block von Zeilen.
+		 * @param columns	Werte der Variablen (<code>columns[i][j]</code> ist der Wert der i-ten Variable in der j-ten Zeile)
+		 * @param offset	Index der ersten Zeile des Blocks
+		 * @param length	Anzahl an Zeilen in dem Block
+		 * @param results	Array (mit mindestens <code>length</code> Eintrgen), in das die Werte geschrieben werden; Fehler werden durch {@link Double#NaN} dargestellt
+		 */
+		public abstract void calcBatch(final double[][] columns, final int offset, final int length, final double[] results);
+
+		/**
+		 * Berechnet den Wert des Rechenobjekts fr eine einzelne Zeile ber {@link #calc(double[])}.<br>
+		 * Im Batch-Modus steht {@link Double#NaN} sowohl fr Fehler als auch fr NaN-Werte der Variablen.
+		 * Die Einzelberechnung unterscheidet beides und bergibt NaN-Werte (wie {@link CalcProgram#calc(double[])})
+		 * an die Funktionen und Operatoren.
+		 * @param columns	Werte der Variablen (<code>columns[i][j]</code> ist der Wert der i-ten Variable in der j-ten Zeile)
+		 * @param row	Zeile
+		 * @return	Wert des Rechenobjekts oder {@link Double#NaN} im Fehlerfall
+		 */
+		protected final double calcRow(final double[][] columns, final int row) {
+			if (columns==null) return Double.NaN;
+			final double[] values=new double[columns.length];
+			if (!getRow(columns,row,values)) return Double.NaN;
+			try {
+				return calc(values);
+			} catch (MathCalcError | RuntimeException e) {
+				return Double.NaN;
+			}
+		}
+	}
+
+	/**
+	 * Konstante
+	 */
+	private static final class ConstNode extends Node {
+		/** Wert der Konstante */
+		private final double value;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param value	Wert der Konstante
+		 */
+		public ConstNode(final double value) {
+			this.value=value;
+		}
+
+		@Override
+		public double calc(final double[] values) {
+			return value;
+		}
+
+		@Override
+		public void calcBatch(final double[][] columns, final int offset, final int length, final double[] results) {
+			Arrays.fill(results,0,length,value);
+		}
+	}
+
+	/**
+	 * Variable
+	 */
+	private static final class VariableNode extends Node {
+		/** Index der Variable */
+		private final int index;
+		/** Symbol (fr Fehlermeldungen) */
+		private final CalcSymbol symbol;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param index	Index der Variable
+		 * @param symbol	Symbol (fr Fehlermeldungen)
+		 */
+		public VariableNode(final int index, final CalcSymbol symbol) {
+			this.index=index;
+			this.symbol=symbol;
+		}
+
+		@Override
+		public double calc(final double[] values) throws MathCalcError {
+			if (values==null || index<0 || index>=values.length) throw new MathCalcError(symbol);
+			return values[index];
+		}
+
+		@Override
+		public void calcBatch(final double[][] columns, final int offset, final int length, final double[] results) {
+			if (columns==null || index<0 || index>=columns.length || columns[index]==null || columns[index].length<offset+length) {
+				Arrays.fill(results,0,length,Double.NaN);
+			} else {
+				System.arraycopy(columns[index],offset,results,0,length);
+			}
+		}
+	}
+
+	/**
+	 * Addition
+	 */
+	private static final class AddNode extends Node {
+		/** Linker Operand */
+		private final Node left;
+		/** Rechter Operand */
+		private final Node right;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param left	Linker Operand
+		 * @param right	Rechter Operand
+		 */
+		public AddNode(final Node left, final Node right) {
+			this.left=left;
+			this.right=right;
+		}
+
+		@Override
+		public double calc(final double[] values) throws MathCalcError {
+			return left.calc(values)+right.calc(values);
+		}
+
+		@Override
+		public void calcBatch(final double[][] columns, final int offset, final int length, final double[] results) {
+			final double[] rightValues=new double[length];
+			left.calcBatch(columns,offset,length,results);
+			right.calcBatch(columns,offset,length,rightValues);
+			for (int i=0;i<length;i++) results[i]+=rightValues[i];
+		}
+	}
+
+	/**
+	 * Subtraktion
+	 */
+	private static final class SubtractNode extends Node {
+		/** Linker Operand */
+		private final Node left;
+		/** Rechter Operand */
+		private final Node right;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param left	Linker Operand
+		 * @param right	Rechter Operand
+		 */
+		public SubtractNode(final Node left, final Node right) {
+			this.left=left;
+			this.right=right;
+		}
+
+		@Override
+		public double calc(final double[] values) throws MathCalcError {
+			return left.calc(values)-right.calc(values);
+		}
+
+		@Override
+		public void calcBatch(final double[][] columns, final int offset, final int length, final double[] results) {
+			final double[] rightValues=new double[length];
+			left.calcBatch(columns,offset,length,results);
+			right.calcBatch(columns,offset,length,rightValues);
+			for (int i=0;i<length;i++) results[i]-=rightValues[i];
+		}
+	}
+
+	/**
+	 * Multiplikation
+	 */
+	private static final class MultiplyNode extends Node {
+		/** Linker Operand */
+		private final Node left;
+		/** Rechter Operand */
+		private final Node right;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param left	Linker Operand
+		 * @param right	Rechter Operand
+		 */
+		public MultiplyNode(final Node left, final Node right) {
+			this.left=left;
+			this.right=right;
+		}
+
+		@Override
+		public double calc(final double[] values) throws MathCalcError {
+			return left.calc(values)*right.calc(values);
+		}
+
+		@Override
+		public void calcBatch(final double[][] columns, final int offset, final int length, final double[] results) {
+			final double[] rightValues=new double[length];
+			left.calcBatch(columns,offset,length,results);
+			right.calcBatch(columns,offset,length,rightValues);
+			for (int i=0;i<length;i++) results[i]*=rightValues[i];
+		}
+	}
+
+	/**
+	 * Division
+	 */
+	private static final class DivideNode extends Node {
+		/** Linker Operand */
+		private final Node left;
+		/** Rechter Operand */
+		private final Node right;
+		/** Symbol (fr Fehlermeldungen) */
+		private final CalcSymbol symbol;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param left	Linker Operand
+		 * @param right	Rechter Operand
+		 * @param symbol	Symbol (fr Fehlermeldungen)
+		 */
+		public DivideNode(final Node left, final Node right, final CalcSymbol symbol) {
+			this.left=left;
+			this.right=right;
+			this.symbol=symbol;
+		}
+
+		@Override
+		public double calc(final double[] values) throws MathCalcError {
+			final double l=left.calc(values);
+			final double r=right.calc(values);
+			if (r==0.0) throw new MathCalcError(symbol);
+			return l/r;
+		}
+
+		@Override
+		public void calcBatch(final double[][] columns, final int offset, final int length, final double[] results) {
+			final double[] rightValues=new double[length];
+			left.calcBatch(columns,offset,length,results);
+			right.calcBatch(columns,offset,length,rightValues);
+			for (int i=0;i<length;i++) {
+				final double r=rightValues[i];
+				results[i]=(r==0.0)?Double.NaN:results[i]/r;
+			}
+		}
+	}
+
+	/**
+	 * Mittiger Operator, der ber seine <code>calc</code>-Methode berechnet wird
+	 */
+	private static final class MiddleNode extends Node {
+		/** Operator */
+		private final CalcSymbolMiddleOperator operator;
+		/** Linker Operand */
+		private final Node left;
+		/** Rechter Operand */
+		private final Node right;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param operator	Operator
+		 * @param left	Linker Operand
+		 * @param right	Rechter Operand
+		 */
+		public MiddleNode(final CalcSymbolMiddleOperator operator, final Node left, final Node right) {
+			this.operator=operator;
+			this.left=left;
+			this.right=right;
+		}
+
+		@Override
+		public double calc(final double[] values) throws MathCalcError {
+			return operator.calc(left.calc(values),right.calc(values));
+		}
+
+		@Override
+		public void calcBatch(final double[][] columns, final int offset, final int length, final double[] results) {
+			final double[] rightValues=new double[length];
+			left.calcBatch(columns,offset,length,results);
+			right.calcBatch(columns,offset,length,rightValues);
+			for (int i=0;i<length;i++) {
+				final double l=results[i];
+				final double r=rightValues[i];
+				if (Double.isNaN(l) || Double.isNaN(r)) {results[i]=calcRow(columns,offset+i); continue;}
+				try {
+					results[i]=operator.calc(l,r);
+				} catch (MathCalcError e) {
+					results[i]=Double.NaN;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Nachgestellter Operator
+	 */
+	private static final class PostNode extends Node {
+		/** Operator */
+		private final CalcSymbolPostOperator operator;
+		/** Operand */
+		private final Node sub;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param operator	Operator
+		 * @param sub	Operand
+		 */
+		public PostNode(final CalcSymbolPostOperator operator, final Node sub) {
+			this.operator=operator;
+			this.sub=sub;
+		}
+
+		@Override
+		public double calc(final double[] values) throws MathCalcError {
+			return operator.calc(sub.calc(values));
+		}
+
+		@Override
+		public void calcBatch(final double[][] columns, final int offset, final int length, final double[] results) {
+			sub.calcBatch(columns,offset,length,results);
+			for (int i=0;i<length;i++) {
+				if (Double.isNaN(results[i])) {results[i]=calcRow(columns,offset+i); continue;}
+				try {
+					results[i]=operator.calc(results[i]);
+				} catch (MathCalcError e) {
+					results[i]=Double.NaN;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Funktion
+	 */
+	private static final class PreNode extends Node {
+		/** Funktion */
+		private final CalcSymbolPreOperator function;
+		/** Parameter */
+		private final Node[] parameters;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param function	Funktion (das Rechensystem muss bereits in der Funktion hinterlegt sein)
+		 * @param parameters	Parameter
+		 */
+		public PreNode(final CalcSymbolPreOperator function, final Node[] parameters) {
+			this.function=function;
+			this.parameters=parameters;
+		}
+
+		@Override
+		public double calc(final double[] values) throws MathCalcError {
+			final double[] parameterValues=new double[parameters.length];
+			for (int i=0;i<parameterValues.length;i++) parameterValues[i]=parameters[i].calc(values);
+			return function.calc(parameterValues);
+		}
+
+		@Override
+		public void calcBatch(final double[][] columns, final int offset, final int length, final double[] results) {
+			calcPreBatch(this,function,parameters,columns,offset,length,results);
+		}
+	}
+
+	/**
+	 * Funktion, die nicht von mehreren Threads gleichzeitig aufgerufen werden darf
+	 * @see CalcSymbolPreOperator#isReentrant()
+	 */
+	private static final class SynchronizedPreNode extends Node {
+		/** Funktion */
+		private final CalcSymbolPreOperator function;
+		/** Parameter */
+		private final Node[] parameters;
+		/** Rechensystem, ber das die Aufrufe synchronisiert werden */
+		private final CalcSystem calcSystem;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param function	Funktion (das Rechensystem muss bereits in der Funktion hinterlegt sein)
+		 * @param parameters	Parameter
+		 * @param calcSystem	Rechensystem, ber das die Aufrufe synchronisiert werden
+		 */
+		public SynchronizedPreNode(final CalcSymbolPreOperator function, final Node[] parameters, final CalcSystem calcSystem) {
+			this.function=function;
+			this.parameters=parameters;
+			this.calcSystem=calcSystem;
+		}
+
+		@Override
+		public double calc(final double[] values) throws MathCalcError {
+			final double[] parameterValues=new double[parameters.length];
+			for (int i=0;i<parameterValues.length;i++) parameterValues[i]=parameters[i].calc(values);
+			synchronized(calcSystem) {
+				return function.calc(parameterValues);
+			}
+		}
+
+		@Override
+		public void calcBatch(final double[][] columns, final int offset, final int length, final double[] results) {
+			synchronized(calcSystem) {
+				calcPreBatch(this,function,parameters,columns,offset,length,results);
+			}
+		}
+	}
+
+	/**
+	 * Berechnet eine Funktion fr einen Block von Zeilen.
+	 * @param node	Rechenobjekt der Funktion (fr die Einzelberechnung von Zeilen, in denen ein Parameter {@link Double#NaN} ist)
+	 * @param function	Funktion
+	 * @param parameters	Parameter
+	 * @param columns	Werte der Variablen
+	 * @param offset	Index der ersten Zeile des Blocks
+	 * @param length	Anzahl an Zeilen in dem Block
+	 * @param results	Array, in das die Werte geschrieben werden
+	 * @see Node#calcBatch(double[][], int, int, double[])
+	 */
+	private static void calcPreBatch(final Node node, final CalcSymbolPreOperator function, final Node[] parameters, final double[][] columns, final int offset, final int length, final double[] results) {
+		final double[][] parameterColumns=new double[parameters.length][];
+		for (int i=0;i<parameters.length;i++) {
+			parameterColumns[i]=new double[length];
+			parameters[i].calcBatch(columns,offset,length,parameterColumns[i]);
+		}
+
+		final double[] parameterValues=new double[parameters.length];
+		for (int i=0;i<length;i++) {
+			if (!getRow(parameterColumns,i,parameterValues)) {results[i]=Double.NaN; continue;}
+			if (hasNaN(parameterValues)) {results[i]=node.calcRow(columns,offset+i); continue;}
+			try {
+				results[i]=function.calc(parameterValues);
+			} catch (MathCalcError e) {
+				results[i]=Double.NaN;
+			}
+		}
+	}
+
+	/**
+	 * Prft, ob ein Array mindestens einen {@link Double#NaN}-Wert enthlt.
+	 * @param values	Zu prfendes Array
+	 * @return	Gibt <code>true</code> zurck, wenn mindestens ein Wert {@link Double#NaN} ist
+	 */
+	private static boolean hasNaN(final double[] values) {
+		for (double value: values) if (Double.isNaN(value)) return true;
+		return false;
+	}
+
+	/**
+	 * Symbol, welches ber den Baum ausgewertet wird<br>
+	 * Da die Symbole die Variablenwerte dem Rechensystem entnehmen, erfolgt die Auswertung synchronisiert.
+	 */
+	private static final class TreeNode extends Node {
+		/** Symbol */
+		private final CalcSymbol symbol;
+		/** Rechensystem, welches dem Symbol bergeben wird */
+		private final CalcSystem calcSystem;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param symbol	Symbol
+		 * @param calcSystem	Rechensystem, welches dem Symbol bergeben wird
+		 */
+		public TreeNode(final CalcSymbol symbol, final CalcSystem calcSystem) {
+			this.symbol=symbol;
+			this.calcSystem=calcSystem;
+		}
+
+		@Override
+		public double calc(final double[] values) throws MathCalcError {
+			synchronized(calcSystem) {
+				final double[] lastValues=calcSystem.values;
+				calcSystem.values=values;
+				try {
+					return symbol.getValue(calcSystem);
+				} finally {
+					calcSystem.values=lastValues;
+				}
+			}
+		}
+
+		@Override
+		public void calcBatch(final double[][] columns, final int offset, final int length, final double[] results) {
+			final double[] values=new double[(columns==null)?0:columns.length];
+			synchronized(calcSystem) {
+				final double[] lastValues=calcSystem.values;
+				calcSystem.values=values;
+				try {
+					for (int i=0;i<length;i++) {
+						if (!getRow(columns,offset+i,values)) {results[i]=Double.NaN; continue;}
+						try {
+							results[i]=symbol.getValue(calcSystem);
+						} catch (MathCalcError | RuntimeException e) {
+							results[i]=Double.NaN;
+						}
+					}
+				} finally {
+					calcSystem.values=lastValues;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Erstellt whrend der bersetzung die Rechenobjekte.<br>
+	 * Die Symbole fgen ihre Operanden jeweils vor sich selbst hinzu; die Rechenobjekte
+	 * der Operanden werden dabei auf einem Stack abgelegt und vom Operator wieder entnommen.
+	 * @see CalcSymbol#compile(Builder)
+	 */
+	static final class Builder {
+		/** Rechenobjekte der bereits bersetzten, noch keinem Operator zugeordneten Operanden */
+		private final Deque<Node> stack=new ArrayDeque<>();
+		/** Rechensystem, zu dem der Baum gehrt */
+		private final CalcSystem calcSystem;
+		/** Anzahl an erstellten Rechenobjekten */
+		private int nodeCount;
+		/** Anzahl an Symbolen, die ber den Baum ausgewertet werden */
+		private int treeSymbolCount;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param calcSystem	Rechensystem, zu dem der Baum gehrt
+		 */
+		private Builder(final CalcSystem calcSystem) {
+			this.calcSystem=calcSystem;
+		}
+
+		/**
+		 * Legt ein neues Rechenobjekt auf dem Stack ab.
+		 * @param node	Rechenobjekt
+		 */
+		private void push(final Node node) {
+			stack.push(node);
+			nodeCount++;
+		}
+
+		/**
+		 * Fgt eine Konstante hinzu.
+		 * @param symbol	Symbol, aus dem das Rechenobjekt erzeugt wird
+		 * @param value	Wert der Konstante
+		 */
+		void addConstant(final CalcSymbol symbol, final double value) {
+			push(new ConstNode(value));
+		}
+
+		/**
+		 * Fgt eine Variable hinzu.
+		 * @param symbol	Symbol, aus dem das Rechenobjekt erzeugt wird
+		 * @param index	Index der Variable
+		 */
+		void addVariable(final CalcSymbol symbol, final int index) {
+			push(new VariableNode(index,symbol));
+		}
+
+		/**
+		 * Fgt einen mittigen Operator hinzu (die beiden Operanden mssen bereits hinzugefgt worden sein).
+		 * @param symbol	Operator
+		 */
+		void addMiddleOperator(final CalcSymbolMiddleOperator symbol) {
+			final Node right=stack.pop();
+			final Node left=stack.pop();
+			final DirectOperation operation=symbol.getDirectOperation();
+			if (operation==null) {
+				push(new MiddleNode(symbol,left,right));
+				return;
+			}
+			switch (operation) {
+			case ADD: push(new AddNode(left,right)); break;
+			case SUBTRACT: push(new SubtractNode(left,right)); break;
+			case MULTIPLY: push(new MultiplyNode(left,right)); break;
+			case DIVIDE: push(new DivideNode(left,right,symbol)); break;
+			}
+		}
+
+		/**
+		 * Fgt einen nachgestellten Operator hinzu (der Operand muss bereits hinzugefgt worden sein).
+		 * @param symbol	Operator
+		 */
+		void addPostOperator(final CalcSymbolPostOperator symbol) {
+			push(new PostNode(symbol,stack.pop()));
+		}
+
+		/**
+		 * Fgt eine Funktion hinzu (die Parameter mssen bereits hinzugefgt worden sein).
+		 * @param symbol	Funktion
+		 * @param parameterCount	Anzahl an Parametern
+		 */
+		void addPreOperator(final CalcSymbolPreOperator symbol, final int parameterCount) {
+			final Node[] parameters=new Node[parameterCount];
+			for (int i=parameterCount-1;i>=0;i--) parameters[i]=stack.pop();
+			symbol.calcSystem=calcSystem;
+			if (symbol.isReentrant()) {
+				push(new PreNode(symbol,parameters));
+			} else {
+				push(new SynchronizedPreNode(symbol,parameters,calcSystem));
+			}
+		}
+
+		/**
+		 * Fgt ein Symbol hinzu, welches ber den Baum ausgewertet werden soll.
+		 * @param symbol	Symbol
+		 */
+		void addSymbol(final CalcSymbol symbol) {
+			push(new TreeNode(symbol,calcSystem));
+			treeSymbolCount++;
+		}
+	}
+}
@@ -21,7 +21,7 @@ import parser.MathCalcError;
 /**
  * Basis-Symbol fr den Formelparser
  * @author Alexander Herzog
- * @version 1.2
+ * @version 1.3
  * @see CalcSystem
  */
 public abstract class CalcSymbol implements Cloneable {
@@ -83,6 +83,15 @@ public abstract class CalcSymbol implements Cloneable {
 	 */
 	public abstract double getValue(final CalcSystem calc) throws MathCalcError;
 
+	/**
+	 * Fgt die Befehle zur Berechnung des Symbols (und seiner Kind-Elemente) zu einem {@link CalcProgram} hinzu.<br>
+	 * In der Basisimplementierung wird das Symbol bei der Ausfhrung des Programms ber {@link #getValue(CalcSystem)} ausgewertet.
+	 * @param builder	Zu erweiterndes Programm
+	 */
+	void compile(final CalcProgram.Builder builder) {
+		builder.addSymbol(this);
+	}
+
 	/**
 	 * Versucht den Ausdruck (und seine Kind-Elemente) zu vereinfachen
 	 * @return	Liefert entweder das aktuelle Objekt zurck oder, wenn mglich, eine vereinfachte Variante
@@ -51,6 +51,11 @@ public abstract class CalcSymbolConst extends CalcSymbol {
 		return value;
 	}
 
+	@Override
+	void compile(final CalcProgram.Builder builder) {
+		builder.addConstant(this,value);
+	}
+
 	@Override
 	public final Object getSimplify() {
 		return value;
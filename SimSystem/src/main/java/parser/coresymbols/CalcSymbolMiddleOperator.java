@@ -68,6 +68,22 @@ public abstract class CalcSymbolMiddleOperator extends CalcSymbolFunction {
 	 */
 	protected abstract double calcOrDefault(final double left, final double right, final double fallbackValue);
 
+	/**
+	 * Gibt an, ob der Operator in einem {@link CalcProgram} direkt (ohne Aufruf von {@link #calc(double, double)}) ausgefhrt werden kann.
+	 * @return	Direkt ausfhrbare Operation oder <code>null</code>, wenn {@link #calc(double, double)} aufgerufen werden soll
+	 */
+	protected CalcProgram.DirectOperation getDirectOperation() {
+		return null;
+	}
+
+	@Override
+	void compile(final CalcProgram.Builder builder) {
+		if (left==null || right==null) {builder.addSymbol(this); return;}
+		left.compile(builder);
+		right.compile(builder);
+		builder.addMiddleOperator(this);
+	}
+
 	@Override
 	public final double getValue(final CalcSystem calc) throws MathCalcError {
 		if (left==null || right==null) throw error();
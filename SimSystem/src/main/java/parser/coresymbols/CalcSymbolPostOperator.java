@@ -68,6 +68,13 @@ public abstract class CalcSymbolPostOperator extends CalcSymbolFunction {
 		return calc(sub.getValue(calc));
 	}
 
+	@Override
+	void compile(final CalcProgram.Builder builder) {
+		if (sub==null) {builder.addSymbol(this); return;}
+		sub.compile(builder);
+		builder.addPostOperator(this);
+	}
+
 	@Override
 	public final CalcSymbol cloneSymbol() {
 		CalcSymbolPostOperator clone=(CalcSymbolPostOperator)super.cloneSymbol();
@@ -75,7 +75,8 @@ public abstract class CalcSymbolPreOperator extends CalcSymbolFunction {
 	/**
 	 * Direkter Zugriff auf das Rechensystem.<br>
 	 * Steht nach dem ersten Aufruf von {@link CalcSymbolPreOperator#getValue(CalcSystem)}
-	 * oder {@link CalcSymbolPreOperator#getValueOrDefault(CalcSystem, double)} zur Verfgung.
+	 * oder {@link CalcSymbolPreOperator#getValueOrDefault(CalcSystem, double)} bzw. nach der
+	 * bersetzung in ein {@link CalcProgram} zur Verfgung.
 	 */
 	protected CalcSystem calcSystem;
 
@@ -198,6 +199,7 @@ public abstract class CalcSymbolPreOperator extends CalcSymbolFunction {
 	@Override
 	public final CalcSymbol cloneSymbol() {
 		CalcSymbolPreOperator clone=(CalcSymbolPreOperator)super.cloneSymbol();
+		clone.lastValues=null; /* Zwischenspeicher nicht mit dem Original teilen */
 		clone.symbols=new CalcSymbol[symbols.length];
 		for (int i=0;i<symbols.length;i++) if (symbols[i]!=null) clone.symbols[i]=symbols[i].cloneSymbol();
 		return clone;
@@ -227,6 +229,37 @@ public abstract class CalcSymbolPreOperator extends CalcSymbolFunction {
 		return true;
 	}
 
+	/**
+	 * Gibt an, ob die Funktion in einem {@link CalcProgram} ber {@link #calc(double[])} mit
+	 * den zuvor berechneten Parameterwerten ausgefhrt werden kann. Funktionen, die
+	 * {@link #getValue(CalcSystem)} berschreiben (z.B. weil sie ihre Parameter mehrfach
+	 * auswerten), mssen hier <code>false</code> liefern; sie werden dann ber den Baum ausgewertet.
+	 * @return	Gibt <code>true</code> zurck, wenn die Funktion ber {@link #calc(double[])} berechnet werden kann. (Dies ist der Normalfall.)
+	 */
+	protected boolean isCompilable() {
+		return true;
+	}
+
+	/**
+	 * Gibt an, ob {@link #calc(double[])} von mehreren Threads gleichzeitig aufgerufen werden darf.
+	 * Funktionen, die sich zwischen zwei Aufrufen Werte merken (z.B. das zuletzt berechnete Ergebnis),
+	 * mssen hier <code>false</code> liefern; sie werden in einem {@link CalcProgram} dann
+	 * nur synchronisiert ber das Rechensystem aufgerufen.
+	 * @return	Gibt <code>true</code> zurck, wenn die Funktion keinen vernderlichen Zustand besitzt. (Dies ist der Normalfall.)
+	 * @see CalcSystem#evaluate(double[])
+	 */
+	protected boolean isReentrant() {
+		return true;
+	}
+
+	@Override
+	void compile(final CalcProgram.Builder builder) {
+		if (symbols==null || !isCompilable()) {builder.addSymbol(this); return;}
+		for (CalcSymbol symbol: symbols) if (symbol==null) {builder.addSymbol(this); return;}
+		for (CalcSymbol symbol: symbols) symbol.compile(builder);
+		builder.addPreOperator(this,symbols.length);
+	}
+
 	@Override
 	public Object getSimplify() {
 		if (isDeterministic()) {
@@ -72,6 +72,12 @@ public final class CalcSymbolSub extends CalcSymbol {
 		return sub[0].getValue(calc);
 	}
 
+	@Override
+	void compile(final CalcProgram.Builder builder) {
+		if (sub==null || sub.length!=1) {builder.addSymbol(this); return;}
+		sub[0].compile(builder);
+	}
+
 	@Override
 	public CalcSymbol cloneSymbol() {
 		CalcSymbolSub clone=(CalcSymbolSub)super.cloneSymbol();
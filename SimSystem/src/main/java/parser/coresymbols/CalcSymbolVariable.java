@@ -58,6 +58,11 @@ public class CalcSymbolVariable extends CalcSymbol {
 		return calc.values[variableIndex];
 	}
 
+	@Override
+	void compile(final CalcProgram.Builder builder) {
+		builder.addVariable(this,variableIndex);
+	}
+
 	@Override
 	public Object getSimplify() {
 		return this;
@@ -16,6 +16,7 @@
 package parser.symbols;
 
 import parser.MathCalcError;
+import parser.coresymbols.CalcProgram;
 import parser.coresymbols.CalcSymbolMiddleOperator;
 
 /**
@@ -45,6 +46,11 @@ public final class CalcSymbolMiddleOperatorDivide extends CalcSymbolMiddleOperat
 		return left/right;
 	}
 
+	@Override
+	protected CalcProgram.DirectOperation getDirectOperation() {
+		return CalcProgram.DirectOperation.DIVIDE;
+	}
+
 	/**
 	 * Namen fr das Symbol
 	 * @see #getNames()
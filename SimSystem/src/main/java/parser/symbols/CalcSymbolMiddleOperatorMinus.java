@@ -15,6 +15,7 @@
  */
 package parser.symbols;
 
+import parser.coresymbols.CalcProgram;
 import parser.coresymbols.CalcSymbolMiddleOperator;
 
 /**
@@ -42,6 +43,11 @@ public final class CalcSymbolMiddleOperatorMinus extends CalcSymbolMiddleOperato
 		return left-right;
 	}
 
+	@Override
+	protected CalcProgram.DirectOperation getDirectOperation() {
+		return CalcProgram.DirectOperation.SUBTRACT;
+	}
+
 	/**
 	 * Namen fr das Symbol
 	 * @see #getNames()
@@ -15,6 +15,7 @@
  */
 package parser.symbols;
 
+import parser.coresymbols.CalcProgram;
 import parser.coresymbols.CalcSymbolMiddleOperator;
 
 /**
@@ -42,6 +43,11 @@ public class CalcSymbolMiddleOperatorMultiply extends CalcSymbolMiddleOperator {
 		return left*right;
 	}
 
+	@Override
+	protected CalcProgram.DirectOperation getDirectOperation() {
+		return CalcProgram.DirectOperation.MULTIPLY;
+	}
+
 	/**
 	 * Namen fr das Symbol
 	 * @see #getNames()
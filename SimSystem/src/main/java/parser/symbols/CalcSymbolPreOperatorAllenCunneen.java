@@ -15,6 +15,7 @@
  */
 package parser.symbols;
 
+import mathtools.ErlangC;
 import parser.MathCalcError;
 import parser.coresymbols.CalcSymbolPreOperator;
 
@@ -51,19 +52,6 @@ public class CalcSymbolPreOperatorAllenCunneen extends CalcSymbolPreOperator {
 		return names;
 	}
 
-	/**
-	 * Berechnet a^c/c! unter Vermeidung von numerischen Auslschungen
-	 * @param a	Parameter a fr a^c/c!
-	 * @param c	Parameter c fr a^c/c!
-	 * @return	Ergebnis der Berechnung von a^c/c!
-	 */
-	private double powerFactorial(double a, long c) {
-		/* a^c/c! */
-		double result=1;
-		for (int i=1;i<=c;i++) result*=(a/i);
-		return result;
-	}
-
 	/**
 	 * lambda beim letzten Aufruf von {@link #calc(double[])}
 	 */
@@ -116,9 +104,7 @@ public class CalcSymbolPreOperatorAllenCunneen extends CalcSymbolPreOperator {
 
 		double rho=lambda/mu/c;
 
-		double PC1=powerFactorial(c*rho,c)/(1-rho);
-		double PC=0; for(int i=0;i<=c-1;i++) PC+=powerFactorial(c*rho,i);
-		PC=PC1/(PC1+PC);
+		final double PC=ErlangC.erlangC(c*rho,c);
 
 		double ENQ=rho/(1-rho)*PC*(cvI*cvI+cvS*cvS)/2;
 		double EN=ENQ+c*lambda/mu;
@@ -162,4 +148,9 @@ public class CalcSymbolPreOperatorAllenCunneen extends CalcSymbolPreOperator {
 			throw error();
 		}
 	}
+
+	@Override
+	protected boolean isReentrant() {
+		return false;
+	}
 }
@@ -15,8 +15,6 @@
  */
 package parser.symbols;
 
-import org.apache.commons.math3.special.Gamma;
-
 import mathtools.ErlangC;
 import parser.MathCalcError;
 import parser.coresymbols.CalcSymbolPreOperator;
@@ -104,7 +102,7 @@ public class CalcSymbolPreOperatorErlangC extends CalcSymbolPreOperator {
 		double mu=parameters[1]; if (mu<=0) throw error();
 		double nu=parameters[2]; if (nu<0) nu=0;
 		int c=(int)Math.round(parameters[3]); if (c<=0) throw error();
-		int K=(int)Math.round(parameters[4]); if (K<=0) K=100000000;
+		int K=(int)Math.round(parameters[4]); if (K<=0) K=Integer.MAX_VALUE;
 		double t=0;
 		int mode;
 		if (parameters[5]>=0) {
@@ -117,82 +115,46 @@ public class CalcSymbolPreOperatorErlangC extends CalcSymbolPreOperator {
 			return lastResult;
 		}
 
-		double[] Cn=ErlangC.extErlangCCn(lambda,mu,nu,c,K);
-		double pi0=0;
-		for (int i=0;i<Cn.length;i++) pi0+=Cn[i];
-		pi0=1/pi0;
-
-		double Pt;
-		if (pi0==0) Pt=1; else Pt=1-Cn[K]*pi0;
-		for (int n=c;n<=K-1;n++) {
-			Double g=Gamma.regularizedGammaQ(n-c+1,(c*mu+nu)*t);
-			Pt-=pi0*Cn[n]*g;
-		}
-		if (Double.isNaN(Pt) || Pt<0) Pt=0;
-
-		double ENQ=0; for (int i=c+1;i<Cn.length;i++) ENQ+=(i-c)*Cn[i]*pi0;
-		double EN=0; for (int i=1;i<Cn.length;i++) EN+=i*Cn[i]*pi0;
-		final double EW=ENQ/lambda;
-		final double PA=ENQ*nu/lambda;
-		final double EV=EW+1/mu*(1-PA);
+		final double[] pi=ErlangC.extErlangCStateProbabilities(lambda,mu,nu,c,K);
 
+		double ENQ=0; for (int i=c+1;i<pi.length;i++) ENQ+=(i-c)*pi[i];
+		final double result;
 		switch (mode) {
 		case 0:
-			lastLambda=lambda;
-			lastMu=mu;
-			lastNu=nu;
-			lastC=c;
-			lastK=K;
-			lastT=t;
-			lastMode=mode;
-			return lastResult=Pt;
+			result=ErlangC.extErlangCWaitingTimeProbability(pi,mu,nu,c,t);
+			break;
 		case 1:
-			lastLambda=lambda;
-			lastMu=mu;
-			lastNu=nu;
-			lastC=c;
-			lastK=K;
-			lastT=t;
-			lastMode=mode;
-			return lastResult=ENQ;
+			result=ENQ;
+			break;
 		case 2:
-			lastLambda=lambda;
-			lastMu=mu;
-			lastNu=nu;
-			lastC=c;
-			lastK=K;
-			lastT=t;
-			lastMode=mode;
-			return lastResult=EN;
+			double EN=0; for (int i=1;i<pi.length;i++) EN+=i*pi[i];
+			result=EN;
+			break;
 		case 3:
-			lastLambda=lambda;
-			lastMu=mu;
-			lastNu=nu;
-			lastC=c;
-			lastK=K;
-			lastT=t;
-			lastMode=mode;
-			return lastResult=EW;
+			result=ENQ/lambda;
+			break;
 		case 4:
-			lastLambda=lambda;
-			lastMu=mu;
-			lastNu=nu;
-			lastC=c;
-			lastK=K;
-			lastT=t;
-			lastMode=mode;
-			return lastResult=EV;
+			result=ENQ/lambda+1/mu*(1-ENQ*nu/lambda);
+			break;
 		case 5:
-			lastLambda=lambda;
-			lastMu=mu;
-			lastNu=nu;
-			lastC=c;
-			lastK=K;
-			lastT=t;
-			lastMode=mode;
-			return lastResult=1-PA;
+			result=1-ENQ*nu/lambda;
+			break;
 		default:
 			throw error();
 		}
+
+		lastLambda=lambda;
+		lastMu=mu;
+		lastNu=nu;
+		lastC=c;
+		lastK=K;
+		lastT=t;
+		lastMode=mode;
+		return lastResult=result;
+	}
+
+	@Override
+	protected boolean isReentrant() {
+		return false;
 	}
 }
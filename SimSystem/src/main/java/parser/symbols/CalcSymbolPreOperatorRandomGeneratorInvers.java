@@ -195,6 +195,11 @@ public class CalcSymbolPreOperatorRandomGeneratorInvers extends CalcSymbolPreOpe
 		return (max+min)/2;
 	}
 
+	@Override
+	protected boolean isCompilable() {
+		return false;
+	}
+
 	@Override
 	protected boolean isDeterministic() {
 		return false;
@@ -86,4 +86,9 @@ public class CalcSymbolPreOperatorRandomGeneratorInversX extends CalcSymbolPreOp
 	protected boolean isDeterministic() {
 		return false;
 	}
+
+	@Override
+	protected boolean isReentrant() {
+		return false;
+	}
 }
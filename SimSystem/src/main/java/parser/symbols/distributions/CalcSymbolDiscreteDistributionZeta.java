@@ -67,13 +67,15 @@ public class CalcSymbolDiscreteDistributionZeta extends CalcSymbolDiscreteDistri
 
 		if (k<=0) return 0;
 
+		final double zetaS;
 		synchronized(this) {
 			if (s!=lastS) {
 				lastS=s;
 				lastZetaS=CalcSymbolPreOperatorZeta.zeta(s);
 			}
+			zetaS=lastZetaS;
 		}
 
-		return Math.pow(k,-s)/lastZetaS;
+		return Math.pow(k,-s)/zetaS;
 	}
 }
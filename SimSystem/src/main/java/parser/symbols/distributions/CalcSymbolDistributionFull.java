@@ -26,7 +26,7 @@ import parser.coresymbols.CalcSymbolPreOperator;
  * Abstrakte Basisklasse, die Funktionen zum Zugriff auf Wahrscheinlichkeitsverteilungen
  * (Werte von Dichte und Verteilung sowie Zufallszahlen) anbietet
  * @author Alexander Herzog
- * @version 1.0
+ * @version 1.1
  */
 public abstract class CalcSymbolDistributionFull extends CalcSymbolPreOperator {
 	/**
@@ -66,18 +66,34 @@ public abstract class CalcSymbolDistributionFull extends CalcSymbolPreOperator {
 	protected abstract AbstractRealDistribution getDistribution(double[] parameters);
 
 	/**
-	 * Verteilungsobjekt, welches beim letzten Aufruf von {@link #fastGetDistribution(double[])}
-	 * geliefert wurde (um es ggf. spter wiederverwenden zu knnen)
-	 * @see #fastGetDistribution(double[])
+	 * Unvernderliches Paar aus Verteilungsparametern und zugehrigem Verteilungsobjekt
+	 * @see CalcSymbolDistributionFull#lastDistribution
 	 */
-	private AbstractRealDistribution lastDistribution;
+	private static final class DistributionCache {
+		/** Parameter der Verteilung */
+		public final double[] parameters;
+		/** Verteilungsobjekt */
+		public final AbstractRealDistribution distribution;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param parameters	Parameter der Verteilung
+		 * @param distribution	Verteilungsobjekt
+		 */
+		public DistributionCache(final double[] parameters, final AbstractRealDistribution distribution) {
+			this.parameters=parameters;
+			this.distribution=distribution;
+		}
+	}
 
 	/**
-	 * Parameter beim letzten Aufruf von {@link #fastGetDistribution(double[])}, um bestimmen
-	 * zu knnen, ob {@link #lastDistribution} wiederverwendet werden kann
+	 * Verteilungsobjekt und Parameter beim letzten Aufruf von {@link #fastGetDistribution(double[])}
+	 * (um das Verteilungsobjekt ggf. spter wiederverwenden zu knnen).<br>
+	 * Da beide Werte gemeinsam in einem unvernderlichen Objekt gespeichert werden,
+	 * kann {@link #calc(double[])} auch von mehreren Threads gleichzeitig aufgerufen werden.
 	 * @see #fastGetDistribution(double[])
 	 */
-	private double[] lastParameters;
+	private DistributionCache lastDistribution;
 
 	/**
 	 * Erstellt auf Basis der Parameter ein konkretes Verteilungsobjekt
@@ -85,15 +101,17 @@ public abstract class CalcSymbolDistributionFull extends CalcSymbolPreOperator {
 	 * @return	Verteilungsobjekt
 	 */
 	private AbstractRealDistribution fastGetDistribution(final double[] parameters) {
-		boolean needNewDistribution=(lastDistribution==null || lastParameters.length!=parameters.length);
-		if (!needNewDistribution) for (int i=0;i<lastParameters.length;i++) if (lastParameters[i]!=parameters[i]) {needNewDistribution=true; break;}
+		DistributionCache cache=lastDistribution;
+		boolean needNewDistribution=(cache==null || cache.distribution==null || cache.parameters.length!=parameters.length);
+		if (!needNewDistribution) for (int i=0;i<cache.parameters.length;i++) if (cache.parameters[i]!=parameters[i]) {needNewDistribution=true; break;}
 
 		if (needNewDistribution) {
-			lastParameters=Arrays.copyOf(parameters,parameters.length);
-			lastDistribution=getDistribution(lastParameters);
+			final double[] lastParameters=Arrays.copyOf(parameters,parameters.length);
+			cache=new DistributionCache(lastParameters,getDistribution(lastParameters));
+			lastDistribution=cache;
 		}
 
-		return lastDistribution;
+		return cache.distribution;
 	}
 
 	@Override
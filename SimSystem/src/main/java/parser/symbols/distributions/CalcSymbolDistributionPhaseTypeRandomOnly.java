@@ -189,4 +189,9 @@ public class CalcSymbolDistributionPhaseTypeRandomOnly extends CalcSymbolPreOper
 	protected boolean isDeterministic() {
 		return false;
 	}
+
+	@Override
+	protected boolean isReentrant() {
+		return false;
+	}
 }
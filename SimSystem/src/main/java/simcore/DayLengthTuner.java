@@ -0,0 +1,197 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore;
+
+/**
+ * Passt die Lnge der simulierten Tage eines Simulationsthreads whrend der Simulation an.<br>
+ * Jeder simulierte Tag verursacht neben der eigentlichen Simulation der Anknfte einen festen
+ * Aufwand (Vorbereitung des Tages, Einschwingphase, Abschluss des Tages und bertragen der
+ * Statistik). Dieser Aufwand wird auf den ersten Tagen gemessen und mit der Rechenzeit pro
+ * Ankunft verglichen. Ist der Anteil des festen Aufwands zu gro, so werden die verbleibenden
+ * Anknfte auf weniger, dafr lngere Tage verteilt. Die Gesamtanzahl an zu zhlenden Anknften
+ * bleibt dabei exakt erhalten (die ersten Tage erhalten ggf. eine Ankunft mehr als die brigen);
+ * die Anzahl an Tagen wird nie erhht.<br>
+ * Da die Entscheidung auf Laufzeitmessungen beruht, ist die sich ergebende Anzahl an Tagen nicht
+ * reproduzierbar. Die Anpassung sollte daher nur auf ausdrcklichen Wunsch des Nutzers erfolgen.<br>
+ * Jeder Simulationsthread verwendet ein eigenes Objekt dieser Klasse.
+ * @author Alexander Herzog
+ * @see SimData#simDays
+ */
+public final class DayLengthTuner {
+	/**
+	 * Maximaler Anteil des festen Aufwands pro Tag an der Rechenzeit fr die Anknfte, ab dem Tage zusammengefasst werden
+	 */
+	public static final double MAX_OVERHEAD_PART=0.01;
+
+	/**
+	 * Maximale Anzahl an zu zhlenden Anknften pro Tag (damit die Ankunftszhler nicht berlaufen)
+	 */
+	private static final long MAX_ARRIVALS_PER_DAY=1_000_000_000;
+
+	/**
+	 * Anzahl an Tagen zu Beginn, die nicht gemessen werden (Aufwrmphase der Java-Laufzeitumgebung)
+	 */
+	private static final int SKIP_DAYS=1;
+
+	/**
+	 * Anzahl an zu zhlenden Anknften pro Tag (ohne die Zusatzankunft der ersten {@link #extraArrivalDays} Tage)
+	 * @see #getArrivalsPerDay()
+	 */
+	private long arrivalsPerDay;
+
+	/**
+	 * Anzahl an noch zu simulierenden Tagen, die eine Ankunft mehr als {@link #arrivalsPerDay} erhalten
+	 * (einschlielich des gerade laufenden Tages)
+	 * @see #getArrivalsPerDay()
+	 */
+	private long extraArrivalDays;
+
+	/**
+	 * Anzahl an bereits abgeschlossenen Tagen
+	 */
+	private long daysDone;
+
+	/**
+	 * Anzahl an gemessenen Tagen
+	 */
+	private long measuredDays;
+
+	/**
+	 * Summe des festen Aufwands (in ns) ber die gemessenen Tage
+	 */
+	private long sumFixedNanos;
+
+	/**
+	 * Summe der Rechenzeit fr die Anknfte (in ns) ber die gemessenen Tage
+	 */
+	private long sumArrivalNanos;
+
+	/**
+	 * Summe der simulierten Anknfte (inkl. Einschwingphase) ber die gemessenen Tage
+	 */
+	private long sumArrivals;
+
+	/**
+	 * Zeitpunkt (in ns) des Beginns der Vorbereitung des aktuellen Tages
+	 */
+	private long dayStartNanos;
+
+	/**
+	 * Zeitpunkt (in ns) des Beginns der Simulation der Anknfte des aktuellen Tages
+	 */
+	private long arrivalsStartNanos;
+
+	/**
+	 * Zeitpunkt (in ns) des Endes der Simulation der Anknfte des aktuellen Tages
+	 */
+	private long arrivalsDoneNanos;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param arrivalsPerDay	Anfngliche Anzahl an zu zhlenden Anknften pro Tag
+	 */
+	public DayLengthTuner(final long arrivalsPerDay) {
+		this.arrivalsPerDay=arrivalsPerDay;
+	}
+
+	/**
+	 * Liefert die Anzahl an zu zhlenden Anknften fr den aktuellen Tag.
+	 * @return	Anzahl an zu zhlenden Anknften fr den aktuellen Tag
+	 */
+	public long getArrivalsPerDay() {
+		return arrivalsPerDay+((extraArrivalDays>0)?1:0);
+	}
+
+	/**
+	 * Muss zu Beginn der Vorbereitung eines Tages aufgerufen werden.
+	 */
+	public void dayStarted() {
+		dayStartNanos=System.nanoTime();
+	}
+
+	/**
+	 * Muss nach der Vorbereitung eines Tages (unmittelbar vor der Simulation der Anknfte) aufgerufen werden.
+	 */
+	public void arrivalsStarted() {
+		arrivalsStartNanos=System.nanoTime();
+	}
+
+	/**
+	 * Muss nach der Simulation der Anknfte eines Tages (vor dem Abschluss des Tages) aufgerufen werden.
+	 */
+	public void arrivalsDone() {
+		arrivalsDoneNanos=System.nanoTime();
+	}
+
+	/**
+	 * Muss nach dem Abschluss eines Tages aufgerufen werden.
+	 * Erfasst die ber {@link #dayStarted()}, {@link #arrivalsStarted()} und {@link #arrivalsDone()}
+	 * gemessenen Zeiten des Tages und verteilt die verbleibenden Anknfte ggf. auf weniger Tage.
+	 * @param days	Bisher geplante Gesamtanzahl an Tagen fr diesen Thread
+	 * @param arrivals	An diesem Tag insgesamt simulierte Anknfte (inkl. Einschwingphase)
+	 * @param warmUpArrivals	Lnge der Einschwingphase (in Anknften) pro Tag
+	 * @param canMerge	Drfen Tage zusammengefasst werden? (Wird <code>false</code> bergeben, so wird nur gemessen.)
+	 * @return	Neue Gesamtanzahl an Tagen fr diesen Thread
+	 */
+	public long dayDone(final long days, final long arrivals, final long warmUpArrivals, final boolean canMerge) {
+		final long dayDoneNanos=System.nanoTime();
+		final long fixedNanos=(arrivalsStartNanos-dayStartNanos)+(dayDoneNanos-arrivalsDoneNanos);
+		return dayDone(days,arrivals,warmUpArrivals,canMerge,fixedNanos,arrivalsDoneNanos-arrivalsStartNanos);
+	}
+
+	/**
+	 * Muss nach dem Abschluss eines Tages aufgerufen werden.
+	 * Erfasst die bergebenen Messwerte des Tages und verteilt die verbleibenden Anknfte ggf. auf weniger Tage.
+	 * @param days	Bisher geplante Gesamtanzahl an Tagen fr diesen Thread
+	 * @param arrivals	An diesem Tag insgesamt simulierte Anknfte (inkl. Einschwingphase)
+	 * @param warmUpArrivals	Lnge der Einschwingphase (in Anknften) pro Tag
+	 * @param canMerge	Drfen Tage zusammengefasst werden? (Wird <code>false</code> bergeben, so wird nur gemessen.)
+	 * @param fixedNanos	Fester Aufwand (in ns) des Tages auerhalb der Simulation der Anknfte
+	 * @param arrivalNanos	Rechenzeit (in ns) fr die Simulation der Anknfte des Tages
+	 * @return	Neue Gesamtanzahl an Tagen fr diesen Thread
+	 */
+	public long dayDone(final long days, final long arrivals, final long warmUpArrivals, final boolean canMerge, final long fixedNanos, final long arrivalNanos) {
+		daysDone++;
+		if (extraArrivalDays>0) extraArrivalDays--;
+
+		if (daysDone>SKIP_DAYS) {
+			measuredDays++;
+			sumFixedNanos+=fixedNanos;
+			sumArrivalNanos+=arrivalNanos;
+			sumArrivals+=arrivals;
+		}
+
+		final long remainingDays=days-daysDone;
+		if (!canMerge || measuredDays==0 || remainingDays<=1 || sumArrivals==0 || sumArrivalNanos<=0) return days;
+
+		/* Aufwand fr die verbleibenden Tage abschtzen */
+		final double nanosPerArrival=((double)sumArrivalNanos)/sumArrivals;
+		final double overheadNanos=((double)sumFixedNanos)/measuredDays+nanosPerArrival*warmUpArrivals;
+		final long remainingArrivals=remainingDays*arrivalsPerDay+extraArrivalDays;
+		final double maxOverheadNanos=MAX_OVERHEAD_PART*nanosPerArrival*remainingArrivals;
+		if (remainingDays*overheadNanos<=maxOverheadNanos) return days;
+
+		/* Verbleibende Anknfte auf weniger Tage verteilen */
+		long newDays=(long)Math.floor(maxOverheadNanos/overheadNanos);
+		newDays=Math.max(newDays,(remainingArrivals+MAX_ARRIVALS_PER_DAY-1)/MAX_ARRIVALS_PER_DAY);
+		newDays=Math.max(1,Math.min(newDays,remainingDays));
+		if (newDays==remainingDays) return days;
+
+		arrivalsPerDay=remainingArrivals/newDays;
+		extraArrivalDays=remainingArrivals%newDays;
+		return daysDone+newDays;
+	}
+}
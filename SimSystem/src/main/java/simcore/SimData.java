@@ -26,6 +26,7 @@ import mathtools.NumberTools;
 import simcore.eventcache.EventCache;
 import simcore.eventcache.NoEventCache;
 import simcore.eventmanager.EventManager;
+import simcore.logging.BinaryTraceLogger;
 import simcore.logging.PlainTextLogger;
 import simcore.logging.SimLogging;
 
@@ -37,7 +38,7 @@ import simcore.logging.SimLogging;
  * und auch die gesammelten Statistikdaten gespeichert werden.<br>
  * Jeder Thread verfgt ber ein eigenes Objekt dieser Klasse.
  * @author Alexander Herzog
- * @version 1.1
+ * @version 1.2
  */
 public class SimData {
 	/**
@@ -46,10 +47,14 @@ public class SimData {
 	public EventCache eventCache;
 
 	/**
-	 * Anzahl der Wiederholungen des Simulationslaufs
+	 * Anzahl der Wiederholungen des Simulationslaufs<br>
+	 * Der Wert wird vor jedem Tag neu ausgelesen und kann daher whrend der Simulation
+	 * (z.B. in {@link #terminateCleanUp(long)}) angepasst werden.<br>
+	 * (<code>volatile</code>, da der Wert zur Fortschrittsanzeige auch von anderen Threads gelesen wird)
 	 * @see #initDay(long, long, boolean)
+	 * @see DayLengthTuner
 	 */
-	public long simDays=1;
+	public volatile long simDays=1;
 
 	/**
 	 * Anzahl der Tage, die die Threads mit kleinerem Index verarbeiten
@@ -103,6 +108,16 @@ public class SimData {
 	 */
 	public SimLogging logging=null;
 
+	/**
+	 * Ist das aktive Logging-System ein {@link BinaryTraceLogger}, so steht hier eine Referenz darauf
+	 * (sonst <code>null</code>).<br>
+	 * In diesem Fall knnen Events ber <code>traceEventExecution</code> Eintrge ohne Erzeugung
+	 * von Texten aufzeichnen.
+	 * @see #traceEventExecution(int, int, double, double, double)
+	 * @see #registerTraceTypes(BinaryTraceLogger)
+	 */
+	public BinaryTraceLogger traceLogging=null;
+
 	/**
 	 * Anzahl an Zeitschritten pro Sekunde (wird fr die Umrechnung beim Logging verwendet)
 	 */
@@ -207,7 +222,8 @@ public class SimData {
 	 * @see #activateLogging(SimLogging)
 	 * @see SimLogging
 	 */
-	protected SimLogging getLogger(final File logFile) {
+	public SimLogging getLogger(final File logFile) {
+		if (logFile.toString().toLowerCase().endsWith(BinaryTraceLogger.FILE_EXTENSION)) return new BinaryTraceLogger(logFile);
 		return new PlainTextLogger(logFile,false,false,false,false,logFile.toString().toUpperCase().endsWith(".CSV"));
 	}
 
@@ -225,6 +241,7 @@ public class SimData {
 		logging=getLogger(logFile);
 		if (logging==null || !logging.ready()) logging=null;
 		loggingActive=(logging!=null);
+		initTraceLogging();
 		return loggingActive;
 	}
 
@@ -242,6 +259,7 @@ public class SimData {
 		logging=logger;
 		if (logging==null || !logging.ready()) logging=null;
 		loggingActive=(logging!=null);
+		initTraceLogging();
 		return loggingActive;
 	}
 
@@ -251,9 +269,29 @@ public class SimData {
 	public final void disableLogging() {
 		if (logging!=null) logging.done();
 		logging=null;
+		traceLogging=null;
 		loggingActive=false;
 	}
 
+	/**
+	 * Stellt {@link #traceLogging} passend zum aktiven Logging-System ein
+	 * und lsst ggf. die Ereignistypen registrieren.
+	 * @see #registerTraceTypes(BinaryTraceLogger)
+	 */
+	private void initTraceLogging() {
+		traceLogging=(logging instanceof BinaryTraceLogger)?((BinaryTraceLogger)logging):null;
+		if (traceLogging!=null) registerTraceTypes(traceLogging);
+	}
+
+	/**
+	 * Wird aufgerufen, wenn ein {@link BinaryTraceLogger} als Logging-System aktiviert wurde.<br>
+	 * Abgeleitete Klassen knnen hier die Ereignistypen registrieren, die sie spter ber
+	 * <code>traceEventExecution</code> aufzeichnen wollen.
+	 * @param logger	Aktivierter binrer Logger
+	 * @see BinaryTraceLogger#registerType(String, String, Color, simcore.logging.BinaryTraceLogger.ArgumentType...)
+	 */
+	protected void registerTraceTypes(final BinaryTraceLogger logger) {}
+
 	/**
 	 * Speichert Statusausgaben eines Ereignisses.
 	 * @param event	Gibt den Namen des Event, das die Logging-Aktion ausgelst hat, an.
@@ -279,6 +317,22 @@ public class SimData {
 		return logging.log(currentTime*1000/timeStepsPerSecond,color,event,id,info);
 	}
 
+	/**
+	 * Speichert einen Eintrag in einem binren Logger, ohne dabei Texte zu erzeugen.<br>
+	 * Ist kein {@link BinaryTraceLogger} aktiv, so erfolgt keine Aufzeichnung.
+	 * @param type	ber {@link BinaryTraceLogger#registerType(String, String, Color, simcore.logging.BinaryTraceLogger.ArgumentType...)} registrierte Typ-ID
+	 * @param id	ID der Station, an der das Ereignis stattfand (Werte kleiner als 0 fr "keine Station")
+	 * @param arg0	Erster Zahlenwert
+	 * @param arg1	Zweiter Zahlenwert
+	 * @param arg2	Dritter Zahlenwert
+	 * @return	Gibt an, ob das Ergeignis erfolgreich geloggt werden konnte.
+	 * @see #traceLogging
+	 */
+	public final boolean traceEventExecution(final int type, final int id, final double arg0, final double arg1, final double arg2) {
+		if (traceLogging==null) return true;
+		return traceLogging.trace(currentTime*1000/timeStepsPerSecond,type,id,arg0,arg1,arg2);
+	}
+
 	/**
 	 * Wird aufgerufen, wenn die Simulation bedingt durch einen Fehler abgebrochen wird.
 	 * @param text	Fehlermeldung und Position, an der der Fehler aufgetreten ist
@@ -15,6 +15,8 @@
  */
 package simcore;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.function.Supplier;
 
 import simcore.eventmanager.EventManager;
@@ -23,7 +25,7 @@ import simcore.eventmanager.EventManager;
  * Diese Klasse kapselt den eigentlichen Simulations-Thread.<br><br>
  * Diese Klasse wird von der <code>Simulator</code> Klasse verwendet.
  * @author Alexander Herzog
- * @version 1.3
+ * @version 1.4
  * @see SimulatorBase
  */
 public final class SimThread extends Thread {
@@ -38,9 +40,11 @@ public final class SimThread extends Thread {
 	/**
 	 * Diese Variable stellt eine Referenz des fr diesen Thread gltigen <code>SimData</code>
 	 * Objektes zur Verfgung. Nach dem Ende der Simulation knnen so z.B. aus den lokalen
-	 * <code>SimData</code> Objekten die Statistikdaten zusammengefasst werden.
+	 * <code>SimData</code> Objekten die Statistikdaten zusammengefasst werden.<br>
+	 * (<code>volatile</code>, da das Objekt ggf. erst durch den Thread selbst angelegt wird und
+	 * whrend der Simulation z.B. fr die Fortschrittsanzeige von anderen Threads gelesen wird)
 	 */
-	public SimData simData;
+	public volatile SimData simData;
 
 	/**
 	 * Whrend der Simulation werden in den beiden Variablen <code>eventCount</code> und
@@ -73,6 +77,20 @@ public final class SimThread extends Thread {
 	 */
 	public long simDoneTime;
 
+	/**
+	 * Anzahl an Bytes, die von diesem Thread whrend der Simulation auf dem Heap angelegt wurden
+	 * (oder -1, wenn die Java-Laufzeitumgebung diese Messung nicht untersttzt).
+	 * Der Wert steht erst nach dem Ende der Simulation (in diesem Thread) zur Verfgung.
+	 */
+	public long allocatedBytes=-1;
+
+	/**
+	 * Beim Start der Simulation durch diesen Thread bereits angelegte Bytes
+	 * (oder -1, wenn die Messung nicht untersttzt wird)
+	 * @see #allocatedBytes
+	 */
+	private long allocatedBytesAtStart=-1;
+
 	/**
 	 * Referenz auf den EventManager<br>
 	 * Wird von {@link #run()} aus {@link #simData} bernommen.
@@ -163,22 +181,22 @@ public final class SimThread extends Thread {
 	@Override
 	public void run() {
 		simStartTime=System.currentTimeMillis();
+		allocatedBytesAtStart=getCurrentThreadAllocatedBytes();
 
 		/* Ggf. Simulationsdaten erst im (NUMA-)Kontext des Threads allokieren. */
 		if (simData==null) simData=simDataGetter.get();
 
 		try {
 			eventManager=simData.eventManager;
-			final long days=simData.simDays;
 			final long daysByOtherThreads=simData.simDaysByOtherThreads;
-			for (long day=0;day<days;day++) {
+			for (long day=0;day<simData.simDays;day++) { /* simDays kann whrend der Simulation angepasst werden */
 				currentDay=day+1;
 				simData.initDay(day,daysByOtherThreads+day,getPriority()==MIN_PRIORITY);
 				eventManager.resetTime();
 				if (isInterrupted()) {
 					simData.terminateCleanUp(simData.currentTime);
 					simData.finalTerminateCleanUp(eventCount);
-					simDoneTime=System.currentTimeMillis();
+					markDone();
 					return;
 				}
 				while (eventManager.executeNextEvents(simData,pauseSimulation?1:200000,1000)) {
@@ -191,7 +209,7 @@ public final class SimThread extends Thread {
 					if (abortSimulation || isInterrupted()) {
 						simData.terminateCleanUp(simData.currentTime);
 						simData.finalTerminateCleanUp(eventCount);
-						simDoneTime=System.currentTimeMillis();
+						markDone();
 						return;
 					}
 					eventCount=eventManager.eventCount();
@@ -216,7 +234,33 @@ public final class SimThread extends Thread {
 			}
 		}
 
+		markDone();
+	}
+
+	/**
+	 * Liefert die Anzahl an Bytes, die der aktuelle Thread bislang auf dem Heap angelegt hat.
+	 * @return	Anzahl an angelegten Bytes oder -1, wenn die Java-Laufzeitumgebung diese Messung nicht untersttzt
+	 */
+	private static long getCurrentThreadAllocatedBytes() {
+		final ThreadMXBean bean=ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean)) return -1;
+		final com.sun.management.ThreadMXBean sunBean=(com.sun.management.ThreadMXBean)bean;
+		if (!sunBean.isThreadAllocatedMemorySupported() || !sunBean.isThreadAllocatedMemoryEnabled()) return -1;
+		return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Erfasst beim Ende der Simulation (in diesem Thread) den Endzeitpunkt
+	 * und die Anzahl der whrend der Simulation angelegten Bytes.
+	 * @see #simDoneTime
+	 * @see #allocatedBytes
+	 */
+	private void markDone() {
 		simDoneTime=System.currentTimeMillis();
+		if (allocatedBytesAtStart>=0) {
+			final long allocatedBytesNow=getCurrentThreadAllocatedBytes();
+			if (allocatedBytesNow>=0) allocatedBytes=allocatedBytesNow-allocatedBytesAtStart;
+		}
 	}
 
 	/**
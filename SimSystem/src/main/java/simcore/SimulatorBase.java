@@ -16,6 +16,7 @@
 package simcore;
 
 import java.lang.Thread.State;
+import java.util.Arrays;
 
 /**
  * Abstrakte Basisklasse fr die Simulation<br><br>
@@ -26,7 +27,7 @@ import java.lang.Thread.State;
  * In abgeleiteten Klassen muss lediglich die <code>getSimDataForThread</code>-Methode
  * berschrieben werden.
  * @author Alexander Herzog
- * @version 1.4
+ * @version 1.5
  */
 public abstract class SimulatorBase {
 	/**
@@ -61,6 +62,12 @@ public abstract class SimulatorBase {
 	 */
 	private final int[] threadRuntimes;
 
+	/**
+	 * Anzahl an whrend der Simulation angelegten Bytes pro Thread (-1, wenn nicht erfasst)
+	 * @see #getThreadAllocatedBytes()
+	 */
+	private final long[] threadAllocatedBytes;
+
 	/**
 	 * In diese Variable wird durch die Methode <code>start</code> die
 	 * Startzeit der Simulation (gezhlt in ms seit dem Systemstart) eingetragen.
@@ -105,6 +112,8 @@ public abstract class SimulatorBase {
 
 		threads=new SimThread[threadCount];
 		threadRuntimes=new int[threadCount];
+		threadAllocatedBytes=new long[threadCount];
+		Arrays.fill(threadAllocatedBytes,-1);
 
 		this.numaAware=numaAware;
 	}
@@ -205,6 +214,15 @@ public abstract class SimulatorBase {
 		return threadRuntimes;
 	}
 
+	/**
+	 * Liefert nach Abschluss der Simulation die Anzahl an Bytes, die die einzelnen Threads whrend der Simulation angelegt haben.
+	 * @return	Angelegte Bytes pro Thread (Eintrge sind -1, wenn die Java-Laufzeitumgebung diese Messung nicht untersttzt)
+	 * @see #finalizeRun()
+	 */
+	public long[] getThreadAllocatedBytes() {
+		return threadAllocatedBytes;
+	}
+
 	/**
 	 * Wartet bis alle Simulationsthreads beendet sind und berechnet dann die gesamte Laufzeit.
 	 * @return Liefert immer null zurck.
@@ -221,6 +239,7 @@ public abstract class SimulatorBase {
 				threads[i].join();
 				simDoneTime=Math.max(simDoneTime,threads[i].simDoneTime);
 				threadRuntimes[i]=(int)(threads[i].simDoneTime-threads[i].simStartTime);
+				threadAllocatedBytes[i]=threads[i].allocatedBytes;
 			} catch (InterruptedException e) {continue;}
 			i++;
 		}
@@ -0,0 +1,284 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore.logging;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import simcore.logging.BinaryTraceLogger.ArgumentType;
+import simcore.logging.BinaryTraceLogger.TraceType;
+
+/**
+ * Wandelt eine oder mehrere von {@link BinaryTraceLogger} erstellte Trace-Dateien in eines der
+ * Ausgabeformate der brigen Logger um, indem alle Eintrge nacheinander an einen
+ * beliebigen {@link SimLogging}-Logger bergeben werden.
+ * @author Alexander Herzog
+ * @see BinaryTraceLogger
+ */
+public final class BinaryTraceConverter {
+	/**
+	 * Fehlermeldung: Die Trace-Datei konnte nicht gelesen werden.
+	 */
+	public static String errorRead="Die Trace-Datei %s konnte nicht gelesen werden.";
+
+	/**
+	 * Fehlermeldung: Die Datei ist keine gltige Trace-Datei.
+	 */
+	public static String errorFormat="Die Datei %s ist keine gltige Trace-Datei.";
+
+	/**
+	 * Fehlermeldung: Die Ausgabedatei konnte nicht geschrieben werden.
+	 */
+	public static String errorWrite="Die Ausgabedatei %s konnte nicht geschrieben werden.";
+
+	/**
+	 * Anzahl an Eintrgen, die jeweils gemeinsam aus der Datei gelesen werden
+	 */
+	private static final int READ_BLOCK_RECORDS=4096;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Diese Klasse kann nicht instanziert werden. Sie stellt nur statische Hilfsroutinen zur Verfgung.
+	 */
+	private BinaryTraceConverter() {
+	}
+
+	/**
+	 * Liefert einen zu dem Dateinamen passenden Logger<br>
+	 * (".csv": CSV-Text, ".html"/".htm": HTML, ".rtf": RTF, ".trace": binr, sonst: Text).
+	 * @param outputFile	Ausgabedatei
+	 * @return	Logger, der in die Ausgabedatei schreibt
+	 */
+	public static SimLogging getLogger(final File outputFile) {
+		final String name=outputFile.getName().toUpperCase();
+		if (name.endsWith(BinaryTraceLogger.FILE_EXTENSION.toUpperCase())) return new BinaryTraceLogger(outputFile);
+		if (name.endsWith(".HTML") || name.endsWith(".HTM")) return new HTMLLogger(outputFile,false,false,true,true,false,false,null);
+		if (name.endsWith(".RTF")) return new RTFLogger(outputFile,false,false,true,true,false,false,null);
+		return new PlainTextLogger(outputFile,false,false,false,false,name.endsWith(".CSV"));
+	}
+
+	/**
+	 * Liest einen Puffer vollstndig ab einer Position aus der Datei.
+	 * @param channel	Dateikanal
+	 * @param buffer	Zu fllender Puffer
+	 * @param position	Position in der Datei
+	 * @return	Liefert <code>true</code>, wenn der Puffer vollstndig gefllt werden konnte
+	 * @throws IOException	Wird ausgelst, wenn die Datei nicht gelesen werden konnte
+	 */
+	private static boolean readFully(final FileChannel channel, final ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			final int count=channel.read(buffer,position);
+			if (count<0) return false;
+			position+=count;
+		}
+		buffer.flip();
+		return true;
+	}
+
+	/**
+	 * Liest einen Text (Lnge und UTF-8-Bytes) aus dem Verzeichnis.
+	 * @param buffer	Verzeichnis
+	 * @return	Gelesener Text
+	 */
+	private static String readString(final ByteBuffer buffer) {
+		final byte[] bytes=new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes,StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * bertrgt alle Eintrge einer Trace-Datei an einen Logger (ohne diesen abzuschlieen).<br>
+	 * Ist der Logger selbst ein {@link BinaryTraceLogger}, so werden die Eintrge ohne Erzeugung
+	 * von Texten bertragen; die Ereignistypen werden dazu bei dem Logger registriert.
+	 * @param traceFile	Von {@link BinaryTraceLogger} erstellte Trace-Datei
+	 * @param target	Logger, an den die Eintrge bergeben werden sollen
+	 * @param targetName	Name des Ausgabeziels fr Fehlermeldungen
+	 * @param targetTypes	Zuordnung der bereits bei einem binren Logger registrierten Ereignistypen zu ihren Typ-IDs (wird ggf. ergnzt)
+	 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+	 */
+	private static String replay(final File traceFile, final SimLogging target, final String targetName, final Map<List<Object>,Integer> targetTypes) {
+		final BinaryTraceLogger binaryTarget=(target instanceof BinaryTraceLogger)?((BinaryTraceLogger)target):null;
+
+		try (FileChannel channel=FileChannel.open(traceFile.toPath(),StandardOpenOption.READ)) {
+			/* Dateikopf */
+			final ByteBuffer header=ByteBuffer.allocate(BinaryTraceLogger.HEADER_SIZE).order(BinaryTraceLogger.BYTE_ORDER);
+			if (!readFully(channel,header,0)) return String.format(errorFormat,traceFile.toString());
+			if (header.getLong()!=BinaryTraceLogger.MAGIC || header.getInt()!=BinaryTraceLogger.VERSION || header.getInt()!=BinaryTraceLogger.RECORD_SIZE) return String.format(errorFormat,traceFile.toString());
+			final long recordCount=header.getLong();
+			final long dictionaryOffset=header.getLong();
+			final long fileSize=channel.size();
+			if (recordCount<0 || dictionaryOffset!=BinaryTraceLogger.HEADER_SIZE+recordCount*BinaryTraceLogger.RECORD_SIZE || dictionaryOffset>fileSize || fileSize-dictionaryOffset>Integer.MAX_VALUE) return String.format(errorFormat,traceFile.toString());
+
+			/* Verzeichnis */
+			final ByteBuffer dictionary=ByteBuffer.allocate((int)(fileSize-dictionaryOffset));
+			readFully(channel,dictionary,dictionaryOffset);
+			final List<TraceType> types=new ArrayList<>();
+			final List<String> strings=new ArrayList<>();
+			try {
+				final ArgumentType[] argumentTypes=ArgumentType.values();
+				final int typeCount=dictionary.getInt();
+				for (int i=0;i<typeCount;i++) {
+					final String event=readString(dictionary);
+					final String infoFormat=readString(dictionary);
+					final Color color=new Color(dictionary.getInt(),true);
+					final ArgumentType[] arguments=new ArgumentType[dictionary.getInt()];
+					for (int j=0;j<arguments.length;j++) arguments[j]=argumentTypes[dictionary.get()];
+					types.add(new TraceType(event,infoFormat,color,arguments));
+				}
+				final int stringCount=dictionary.getInt();
+				for (int i=0;i<stringCount;i++) strings.add(readString(dictionary));
+			} catch (RuntimeException e) {
+				return String.format(errorFormat,traceFile.toString());
+			}
+
+			/* Typ-IDs im binren Ziel-Logger */
+			final int[] typeMap=new int[types.size()];
+			if (binaryTarget!=null) for (int i=0;i<typeMap.length;i++) {
+				final TraceType type=types.get(i);
+				final ArgumentType[] arguments=type.getArguments();
+				final List<Object> key=Arrays.asList(type.event,type.infoFormat,type.color.getRGB(),Arrays.asList(arguments));
+				typeMap[i]=targetTypes.computeIfAbsent(key,k->binaryTarget.registerType(type.event,type.infoFormat,type.color,arguments));
+			}
+
+			/* Eintrge */
+			final ByteBuffer records=ByteBuffer.allocate(READ_BLOCK_RECORDS*BinaryTraceLogger.RECORD_SIZE).order(BinaryTraceLogger.BYTE_ORDER);
+			long position=BinaryTraceLogger.HEADER_SIZE;
+			long remaining=recordCount;
+			while (remaining>0) {
+				final int count=(int)Math.min(remaining,READ_BLOCK_RECORDS);
+				records.clear().limit(count*BinaryTraceLogger.RECORD_SIZE);
+				if (!readFully(channel,records,position)) return String.format(errorFormat,traceFile.toString());
+				for (int i=0;i<count;i++) {
+					final long time=records.getLong();
+					final int type=records.getInt();
+					final int id=records.getInt();
+					final double arg0=records.getDouble();
+					final double arg1=records.getDouble();
+					final double arg2=records.getDouble();
+					try {
+						final boolean ok;
+						if (type==BinaryTraceLogger.TEXT_TYPE) {
+							ok=target.log(time,new Color((int)arg2,true),strings.get((int)arg0),id,strings.get((int)arg1));
+						} else if (binaryTarget!=null) {
+							ok=binaryTarget.trace(time,typeMap[type],id,arg0,arg1,arg2);
+						} else {
+							final TraceType traceType=types.get(type);
+							ok=target.log(time,traceType.color,traceType.event,id,traceType.formatInfo(arg0,arg1,arg2));
+						}
+						if (!ok) return String.format(errorWrite,targetName);
+					} catch (IndexOutOfBoundsException e) {
+						return String.format(errorFormat,traceFile.toString());
+					}
+				}
+				position+=count*BinaryTraceLogger.RECORD_SIZE;
+				remaining-=count;
+			}
+		} catch (IOException e) {
+			return String.format(errorRead,traceFile.toString());
+		}
+		return null;
+	}
+
+	/**
+	 * Wandelt mehrere Trace-Dateien um, indem alle Eintrge der Dateien nacheinander an einen Logger bergeben werden.<br>
+	 * Der Logger wird am Ende ber {@link SimLogging#done()} abgeschlossen.
+	 * @param traceFiles	Von {@link BinaryTraceLogger} erstellte Trace-Dateien (in der Reihenfolge, in der sie ausgegeben werden sollen)
+	 * @param target	Logger, an den die Eintrge bergeben werden sollen
+	 * @param targetName	Name des Ausgabeziels fr Fehlermeldungen
+	 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+	 */
+	private static String convert(final List<File> traceFiles, final SimLogging target, final String targetName) {
+		final Map<List<Object>,Integer> targetTypes=new HashMap<>();
+		try {
+			for (File traceFile: traceFiles) {
+				final String error=replay(traceFile,target,targetName,targetTypes);
+				if (error!=null) return error;
+			}
+		} finally {
+			target.done();
+		}
+		return null;
+	}
+
+	/**
+	 * Wandelt eine Trace-Datei um, indem alle Eintrge an einen Logger bergeben werden.<br>
+	 * Der Logger wird am Ende ber {@link SimLogging#done()} abgeschlossen.
+	 * @param traceFile	Von {@link BinaryTraceLogger} erstellte Trace-Datei
+	 * @param target	Logger, an den die Eintrge bergeben werden sollen
+	 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+	 */
+	public static String convert(final File traceFile, final SimLogging target) {
+		return convert(Arrays.asList(traceFile),target);
+	}
+
+	/**
+	 * Wandelt mehrere Trace-Dateien (z.B. die Teil-Aufzeichnungen der einzelnen Simulationsthreads) um,
+	 * indem alle Eintrge der Dateien nacheinander an einen Logger bergeben werden.<br>
+	 * Der Logger wird am Ende ber {@link SimLogging#done()} abgeschlossen.
+	 * @param traceFiles	Von {@link BinaryTraceLogger} erstellte Trace-Dateien (in der Reihenfolge, in der sie ausgegeben werden sollen)
+	 * @param target	Logger, an den die Eintrge bergeben werden sollen
+	 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+	 */
+	public static String convert(final List<File> traceFiles, final SimLogging target) {
+		return convert(traceFiles,target,target.getClass().getSimpleName());
+	}
+
+	/**
+	 * Wandelt eine Trace-Datei in eine Text-, CSV-, HTML-, RTF- oder Trace-Datei um.
+	 * @param traceFile	Von {@link BinaryTraceLogger} erstellte Trace-Datei
+	 * @param outputFile	Ausgabedatei (das Format wird ber {@link #getLogger(File)} aus der Dateinamenserweiterung bestimmt)
+	 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+	 */
+	public static String convert(final File traceFile, final File outputFile) {
+		return convert(Arrays.asList(traceFile),outputFile);
+	}
+
+	/**
+	 * Wandelt mehrere Trace-Dateien (z.B. die Teil-Aufzeichnungen der einzelnen Simulationsthreads)
+	 * in eine gemeinsame Text-, CSV-, HTML-, RTF- oder Trace-Datei um.
+	 * @param traceFiles	Von {@link BinaryTraceLogger} erstellte Trace-Dateien (in der Reihenfolge, in der sie ausgegeben werden sollen)
+	 * @param outputFile	Ausgabedatei (das Format wird ber {@link #getLogger(File)} aus der Dateinamenserweiterung bestimmt)
+	 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+	 */
+	public static String convert(final List<File> traceFiles, final File outputFile) {
+		return convert(traceFiles,getLogger(outputFile),outputFile);
+	}
+
+	/**
+	 * Wandelt mehrere Trace-Dateien in eine gemeinsame Ausgabedatei um.
+	 * @param traceFiles	Von {@link BinaryTraceLogger} erstellte Trace-Dateien (in der Reihenfolge, in der sie ausgegeben werden sollen)
+	 * @param target	Bereits fr die Ausgabedatei erstellter Logger
+	 * @param outputFile	Ausgabedatei (fr Fehlermeldungen)
+	 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+	 */
+	public static String convert(final List<File> traceFiles, final SimLogging target, final File outputFile) {
+		if (!target.ready()) {
+			target.done();
+			return String.format(errorWrite,outputFile.toString());
+		}
+		return convert(traceFiles,target,outputFile.toString());
+	}
+}
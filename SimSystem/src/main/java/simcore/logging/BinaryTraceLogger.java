@@ -0,0 +1,539 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore.logging;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import mathtools.NumberTools;
+import simcore.SimData;
+
+/**
+ * Zeichnet Logging-Daten in einem kompakten Binrformat auf.<br>
+ * Anstatt fr jedes Ereignis Texte zu erzeugen, werden pro Eintrag nur Zeitpunkt, Typ-ID, Stations-ID
+ * und bis zu {@link #ARGUMENT_COUNT} Zahlenwerte ber {@link #trace(long, int, int, double, double, double)}
+ * in einen vorab angelegten Ringpuffer geschrieben. Ein Hintergrund-Thread bertrgt die Eintrge
+ * in eine per Memory-Mapping eingebundene Datei. Die Texte der Ereignistypen werden nur einmal
+ * ber {@link #registerType(String, String, Color, ArgumentType...)} hinterlegt und am Ende in der Datei gespeichert.<br>
+ * ber {@link BinaryTraceConverter} kann eine solche Datei nachtrglich in die Ausgabeformate
+ * der anderen Logger (Text, CSV, HTML, RTF) umgewandelt werden.<br>
+ * Die Methoden {@link #trace(long, int, int, double, double, double)} und {@link #log(long, Color, String, int, String)}
+ * drfen nur von einem Thread (dem Simulationsthread) aufgerufen werden.
+ * @author Alexander Herzog
+ * @see BinaryTraceConverter
+ * @see SimData#traceEventExecution(int, int, double, double, double)
+ */
+public class BinaryTraceLogger implements SimLogging {
+	/**
+	 * Dateinamenserweiterung fr binre Trace-Dateien
+	 */
+	public static final String FILE_EXTENSION=".trace";
+
+	/**
+	 * Maximale Anzahl an Zahlenwerten pro Eintrag
+	 */
+	public static final int ARGUMENT_COUNT=3;
+
+	/**
+	 * Typ-ID fr Eintrge, die ber {@link #log(long, Color, String, int, String)} als Texte bergeben wurden
+	 */
+	public static final int TEXT_TYPE=-1;
+
+	/**
+	 * Kennung am Anfang jeder Trace-Datei ("SIMTRACE")
+	 */
+	static final long MAGIC=0x53494D5452414345L;
+
+	/**
+	 * Version des Dateiformats
+	 */
+	static final int VERSION=1;
+
+	/**
+	 * Gre des Dateikopfes in Bytes (Kennung, Version, Eintragsgre, Anzahl an Eintrgen, Position des Verzeichnisses)
+	 */
+	static final int HEADER_SIZE=32;
+
+	/**
+	 * Gre eines Eintrags in Bytes (Zeitpunkt, Typ-ID, Stations-ID, Zahlenwerte)
+	 */
+	static final int RECORD_SIZE=8+4+4+8*ARGUMENT_COUNT;
+
+	/**
+	 * Byte-Reihenfolge in Ringpuffer und Datei
+	 */
+	static final ByteOrder BYTE_ORDER=ByteOrder.LITTLE_ENDIAN;
+
+	/**
+	 * Standardgre des Ringpuffers (Anzahl an Eintrgen; muss eine Zweierpotenz sein)
+	 */
+	public static final int DEFAULT_RING_CAPACITY=1<<16;
+
+	/**
+	 * Anzahl an Eintrgen, die jeweils gemeinsam in den Speicher eingeblendet werden
+	 */
+	private static final int MAP_CHUNK_RECORDS=1<<20;
+
+	/**
+	 * Wartezeit des Hintergrund-Threads, wenn keine neuen Eintrge vorliegen (in ns)
+	 */
+	private static final long WRITER_PARK_NANOS=200_000;
+
+	/**
+	 * Art eines Zahlenwertes bei der spteren Umwandlung in Text
+	 * @see BinaryTraceLogger#registerType(String, String, Color, ArgumentType...)
+	 */
+	public enum ArgumentType {
+		/** Fliekommazahl (Ausgabe ber {@link NumberTools#formatNumber(double)}) */
+		NUMBER,
+		/** Ganzzahl (Ausgabe als <code>Long</code>, passend zu <code>%d</code>) */
+		INTEGER,
+		/** Zeitangabe in Millisekunden (Ausgabe ber {@link SimData#formatSimTime(long)}) */
+		TIME
+	}
+
+	/**
+	 * Beschreibung eines registrierten Ereignistyps
+	 * @see BinaryTraceLogger#registerType(String, String, Color, ArgumentType...)
+	 */
+	public static final class TraceType {
+		/** Name des Ereignisses */
+		public final String event;
+		/** Format-Zeichenkette fr die Beschreibung (Platzhalter fr die Zahlenwerte wie bei <code>String.format</code>) */
+		public final String infoFormat;
+		/** Farbe, in der die Log-Zeile eingefrbt werden soll */
+		public final Color color;
+		/** Arten der Zahlenwerte */
+		private final ArgumentType[] arguments;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param event	Name des Ereignisses
+		 * @param infoFormat	Format-Zeichenkette fr die Beschreibung (Platzhalter fr die Zahlenwerte wie bei <code>String.format</code>)
+		 * @param color	Farbe, in der die Log-Zeile eingefrbt werden soll
+		 * @param arguments	Arten der Zahlenwerte
+		 */
+		TraceType(final String event, final String infoFormat, final Color color, final ArgumentType[] arguments) {
+			this.event=(event==null)?"":event;
+			this.infoFormat=(infoFormat==null)?"":infoFormat;
+			this.color=(color==null)?Color.BLACK:color;
+			this.arguments=arguments;
+		}
+
+		/**
+		 * Liefert die Arten der Zahlenwerte.
+		 * @return	Arten der Zahlenwerte
+		 */
+		public ArgumentType[] getArguments() {
+			return Arrays.copyOf(arguments,arguments.length);
+		}
+
+		/**
+		 * Erstellt die Beschreibung zu einem Eintrag.
+		 * @param arg0	Erster Zahlenwert
+		 * @param arg1	Zweiter Zahlenwert
+		 * @param arg2	Dritter Zahlenwert
+		 * @return	Beschreibung zu dem Eintrag
+		 */
+		public String formatInfo(final double arg0, final double arg1, final double arg2) {
+			if (arguments.length==0) return infoFormat;
+			final Object[] values=new Object[arguments.length];
+			for (int i=0;i<values.length;i++) {
+				final double value=(i==0)?arg0:((i==1)?arg1:arg2);
+				switch (arguments[i]) {
+				case NUMBER: values[i]=NumberTools.formatNumber(value); break;
+				case INTEGER: values[i]=Long.valueOf((long)value); break;
+				case TIME: values[i]=SimData.formatSimTime((long)value); break;
+				}
+			}
+			return String.format(infoFormat,values);
+		}
+	}
+
+	/** Kanal zur Ausgabedatei (<code>null</code>, wenn die Datei nicht geffnet werden konnte oder bereits geschlossen wurde) */
+	private FileChannel channel;
+	/** Aktuell eingeblendeter Bereich der Ausgabedatei (wird nur vom Hintergrund-Thread verwendet) */
+	private MappedByteBuffer mapped;
+	/** Position des aktuell eingeblendeten Bereichs in der Datei */
+	private long mappedStart;
+
+	/** Ringpuffer fr die Eintrge */
+	private final ByteBuffer ring;
+	/** Anzahl an Eintrgen im Ringpuffer */
+	private final int ringCapacity;
+	/** Bitmaske zur Umrechnung einer fortlaufenden Eintragsnummer in eine Position im Ringpuffer */
+	private final int ringMask;
+	/** Anzahl an Eintrgen, nach denen der Hintergrund-Thread jeweils geweckt wird (minus 1, als Bitmaske) */
+	private final int wakeUpMask;
+
+	/** Fortlaufende Nummer des nchsten zu schreibenden Eintrags (nur vom Simulationsthread verwendet) */
+	private long nextIndex;
+	/** Zuletzt gelesener Wert von {@link #flushed} (nur vom Simulationsthread verwendet) */
+	private long flushedCache;
+	/** Anzahl an vollstndig in den Ringpuffer geschriebenen Eintrgen */
+	private final AtomicLong written;
+	/** Anzahl an vom Hintergrund-Thread in die Datei bertragenen Eintrgen */
+	private final AtomicLong flushed;
+
+	/** Hintergrund-Thread, der die Eintrge in die Datei bertrgt */
+	private Thread writerThread;
+	/** Soll der Hintergrund-Thread nach dem bertragen der restlichen Eintrge enden? */
+	private volatile boolean stopRequested;
+	/** Ist beim Schreiben in die Datei ein Fehler aufgetreten? */
+	private volatile boolean ioError;
+
+	/** Registrierte Ereignistypen */
+	private final List<TraceType> types;
+	/** Zuordnung von Texten (aus {@link #log(long, Color, String, int, String)}) zu ihren Indices in {@link #strings} */
+	private final Map<String,Integer> stringIndices;
+	/** Texte aus {@link #log(long, Color, String, int, String)} */
+	private final List<String> strings;
+
+	/**
+	 * Optionaler nachgeschalteter weiterer Logger
+	 */
+	protected SimLogging nextLogger;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param traceFile	Ausgabedatei (wird ggf. berschrieben)
+	 * @param ringCapacity	Gre des Ringpuffers (Anzahl an Eintrgen; wird auf eine Zweierpotenz aufgerundet)
+	 */
+	public BinaryTraceLogger(final File traceFile, final int ringCapacity) {
+		this.ringCapacity=Integer.highestOneBit(Math.max(16,ringCapacity-1))<<1;
+		ringMask=this.ringCapacity-1;
+		wakeUpMask=this.ringCapacity/4-1;
+		ring=ByteBuffer.allocate(this.ringCapacity*RECORD_SIZE).order(BYTE_ORDER);
+		written=new AtomicLong();
+		flushed=new AtomicLong();
+		types=new ArrayList<>();
+		stringIndices=new HashMap<>();
+		strings=new ArrayList<>();
+
+		if (traceFile==null) return;
+		try {
+			channel=FileChannel.open(traceFile.toPath(),StandardOpenOption.CREATE,StandardOpenOption.READ,StandardOpenOption.WRITE,StandardOpenOption.TRUNCATE_EXISTING);
+			mapChunk(HEADER_SIZE);
+		} catch (IOException e) {
+			closeChannel();
+			return;
+		}
+
+		writerThread=new Thread(this::writerLoop,"BinaryTraceLogger");
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param traceFile	Ausgabedatei (wird ggf. berschrieben)
+	 */
+	public BinaryTraceLogger(final File traceFile) {
+		this(traceFile,DEFAULT_RING_CAPACITY);
+	}
+
+	/**
+	 * Blendet den nchsten Abschnitt der Ausgabedatei in den Speicher ein.
+	 * @param start	Position des Abschnitts in der Datei
+	 * @throws IOException	Wird ausgelst, wenn der Abschnitt nicht eingeblendet werden konnte
+	 */
+	private void mapChunk(final long start) throws IOException {
+		mapped=channel.map(FileChannel.MapMode.READ_WRITE,start,((long)MAP_CHUNK_RECORDS)*RECORD_SIZE);
+		mapped.order(BYTE_ORDER);
+		mappedStart=start;
+	}
+
+	/**
+	 * Schliet den Dateikanal, ohne Fehler zu melden.
+	 */
+	private void closeChannel() {
+		mapped=null;
+		if (channel==null) return;
+		try {
+			channel.close();
+		} catch (IOException e) {/* Datei ist ohnehin unbrauchbar */}
+		channel=null;
+	}
+
+	/**
+	 * Hauptschleife des Hintergrund-Threads:
+	 * bertrgt alle neuen Eintrge aus dem Ringpuffer in die Datei.
+	 */
+	private void writerLoop() {
+		final ByteBuffer source=ring.duplicate();
+		long done=flushed.get();
+		while (true) {
+			final long available=written.get();
+			if (done<available) {
+				try {
+					while (done<available) {
+						if (!mapped.hasRemaining()) mapChunk(mappedStart+mapped.capacity());
+						final int ringIndex=(int)(done&ringMask);
+						final long count=Math.min(Math.min(available-done,ringCapacity-ringIndex),mapped.remaining()/RECORD_SIZE);
+						source.limit((ringIndex+(int)count)*RECORD_SIZE).position(ringIndex*RECORD_SIZE);
+						mapped.put(source);
+						source.clear();
+						done+=count;
+						flushed.lazySet(done);
+					}
+				} catch (IOException e) {
+					ioError=true;
+					return;
+				}
+				continue;
+			}
+			if (stopRequested) {
+				if (written.get()==done) return;
+				continue;
+			}
+			LockSupport.parkNanos(this,WRITER_PARK_NANOS);
+		}
+	}
+
+	/**
+	 * Registriert einen Ereignistyp.<br>
+	 * Die Texte werden nur einmal gespeichert; bei der Umwandlung durch {@link BinaryTraceConverter}
+	 * wird die Beschreibung ber <code>String.format(infoFormat,...)</code> aus den Zahlenwerten des Eintrags erstellt.
+	 * @param event	Name des Ereignisses
+	 * @param infoFormat	Format-Zeichenkette fr die Beschreibung (Platzhalter fr die Zahlenwerte wie bei <code>String.format</code>)
+	 * @param color	Farbe, in der die Log-Zeile eingefrbt werden soll (kann <code>null</code> sein)
+	 * @param arguments	Arten der Zahlenwerte (maximal {@link #ARGUMENT_COUNT})
+	 * @return	Typ-ID fr {@link #trace(long, int, int, double, double, double)}
+	 */
+	public int registerType(final String event, final String infoFormat, final Color color, final ArgumentType... arguments) {
+		if (arguments.length>ARGUMENT_COUNT) throw new IllegalArgumentException("arguments.length>"+ARGUMENT_COUNT);
+		types.add(new TraceType(event,infoFormat,color,Arrays.copyOf(arguments,arguments.length)));
+		return types.size()-1;
+	}
+
+	/**
+	 * Speichert einen Eintrag ohne Erzeugung von Texten oder weiteren Objekten.
+	 * @param time	Zeitpunkt des Ereignisses (in ms)
+	 * @param type	ber {@link #registerType(String, String, Color, ArgumentType...)} registrierte Typ-ID
+	 * @param id	ID der Station, an der das Ereignis stattfand (Werte kleiner als 0 fr "keine Station")
+	 * @param arg0	Erster Zahlenwert
+	 * @param arg1	Zweiter Zahlenwert
+	 * @param arg2	Dritter Zahlenwert
+	 * @return	Gibt an, ob der Eintrag erfolgreich gespeichert werden konnte.
+	 */
+	public boolean trace(final long time, final int type, final int id, final double arg0, final double arg1, final double arg2) {
+		if (channel==null || ioError || stopRequested) return false;
+
+		final long index=nextIndex;
+		if (index-flushedCache>=ringCapacity) {
+			flushedCache=flushed.get();
+			while (index-flushedCache>=ringCapacity) {
+				if (ioError) return false;
+				LockSupport.unpark(writerThread);
+				Thread.yield();
+				flushedCache=flushed.get();
+			}
+		}
+
+		final int offset=((int)(index&ringMask))*RECORD_SIZE;
+		final ByteBuffer ring=this.ring;
+		ring.putLong(offset,time);
+		ring.putInt(offset+8,type);
+		ring.putInt(offset+12,id);
+		ring.putDouble(offset+16,arg0);
+		ring.putDouble(offset+24,arg1);
+		ring.putDouble(offset+32,arg2);
+		nextIndex=index+1;
+		written.lazySet(index+1);
+		if ((index&wakeUpMask)==wakeUpMask) LockSupport.unpark(writerThread);
+
+		if (nextLogger!=null) {
+			if (type==TEXT_TYPE) {
+				nextLogger.log(time,new Color((int)arg2),strings.get((int)arg0),id,strings.get((int)arg1));
+			} else {
+				final TraceType traceType=types.get(type);
+				nextLogger.log(time,traceType.color,traceType.event,id,traceType.formatInfo(arg0,arg1,arg2));
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Liefert den Index eines Textes in der Textliste (und nimmt ihn ggf. neu auf).
+	 * @param text	Text
+	 * @return	Index des Textes
+	 */
+	private int getStringIndex(final String text) {
+		final String key=(text==null)?"":text;
+		final Integer I=stringIndices.get(key);
+		if (I!=null) return I;
+		final int index=strings.size();
+		strings.add(key);
+		stringIndices.put(key,index);
+		return index;
+	}
+
+	/**
+	 * Speichert einen als Texte bergebenen Eintrag.<br>
+	 * Die Texte werden in einer Textliste abgelegt, so dass wiederkehrende Texte nur einmal gespeichert werden.
+	 * Fr eine allokationsfreie Aufzeichnung sollte stattdessen {@link #trace(long, int, int, double, double, double)} verwendet werden.
+	 */
+	@Override
+	public boolean log(final long time, final Color color, final String event, final int id, final String info) {
+		final SimLogging next=nextLogger;
+		nextLogger=null;
+		try {
+			return trace(time,TEXT_TYPE,id,getStringIndex(event),getStringIndex(info),((color==null)?Color.BLACK:color).getRGB());
+		} finally {
+			nextLogger=next;
+			if (next!=null) next.log(time,color,event,id,info);
+		}
+	}
+
+	@Override
+	public boolean ready() {
+		return channel!=null;
+	}
+
+	/**
+	 * Schreibt einen Text (Lnge und UTF-8-Bytes) in das Verzeichnis am Ende der Datei.
+	 * @param output	Ausgabe
+	 * @param text	Zu schreibender Text
+	 * @throws IOException	Wird ausgelst, wenn der Text nicht geschrieben werden konnte
+	 */
+	private static void writeString(final DataOutputStream output, final String text) throws IOException {
+		final byte[] bytes=text.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * Erstellt das Verzeichnis mit Ereignistypen und Texten.
+	 * @return	Verzeichnis als Byte-Array
+	 * @throws IOException	Wird ausgelst, wenn das Verzeichnis nicht erstellt werden konnte
+	 */
+	private byte[] getDictionary() throws IOException {
+		final ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+		try (DataOutputStream output=new DataOutputStream(bytes)) {
+			output.writeInt(types.size());
+			for (TraceType type: types) {
+				writeString(output,type.event);
+				writeString(output,type.infoFormat);
+				output.writeInt(type.color.getRGB());
+				output.writeInt(type.arguments.length);
+				for (ArgumentType argument: type.arguments) output.writeByte(argument.ordinal());
+			}
+			output.writeInt(strings.size());
+			for (String text: strings) writeString(output,text);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Schreibt einen Puffer vollstndig an eine Position in der Datei.
+	 * @param buffer	Zu schreibende Daten
+	 * @param position	Position in der Datei
+	 * @throws IOException	Wird ausgelst, wenn die Daten nicht geschrieben werden konnten
+	 */
+	private void writeFully(final ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) position+=channel.write(buffer,position);
+	}
+
+	@Override
+	public boolean done() {
+		if (nextLogger!=null) nextLogger.done();
+
+		if (channel==null) return false;
+
+		stopRequested=true;
+		LockSupport.unpark(writerThread);
+		/* Nicht durch Unterbrechungen abbrechen lassen: Header und Wrterbuch drfen erst geschrieben werden, wenn der Schreib-Thread sicher beendet ist. */
+		boolean interrupted=Thread.interrupted();
+		while (writerThread.isAlive()) {
+			try {
+				writerThread.join();
+			} catch (InterruptedException e) {
+				interrupted=true;
+			}
+		}
+		try {
+			return writeDictionaryAndHeader();
+		} finally {
+			/* Unterbrechungsstatus erst nach dem Schreiben wiederherstellen (sonst wrde der FileChannel geschlossen) */
+			if (interrupted) Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Schreibt nach dem Ende des Schreib-Threads Wrterbuch und Header und schliet die Datei.
+	 * @return	Liefert <code>true</code>, wenn die Datei erfolgreich abgeschlossen werden konnte
+	 * @see #done()
+	 */
+	private boolean writeDictionaryAndHeader() {
+		if (ioError) {closeChannel(); return false;}
+
+		try {
+			mapped.force();
+			final long recordCount=flushed.get();
+			final long dictionaryOffset=HEADER_SIZE+recordCount*RECORD_SIZE;
+			final byte[] dictionary=getDictionary();
+			writeFully(ByteBuffer.wrap(dictionary),dictionaryOffset);
+
+			final ByteBuffer header=ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+			header.putLong(MAGIC);
+			header.putInt(VERSION);
+			header.putInt(RECORD_SIZE);
+			header.putLong(recordCount);
+			header.putLong(dictionaryOffset);
+			header.flip();
+			writeFully(header,0);
+
+			mapped=null;
+			try {
+				/* Nicht bentigten, bereits eingeblendeten Bereich am Ende abschneiden (klappt auf manchen Systemen nicht, solange der Bereich noch eingeblendet ist; ist aber auch nicht notwendig) */
+				channel.truncate(dictionaryOffset+dictionary.length);
+			} catch (IOException e) {/* siehe oben */}
+			channel.close();
+			channel=null;
+		} catch (IOException e) {
+			closeChannel();
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public void setNextLogger(final SimLogging logger) {
+		nextLogger=logger;
+	}
+
+	@Override
+	public SimLogging getNextLogger() {
+		return nextLogger;
+	}
+}
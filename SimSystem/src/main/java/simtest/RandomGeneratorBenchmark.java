@@ -0,0 +1,154 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simtest;
+
+import java.util.Locale;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.apache.commons.math3.distribution.GammaDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+
+import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.LogNormalDistributionImpl;
+import mathtools.distribution.tools.DistributionRandomNumber;
+import mathtools.distribution.tools.DistributionSampler;
+import mathtools.distribution.tools.RandomGeneratorMode;
+import mathtools.distribution.tools.RandomGeneratorQuality;
+
+/**
+ * Vergleicht die ber {@link RandomGeneratorMode} verfgbaren Zufallszahlengeneratoren
+ * in Bezug auf Geschwindigkeit und statistische Qualitt und misst die Geschwindigkeit
+ * der {@link DistributionSampler} fr einige typische Verteilungen.<br>
+ * Die Ergebnisse werden als Tabelle auf der Konsole ausgegeben. Aufruf:<br>
+ * <code>java simtest.RandomGeneratorBenchmark [Anzahl] [Seed]</code><br>
+ * "Anzahl" gibt die Anzahl an Zufallszahlen pro Messung und Test an (Vorgabe: 10.000.000),
+ * "Seed" den Startwert fr die Qualittstests (Vorgabe: 1).
+ * @author Alexander Herzog
+ * @see RandomGeneratorQuality
+ */
+public final class RandomGeneratorBenchmark {
+	/**
+	 * Vorgabewert fr die Anzahl an Zufallszahlen pro Messung
+	 */
+	private static final int DEFAULT_COUNT=10_000_000;
+
+	/**
+	 * Anzahl an Aufwrmrunden vor der eigentlichen Zeitmessung
+	 */
+	private static final int WARM_UP_ROUNDS=3;
+
+	/**
+	 * Anzahl an Klassen fr den Chi-Test
+	 */
+	private static final int HISTOGRAM_BINS=1000;
+
+	/**
+	 * Anzahl an Durchgngen fr den Birthday-Spacings-Test
+	 */
+	private static final int BIRTHDAY_ROUNDS=2000;
+
+	/**
+	 * Diese Klasse stellt nur statische Methoden zur Verfgung und kann nicht instanziert werden.
+	 */
+	private RandomGeneratorBenchmark() {
+	}
+
+	/**
+	 * Misst die Zeit pro Zufallszahl fr einen Generator (nach einigen Aufwrmrunden).
+	 * @param generator	Zu prfender Zufallszahlengenerator
+	 * @param count	Anzahl an Zufallszahlen pro Messung
+	 * @return	Mittlere Zeit pro Zufallszahl in Nanosekunden
+	 */
+	private static double measure(final RandomGenerator generator, final int count) {
+		for (int i=0;i<WARM_UP_ROUNDS;i++) RandomGeneratorQuality.nanosPerDraw(generator,count/10);
+		return RandomGeneratorQuality.nanosPerDraw(generator,count);
+	}
+
+	/**
+	 * Misst die Zeit pro Zufallszahl fr einen Sampler (nach einigen Aufwrmrunden).
+	 * @param sampler	Zu prfender Sampler
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @param count	Anzahl an Zufallszahlen pro Messung
+	 * @return	Mittlere Zeit pro Zufallszahl in Nanosekunden
+	 */
+	private static double measure(final DistributionSampler sampler, final RandomGenerator generator, final int count) {
+		for (int i=0;i<WARM_UP_ROUNDS;i++) RandomGeneratorQuality.nanosPerDraw(sampler,generator,count/10);
+		return RandomGeneratorQuality.nanosPerDraw(sampler,generator,count);
+	}
+
+	/**
+	 * Prft alle Zufallszahlengeneratoren und gibt die Ergebnisse aus.
+	 * @param count	Anzahl an Zufallszahlen pro Messung
+	 * @param seed	Startwert fr die Qualittstests
+	 */
+	private static void testGenerators(final int count, final long seed) {
+		System.out.println(String.format(Locale.US,"%-18s %5s %10s %10s %10s %10s","Generator","good","ns/draw","p(chi2)","p(serial)","p(bday)"));
+		for (RandomGeneratorMode mode: RandomGeneratorMode.values()) {
+			final double time=measure(mode.getGenerator(false),(mode==RandomGeneratorMode.SECURE_RANDOM)?count/100:count);
+
+			final RandomGenerator generator=mode.getGenerator(true);
+			generator.setSeed(seed);
+			final double pChiSquare=RandomGeneratorQuality.chiSquareHistogram(generator,count,HISTOGRAM_BINS);
+			final double pSerial=RandomGeneratorQuality.serialCorrelation(generator,count);
+			final double pBirthday=RandomGeneratorQuality.birthdaySpacings(generator,BIRTHDAY_ROUNDS);
+
+			System.out.println(String.format(Locale.US,"%-18s %5s %10.2f %10.4f %10.4f %10.4f",mode.name,mode.isGoodForSimulation?"yes":"no",time,pChiSquare,pSerial,pBirthday));
+		}
+	}
+
+	/**
+	 * Misst die Geschwindigkeit der Sampler fr einige typische Verteilungen
+	 * und gibt die Ergebnisse aus.
+	 * @param count	Anzahl an Zufallszahlen pro Messung
+	 */
+	private static void testSamplers(final int count) {
+		final DataDistributionImpl empirical=new DataDistributionImpl(86400,86400);
+		for (int i=0;i<empirical.densityData.length;i++) empirical.densityData[i]=1+Math.sin(i*Math.PI/43200);
+
+		final String[] names=new String[] {"Exponential","Normal","Gamma","LogNormal","Empirical"};
+		final AbstractRealDistribution[] distributions=new AbstractRealDistribution[] {
+				new ExponentialDistribution(null,60),
+				new NormalDistribution(null,60,10),
+				new GammaDistribution(null,3,20),
+				new LogNormalDistributionImpl(60,20),
+				empirical
+		};
+
+		System.out.println(String.format(Locale.US,"%-12s %-18s %10s %10s","Distribution","Generator","direct","tables"));
+		for (RandomGeneratorMode mode: new RandomGeneratorMode[] {RandomGeneratorMode.THREAD_LOCAL_RANDOM,RandomGeneratorMode.XOROSHIRO128PLUSPLUS,RandomGeneratorMode.L32X64MIX}) {
+			final RandomGenerator generator=mode.getGenerator(false);
+			for (int i=0;i<distributions.length;i++) {
+				final double timeDirect=measure(DistributionRandomNumber.getSampler(distributions[i]),generator,count);
+				final double timeTables=measure(DistributionRandomNumber.getSampler(distributions[i],true),generator,count);
+				System.out.println(String.format(Locale.US,"%-12s %-18s %10.2f %10.2f",names[i],mode.name,timeDirect,timeTables));
+			}
+		}
+	}
+
+	/**
+	 * Startet die Messungen.
+	 * @param args	Optional: Anzahl an Zufallszahlen pro Messung und Startwert fr die Qualittstests
+	 */
+	public static void main(final String[] args) {
+		final int count=(args.length>0)?Integer.parseInt(args[0]):DEFAULT_COUNT;
+		final long seed=(args.length>1)?Long.parseLong(args[1]):1;
+		testGenerators(count,seed);
+		System.out.println();
+		testSamplers(count);
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtoolstests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import mathtools.ColumnTable;
+import mathtools.NumberTools;
+import mathtools.Table;
+
+/**
+ * Prft die Funktionsweise von {@link ColumnTable}
+ * @author Alexander Herzog
+ * @see ColumnTable
+ */
+class ColumnTableTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public ColumnTableTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Leere Tabelle
+	 */
+	@Test
+	void emptyTest() {
+		final ColumnTable table=new ColumnTable();
+		assertEquals(0,table.getRowCount());
+		assertEquals(0,table.getColumnCount());
+		assertEquals("",table.getValue(0,0));
+		assertTrue(Double.isNaN(table.getNumber(0,0)));
+		assertNull(table.getColumnType(0));
+		assertEquals(0,table.toTable().getSize(0));
+	}
+
+	/**
+	 * Test: Spalten verschiedener Typen und Zusatzzeilen
+	 */
+	@Test
+	void columnsTest() {
+		final double[] density=new double[]{1.4,2.6,6};
+		final ColumnTable table=new ColumnTable();
+		table.addIndexColumn(density.length);
+		table.addRoundedColumn(density);
+		table.addPercentColumn(density,0.1,1);
+		table.addNumberColumn(density,2,2);
+		table.addLongColumn(new long[]{7,8});
+		table.addTextColumn(new String[]{"a",null,"c"});
+		table.addFooterLine("Summe","10");
+
+		assertEquals(3,table.getDataRowCount());
+		assertEquals(4,table.getRowCount());
+		assertEquals(6,table.getColumnCount());
+		assertEquals(ColumnTable.ColumnType.PERCENT,table.getColumnType(2));
+
+		assertEquals("2",table.getValue(2,0));
+		assertEquals("3",table.getValue(1,1));
+		assertEquals(NumberTools.formatPercent(0.6,1),table.getValue(2,2));
+		assertEquals(NumberTools.formatNumber(2.8,2),table.getValue(0,3));
+		assertEquals("8",table.getValue(1,4));
+		assertEquals("",table.getValue(2,4));
+		assertEquals("",table.getValue(1,5));
+		assertEquals("c",table.getValue(2,5));
+		assertEquals("Summe",table.getValue(3,0));
+		assertEquals("",table.getValue(3,2));
+		assertEquals("",table.getValue(4,0));
+
+		assertEquals(1.0,table.getNumber(1,0));
+		assertEquals(6.0,table.getNumber(2,1));
+		assertEquals(0.26,table.getNumber(1,2),1E-12);
+		assertTrue(Double.isNaN(table.getNumber(0,5)));
+		assertTrue(Double.isNaN(table.getNumber(3,0)));
+
+		/* Die Daten werden nicht kopiert, sondern erst bei der Ausgabe formatiert */
+		density[0]=4.6;
+		assertEquals("5",table.getValue(0,1));
+
+		final Table rows=table.toTable();
+		assertEquals(4,rows.getSize(0));
+		assertEquals(table.getLine(0),rows.getLine(0));
+		assertEquals(Arrays.asList("Summe","10"),rows.getLine(3).subList(0,2));
+
+		final String[] text=table.toString().split("\n");
+		assertEquals(4,text.length);
+		assertEquals(String.join("\t",rows.getLine(1)),text[1]);
+		assertEquals("Summe\t10",text[3]);
+	}
+}
@@ -127,4 +127,115 @@ class ErlangCTest {
 
 		/* Zahlenwerte siehe https://www.mathematik.tu-clausthal.de/interaktiv/warteschlangentheorie/erlang-c/ */
 	}
+
+	/**
+	 * Test: Erlang-B- und Erlang-C-Formel (auch fr groe Anzahlen an Bedienern)
+	 */
+	@Test
+	void erlangBC() {
+		/* Vergleich mit der direkten Berechnung ber a^n/n! */
+		final double a=17.5;
+		final int c=20;
+		double sum=0;
+		double term=1;
+		for (int n=0;n<=c;n++) {
+			if (n>0) term*=a/n;
+			sum+=term;
+		}
+		assertEquals(term/sum,ErlangC.erlangB(a,c),1E-12);
+		final double pc=term*c/(c-a)/(sum-term+term*c/(c-a));
+		assertEquals(pc,ErlangC.erlangC(a,c),1E-12);
+
+		assertEquals(1,ErlangC.erlangB(10,0));
+		assertEquals(0,ErlangC.erlangB(0,10));
+		assertEquals(1,ErlangC.erlangC(20,13));
+
+		/* Groe Anzahl an Bedienern: a^c/c! ist nicht mehr darstellbar */
+		final double b=ErlangC.erlangB(4800,5000);
+		assertTrue(b>0 && b<1);
+		final double pc2=ErlangC.erlangC(4800,5000);
+		assertTrue(pc2>0 && pc2<1);
+		assertTrue(Double.isFinite(ErlangC.waitingTime(4800,1,5000)));
+	}
+
+	/**
+	 * Test: Zustandswahrscheinlichkeiten und Wartezeitverteilung im M/M/c/K+M Modell
+	 */
+	@Test
+	void extErlangCStateProbabilities() {
+		double[] pi;
+
+		/* Normierung und bereinstimmung mit den nicht normierten C[n]-Werten */
+		pi=ErlangC.extErlangCStateProbabilities(10,5,0.1,3,100);
+		final double[] cn=ErlangC.extErlangCCn(10,5,0.1,3,100);
+		double sum=0; for (double d: cn) sum+=d;
+		double piSum=0; for (double d: pi) piSum+=d;
+		assertEquals(1,piSum,1E-12);
+		for (int i=0;i<pi.length;i++) assertEquals(cn[i]/sum,pi[i],1E-12);
+
+		pi=ErlangC.extErlangCStateProbabilities(0,1,0.1,3,100);
+		assertEquals(1,pi[0]);
+
+		/* Ohne Warteabbrche: P(W>0) entspricht der Erlang-C-Formel, auch fr groe c */
+		for (int c: new int[]{13,2000}) {
+			final double lambda=c*0.95;
+			pi=ErlangC.extErlangCStateProbabilities(lambda,1,0,c,Integer.MAX_VALUE);
+			piSum=0; for (double d: pi) piSum+=d;
+			assertEquals(1,piSum,1E-9);
+			final double pc=ErlangC.erlangC(lambda,c);
+			assertEquals(pc,1-ErlangC.extErlangCWaitingTimeProbability(pi,1,0,c,0),1E-9);
+			final double t=0.05;
+			assertEquals(1-pc*Math.exp(-(c-lambda)*t),ErlangC.extErlangCWaitingTimeProbability(pi,1,0,c,t),1E-9);
+			assertEquals(ErlangC.waitingTime(lambda,1,c),ErlangC.waitingTimeExt(lambda,1,0,c,Integer.MAX_VALUE),1E-9);
+		}
+	}
+
+	/**
+	 * Test: Inkrementelle Berechnung von Kenngren fr Bereiche von Bedienerzahlen
+	 */
+	@Test
+	void staffing() {
+		double[][] results;
+
+		/* Ohne Warteabbrche */
+		results=ErlangC.staffing(3.5/60,1.0/3/60,0,5,30,20);
+		assertEquals(26,results.length);
+		for (int c=5;c<=30;c++) {
+			final double[] row=results[c-5];
+			if (c<=10) {
+				assertEquals(1,row[ErlangC.STAFFING_WAITING_PROBABILITY]);
+				assertEquals(Double.POSITIVE_INFINITY,row[ErlangC.STAFFING_MEAN_WAITING_TIME]);
+				continue;
+			}
+			assertEquals(ErlangC.erlangC(10.5,c),row[ErlangC.STAFFING_WAITING_PROBABILITY],1E-12);
+			assertEquals(ErlangC.waitingTime(3.5/60,1.0/3/60,c),row[ErlangC.STAFFING_MEAN_WAITING_TIME],1E-9);
+			assertEquals(0,row[ErlangC.STAFFING_CANCEL_PROBABILITY]);
+		}
+		assertEquals(26.56,results[13-5][ErlangC.STAFFING_MEAN_WAITING_TIME],0.01);
+
+		/* Mit Warteabbrchen (auch mit weniger Bedienern als angebotener Last) */
+		final double lambda=3.5/60;
+		final double mu=1.0/3/60;
+		final double nu=1.0/5/60;
+		results=ErlangC.staffing(lambda,mu,nu,1,40,20);
+		for (int c=1;c<=40;c++) {
+			final double[] row=results[c-1];
+			final double[] pi=ErlangC.extErlangCStateProbabilities(lambda,mu,nu,c,Integer.MAX_VALUE);
+			double pw=0; for (int n=c;n<pi.length;n++) pw+=pi[n];
+			double ENQ=0; for (int n=c+1;n<pi.length;n++) ENQ+=(n-c)*pi[n];
+			assertEquals(pw,row[ErlangC.STAFFING_WAITING_PROBABILITY],1E-9);
+			assertEquals(ENQ/lambda,row[ErlangC.STAFFING_MEAN_WAITING_TIME],1E-6);
+			assertEquals(ErlangC.extErlangCWaitingTimeProbability(pi,mu,nu,c,20),row[ErlangC.STAFFING_SERVICE_LEVEL],1E-9);
+			assertEquals(ENQ*nu/lambda,row[ErlangC.STAFFING_CANCEL_PROBABILITY],1E-9);
+		}
+		assertEquals(9.91,results[13-1][ErlangC.STAFFING_MEAN_WAITING_TIME],0.01);
+
+		/* Groe Anzahl an Bedienern */
+		results=ErlangC.staffing(4800,1,0.5,4700,5000,0.01);
+		for (double[] row: results) for (double d: row) assertTrue(Double.isFinite(d));
+
+		/* Leere Bereiche und Last 0 */
+		assertEquals(0,ErlangC.staffing(1,1,0,10,5,20).length);
+		assertEquals(1,ErlangC.staffing(0,1,0,1,3,20)[0][ErlangC.STAFFING_SERVICE_LEVEL]);
+	}
 }
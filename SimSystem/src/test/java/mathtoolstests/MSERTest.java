@@ -0,0 +1,93 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtoolstests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import mathtools.MSER;
+
+/**
+ * Prft die Funktionsweise von {@link MSER}
+ * @author Alexander Herzog
+ * @see MSER
+ */
+class MSERTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public MSERTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Konstruktor ist privat? - Klasse stellt nur statische Methoden zur Verfgung und soll nicht initialisierbar sein
+	 * @throws NoSuchMethodException	Konstruktor konnte nicht gefunden werden
+	 * @throws IllegalAccessException	Zugriff verweigert
+	 * @throws InvocationTargetException	Aufruf des Konstruktor mglich, wenn per Reflection angepasst?
+	 * @throws InstantiationException	Aufruf des Konstruktor mglich, wenn per Reflection angepasst?
+	 */
+	@Test
+	void testConstructorIsPrivate() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+		final Constructor<MSER> constructor=MSER.class.getDeclaredConstructor();
+		assertTrue(Modifier.isPrivate(constructor.getModifiers()));
+		constructor.setAccessible(true);
+		constructor.newInstance();
+	}
+
+	/**
+	 * Test: Berechnung der Batch-Mittelwerte
+	 */
+	@Test
+	void batchMeans() {
+		assertArrayEquals(new double[]{3,8},MSER.getBatchMeans(new double[]{1,2,3,4,5,6,7,8,9,10,11,12},12,5));
+		assertArrayEquals(new double[]{3},MSER.getBatchMeans(new double[]{1,2,3,4,5,6,7,8,9,10,11,12},9,5));
+		assertEquals(0,MSER.getBatchMeans(new double[]{1,2,3},3,5).length);
+	}
+
+	/**
+	 * Test: Bestimmung des Abschneidepunktes
+	 */
+	@Test
+	void truncationPoint() {
+		/* Konstante Reihe: nichts abschneiden */
+		assertEquals(0,MSER.getTruncationPoint(new double[]{2,2,2,2,2,2,2,2},8));
+		assertEquals(0,MSER.getTruncationPoint(new double[]{2},1));
+		assertEquals(0,MSER.getTruncationPoint(new double[0],0));
+
+		/* Deutlich abweichender Beginn wird abgeschnitten */
+		assertEquals(3,MSER.getTruncationPoint(new double[]{10,7,4,1,1,1,1,1,1,1,1,1},12));
+
+		/* Linear einschwingende, verrauschte Reihe */
+		final Random random=new Random(1);
+		final double[] data=new double[10_000];
+		for (int i=0;i<data.length;i++) data[i]=((i<1000)?(i/1000.0):1.0)+0.1*random.nextGaussian();
+		final int d=MSER.getMSER5TruncationPoint(data,data.length);
+		assertEquals(0,d%MSER.MSER5_BATCH_SIZE);
+		assertTrue(d>=700 && d<=1500,"d="+d);
+	}
+}
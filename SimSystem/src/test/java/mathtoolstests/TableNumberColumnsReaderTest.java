@@ -0,0 +1,161 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtoolstests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import mathtools.Table;
+import mathtools.TableNumberColumnsReader;
+import mathtools.distribution.tools.DistributionFitter;
+
+/**
+ * Prft die Funktionsweise von {@link TableNumberColumnsReader}
+ * @author Alexander Herzog
+ * @see TableNumberColumnsReader
+ */
+class TableNumberColumnsReaderTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public TableNumberColumnsReaderTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Ungltige Dateien
+	 */
+	@Test
+	void invalidFileTest() {
+		assertFalse(new TableNumberColumnsReader(null).process());
+		assertFalse(new TableNumberColumnsReader(new File("")).process());
+	}
+
+	/**
+	 * Test: Laden einer groen csv-Datei (mehrere parallel verarbeitete Blcke)
+	 * @throws IOException	Fehler beim Anlegen der temporren Datei
+	 */
+	@Test
+	void csvTest() throws IOException {
+		final int rows=50_000;
+		final StringBuilder text=new StringBuilder();
+		text.append("Wartezeit;Bedienzeit;Kunde\n");
+		for (int i=0;i<rows;i++) {
+			text.append(i%100);
+			text.append(';');
+			text.append((i%10)+",5");
+			text.append(';');
+			text.append((i%2==0)?"A":"\"B\"");
+			text.append('\n');
+		}
+
+		final File file=File.createTempFile("TableNumberColumnsReaderTest",".csv");
+		try {
+			assertTrue(Table.saveTextToFile(text.toString(),file));
+
+			final TableNumberColumnsReader reader=new TableNumberColumnsReader(file);
+			assertTrue(reader.process());
+			assertArrayEquals(new String[]{"Wartezeit","Bedienzeit","Kunde"},reader.getHeadings());
+			assertEquals(3,reader.getColumnCount());
+			assertEquals(rows,reader.getRowCount());
+
+			assertTrue(reader.isNumberColumn(0));
+			assertTrue(reader.isNumberColumn(1));
+			assertFalse(reader.isNumberColumn(2));
+			assertFalse(reader.isNumberColumn(3));
+			assertEquals(-1,reader.getNumberColumnIndex());
+
+			final double[] col0=reader.getNumbers(0);
+			final double[] col1=reader.getNumbers(1);
+			assertEquals(rows,col0.length);
+			assertEquals(rows,col1.length);
+			for (int i=0;i<rows;i++) {
+				assertEquals(i%100,col0[i]);
+				assertEquals((i%10)+0.5,col1[i]);
+			}
+			assertNull(reader.getNumbers(3));
+			assertNull(reader.getColumn(-1));
+
+			final DistributionFitter fitter=new DistributionFitter();
+			assertTrue(fitter.processSamples(col0));
+			assertFalse(fitter.getFits().isEmpty());
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+
+	/**
+	 * Test: Laden einer Datei ohne berschriftenzeile und mit leeren Zellen
+	 * @throws IOException	Fehler beim Anlegen der temporren Datei
+	 */
+	@Test
+	void noHeadingTest() throws IOException {
+		final File file=File.createTempFile("TableNumberColumnsReaderTest",".txt");
+		try {
+			assertTrue(Table.saveTextToFile("1\t\n2\t7\n\t\n3.25\t8",file));
+
+			final TableNumberColumnsReader reader=new TableNumberColumnsReader(file);
+			assertTrue(reader.process());
+			assertNull(reader.getHeadings());
+			assertEquals(4,reader.getRowCount());
+			assertEquals(2,reader.getColumnCount());
+			assertArrayEquals(new double[]{1,2,3.25},reader.getNumbers(0));
+			assertArrayEquals(new double[]{7,8},reader.getNumbers(1));
+			assertTrue(Double.isNaN(reader.getColumn(0)[2]));
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+
+	/**
+	 * Test: Laden einer xlsx-Datei
+	 * @throws IOException	Fehler beim Anlegen der temporren Datei
+	 */
+	@Test
+	void xlsxTest() throws IOException {
+		final Table table=new Table();
+		table.addLine(new String[]{"Text","Werte"});
+		for (int i=0;i<100;i++) table.addLine(new String[]{"Zeile "+i,""+i});
+
+		final File file=File.createTempFile("TableNumberColumnsReaderTest",".xlsx");
+		try {
+			assertTrue(table.save(file));
+
+			final TableNumberColumnsReader reader=new TableNumberColumnsReader(file);
+			assertTrue(reader.process());
+			assertNotNull(reader.getHeadings());
+			assertEquals(100,reader.getRowCount());
+			assertEquals(1,reader.getNumberColumnIndex());
+			final double[] values=reader.getNumbers(1);
+			assertEquals(100,values.length);
+			for (int i=0;i<100;i++) assertEquals(i,values[i]);
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+}
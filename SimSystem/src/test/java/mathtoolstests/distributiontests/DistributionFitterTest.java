@@ -15,20 +15,24 @@
  */
 package mathtoolstests.distributiontests;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
 import org.junit.jupiter.api.Test;
 
 import mathtools.distribution.DataDistributionImpl;
 import mathtools.distribution.LogNormalDistributionImpl;
 import mathtools.distribution.tools.DistributionFitter;
 import mathtools.distribution.tools.DistributionFitterBase;
+import mathtools.distribution.tools.DistributionFitterLikelihood;
 import mathtools.distribution.tools.DistributionTools;
 import mathtools.distribution.tools.WrapperLogNormalDistribution;
 
@@ -235,4 +239,111 @@ class DistributionFitterTest {
 		final AbstractRealDistribution dist=fitter.getFitDistribution().get(0);
 		assertNotNull(dist);
 	}
+
+	/**
+	 * Test: Verteilungsanpassung fr eine groe Anzahl an Messwerten
+	 * (parallele Prfung der Kandidaten, keine Anpassungstests fr chancenlose Kandidaten)
+	 */
+	@Test
+	void testFitterLargeSample() {
+		final ExponentialDistribution sourceDistribution=new ExponentialDistribution(null,50);
+		final int count=200_000;
+		final double[] samples=new double[count];
+		for (int i=0;i<count;i++) samples[i]=Math.floor(sourceDistribution.inverseCumulativeProbability((i+0.5)/count));
+
+		final DistributionFitter fitter=new DistributionFitter();
+		assertTrue(fitter.processSamples(samples));
+
+		final List<DistributionFitter.Fit> fits=fitter.getSortedFits();
+		assertFalse(fits.isEmpty());
+		assertEquals(fits.size(),fitter.getFitDistribution().size());
+		final DistributionFitter.Fit best=fits.get(0);
+		assertTrue(best.infoPlain.contains(DistributionFitter.PValue));
+		for (DistributionFitter.Fit fit: fits) {
+			assertTrue(fit.fit>=best.fit);
+			if (fit.fit>best.fit*1_000) assertFalse(fit.infoPlain.contains(DistributionFitter.PValue));
+		}
+	}
+
+	/**
+	 * Liefert die an eine Lognormalverteilung angepasste Verteilung aus den Ergebnissen eines Fitters.
+	 * @param fitter	Fitter, der bereits Messwerte verarbeitet hat
+	 * @return	Angepasste Lognormalverteilung oder <code>null</code>, wenn keine solche Anpassung vorliegt
+	 */
+	private static AbstractRealDistribution getLogNormalFit(final DistributionFitter fitter) {
+		return fitter.getFitDistribution().stream().filter(dist->dist instanceof LogNormalDistributionImpl).findFirst().orElse(null);
+	}
+
+	/**
+	 * Test: Verbesserung der Anpassung per Maximum-Likelihood-Schtzung
+	 * (Messwerte mit ausgeprgtem rechten Rand)
+	 */
+	@Test
+	void testFitterMaximumLikelihood() {
+		final LogNormalDistributionImpl sourceDistribution=new LogNormalDistributionImpl(100,250);
+		final int count=10_000;
+		final double[] samples=new double[count];
+		for (int i=0;i<count;i++) samples[i]=Math.min(2_000,Math.floor(sourceDistribution.inverseCumulativeProbability((i+0.5)/count)));
+
+		final DistributionFitter fitterMoments=new DistributionFitter();
+		assertFalse(fitterMoments.isMaximumLikelihoodRefinement());
+		assertTrue(fitterMoments.processSamples(samples));
+		final AbstractRealDistribution distMoments=getLogNormalFit(fitterMoments);
+		assertNotNull(distMoments);
+
+		final DistributionFitter fitterMLE=new DistributionFitter();
+		fitterMLE.setMaximumLikelihoodRefinement(true);
+		assertTrue(fitterMLE.isMaximumLikelihoodRefinement());
+		assertTrue(fitterMLE.processSamples(samples));
+		final AbstractRealDistribution distMLE=getLogNormalFit(fitterMLE);
+		assertNotNull(distMLE);
+
+		final DistributionFitterLikelihood likelihood=new DistributionFitterLikelihood(fitterMLE.getSamplesDistribution());
+		assertTrue(likelihood.getBinCount()>1);
+		assertTrue(likelihood.logLikelihood(distMLE)>=likelihood.logLikelihood(distMoments));
+	}
+
+	/**
+	 * Test: Fortlaufende Anpassung auf Basis von blockweise eintreffenden Messwerten
+	 */
+	@Test
+	void testFitterLive() {
+		final ExponentialDistribution sourceDistribution=new ExponentialDistribution(null,50);
+		final int blockSize=500;
+		final double[][] blocks=new double[20][];
+		for (int b=0;b<blocks.length;b++) {
+			blocks[b]=new double[blockSize];
+			for (int i=0;i<blockSize;i++) blocks[b][i]=Math.floor(sourceDistribution.inverseCumulativeProbability((i+0.5)/blockSize));
+		}
+
+		final DistributionFitter fitter=new DistributionFitter();
+		assertFalse(fitter.addSamples(null));
+		assertFalse(fitter.addSamples(new double[]{-1,Double.NaN}));
+		assertEquals(0,fitter.getLiveSampleCount());
+
+		/* Erster Block: Anpassung wird immer durchgefhrt */
+		assertTrue(fitter.addSamples(blocks[0]));
+		assertFalse(fitter.getFits().isEmpty());
+		final String firstResult=fitter.getResult(false);
+
+		/* Weitere Blcke mit identischer Verteilung: Nur gelegentliche Neubewertung wegen des Zuwachses an Messwerten */
+		int refits=0;
+		for (int b=1;b<blocks.length;b++) if (fitter.addSamples(blocks[b])) refits++;
+		assertTrue(refits>0);
+		assertTrue(refits<blocks.length-1);
+		assertEquals(blocks.length*blockSize,fitter.getLiveSampleCount());
+		assertFalse(fitter.getFits().isEmpty());
+
+		/* Deutlich vernderte Messwerte: Neubewertung */
+		final double[] shifted=new double[blockSize*5];
+		Arrays.fill(shifted,200);
+		assertTrue(fitter.addSamples(shifted));
+
+		/* Erzwungene Neubewertung und Zurcksetzen */
+		assertTrue(fitter.refitLive());
+		fitter.resetLive();
+		assertEquals(0,fitter.getLiveSampleCount());
+		assertTrue(fitter.addSamples(blocks[0]));
+		assertEquals(firstResult,fitter.getResult(false));
+	}
 }
@@ -0,0 +1,118 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtoolstests.distributiontests;
+
+import java.util.Locale;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.apache.commons.math3.distribution.GammaDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.UniformRealDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+
+import mathtools.distribution.LogNormalDistributionImpl;
+import mathtools.distribution.tools.DistributionRandomNumber;
+import mathtools.distribution.tools.DistributionSampler;
+
+/**
+ * Einfacher Geschwindigkeitsvergleich zwischen {@link DistributionRandomNumber#random(AbstractRealDistribution)}
+ * und den ber {@link DistributionRandomNumber#getSampler(AbstractRealDistribution)} erstellten Samplern.<br>
+ * Die Klasse wird nicht im Rahmen der Unittests ausgefhrt, sondern kann direkt ber ihre
+ * <code>main</code>-Methode gestartet werden. Ausgegeben wird die mittlere Zeit pro Zufallszahl in Nanosekunden.
+ * @author Alexander Herzog
+ * @see DistributionSamplerTest
+ */
+public class DistributionSamplerBenchmark {
+	/**
+	 * Anzahl an Zufallszahlen pro Messung
+	 */
+	private static final int COUNT=10_000_000;
+
+	/**
+	 * Anzahl an Aufwrmrunden vor der eigentlichen Messung
+	 */
+	private static final int WARM_UP_ROUNDS=3;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	private DistributionSamplerBenchmark() {
+	}
+
+	/**
+	 * Verhindert, dass der JIT-Compiler die Erzeugung der Zufallszahlen wegoptimiert
+	 */
+	private static double sink;
+
+	/**
+	 * Misst die Zeit fr die Erzeugung von Zufallszahlen ber {@link DistributionRandomNumber#random(AbstractRealDistribution)}.
+	 * @param distribution	Verteilung
+	 * @return	Zeit pro Zufallszahl in Nanosekunden
+	 */
+	private static double measureRandom(final AbstractRealDistribution distribution) {
+		final long start=System.nanoTime();
+		double sum=0;
+		for (int i=0;i<COUNT;i++) sum+=DistributionRandomNumber.random(distribution);
+		final long time=System.nanoTime()-start;
+		sink+=sum;
+		return ((double)time)/COUNT;
+	}
+
+	/**
+	 * Misst die Zeit fr die Erzeugung von Zufallszahlen ber einen Sampler.
+	 * @param sampler	Sampler
+	 * @return	Zeit pro Zufallszahl in Nanosekunden
+	 */
+	private static double measureSampler(final DistributionSampler sampler) {
+		final RandomGenerator generator=DistributionRandomNumber.generator;
+		final long start=System.nanoTime();
+		double sum=0;
+		for (int i=0;i<COUNT;i++) sum+=sampler.random(generator);
+		final long time=System.nanoTime()-start;
+		sink+=sum;
+		return ((double)time)/COUNT;
+	}
+
+	/**
+	 * Fhrt die Messung fr eine Verteilung durch und gibt das Ergebnis aus.
+	 * @param name	Name der Verteilung fr die Ausgabe
+	 * @param distribution	Verteilung
+	 */
+	private static void run(final String name, final AbstractRealDistribution distribution) {
+		final DistributionSampler sampler=DistributionRandomNumber.getSampler(distribution);
+		for (int i=0;i<WARM_UP_ROUNDS;i++) {
+			measureRandom(distribution);
+			measureSampler(sampler);
+		}
+		final double timeRandom=measureRandom(distribution);
+		final double timeSampler=measureSampler(sampler);
+		System.out.println(String.format(Locale.US,"%-12s random: %6.2f ns   sampler: %6.2f ns   speedup: %5.2f",name,timeRandom,timeSampler,timeRandom/timeSampler));
+	}
+
+	/**
+	 * Startet den Geschwindigkeitsvergleich.
+	 * @param args	Wird nicht verwendet
+	 */
+	public static void main(final String[] args) {
+		run("Uniform",new UniformRealDistribution(null,0,10));
+		run("Exponential",new ExponentialDistribution(null,60));
+		run("Normal",new NormalDistribution(null,60,10));
+		run("Gamma",new GammaDistribution(null,3,20));
+		run("LogNormal",new LogNormalDistributionImpl(60,20));
+		if (sink==0) System.out.println();
+	}
+}
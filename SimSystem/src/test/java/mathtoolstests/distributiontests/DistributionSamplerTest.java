@@ -0,0 +1,241 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtoolstests.distributiontests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.distribution.CauchyDistribution;
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.apache.commons.math3.distribution.GammaDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.UniformRealDistribution;
+import org.apache.commons.math3.distribution.WeibullDistribution;
+import org.apache.commons.math3.random.JDKRandomGenerator;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.LogNormalDistributionImpl;
+import mathtools.distribution.PertDistributionImpl;
+import mathtools.distribution.tools.AliasTableSampler;
+import mathtools.distribution.tools.DistributionRandomNumber;
+import mathtools.distribution.tools.DistributionSampleBuffer;
+import mathtools.distribution.tools.DistributionSampler;
+import mathtools.distribution.tools.InversionTableSampler;
+
+/**
+ * Prft, ob die ber {@link DistributionRandomNumber#getSampler(AbstractRealDistribution)}
+ * erstellten Sampler dieselben Zufallszahlen liefern wie {@link DistributionRandomNumber#random(AbstractRealDistribution)}.
+ * @author Alexander Herzog
+ * @see DistributionSampler
+ * @see DistributionRandomNumber
+ */
+class DistributionSamplerTest {
+	/**
+	 * Anzahl an zu vergleichenden Zufallszahlen pro Verteilung
+	 */
+	private static final int COUNT=1000;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public DistributionSamplerTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Vergleicht die Zufallszahlen von {@link DistributionRandomNumber#random(AbstractRealDistribution)}
+	 * und dem zugehrigen Sampler bei gleichem Seed.<br>
+	 * Es werden zwei Verteilungsobjekte verwendet, damit Verteilungen mit eigenem Zustand
+	 * (z.B. zwischengespeicherte Werte) sich nicht gegenseitig beeinflussen.
+	 * @param distributionBuilder	Erzeugt jeweils ein neues Verteilungsobjekt
+	 * @param seed	Seed fr die beiden Zufallszahlengeneratoren
+	 */
+	private void compare(final Supplier<AbstractRealDistribution> distributionBuilder, final long seed) {
+		final double[] expected=new double[COUNT];
+		final RandomGenerator oldGenerator=DistributionRandomNumber.generator;
+		try {
+			DistributionRandomNumber.generator=new JDKRandomGenerator((int)seed);
+			final AbstractRealDistribution dist=distributionBuilder.get();
+			for (int i=0;i<COUNT;i++) expected[i]=DistributionRandomNumber.random(dist);
+		} finally {
+			DistributionRandomNumber.generator=oldGenerator;
+		}
+
+		final DistributionSampler sampler=DistributionRandomNumber.getSampler(distributionBuilder.get());
+		final RandomGenerator generator=new JDKRandomGenerator((int)seed);
+		for (int i=0;i<COUNT;i++) {
+			assertEquals(Double.doubleToLongBits(expected[i]),Double.doubleToLongBits(sampler.random(generator)));
+		}
+	}
+
+	/**
+	 * Test: Verteilungen mit direkt implementierten Samplern
+	 */
+	@Test
+	void directSamplerTest() {
+		compare(()->new UniformRealDistribution(null,2,7),1);
+		compare(()->new ExponentialDistribution(null,3.5),2);
+		compare(()->new NormalDistribution(null,10,2),3);
+		compare(()->new GammaDistribution(null,0.5,2),4);
+		compare(()->new GammaDistribution(null,1,2),5);
+		compare(()->new GammaDistribution(null,3,2),6);
+		compare(()->new CauchyDistribution(null,1,0.5),7);
+	}
+
+	/**
+	 * Test: Eigene Verteilungen und Verteilungen, die ber die Umkehrfunktion bestimmt werden
+	 */
+	@Test
+	void delegatingSamplerTest() {
+		compare(()->new LogNormalDistributionImpl(100,50),8);
+		compare(()->new ChiSquaredDistribution(null,4),9);
+	}
+
+	/**
+	 * Test: Nicht-negative Zufallszahlen
+	 */
+	@Test
+	void nonNegativeTest() {
+		final DistributionSampler sampler=DistributionRandomNumber.getSampler(new NormalDistribution(null,0.5,1));
+		final RandomGenerator generator=new JDKRandomGenerator(10);
+		for (int i=0;i<COUNT;i++) assertTrue(sampler.randomNonNegative(generator)>=0);
+
+		final DistributionSampler negativeSampler=DistributionRandomNumber.getSampler(new UniformRealDistribution(null,-2,-1));
+		assertEquals(0.0,negativeSampler.randomNonNegative(generator));
+	}
+
+	/**
+	 * Prft die Genauigkeit einer Inversionstabelle.
+	 * @param distribution	Zu tabellierende Verteilung
+	 */
+	private void checkInversionTable(final AbstractRealDistribution distribution) {
+		final InversionTableSampler sampler=InversionTableSampler.build(distribution);
+		assertNotNull(sampler);
+		assertTrue(sampler.getIntervalCount()>1);
+
+		for (int i=1;i<1000;i++) {
+			final double p=i/1000.0;
+			final double x=sampler.inverseCumulativeProbability(p);
+			assertEquals(p,distribution.cumulativeProbability(x),2*InversionTableSampler.MAX_ERROR);
+		}
+
+		/* Rnder ber die exakte Umkehrfunktion */
+		assertEquals(distribution.inverseCumulativeProbability(1E-12),sampler.inverseCumulativeProbability(1E-12));
+
+		final RandomGenerator generator=new JDKRandomGenerator(11);
+		double sum=0;
+		for (int i=0;i<100_000;i++) sum+=sampler.random(generator);
+		final double mean=distribution.getNumericalMean();
+		assertEquals(mean,sum/100_000,0.02*Math.abs(mean));
+	}
+
+	/**
+	 * Test: Inversionstabellen fr Verteilungen ohne direkte Erzeugung von Zufallszahlen
+	 */
+	@Test
+	void inversionTableTest() {
+		checkInversionTable(new ChiSquaredDistribution(null,4));
+		checkInversionTable(new WeibullDistribution(null,1.5,60));
+		checkInversionTable(new PertDistributionImpl(10,20,60));
+
+		/* ber getSampler wird die Tabelle erst bei der ersten Zufallszahl angelegt */
+		final DistributionSampler sampler=DistributionRandomNumber.getSampler(new ChiSquaredDistribution(null,4),true);
+		final RandomGenerator generator=new JDKRandomGenerator(13);
+		for (int i=0;i<1000;i++) assertTrue(sampler.random(generator)>=0);
+	}
+
+	/**
+	 * Test: Alias-Tabellen fr empirische Verteilungen
+	 */
+	@Test
+	void aliasTableTest() {
+		assertNull(AliasTableSampler.build(new DataDistributionImpl(10,new double[]{0,0,0})));
+
+		/* Klassen ohne Wahrscheinlichkeitsmasse drfen nie gewhlt werden, innerhalb der Klassen wird interpoliert */
+		final DataDistributionImpl dist=new DataDistributionImpl(8,new double[]{0,1,0,3,0,0,4,0});
+		final DistributionSampler sampler=DistributionRandomNumber.getSampler(dist,true);
+		assertTrue(sampler instanceof AliasTableSampler);
+		final RandomGenerator generator=new JDKRandomGenerator(14);
+		final int[] counts=new int[8];
+		double sum=0;
+		for (int i=0;i<80_000;i++) {
+			final double x=sampler.random(generator);
+			assertTrue(x>=0 && x<8);
+			counts[(int)x]++;
+			sum+=x;
+		}
+		assertEquals(0,counts[0]+counts[2]+counts[4]+counts[5]+counts[7]);
+		assertEquals(10_000,counts[1],500);
+		assertEquals(30_000,counts[3],800);
+		assertEquals(40_000,counts[6],800);
+		assertEquals(dist.getMean()+0.5,sum/80_000,0.05); /* getMean() bezieht sich auf die linken Klassengrenzen */
+
+		/* Viele Klassen: Mittelwert und Standardabweichung wie bei der Verteilung selbst */
+		final double[] density=new double[5000];
+		for (int i=0;i<density.length;i++) density[i]=Math.exp(-i/500.0)*(1+(i%7));
+		final DataDistributionImpl large=new DataDistributionImpl(5000,density);
+		final DistributionSampler largeSampler=AliasTableSampler.build(large);
+		double sum1=0, sum2=0;
+		for (int i=0;i<200_000;i++) {
+			final double x=largeSampler.random(generator);
+			sum1+=x;
+			sum2+=x*x;
+		}
+		final double mean=sum1/200_000;
+		assertEquals(large.getNumericalMean(),mean,0.02*large.getNumericalMean());
+		assertEquals(large.getStandardDeviation(),Math.sqrt(sum2/200_000-mean*mean),0.02*large.getStandardDeviation());
+	}
+
+	/**
+	 * Test: Gepufferte Zufallszahlen werden in derselben Reihenfolge geliefert, in der sie erzeugt wurden
+	 */
+	@Test
+	void sampleBufferTest() {
+		final DistributionSampler sampler=DistributionRandomNumber.getSampler(new GammaDistribution(null,3,2));
+
+		final RandomGenerator generator1=new JDKRandomGenerator(15);
+		final double[] expected=new double[COUNT];
+		for (int i=0;i<COUNT;i++) expected[i]=sampler.random(generator1);
+
+		final RandomGenerator generator2=new JDKRandomGenerator(15);
+		final DistributionSampleBuffer buffer=new DistributionSampleBuffer(sampler,64,false);
+		for (int i=0;i<COUNT;i++) assertEquals(Double.doubleToLongBits(expected[i]),Double.doubleToLongBits(buffer.next(generator2)));
+
+		/* Nicht-negative Werte */
+		final DistributionSampleBuffer nonNegativeBuffer=new DistributionSampleBuffer(DistributionRandomNumber.getSampler(new NormalDistribution(null,0.5,1)),true);
+		for (int i=0;i<COUNT;i++) assertTrue(nonNegativeBuffer.next(generator2)>=0);
+
+		/* Nach dem Leeren wird der Puffer neu befllt */
+		final DistributionSampleBuffer uniformBuffer=new DistributionSampleBuffer(DistributionRandomNumber.getSampler(new UniformRealDistribution(null,0,1)),4,false);
+		final RandomGenerator generator3=new JDKRandomGenerator(16);
+		final RandomGenerator generator4=new JDKRandomGenerator(16);
+		uniformBuffer.next(generator3);
+		uniformBuffer.clear();
+		for (int i=0;i<4;i++) generator4.nextDouble();
+		assertEquals(generator4.nextDouble(),uniformBuffer.next(generator3));
+	}
+}
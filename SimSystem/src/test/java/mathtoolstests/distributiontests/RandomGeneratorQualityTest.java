@@ -0,0 +1,83 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtoolstests.distributiontests;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.junit.jupiter.api.Test;
+
+import mathtools.distribution.tools.RandomGeneratorMode;
+import mathtools.distribution.tools.RandomGeneratorQuality;
+
+/**
+ * Prft die Tests zur Beurteilung der Qualitt von Zufallszahlengeneratoren
+ * @author Alexander Herzog
+ * @see RandomGeneratorQuality
+ */
+class RandomGeneratorQualityTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public RandomGeneratorQualityTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Ein guter Generator besteht alle Tests
+	 */
+	@Test
+	void goodGeneratorTest() {
+		final RandomGenerator generator=new Well19937c(1);
+		assertTrue(RandomGeneratorQuality.chiSquareHistogram(generator,200_000,100)>0.001);
+		assertTrue(RandomGeneratorQuality.serialCorrelation(generator,200_000)>0.001);
+		assertTrue(RandomGeneratorQuality.birthdaySpacings(generator,500)>0.001);
+	}
+
+	/**
+	 * Test: Ein offensichtlich schlechter Generator fllt durch
+	 */
+	@Test
+	void badGeneratorTest() {
+		/* Ungleichmige Verteilung */
+		assertTrue(RandomGeneratorQuality.chiSquareHistogram(new DummyRandomGenerator(new double[] {0.1,0.2,0.3}),10_000,10)<0.001);
+
+		/* Aufeinanderfolgende Werte stark korreliert */
+		final double[] ramp=new double[1000];
+		for (int i=0;i<ramp.length;i++) ramp[i]=((double)i)/ramp.length;
+		assertTrue(RandomGeneratorQuality.serialCorrelation(new DummyRandomGenerator(ramp),10_000)<0.001);
+
+		/* Gitterstruktur: Geburtstage nur auf wenigen Tagen */
+		final double[] lattice=new double[997];
+		for (int i=0;i<lattice.length;i++) lattice[i]=((double)((i*389)%lattice.length))/lattice.length;
+		assertTrue(RandomGeneratorQuality.birthdaySpacings(new DummyRandomGenerator(lattice),200)<0.001);
+	}
+
+	/**
+	 * Test: Zeitmessung liefert fr alle Generatoren sinnvolle Werte
+	 */
+	@Test
+	void throughputTest() {
+		for (RandomGeneratorMode mode: RandomGeneratorMode.values()) {
+			final double time=RandomGeneratorQuality.nanosPerDraw(mode.getGenerator(false),1000);
+			assertTrue(time>=0 && !Double.isNaN(time));
+		}
+	}
+}
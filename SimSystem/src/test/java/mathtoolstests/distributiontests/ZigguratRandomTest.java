@@ -0,0 +1,112 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtoolstests.distributiontests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.inference.KolmogorovSmirnovTest;
+import org.junit.jupiter.api.Test;
+
+import mathtools.distribution.tools.Drand48BitsStreamGenerator;
+import mathtools.distribution.tools.ZigguratRandom;
+
+/**
+ * Prft die ber das Ziggurat-Verfahren erzeugten Zufallszahlen
+ * @author Alexander Herzog
+ * @see ZigguratRandom
+ */
+class ZigguratRandomTest {
+	/**
+	 * Anzahl an zu erzeugenden Zufallszahlen pro Test
+	 */
+	private static final int COUNT=200_000;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public ZigguratRandomTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Standardnormalverteilung
+	 */
+	@Test
+	void normalTest() {
+		final RandomGenerator generator=new Well19937c(1);
+		final double[] values=new double[COUNT];
+		double sum=0, sum2=0;
+		int tail=0;
+		for (int i=0;i<COUNT;i++) {
+			final double x=ZigguratRandom.nextNormal(generator);
+			values[i]=x;
+			sum+=x;
+			sum2+=x*x;
+			if (Math.abs(x)>3) tail++;
+		}
+		assertEquals(0,sum/COUNT,0.01);
+		assertEquals(1,sum2/COUNT,0.01);
+		assertEquals(2*(1-new NormalDistribution(0,1).cumulativeProbability(3))*COUNT,tail,0.2*COUNT*0.0027);
+		assertTrue(new KolmogorovSmirnovTest().kolmogorovSmirnovTest(new NormalDistribution(0,1),values)>0.001);
+	}
+
+	/**
+	 * Test: Exponentialverteilung
+	 */
+	@Test
+	void exponentialTest() {
+		final RandomGenerator generator=new Well19937c(2);
+		final double[] values=new double[COUNT];
+		double sum=0, sum2=0;
+		int tail=0;
+		for (int i=0;i<COUNT;i++) {
+			final double x=ZigguratRandom.nextExponential(generator);
+			assertTrue(x>=0);
+			values[i]=x;
+			sum+=x;
+			sum2+=x*x;
+			if (x>8) tail++; /* ber den Randbereich der untersten Schicht hinaus */
+		}
+		assertEquals(1,sum/COUNT,0.01);
+		assertEquals(2,sum2/COUNT,0.05);
+		assertTrue(tail>0);
+		assertTrue(new KolmogorovSmirnovTest().kolmogorovSmirnovTest(new ExponentialDistribution(1),values)>0.001);
+	}
+
+	/**
+	 * Test: Generatoren mit weniger Bits pro Fliekommazahl und deterministische Folgen
+	 */
+	@Test
+	void generatorsTest() {
+		final RandomGenerator generator=new Drand48BitsStreamGenerator();
+		generator.setSeed(3);
+		double sum=0;
+		for (int i=0;i<COUNT;i++) sum+=ZigguratRandom.nextNormal(generator);
+		assertEquals(0,sum/COUNT,0.01);
+
+		/* Auch bei sich wiederholenden Zufallszahlen muss ein Ergebnis geliefert werden */
+		assertTrue(ZigguratRandom.nextExponential(new DummyRandomGenerator(new double[]{0.4,0.6}))>=0);
+		assertTrue(Double.isFinite(ZigguratRandom.nextNormal(new DummyRandomGenerator(new double[]{0.4,0.6}))));
+	}
+}
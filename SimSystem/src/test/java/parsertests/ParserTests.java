@@ -18,17 +18,22 @@ package parsertests;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
 import parser.CalcSystem;
 import parser.MathCalcError;
+import parser.coresymbols.CalcProgram;
 import parser.coresymbols.CalcSymbolPreOperator;
 
 /**
@@ -384,6 +389,275 @@ class ParserTests {
 		assertEquals(0.17,calc.calcOrDefault(new double[]{17},-1));
 	}
 
+	/**
+	 * Berechnet einen Ausdruck fr verschiedene Variablenwerte einmal ber das kompilierte Programm
+	 * und einmal ber den Baum der Rechensymbole und vergleicht die Ergebnisse.
+	 * @param expression	Zu prfender Ausdruck (mit den Variablen "a" und "b")
+	 * @see #compiledProgramTest()
+	 */
+	private void compiledProgramTest(final String expression) {
+		final String[] variables=new String[]{"a","b"};
+		final CalcSystem compiled=new CalcSystem(expression,variables);
+		assertTrue(compiled.parse()<0,expression);
+
+		final boolean saveCompileExpressions=CalcSystem.compileExpressions;
+		final CalcSystem tree;
+		try {
+			CalcSystem.compileExpressions=false;
+			tree=new CalcSystem(expression,variables);
+			assertTrue(tree.parse()<0,expression);
+		} finally {
+			CalcSystem.compileExpressions=saveCompileExpressions;
+		}
+
+		for (double a=-3;a<=3;a+=0.5) for (double b=-2;b<=2;b+=1) {
+			final double[] values=new double[]{a,b};
+			Double expected;
+			try {
+				expected=tree.calc(values);
+			} catch (MathCalcError e) {
+				expected=null;
+			}
+			if (expected==null) {
+				assertThrows(MathCalcError.class,()->compiled.calc(values),expression);
+				assertEquals(-1.0,compiled.calcOrDefault(values,-1.0),expression);
+			} else {
+				try {
+					assertEquals(expected.doubleValue(),compiled.calc(values),expression);
+				} catch (MathCalcError e) {
+					assertTrue(false,expression);
+				}
+				assertEquals(expected.doubleValue(),compiled.calcOrDefault(values,-1.0),expression);
+				assertEquals(expected.doubleValue(),compiled.compile().applyAsDouble(values),expression);
+			}
+		}
+	}
+
+	/**
+	 * Test: Berechnung ber das kompilierte Programm
+	 * @see CalcSystem#compile()
+	 * @see CalcProgram
+	 */
+	@Test
+	void compiledProgramTest() {
+		compiledProgramTest("a");
+		compiledProgramTest("a+b*2-b/3");
+		compiledProgramTest("(a-b)*(a+b)/(a*b)");
+		compiledProgramTest("a/b");
+		compiledProgramTest("a^2+b^3");
+		compiledProgramTest("a^b");
+		compiledProgramTest("sqrt(a)+abs(b)");
+		compiledProgramTest("sin(a)*exp(b)+log(a)");
+		compiledProgramTest("max(a;b;1)+mod(7;b)");
+		compiledProgramTest("(a+b)!+a%");
+		compiledProgramTest("2*(3+4)*a");
+
+		/* Aufbau des Programms */
+		CalcSystem calc=new CalcSystem("a+b*2",new String[]{"a","b"});
+		assertTrue(calc.parse()<0);
+		CalcProgram program=calc.compile();
+		assertNotNull(program);
+		assertEquals(5,program.getInstructionCount());
+		assertEquals(0,program.getTreeSymbolCount());
+		assertSame(program,calc.compile());
+
+		/* Konstante Ausdrcke */
+		calc=new CalcSystem("2*(3+4)");
+		assertTrue(calc.parse()<0);
+		program=calc.compile();
+		assertNotNull(program);
+		assertEquals(14.0,program.applyAsDouble(0));
+
+		/* Funktion mit einer Variable */
+		calc=new CalcSystem("x^2+1",new String[]{"x"});
+		assertTrue(calc.parse()<0);
+		final DoubleUnaryOperator function=calc.compile();
+		assertEquals(10.0,function.applyAsDouble(3));
+		assertEquals(2.0,function.applyAsDouble(-1));
+
+		/* Fehlende Variablenwerte */
+		assertTrue(Double.isNaN(calc.compile().applyAsDouble(new double[0])));
+
+		/* Nicht bersetzbare Funktionen werden ber den Baum berechnet */
+		calc=new CalcSystem("1+RandomGenerator(RandomGeneratorX();0;1)");
+		assertTrue(calc.parse()<0);
+		program=calc.compile();
+		assertEquals(1,program.getTreeSymbolCount());
+		final double d=program.applyAsDouble(0);
+		assertTrue(d>=1 && d<=2);
+
+		/* Kein Ausdruck */
+		calc=new CalcSystem();
+		assertTrue(calc.parse()>=0);
+		assertNull(calc.compile());
+	}
+
+	/**
+	 * Test: Gleichzeitige Auswertung eines Ausdrucks aus mehreren Threads
+	 * @see CalcSystem#evaluate(double[])
+	 */
+	@Test
+	void concurrentEvaluationTest() {
+		final String[] variables=new String[]{"a","b"};
+		final int count=20_000;
+		final IntFunction<double[]> valuesGenerator=i->new double[]{(i%300)/100.0,0.5+(i%7)};
+
+		/* bersetzbare, zustandslose Funktionen und Funktionen mit eigenem Zwischenspeicher */
+		CalcSystem calc=new CalcSystem("sin(a)*b+ExpDist(a;b;1)+ErlangC(b;1;0;2+floor(a);10;-2)",variables);
+		assertTrue(calc.parse()<0);
+		final double[] expected=new double[count];
+		for (int i=0;i<count;i++) expected[i]=calc.calcOrDefault(valuesGenerator.apply(i),Double.NaN);
+		final CalcSystem shared=calc;
+		final double[] results=IntStream.range(0,count).parallel().mapToDouble(i->shared.evaluateOrDefault(valuesGenerator.apply(i),Double.NaN)).toArray();
+		for (int i=0;i<count;i++) assertEquals(expected[i],results[i],1E-12);
+
+		/* Auswertung ber den Baum */
+		calc=new CalcSystem("a+RandomGenerator(RandomGeneratorX();0;1)",variables);
+		assertTrue(calc.parse()<0);
+		final CalcSystem sharedTree=calc;
+		final double[] treeResults=IntStream.range(0,count).parallel().mapToDouble(i->sharedTree.evaluateOrDefault(valuesGenerator.apply(i),Double.NaN)).toArray();
+		for (int i=0;i<count;i++) {
+			final double a=valuesGenerator.apply(i)[0];
+			assertTrue(treeResults[i]>=a && treeResults[i]<=a+1);
+		}
+
+		/* Fehler */
+		final CalcSystem sharedError=new CalcSystem("a/b",variables);
+		assertTrue(sharedError.parse()<0);
+		assertThrows(MathCalcError.class,()->sharedError.evaluate(new double[]{1,0}));
+		assertTrue(Double.isNaN(sharedError.evaluateOrDefault(new double[]{1,0},Double.NaN)));
+		assertEquals(0.5,sharedError.evaluateOrDefault(new double[]{1,2},Double.NaN));
+	}
+
+	/**
+	 * Test: Berechnung eines Ausdrucks fr viele Variablenbelegungen auf einmal
+	 * @see CalcSystem#evaluateBatch(double[][], double[])
+	 */
+	@Test
+	void batchEvaluationTest() {
+		final String[] variables=new String[]{"a","b"};
+		final int count=40_000;
+		final double[][] columns=new double[2][count];
+		for (int i=0;i<count;i++) {
+			columns[0][i]=(i%500)/100.0-2;
+			columns[1][i]=(i%9)-4;
+		}
+
+		for (String expression: new String[] {"a+b*2-b/3","a/b","(a-b)*(a+b)/(a*b)","a^b","sqrt(a)+abs(b)","sin(a)*exp(b)+log(a)","max(a;b;1)+mod(7;b)","(a+b)!+a%","ExpDist(a;1+abs(b);1)","2*(3+4)"}) {
+			final CalcSystem calc=new CalcSystem(expression,variables);
+			assertTrue(calc.parse()<0);
+			final double[] results=new double[count];
+			calc.evaluateBatch(columns,results);
+			for (int i=0;i<count;i++) {
+				final double expected=calc.evaluateOrDefault(new double[]{columns[0][i],columns[1][i]},Double.NaN);
+				assertEquals(expected,results[i],1E-12,expression);
+			}
+		}
+
+		/* Auswertung ber den Baum */
+		CalcSystem calc=new CalcSystem("x+RandomGenerator(RandomGeneratorX();0;1)",new String[]{"x"});
+		assertTrue(calc.parse()<0);
+		final double[] x=new double[]{1,2,3};
+		final double[] results=calc.evaluateBatch(x);
+		for (int i=0;i<x.length;i++) assertTrue(results[i]>=x[i] && results[i]<=x[i]+1);
+
+		/* Fehlende Variablenwerte */
+		calc=new CalcSystem("a+b",variables);
+		assertTrue(calc.parse()<0);
+		final double[] missing=new double[3];
+		calc.evaluateBatch(new double[][]{{1,2,3}},missing);
+		for (double d: missing) assertTrue(Double.isNaN(d));
+
+		/* Ungltiger Ausdruck */
+		calc=new CalcSystem("a+",variables);
+		assertTrue(calc.parse()>=0);
+		assertTrue(Double.isNaN(calc.evaluateBatch(new double[]{1})[0]));
+	}
+
+	/**
+	 * Test: Batch-Berechnung liefert bei {@link Double#NaN}-Eingaben dieselben Ergebnisse wie die Einzelberechnung
+	 * (NaN-Werte werden auch im Batch-Modus an Funktionen und Operatoren bergeben)
+	 * @see CalcSystem#evaluateBatch(double[][], double[])
+	 */
+	@Test
+	void batchEvaluationNaNTest() {
+		final String[] variables=new String[]{"a","b"};
+		final double[][] columns=new double[][] {
+			{Double.NaN,1,Double.NaN,-2.5,Double.NaN},
+			{2,Double.NaN,Double.NaN,0,-1}
+		};
+		final int count=columns[0].length;
+
+		for (String expression: new String[] {"a^0","if(a;1;2)","round(a)","a+b","max(a;b)","abs(a)*b","(a+1)^0+b","if(b;a;3)","sin(a)^0","1/a","a!"}) {
+			final CalcSystem calc=new CalcSystem(expression,variables);
+			assertTrue(calc.parse()<0);
+			final double[] results=new double[count];
+			calc.evaluateBatch(columns,results);
+			for (int i=0;i<count;i++) {
+				final double expected=calc.evaluateOrDefault(new double[]{columns[0][i],columns[1][i]},Double.NaN);
+				assertEquals(expected,results[i],1E-12,expression+" (Zeile "+i+")");
+			}
+		}
+
+		/* NaN-Werte werden an die Funktion bergeben und nicht als Fehler behandelt */
+		final CalcSystem calc=new CalcSystem("a^0",variables);
+		assertTrue(calc.parse()<0);
+		assertEquals(1.0,calc.evaluateBatch(new double[]{Double.NaN})[0]);
+	}
+
+	/**
+	 * Test: Wiederverwendung bereits geparster Ausdrcke
+	 * @see CalcSystem#useParseCache
+	 */
+	@Test
+	void parseCacheTest() throws MathCalcError {
+		final String[] variables=new String[]{"a","b"};
+
+		/* Zwei Rechensysteme mit demselben Ausdruck arbeiten unabhngig voneinander */
+		final CalcSystem calc1=new CalcSystem("a*2+max(a;b)+sin(b)",variables);
+		assertTrue(calc1.parse()<0);
+		final CalcSystem calc2=new CalcSystem("a*2+max(a;b)+sin(b)",variables);
+		assertTrue(calc2.parse()<0);
+		assertEquals(2+3+Math.sin(3),calc1.calc(new double[]{1,3}),1E-12);
+		assertEquals(10+5+Math.sin(-1),calc2.calc(new double[]{5,-1}),1E-12);
+		assertEquals(2+3+Math.sin(3),calc1.calc(),1E-12);
+
+		/* Konstante Ausdrcke */
+		for (int i=0;i<2;i++) {
+			final CalcSystem calc=new CalcSystem("2*3+1",variables);
+			assertTrue(calc.parse()<0);
+			assertTrue(calc.isConstValue());
+			assertEquals(7.0,calc.calc());
+		}
+
+		/* Fehlerhafte Ausdrcke */
+		final int errorPosition=new CalcSystem("a+*b",variables).parse();
+		assertTrue(errorPosition>=0);
+		assertEquals(errorPosition,new CalcSystem("a+*b",variables).parse());
+
+		/* Die Reihenfolge der Variablen ist Teil des Schlssels */
+		final CalcSystem calcAB=new CalcSystem("a-b",new String[]{"a","b"});
+		assertTrue(calcAB.parse()<0);
+		final CalcSystem calcBA=new CalcSystem("a-b",new String[]{"b","a"});
+		assertTrue(calcBA.parse()<0);
+		assertEquals(-1.0,calcAB.calc(new double[]{1,2}));
+		assertEquals(1.0,calcBA.calc(new double[]{1,2}));
+
+		/* Unbekannte Variablen */
+		assertTrue(new CalcSystem("a+c",variables).parse()>=0);
+		assertTrue(new CalcSystem("a+c",new String[]{"a","c"}).parse()<0);
+
+		/* Ergebnisse entsprechen denen ohne Cache */
+		CalcSystem.useParseCache=false;
+		try {
+			final CalcSystem calc=new CalcSystem("a*2+max(a;b)+sin(b)",variables);
+			assertTrue(calc.parse()<0);
+			assertEquals(calc.calc(new double[]{5,-1}),calc2.calc(new double[]{5,-1}));
+		} finally {
+			CalcSystem.useParseCache=true;
+		}
+	}
+
 	/**
 	 * Test: Benutzerdefinierte Erweiterungsfunktionen
 	 * @see CalcSystem#getUserFunctions()
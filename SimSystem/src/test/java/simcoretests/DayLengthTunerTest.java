@@ -0,0 +1,95 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcoretests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import simcore.DayLengthTuner;
+
+/**
+ * Prft die Funktionsweise von {@link DayLengthTuner}
+ * @author Alexander Herzog
+ * @see DayLengthTuner
+ */
+class DayLengthTunerTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public DayLengthTunerTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Simuliert alle Tage eines Threads mit festen Messwerten.
+	 * @param arrivalsPerDay	Anfngliche Anzahl an zu zhlenden Anknften pro Tag
+	 * @param days	Anfngliche Anzahl an Tagen
+	 * @param warmUpArrivals	Lnge der Einschwingphase (in Anknften) pro Tag
+	 * @param canMerge	Drfen Tage zusammengefasst werden?
+	 * @param fixedNanos	Fester Aufwand (in ns) pro Tag
+	 * @return	Zweielementiges Array aus tatschlich simulierten Tagen und insgesamt gezhlten Anknften
+	 */
+	private static long[] runDays(final long arrivalsPerDay, long days, final long warmUpArrivals, final boolean canMerge, final long fixedNanos) {
+		final DayLengthTuner tuner=new DayLengthTuner(arrivalsPerDay);
+		long daysDone=0;
+		long arrivals=0;
+		for (long day=0;day<days;day++) {
+			final long dayArrivals=tuner.getArrivalsPerDay();
+			assertTrue(dayArrivals>0);
+			arrivals+=dayArrivals;
+			daysDone++;
+			days=tuner.dayDone(days,dayArrivals+warmUpArrivals,warmUpArrivals,canMerge,fixedNanos,(dayArrivals+warmUpArrivals)*1000);
+		}
+		return new long[] {daysDone,arrivals};
+	}
+
+	/**
+	 * Test: Gesamtanzahl an Anknften bleibt beim Zusammenfassen von Tagen exakt erhalten
+	 */
+	@Test
+	void totalArrivalsPreserved() {
+		/* Hoher fester Aufwand: alle verbleibenden Anknfte an einem Tag */
+		long[] result=runDays(1000,100,100,true,1_000_000);
+		assertTrue(result[0]<100);
+		assertEquals(100*1000,result[1]);
+
+		/* Verteilung auf mehrere Tage mit Rest */
+		for (long fixedNanos: new long[] {10_000,30_000,67_000,150_000}) for (long days: new long[] {7,36,101}) {
+			result=runDays(999,days,0,true,fixedNanos);
+			assertTrue(result[0]<=days);
+			assertEquals(days*999,result[1],"fixedNanos="+fixedNanos+", days="+days);
+		}
+	}
+
+	/**
+	 * Test: Keine Anpassung, wenn Tage nicht zusammengefasst werden drfen oder der feste Aufwand klein ist
+	 */
+	@Test
+	void noMerge() {
+		long[] result=runDays(1000,100,100,false,1_000_000);
+		assertEquals(100,result[0]);
+		assertEquals(100*1000,result[1]);
+
+		result=runDays(1_000_000,20,0,true,1000);
+		assertEquals(20,result[0]);
+		assertEquals(20*1_000_000,result[1]);
+	}
+}
@@ -21,7 +21,10 @@ import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.awt.Color;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
@@ -31,6 +34,7 @@ import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import mathtools.NumberTools;
 import simcore.Event;
 import simcore.SimData;
 import simcore.eventcache.AssociativeEventCache;
@@ -47,7 +51,10 @@ import simcore.eventmanager.MultiArrayEventManager;
 import simcore.eventmanager.MultiArrayEventManagerWithHeapSort;
 import simcore.eventmanager.MultiPriorityQueueEventManager;
 import simcore.eventmanager.PriorityQueueEventManager;
+import simcore.logging.BinaryTraceConverter;
+import simcore.logging.BinaryTraceLogger;
 import simcore.logging.CallbackLogger;
+import simcore.logging.CallbackLoggerData;
 import simcore.logging.HTMLLogger;
 import simcore.logging.PlainTextLogger;
 import simcore.logging.PlainTextLoggerLimited;
@@ -439,6 +446,37 @@ class SimulatorBaseTest {
 		}
 	}
 
+	/**
+	 * Maximal zulssiger angelegter Speicher pro Ereignis (in Bytes) fr {@link #testThreadAllocatedBytes()}
+	 */
+	private static final int MAX_ALLOCATED_BYTES_PER_EVENT=256;
+
+	/**
+	 * Test: Angelegter Speicher pro Ereignis bleibt unter einer festen Schwelle (Regressionsprfung der Speichermessung)
+	 */
+	@Test
+	void testThreadAllocatedBytes() {
+		final int eventsPerThread=200_000;
+		for (int coreCount=1;coreCount<=2;coreCount++) {
+			final SimulatorBaseTestImpl simulator=new SimulatorBaseTestImpl(coreCount,false,false,()->new PriorityQueueEventManager(),()->new ListEventCache(),(data,nr)->{
+				final List<Event> list=new ArrayList<>();
+				list.add(new EventTestImpl(1,1,null,(d,e)->(e.id>=eventsPerThread)?null:e.getCopy(e.id+1,e.id+1)));
+				return list;
+			});
+			runSimulator(simulator);
+			assertEquals(((long)eventsPerThread)*simulator.threadCount,simulator.getEventCount());
+
+			final long[] bytes=simulator.getThreadAllocatedBytes();
+			assertNotNull(bytes);
+			assertEquals(simulator.threadCount,bytes.length);
+			for (long b: bytes) {
+				if (b<0) continue; /* Messung wird von der Java-Laufzeitumgebung nicht untersttzt */
+				final double bytesPerEvent=((double)b)/eventsPerThread;
+				assertTrue(bytesPerEvent<=MAX_ALLOCATED_BYTES_PER_EVENT,"bytesPerEvent="+bytesPerEvent);
+			}
+		}
+	}
+
 	/**
 	 * Test: Simulation abbrechen
 	 */
@@ -595,6 +633,155 @@ class SimulatorBaseTest {
 		}
 	}
 
+	/**
+	 * Test: Binre Aufzeichnung ber {@link BinaryTraceLogger} und Umwandlung ber {@link BinaryTraceConverter}
+	 * @throws IOException	Temporre Dateien konnten nicht angelegt oder gelesen werden
+	 */
+	@Test
+	void testBinaryTraceLogging() throws IOException {
+		final File traceFile=File.createTempFile("SimulatorBaseTest",BinaryTraceLogger.FILE_EXTENSION);
+		final File csvFile=File.createTempFile("SimulatorBaseTest",".csv");
+		try {
+			/* Aufzeichnung (kleiner Ringpuffer, damit der Hintergrund-Thread mehrfach nachladen muss) */
+			final BinaryTraceLogger traceLogger=new BinaryTraceLogger(traceFile,64);
+			assertTrue(traceLogger.ready());
+			final int typeCount=traceLogger.registerType("Count","Wert %d",null,BinaryTraceLogger.ArgumentType.INTEGER);
+			final int typeTime=traceLogger.registerType("Time","Zeit %s und %d",Color.RED,BinaryTraceLogger.ArgumentType.TIME,BinaryTraceLogger.ArgumentType.INTEGER);
+			for (int i=0;i<10_000;i++) {
+				assertTrue(traceLogger.trace(i*1000L,(i%2==0)?typeCount:typeTime,i%5,(i%2==0)?i:3_600_000,i,0));
+			}
+			assertTrue(traceLogger.log(10_000_000L,Color.BLUE,"Text",7,"Info"));
+			assertTrue(traceLogger.done());
+
+			/* Umwandlung ber Callback-Logger */
+			final List<CallbackLoggerData> records=new ArrayList<>();
+			final CallbackLogger callbackLogger=new CallbackLogger(data->records.add(new CallbackLoggerData(data.timeStamp,data.color,data.eventClass,data.event,data.id,data.info)));
+			assertNull(BinaryTraceConverter.convert(traceFile,callbackLogger));
+			assertEquals(10_001,records.size());
+			for (int i=0;i<10_000;i++) {
+				final CallbackLoggerData data=records.get(i);
+				assertEquals(i*1000L,data.timeStamp);
+				assertEquals(i%5,data.id);
+				if (i%2==0) {
+					assertEquals("Count",data.event);
+					assertEquals("Wert "+i,data.info);
+					assertEquals(Color.BLACK.getRGB(),data.color.getRGB());
+				} else {
+					assertEquals("Time",data.event);
+					assertEquals("Zeit "+SimData.formatSimTime(3_600_000)+" und "+i,data.info);
+					assertEquals(Color.RED.getRGB(),data.color.getRGB());
+				}
+			}
+			assertEquals("Text",records.get(10_000).event);
+			assertEquals("Info",records.get(10_000).info);
+			assertEquals(7,records.get(10_000).id);
+			assertEquals(Color.BLUE.getRGB(),records.get(10_000).color.getRGB());
+
+			/* Umwandlung in eine CSV-Datei (wie bei SimData.getLogger: Ereignis und Beschreibung in jeweils eigenen Zeilen) */
+			assertTrue(csvFile.delete());
+			assertNull(BinaryTraceConverter.convert(traceFile,csvFile));
+			assertEquals(2*10_001,Files.readAllLines(csvFile.toPath()).size());
+
+			/* Ungltige Trace-Datei */
+			assertNotNull(BinaryTraceConverter.convert(csvFile,new CallbackLogger(data->{})));
+		} finally {
+			traceFile.delete();
+			csvFile.delete();
+		}
+	}
+
+	/**
+	 * Test: Abschluss einer Aufzeichnung ber {@link BinaryTraceLogger#done()} aus einem unterbrochenen Thread heraus
+	 * @throws IOException	Temporre Datei konnte nicht angelegt werden
+	 */
+	@Test
+	void testBinaryTraceLoggingInterrupted() throws IOException {
+		final File traceFile=File.createTempFile("SimulatorBaseTest",BinaryTraceLogger.FILE_EXTENSION);
+		try {
+			final BinaryTraceLogger traceLogger=new BinaryTraceLogger(traceFile,64);
+			assertTrue(traceLogger.ready());
+			final int type=traceLogger.registerType("Count","Wert %d",null,BinaryTraceLogger.ArgumentType.INTEGER);
+			for (int i=0;i<10_000;i++) assertTrue(traceLogger.trace(i,type,0,i,0,0));
+
+			/* Die Unterbrechung darf nicht dazu fhren, dass der Header geschrieben wird, whrend der Schreib-Thread noch luft */
+			Thread.currentThread().interrupt();
+			final boolean done=traceLogger.done();
+			assertTrue(Thread.interrupted());
+			assertTrue(done);
+
+			final List<CallbackLoggerData> records=new ArrayList<>();
+			assertNull(BinaryTraceConverter.convert(traceFile,new CallbackLogger(data->records.add(data))));
+			assertEquals(10_000,records.size());
+			assertEquals(9_999,records.get(9_999).timeStamp);
+		} finally {
+			traceFile.delete();
+		}
+	}
+
+	/**
+	 * Test: Zusammenfhren mehrerer Teil-Aufzeichnungen ber {@link BinaryTraceConverter#convert(List, File)}
+	 * @throws IOException	Temporre Dateien konnten nicht angelegt werden
+	 */
+	@Test
+	void testBinaryTraceMerge() throws IOException {
+		final List<File> segments=new ArrayList<>();
+		final File mergedFile=File.createTempFile("SimulatorBaseTest",BinaryTraceLogger.FILE_EXTENSION);
+		try {
+			/* Teil-Aufzeichnungen (mit in unterschiedlicher Reihenfolge registrierten Typen) */
+			for (int i=0;i<3;i++) {
+				final File segment=File.createTempFile("SimulatorBaseTest",BinaryTraceLogger.FILE_EXTENSION);
+				segments.add(segment);
+				final BinaryTraceLogger logger=new BinaryTraceLogger(segment);
+				if (i==1) logger.registerType("Other","Anderer Typ",null);
+				final int type=logger.registerType("Segment","Teil %d",null,BinaryTraceLogger.ArgumentType.INTEGER);
+				for (int j=0;j<100;j++) assertTrue(logger.trace(j,type,j,i,0,0));
+				assertTrue(logger.log(100,null,"Text",-1,"Ende "+i));
+				assertTrue(logger.done());
+			}
+
+			/* Zusammenfhren in eine Trace-Datei und anschlieend Umwandeln */
+			assertNull(BinaryTraceConverter.convert(segments,mergedFile));
+			final List<String> log=new ArrayList<>();
+			assertNull(BinaryTraceConverter.convert(mergedFile,new CallbackLogger(data->log.add(data.timeStamp+" "+data.event+" "+data.id+" "+data.info))));
+			assertEquals(3*101,log.size());
+			for (int i=0;i<3;i++) {
+				for (int j=0;j<100;j++) assertEquals(j+" Segment "+j+" Teil "+i,log.get(i*101+j));
+				assertEquals("100 Text -1 Ende "+i,log.get(i*101+100));
+			}
+		} finally {
+			for (File segment: segments) segment.delete();
+			mergedFile.delete();
+		}
+	}
+
+	/**
+	 * Test: Aufzeichnung ber {@link SimData#traceEventExecution(int, int, double, double, double)}
+	 * @throws IOException	Temporre Datei konnte nicht angelegt werden
+	 */
+	@Test
+	void testTraceEventExecution() throws IOException {
+		final File traceFile=File.createTempFile("SimulatorBaseTest",BinaryTraceLogger.FILE_EXTENSION);
+		try {
+			final SimData data=new SimData(new PriorityQueueEventManager(),new ListEventCache(),0,1,1000);
+			assertTrue(data.activateLogging(traceFile));
+			assertNotNull(data.traceLogging);
+			final int type=data.traceLogging.registerType("Event","%s",null,BinaryTraceLogger.ArgumentType.NUMBER);
+			data.currentTime=5000;
+			assertTrue(data.traceEventExecution(type,1,0.5,0,0));
+			assertTrue(data.logEventExecution("Event2",2,"Info2"));
+			data.disableLogging();
+			assertNull(data.traceLogging);
+
+			final List<String> log=new ArrayList<>();
+			assertNull(BinaryTraceConverter.convert(traceFile,new CallbackLogger(c->log.add(c.timeStamp+" "+c.event+" "+c.id+" "+c.info))));
+			assertEquals(2,log.size());
+			assertEquals("5000 Event 1 "+NumberTools.formatNumber(0.5),log.get(0));
+			assertEquals("5000 Event2 2 Info2",log.get(1));
+		} finally {
+			traceFile.delete();
+		}
+	}
+
 	/**
 	 * Test: Formatierung der Zeit fr die Logging-Ausgabe
 	 * @see SimData#formatSimTime(long)
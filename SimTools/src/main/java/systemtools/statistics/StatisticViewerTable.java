@@ -57,6 +57,7 @@ import javax.swing.table.TableModel;
 import javax.swing.text.JTextComponent;
 
 import mathtools.NumberTools;
+import mathtools.ColumnTable;
 import mathtools.Table;
 import mathtools.TimeTools;
 import systemtools.BaseDialog;
@@ -68,7 +69,7 @@ import systemtools.images.SimToolsImages;
  * Anzeige von Tabellen dar.
  * @author Alexander Herzog
  * @see StatisticViewer
- * @version 1.6
+ * @version 1.7
  */
 public class StatisticViewerTable implements StatisticViewer {
 	/**
@@ -76,6 +77,12 @@ public class StatisticViewerTable implements StatisticViewer {
 	 */
 	private Table table;
 
+	/**
+	 * Spaltenorientierte Tabelle mit Daten (kann <code>null</code> sein wenn die Daten nicht ber ein {@link ColumnTable}-Objekt geladen werden)
+	 * @see #getTable()
+	 */
+	private ColumnTable columnTable;
+
 	/**
 	 * Spaltentitel der Tabelle
 	 */
@@ -85,6 +92,7 @@ public class StatisticViewerTable implements StatisticViewer {
 	 * Tabelle mit Daten in sortierter und/oder gefilterter Form
 	 * @see #buildTableModel()
 	 * @see #table
+	 * @see #getShowTable()
 	 */
 	private Table showTable;
 
@@ -158,9 +166,11 @@ public class StatisticViewerTable implements StatisticViewer {
 	 * @see #setData(List, List)
 	 * @see #setData(String[][], String[])
 	 * @see #setData(Table, String[])
+	 * @see #setData(ColumnTable, List)
 	 */
 	public StatisticViewerTable() {
 		table=null;
+		columnTable=null;
 		columnNames=new ArrayList<>();
 		sortByColumn=-1;
 		sortDescending=false;
@@ -213,6 +223,7 @@ public class StatisticViewerTable implements StatisticViewer {
 	 */
 	public void setData(List<List<String>> data, List<String> columnNames) {
 		table=new Table(Table.IndexMode.ROWS,data);
+		columnTable=null;
 		this.columnNames=columnNames;
 
 		filter=new ArrayList<>();
@@ -226,6 +237,7 @@ public class StatisticViewerTable implements StatisticViewer {
 	 */
 	public void setData(String[][] arrayData, String[] arrayColumnNames) {
 		table=new Table(Table.IndexMode.ROWS,arrayData);
+		columnTable=null;
 		columnNames=Arrays.asList(arrayColumnNames);
 
 		filter=new ArrayList<>();
@@ -248,12 +260,71 @@ public class StatisticViewerTable implements StatisticViewer {
 	 */
 	public void setData(Table table, List<String> columnNames) {
 		this.table=table;
+		columnTable=null;
+		this.columnNames=columnNames;
+
+		filter=new ArrayList<>();
+		for (int i=0;i<columnNames.size();i++) filter.add(new HashSet<>());
+	}
+
+	/**
+	 * Setzt die Zeilen der Tabelle<br>
+	 * Die Zellen werden erst bei der Anzeige formatiert; ein zeilenorientiertes
+	 * {@link Table}-Objekt wird nur angelegt, wenn gefiltert oder sortiert werden soll.
+	 * @param columnTable	Spaltenorientiertes Tabellen-Objekt, das die anzuzeigenden Daten enthlt
+	 * @param arrayColumnNames	String-Array, das die anzuzeigenden Spaltentitel enthlt
+	 */
+	public void setData(ColumnTable columnTable, String[] arrayColumnNames) {
+		setData(columnTable,Arrays.asList(arrayColumnNames));
+	}
+
+	/**
+	 * Setzt die Zeilen der Tabelle<br>
+	 * Die Zellen werden erst bei der Anzeige formatiert; ein zeilenorientiertes
+	 * {@link Table}-Objekt wird nur angelegt, wenn gefiltert oder sortiert werden soll.
+	 * @param columnTable	Spaltenorientiertes Tabellen-Objekt, das die anzuzeigenden Daten enthlt
+	 * @param columnNames	List, die die anzuzeigenden Spaltentitel enthlt
+	 */
+	public void setData(ColumnTable columnTable, List<String> columnNames) {
+		table=null;
+		this.columnTable=columnTable;
 		this.columnNames=columnNames;
 
 		filter=new ArrayList<>();
 		for (int i=0;i<columnNames.size();i++) filter.add(new HashSet<>());
 	}
 
+	/**
+	 * Liefert die Tabellendaten in zeilenorientierter Form.<br>
+	 * Liegen die Daten spaltenorientiert vor, so wird die Tabelle beim ersten Aufruf erzeugt.
+	 * @return	Tabellendaten
+	 * @see #table
+	 * @see #columnTable
+	 */
+	private Table getTable() {
+		if (table==null && columnTable!=null) table=columnTable.toTable();
+		return table;
+	}
+
+	/**
+	 * Sind Filter oder Sortierung aktiv, so dass die Daten nicht direkt aus {@link #columnTable} angezeigt werden knnen?
+	 * @return	Liefert <code>true</code>, wenn Filter oder Sortierung aktiv sind
+	 */
+	private boolean isFilterOrSortActive() {
+		return sortByColumn>=0 || filter.stream().mapToInt(set->set.size()).max().orElse(0)>0;
+	}
+
+	/**
+	 * Liefert die Tabelle mit Daten in sortierter und/oder gefilterter Form.<br>
+	 * Werden die Daten direkt aus {@link #columnTable} angezeigt, so wird die Tabelle erst bei diesem Aufruf erzeugt.
+	 * @return	Tabelle mit Daten in sortierter und/oder gefilterter Form
+	 * @see #showTable
+	 */
+	private Table getShowTable() {
+		if (showTable==null) showTable=filterAndSortTable(getTable());
+		return showTable;
+	}
+
 	@Override
 	public ViewerType getType() {
 		return ViewerType.TYPE_TABLE;
@@ -539,7 +610,11 @@ public class StatisticViewerTable implements StatisticViewer {
 	 * @see #getViewer(boolean)
 	 */
 	private void buildTableModel() {
-		showTable=filterAndSortTable(table);
+		if (columnTable!=null && !isFilterOrSortActive()) {
+			showTable=null;
+		} else {
+			showTable=filterAndSortTable(getTable());
+		}
 
 		/* Spaltenberschriftung mit Icons versehen */
 		showColumnNames=new ArrayList<>(columnNames);
@@ -548,7 +623,11 @@ public class StatisticViewerTable implements StatisticViewer {
 
 		if (viewerTable!=null) {
 			/* Datenmodell aufstellen und eintragen */
-			viewerTableModel=new StatisticViewerTableModel(showTable,showColumnNames);
+			if (showTable==null) {
+				viewerTableModel=new StatisticViewerTableModel(columnTable,showColumnNames);
+			} else {
+				viewerTableModel=new StatisticViewerTableModel(showTable,showColumnNames);
+			}
 			viewerTable.setModel(viewerTableModel);
 
 			/* Spaltenbreiten neu einstellen */
@@ -575,6 +654,7 @@ public class StatisticViewerTable implements StatisticViewer {
 	 */
 	protected boolean showColValueSelectFilterDialog(final int col) {
 		final Set<String> values=new HashSet<>();
+		final Table table=getTable();
 		final int size=table.getSize(0);
 		for (int i=0;i<size;i++) {
 			final List<String> line=table.getLine(i);
@@ -638,11 +718,20 @@ public class StatisticViewerTable implements StatisticViewer {
 							if (columnNames.isEmpty()) buildTable();
 
 							final StringBuilder text=new StringBuilder();
-							final int size=showTable.getSize(0);
-							for (int i=0;i<size;i++) {
-								final List<String> line=new ArrayList<>(showTable.getLine(i));
-								text.append(line.get(col));
-								text.append("\n");
+							if (showTable==null && columnTable!=null) {
+								final int size=columnTable.getRowCount();
+								for (int i=0;i<size;i++) {
+									text.append(columnTable.getValue(i,col));
+									text.append("\n");
+								}
+							} else {
+								final Table lines=getShowTable();
+								final int size=lines.getSize(0);
+								for (int i=0;i<size;i++) {
+									final List<String> line=new ArrayList<>(lines.getLine(i));
+									text.append(line.get(col));
+									text.append("\n");
+								}
 							}
 							final Transferable transferable=new StringSelection(text.toString());
 							Toolkit.getDefaultToolkit().getSystemClipboard().setContents(transferable,null);
@@ -826,7 +915,18 @@ public class StatisticViewerTable implements StatisticViewer {
 	 * @return	{@link Transferable}-Objekt zum Kopieren in die Zwischenablage
 	 */
 	protected Transferable getTransferableFromTable(final boolean plain, final List<String> columnNames) {
-		return getTransferableFromTable(showTable,plain,columnNames);
+		if (showTable==null && columnTable!=null) {
+			final StringBuilder result=new StringBuilder();
+			if (!plain) addListToStringBuilder(result,columnNames);
+			final int size=columnTable.getRowCount();
+			for (int i=0;i<size;i++) {
+				final List<String> line=columnTable.getLine(i);
+				if (plain) line.remove(0);
+				addListToStringBuilder(result,line);
+			}
+			return new StringSelection(result.toString());
+		}
+		return getTransferableFromTable(getShowTable(),plain,columnNames);
 	}
 
 	/**
@@ -866,7 +966,7 @@ public class StatisticViewerTable implements StatisticViewer {
 
 		Table t=new Table();
 		t.addLine(showColumnNames);
-		t.addLines(showTable.getData());
+		t.addLines(getShowTable().getData());
 		JTextComponent tc=new JTextArea(t.toString());
 		try {tc.print(null,null,true,null,null,true);} catch (PrinterException e) {return false;}
 		return true;
@@ -890,7 +990,7 @@ public class StatisticViewerTable implements StatisticViewer {
 
 		final Table t=new Table();
 		t.addLine(showColumnNames);
-		t.addLines(showTable.getData());
+		t.addLines(getShowTable().getData());
 		return t;
 	}
 
@@ -926,7 +1026,7 @@ public class StatisticViewerTable implements StatisticViewer {
 		if (columnNames.isEmpty()) buildTable();
 		buildTableModel();
 
-		bw.write(showTable.saveToHTML(showColumnNames,true));
+		bw.write(getShowTable().saveToHTML(showColumnNames,true));
 		bw.newLine();
 
 		return nextImageNr;
@@ -937,7 +1037,7 @@ public class StatisticViewerTable implements StatisticViewer {
 		if (columnNames.isEmpty()) buildTable();
 		buildTableModel();
 
-		bw.write(showTable.saveToLaTeX(showColumnNames,true));
+		bw.write(getShowTable().saveToLaTeX(showColumnNames,true));
 		bw.newLine();
 
 		return nextImageNr;
@@ -948,7 +1048,7 @@ public class StatisticViewerTable implements StatisticViewer {
 		if (columnNames.isEmpty()) buildTable();
 		buildTableModel();
 
-		bw.write(showTable.saveToTypst(showColumnNames,true));
+		bw.write(getShowTable().saveToTypst(showColumnNames,true));
 		bw.newLine();
 
 		return nextImageNr;
@@ -1063,8 +1163,9 @@ public class StatisticViewerTable implements StatisticViewer {
 			return name;
 		}).collect(Collectors.toList());
 		if (!pdf.writeStyledTableHeader(filteredShowColumnNames)) return false;
-		final int size=Math.min(showTable.getSize(0),showTable.findLastNonNullRow(true)+2);
-		for (int i=0;i<size;i++) if (!pdf.writeStyledTableLine(showTable.getLine(i),i==size-1)) return false;
+		final Table lines=getShowTable();
+		final int size=Math.min(lines.getSize(0),lines.findLastNonNullRow(true)+2);
+		for (int i=0;i<size;i++) if (!pdf.writeStyledTableLine(lines.getLine(i),i==size-1)) return false;
 
 		return true;
 	}
@@ -8,6 +8,7 @@ import java.util.regex.PatternSyntaxException;
 
 import javax.swing.table.AbstractTableModel;
 
+import mathtools.ColumnTable;
 import mathtools.Table;
 
 /**
@@ -28,6 +29,9 @@ public class StatisticViewerTableModel extends AbstractTableModel {
 	/** Weitere Option zur Speicherung der Daten in der Tabelle */
 	private final Table table;
 
+	/** Weitere Option zur Speicherung der Daten in der Tabelle (spaltenorientiert, Zellen werden erst bei Bedarf formatiert) */
+	private final ColumnTable columnTable;
+
 	/** Spaltenberschriften */
 	private final List<String> columnNames;
 
@@ -48,6 +52,7 @@ public class StatisticViewerTableModel extends AbstractTableModel {
 	public StatisticViewerTableModel(final List<List<String>> data, final List<String> columnNames) {
 		this.data=data;
 		this.table=null;
+		this.columnTable=null;
 		this.columnNames=columnNames;
 	}
 
@@ -59,6 +64,19 @@ public class StatisticViewerTableModel extends AbstractTableModel {
 	public StatisticViewerTableModel(final Table table, final List<String> columnNames) {
 		this.data=null;
 		this.table=table;
+		this.columnTable=null;
+		this.columnNames=columnNames;
+	}
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param columnTable	Daten in der Tabelle
+	 * @param columnNames	Spaltennnamen
+	 */
+	public StatisticViewerTableModel(final ColumnTable columnTable, final List<String> columnNames) {
+		this.data=null;
+		this.table=null;
+		this.columnTable=columnTable;
 		this.columnNames=columnNames;
 	}
 
@@ -93,6 +111,7 @@ public class StatisticViewerTableModel extends AbstractTableModel {
 
 	@Override
 	public int getRowCount() {
+		if (columnTable!=null) return columnTable.getRowCount();
 		if (table==null) {
 			if (data==null || data.isEmpty()) return 0;
 			return data.size();
@@ -113,7 +132,9 @@ public class StatisticViewerTableModel extends AbstractTableModel {
 
 		String result;
 
-		if (table==null) {
+		if (columnTable!=null) {
+			result=columnTable.getValue(rowIndex,columnIndex);
+		} else if (table==null) {
 			if (data==null || data.isEmpty()) return "";
 			if (rowIndex>=data.size()) return "";
 			final List<String> row=data.get(rowIndex);
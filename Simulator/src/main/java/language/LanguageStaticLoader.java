@@ -28,6 +28,7 @@ import mathtools.distribution.swing.JDistributionEditorPanel;
 import mathtools.distribution.swing.JDistributionPanel;
 import mathtools.distribution.tools.DistributionFitter;
 import mathtools.distribution.tools.DistributionTools;
+import simcore.logging.BinaryTraceConverter;
 import statistics.StatisticsCountPerformanceIndicator;
 import statistics.StatisticsDataCollector;
 import statistics.StatisticsDataPerformanceIndicator;
@@ -866,6 +867,11 @@ public class LanguageStaticLoader {
 		StatisticsBasePanel.fileTypeTEX=Language.tr("FileType.LaTeX");
 		StatisticsBasePanel.fileTypeTYP=Language.tr("FileType.Typst");
 
+		/* Binre Trace-Dateien */
+		BinaryTraceConverter.errorRead=Language.tr("Simulator.Trace.Error.Read");
+		BinaryTraceConverter.errorFormat=Language.tr("Simulator.Trace.Error.Format");
+		BinaryTraceConverter.errorWrite=Language.tr("Simulator.Trace.Error.Write");
+
 		/* Kommandozeilen-System */
 		BaseCommandLineSystem.errorBig=Language.tr("Dialog.Title.Error").toUpperCase();
 		BaseCommandLineSystem.unknownCommand=Language.tr("CommandLine.UnknownCommand");
@@ -88,6 +88,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[193] = "Standardabweichung";
     t[194] = "Color.FFDAB9";
     t[195] = "Peach Puff";
+    t[202] = "LoadCalculator.StaffingTable.ArrivalRateTo";
+    t[203] = "Ankunftsrate bis (in % der eingestellten Ankunftsrate)";
     t[208] = "Distribution.Unknown";
     t[209] = "unbekannte Verteilung";
     t[210] = "Main.Menu.File.Save";
@@ -102,6 +104,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[223] = "Olive Drab";
     t[228] = "Statistic.Viewer.Toolbar.Search.DialogSearchString";
     t[229] = "Suchbegriff";
+    t[230] = "SimStatistic.SystemData.WarmUpPeriod.Info";
+    t[231] = "%s Erstanrufer (Minimum: %s, Maximum: %s)";
     t[234] = "Statistic.QueueLength.of";
     t[235] = "der Warteschlangenl\u00e4nge";
     t[236] = "Editor.NewerVersion.Title";
@@ -220,6 +224,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[469] = "Anzahl an Kunden in Bedienung";
     t[472] = "Simulator.Log.CallCancelEvent";
     t[473] = "CallCancelEvent";
+    t[476] = "CommandLine.Benchmark.ResultsSaveError";
+    t[477] = "Die Ergebnisse konnten nicht in der Datei %s gespeichert werden.";
     t[478] = "Distribution.FatigueLife";
     t[479] = "Fatigue-Life-Verteilung";
     t[480] = "Statistics.XML.Autocorrelation";
@@ -344,6 +350,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[775] = "Rasengr\u00fcn";
     t[782] = "Compare.Error.NoModelKept.Info2";
     t[783] = "Bisher wurde kein Modell festgehalten, zu dem zur\u00fcckgekehrt werden k\u00f6nnte.";
+    t[786] = "CommandLine.Benchmark.Efficiency";
+    t[787] = "Parallele Effizienz";
     t[788] = "Statistic.Viewer.Toolbar.Settings";
     t[789] = "Einstellungen";
     t[790] = "FileType.xmz";
@@ -374,6 +382,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[845] = "der Nachbearbeitungszeiten";
     t[846] = "Distribution.LogLogistic";
     t[847] = "Log-Logistische Verteilung";
+    t[854] = "CommandLine.Benchmark.BytesPerEvent";
+    t[855] = "Angelegter Speicher pro Ereignis";
     t[860] = "Color.8B4513";
     t[861] = "Saddle Braun";
     t[864] = "QSExport.xml.Element.Connection.Element1";
@@ -450,6 +460,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[983] = "Daten importieren";
     t[984] = "SettingsDialog.Theme";
     t[985] = "Thema";
+    t[986] = "Simulator.Trace.Error.Read";
+    t[987] = "Die Trace-Datei %s konnte nicht gelesen werden.";
     t[994] = "SetupFailure.Discard";
     t[995] = "Ge\u00e4nderte Einstellungen verwerfen, Programm beenden.";
     t[998] = "Statistic.Tree.Parameter.Hint";
@@ -498,6 +510,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[1089] = "Inverse Gau\u00df-Verteilung";
     t[1090] = "Statistics.XML.AutocorrelationData.Error";
     t[1091] = "Das \"Autokorrelation\"-Attribut im \"%s\"-Element muss die Autokorrelationswerte beinhalten.";
+    t[1104] = "CommandLine.TraceConvert.Description.Long";
+    t[1105] = "Dieser Befehl erwartet zwei weitere Parameter: Den Namen der bin\u00e4ren Trace-Datei\n(aufgezeichnet in eine Logdatei mit der Endung \".trace\") und den Namen der Ausgabedatei.\nDas Format der Ausgabedatei wird \u00fcber die Dateinamenserweiterung bestimmt\n(\".txt\", \".csv\", \".html\" oder \".rtf\").";
     t[1114] = "Viewer.Title";
     t[1115] = "Modell betrachten";
     t[1116] = "Statistics.XML.ThreadRunTimes";
@@ -538,6 +552,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[1195] = "Anzahl an Agenten";
     t[1198] = "Dialog.Overwrite.Title";
     t[1199] = "Vorhendene Datei \u00fcberschreiben";
+    t[1202] = "CommandLine.Benchmark.RegressionCheckPassed";
+    t[1203] = "Gegen\u00fcber den Vergleichswerten aus %s wurden keine Leistungsr\u00fcckg\u00e4nge festgestellt.";
     t[1204] = "Color.D8BFD8";
     t[1205] = "Thistle";
     t[1210] = "LoadCalculator.FlowFactor";
@@ -552,6 +568,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[1243] = "Beschreibung des Befehls";
     t[1246] = "Statistics.InterArrivalTimes";
     t[1247] = "Zwischenankunftszeiten";
+    t[1248] = "Editor.General.AutoWarmUp";
+    t[1249] = "Einschwingphase automatisch bestimmen (MSER-5; die obige Anzahl wird dann nur f\u00fcr die ersten Simulationstage verwendet)";
     t[1250] = "Distribution.ErlangInfo";
     t[1251] = "<p>Die Erlang-Verteilung stellt einen Spezialfall der <b>Gamma-Verteilung</b> dar. Bei der Modellierung ist es daher fast immer sinnvoller, direkt die Gamma-Verteilung zu verwenden.</p>\n<p>Von mathematischen Standpunkt her stellt die Erlang-Verteilung die Hintereinanderausf\u00fchrung mehrerer Exponentialverteilungen dar und ist daher in der Theorie von Bedeutung.</p>";
     t[1252] = "SettingsDialog.ImageResolution";
@@ -638,6 +656,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[1433] = "Alle Dialogseiten";
     t[1434] = "Distribution.ChiSquareWikipedia";
     t[1435] = "https://de.wikipedia.org/wiki/Chi-Quadrat-Verteilung";
+    t[1436] = "Simulator.Trace.Error.Write";
+    t[1437] = "Die Ausgabedatei %s konnte nicht geschrieben werden.";
     t[1440] = "Main.Menu.Help.ProgramInformation.Mnemonic";
     t[1441] = "P";
     t[1444] = "Distribution.UQuadraticWikipedia";
@@ -730,6 +750,10 @@ public class Messages_de extends java.util.ResourceBundle {
     t[1657] = "Keine Daten zum Speichern ausgew\u00e4hlt";
     t[1660] = "Color.FFFFE0";
     t[1661] = "Hellgelb";
+    t[1666] = "CommandLine.TraceConvert.Done";
+    t[1667] = "Die Trace-Datei wurde in die Datei %s umgewandelt.";
+    t[1668] = "Model.XML.AdaptDayLength";
+    t[1669] = "ModellTageslaengeAnpassen";
     t[1670] = "FileType.WordTable";
     t[1671] = "Word-Text mit eingebetteter Tabelle";
     t[1676] = "Statistic.Viewer.Report.Settings.Reset.ThisPage";
@@ -1036,6 +1060,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[2401] = "Einlaufend";
     t[2402] = "Help.StartPage.Info";
     t[2403] = "Zeigt die Startseite der Hilfe an.";
+    t[2404] = "CommandLine.Benchmark.WarmUp";
+    t[2405] = "Aufw\u00e4rmlauf (wird nicht gewertet)";
     t[2406] = "SimStatistic.NumberOfCallers.byModel";
     t[2407] = "Erstanrufer laut Modell";
     t[2408] = "Simulator.Log.ScheduleCall";
@@ -1054,6 +1080,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[2429] = "AnteilErfolg";
     t[2430] = "Statistic.Viewer.Toolbar.Print";
     t[2431] = "Drucken";
+    t[2432] = "CommandLine.Benchmark.GCCount";
+    t[2433] = "Garbage Collections";
     t[2442] = "Compare.ReplaceKeptModel.Info";
     t[2443] = "Es wurde bereits zu einem fr\u00fcheren Zeitpunkt ein Modell f\u00fcr den Vergleich festgehalten. Soll dieses jetzt durch das aktuelle Modell ersetzt werden?";
     t[2444] = "ModelInfo.Title";
@@ -1086,6 +1114,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[2485] = "Men\u00fc in Titelzeile";
     t[2490] = "QSExport.xml.Element.Text";
     t[2491] = "ModellElementText";
+    t[2492] = "LoadCalculator.StaffingTable";
+    t[2493] = "Personalbedarfstabelle...";
     t[2494] = "Statistic.Viewer.Report.Settings.Footer.PageNumber";
     t[2495] = "Seitennummer in Fu\u00dfzeile";
     t[2496] = "JDistributionEditor.Title";
@@ -1148,6 +1178,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[2599] = "T";
     t[2602] = "Main.Menu.File.LoadStatistics";
     t[2603] = "Statistik laden...";
+    t[2608] = "Editor.General.WarmStart";
+    t[2609] = "Simulationstage im station\u00e4ren Zustand (Erlang-C-N\u00e4herung) beginnen (die Einschwingphase wird auf 10% verk\u00fcrzt; die Startkunden gehen nicht in die Statistik ein)";
     t[2610] = "Editor.Retry";
     t[2611] = "Wiederholungen";
     t[2618] = "InfoDialog.Version";
@@ -1178,6 +1210,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[2689] = "Das Element \"%s\" muss eine Liste von Zahlenwerten enthalten.";
     t[2698] = "LoadCalculator.OptionHanschke";
     t[2699] = "Hanschke Korrekturterm verwenden";
+    t[2706] = "CommandLine.Benchmark.Imbalance";
+    t[2707] = "Ungleichgewicht der Thread-Laufzeiten (Maximum/Mittelwert)";
     t[2710] = "Color.0000FF";
     t[2711] = "Blau";
     t[2714] = "Main.Menu.Simulation.Mnemonic";
@@ -1222,6 +1256,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[2819] = "Erreichbarkeit";
     t[2820] = "Statistics.Details";
     t[2821] = "Details";
+    t[2832] = "LoadCalculator.StaffingTable.AgentsTo";
+    t[2833] = "Anzahl an Agenten bis";
     t[2838] = "CommandLine.ReportBase.Error.Output";
     t[2839] = "Die Ausgabedatei %s existiert bereits.";
     t[2842] = "XML.ErrorCreatingZipFile";
@@ -1288,6 +1324,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[2983] = "Gamma-Verteilung";
     t[2986] = "FileType.SYLK";
     t[2987] = "Symbolic Link Dateien";
+    t[2990] = "LoadCalculator.StaffingTable.TooManyRows";
+    t[2991] = "Die Tabelle darf h\u00f6chstens %s Zeilen umfassen.";
     t[2992] = "Color.9370DB";
     t[2993] = "Mittleres Purpur";
     t[2998] = "SimStatistic.of.Calls";
@@ -1310,6 +1348,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[3025] = "SQLite-Datenbanken";
     t[3026] = "Color.E0FFFF";
     t[3027] = "Helles Zyan";
+    t[3028] = "Model.XML.AutoWarmUp";
+    t[3029] = "ModellAutomatischeEinschwingphase";
     t[3034] = "Distribution.NormalWikipedia";
     t[3035] = "https://de.wikipedia.org/wiki/Normalverteilung";
     t[3046] = "Color.B8860B";
@@ -1394,6 +1434,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[3191] = "Cosinus-Verteilung";
     t[3194] = "Statistic.Viewer.Context.SelectColumn";
     t[3195] = "Spalte ausw\u00e4hlen";
+    t[3196] = "SimStatistic.SystemData.WarmUpPeriod";
+    t[3197] = "Einschwingphase pro Simulationstag";
     t[3198] = "QSExport.xml.Element.Text.FontBold";
     t[3199] = "fett";
     t[3202] = "Color.FF8C00";
@@ -1582,6 +1624,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[3617] = "Das Modell kann vollst\u00e4ndig analytisch beschrieben werden.";
     t[3620] = "Statistic.Viewer.Context.Copy";
     t[3621] = "Kopieren";
+    t[3622] = "Model.XML.WarmStart";
+    t[3623] = "ModellStationaererStart";
     t[3628] = "Statistic.Viewer.Toolbar.Zoom.HintPanel";
     t[3629] = "In dem Diagramm k\u00f6nnen mit gedr\u00fcckter linker Maustaste Zoom-Rahmen aufgezogen werden. Au\u00dferdem kann mit dem Mausrad gezoomt werden. Wird die Strg-Taste gedr\u00fcckt gehalten, so kann der darzustellende Bereich mit gedr\u00fcckter linker Maustaste verschoben werden.";
     t[3630] = "Color.F5FFFA";
@@ -1630,6 +1674,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[3713] = "Das Zaehler-Attribut im \"%s\"-Element muss eine Zahl sein, ist aber \"%s\".";
     t[3716] = "Statistics.XML.Root";
     t[3717] = "Statistik";
+    t[3726] = "CommandLine.Benchmark.RegressionCheckFailed";
+    t[3727] = "Gegen\u00fcber den Vergleichswerten aus %s wurden Leistungsr\u00fcckg\u00e4nge festgestellt.";
     t[3732] = "Simulation.OutOfMemory";
     t[3733] = "Es ist kein weiterer Arbeitsspeicher verf\u00fcgbar.";
     t[3734] = "Statistic.Viewer.Toolbar.Copy";
@@ -1660,6 +1706,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[3769] = "Vergleich mit analytischen Modellen";
     t[3770] = "Dialog.Button.Help";
     t[3771] = "Hilfe";
+    t[3774] = "LoadCalculator.StaffingTable.ArrivalRateSteps";
+    t[3775] = "Anzahl an Ankunftsraten";
     t[3776] = "Distribution.InverseGamma";
     t[3777] = "Inverse Gamma-Verteilung";
     t[3778] = "SettingsDialog.Theme.System";
@@ -1722,6 +1770,10 @@ public class Messages_de extends java.util.ResourceBundle {
     t[3947] = "Verweilzeit eines erfolgreichen Anrufers";
     t[3948] = "Table.LoadErrorLastCellInvalid";
     t[3949] = "Die angegebene Endzelle \"%s\" ist ung\u00fcltig.";
+    t[3956] = "CommandLine.TraceConvert.Name";
+    t[3957] = "TraceUmwandeln";
+    t[3958] = "CommandLine.Benchmark.GCTime";
+    t[3959] = "Zeit f\u00fcr Garbage Collection pro Lauf";
     t[3960] = "Color.008080";
     t[3961] = "Teal";
     t[3962] = "JDistributionEditor.Load.Error";
@@ -1772,6 +1824,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[4053] = "Diese Datei wurde mit %s erstellt. Download-Adresse: %s";
     t[4058] = "MainMenu.Help.ErlangScripts";
     t[4059] = "Skripte f\u00fcr Erlang-Formeln";
+    t[4070] = "LoadCalculator.StaffingTable.Title";
+    t[4071] = "Personalbedarfstabelle";
     t[4082] = "Distribution.BinomialInfo";
     t[4083] = "<p>Die Binomialverteilung ist eine diskrete Wahrscheinlichkeitsverteilung. Sie ist folglich nicht daf\u00fcr geeignet, Zeitdauern zu beschreiben, sondern zuf\u00e4llige Prozesse, die jeweils diskrete Werte annehmen k\u00f6nnen.</p>\n<p>Die Binomialverteilung beschreibt die Wahrscheinlichkeiten beim <b>Ziehen mit Zur\u00fccklegen</b> aus einer Urne in der Kugeln mit zwei verschiedenen Farben enthalten sind.</p>";
     t[4084] = "Distribution.DiscreteUniformWikipedia";
@@ -1824,6 +1878,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[4175] = "Warteraum der Gr\u00f6\u00dfe K";
     t[4176] = "QSExport.xml.Element.Connection.Status";
     t[4177] = "Status";
+    t[4180] = "LoadCalculator.StaffingTable.SaveError";
+    t[4181] = "Die Tabelle konnte nicht in der Datei %s gespeichert werden.";
     t[4182] = "Color.F08080";
     t[4183] = "Helles Coral";
     t[4184] = "Table.BoolTrue";
@@ -1844,6 +1900,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[4219] = "Anteil der Anrufer, der warten musste";
     t[4220] = "JDataLoader.ImportErrorTooManyCells";
     t[4221] = "Es wurden %s Zellen ausgew\u00e4hlt. Es d\u00fcrfen jedoch h\u00f6chstens %s Zellen importiert werden.";
+    t[4222] = "CommandLine.Benchmark.ResultsSaved";
+    t[4223] = "Die Ergebnisse wurden in der Datei %s gespeichert.";
     t[4226] = "Statistics.XML.ValuesError";
     t[4227] = "Das WerteSumme-Attribut im \"%s\"-Element muss eine Zahl sein, ist aber \"%s\".";
     t[4232] = "Dialog.Overwrite.No";
@@ -1978,6 +2036,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[4577] = "Funktionsplotter";
     t[4588] = "Statistic.Description.Show.Hint";
     t[4589] = "Zeigt zus\u00e4tzliche Erkl\u00e4rungen zu dieser Statistikseiten an.";
+    t[4592] = "Editor.General.AdaptDayLength";
+    t[4593] = "L\u00e4nge der Simulationstage an den gemessenen Aufwand pro Tag anpassen (schneller, aber die Anzahl an Tagen ist nicht reproduzierbar)";
     t[4594] = "Distribution.CauchyWikipedia";
     t[4595] = "https://de.wikipedia.org/wiki/Cauchy-Verteilung";
     t[4596] = "Statistic.Viewer.Toolbar.OpenODT.Hint";
@@ -2018,6 +2078,8 @@ public class Messages_de extends java.util.ResourceBundle {
   static void clinit_part_1 (java.lang.String[] t) {
     t[4690] = "Statistic.Viewer.Report.SaveHTMLImages";
     t[4691] = "Bitte w\u00e4hlen Sie aus, wie Bilder in der Zusammenfassung gespeichert werden sollen";
+    t[4698] = "LoadCalculator.StaffingTable.AgentsFrom";
+    t[4699] = "Anzahl an Agenten von";
     t[4702] = "CommandLine.Benchmark.EventsPerSecond";
     t[4703] = "Ereignisse pro Sekunde";
     t[4704] = "Statistic.Viewer.DiagramSettings.Outline.Width";
@@ -2108,6 +2170,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[4885] = "https://de.wikipedia.org/wiki/Dreiecksverteilung";
     t[4888] = "Statistics.XML.Retry";
     t[4889] = "StatistikAnrufeWiederholung";
+    t[4894] = "Simulator.Trace.Error.Format";
+    t[4895] = "Die Datei %s ist keine g\u00fcltige Trace-Datei.";
     t[4896] = "Statistics.XML.BatchCount";
     t[4897] = "BatchAnzahl";
     t[4904] = "Statistics.XML.BatchSize";
@@ -2237,11 +2301,15 @@ public class Messages_de extends java.util.ResourceBundle {
     t[5168] = "QSExport.xml.Element.Edge";
     t[5169] = "ModellElementKante";
     t[5170] = "CommandLine.Benchmark.Description.Long";
-    t[5171] = "Dieser Befehl erwartet einen oder keine weiteren Parameter.\nWird ein Parameter \u00fcbergeben, so gibt dieser entweder die maximale Thread-Anzahl an,\ndie verwendet werden sollen, oder den Dateinamen des zu verwendenden Modells.";
+    t[5171] = "Dieser Befehl erwartet bis zu vier weitere Parameter (in beliebiger Reihenfolge):\nEine Zahl gibt die maximale Thread-Anzahl an, bis zu der die Simulation nacheinander\nmit 1, 2, ... Threads ausgef\u00fchrt wird. Ein Dateiname, der auf \".csv\" oder \".json\" endet,\ngibt eine (noch nicht existierende) Datei an, in der die Ergebnisse gespeichert werden sollen.\nEine bereits existierende \".csv\"-Datei aus einem fr\u00fcheren Lauf wird als Vergleichsbasis verwendet:\nSinken die Ereignisse pro Sekunde um mehr als 10% oder steigt der angelegte Speicher pro Ereignis\num mehr als 10%, so wird ein Leistungsr\u00fcckgang als Fehler gemeldet.\nJeder andere Parameter wird als Dateiname des zu verwendenden Modells interpretiert.";
     t[5174] = "Model.XML.NumberOfAgents";
     t[5175] = "ModellAgentenanzahl";
     t[5178] = "Color.BC8F8F";
     t[5179] = "Rosy Braun";
+    t[5184] = "CommandLine.Benchmark.Regression";
+    t[5185] = "Leistungsr\u00fcckgang bei %s Threads: %s=%s (Vergleichswert: %s)";
+    t[5186] = "LoadCalculator.StaffingTable.Info";
+    t[5187] = "Berechnet die Kenngr\u00f6\u00dfen f\u00fcr Bereiche von Agentenanzahlen und Ankunftsraten.";
     t[5194] = "Window.Info.FolderError";
     t[5195] = "Ordner anzeigen fehlgeschlagen";
     t[5196] = "CalculatorDialog.Plotter.Toolbar.Copy.Hint";
@@ -2336,6 +2404,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[5369] = "Volllastanteil";
     t[5370] = "SettingsDialog.WindowSizeProgrmStart";
     t[5371] = "Fenstergr\u00f6\u00dfe beim Programmstart";
+    t[5372] = "FileType.Trace";
+    t[5373] = "Bin\u00e4re Trace-Dateien";
     t[5380] = "Statistic.Viewer.Toolbar.OpenODS.Hint";
     t[5381] = "Tabelle in OpenOffice/LibreOffice anzeigen";
     t[5382] = "Color.5F9EA0";
@@ -2436,6 +2506,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[5571] = "unendlich";
     t[5572] = "QSExport.xml.Element.Decide.Mode";
     t[5573] = "ModellElementVerzweigungsmodus";
+    t[5574] = "CommandLine.Benchmark.Speedup";
+    t[5575] = "Beschleunigung gegen\u00fcber einem Thread";
     t[5582] = "Main.Menu.Extras.KeepModel.Mnemonic";
     t[5583] = "A";
     t[5592] = "JDataLoader.Sheet";
@@ -2512,6 +2584,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[5747] = "Simulationsergebnisse zum Vergleich";
     t[5748] = "LoadCalculator.Units.Hours";
     t[5749] = "Stunden";
+    t[5752] = "SimStatistic.SystemData.WarmUpPeriod.Auto";
+    t[5753] = "Die Einschwingphase wurde auf Basis der ersten Simulationstage automatisch \u00fcber die MSER-5-Regel bestimmt.";
     t[5756] = "CommandLine.Dialog.Results";
     t[5757] = "Ergebnisse";
     t[5762] = "SettingsDialog.Languages.German";
@@ -2550,6 +2624,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[5827] = "TryStartCall";
     t[5832] = "LoadCalculator.ErlangCNotCalculateable";
     t[5833] = "nicht berechenbar (zu wenig Agenten)";
+    t[5838] = "LoadCalculator.StaffingTable.Status";
+    t[5839] = "%s Zeilen in %s ms berechnet.";
     t[5850] = "ModelInfo.ServedClients.Line1";
     t[5851] = "Bediente Kunden";
     t[5852] = "ModelInfo.ServedClients.Line2";
@@ -2644,6 +2720,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[6081] = "Warteschlangenrechner...";
     t[6084] = "Statistic.Tree.Parameter.BookmarkOff";
     t[6085] = "Als Bookmark abw\u00e4hlen";
+    t[6090] = "Statistics.XML.WarmUpPeriod";
+    t[6091] = "Einschwingphase";
     t[6092] = "Color.ADD8E6";
     t[6093] = "Hellblau";
     t[6094] = "Distribution.Frechet";
@@ -3006,8 +3084,12 @@ public class Messages_de extends java.util.ResourceBundle {
     t[6831] = "Besetztzeichenquote";
     t[6836] = "JDataLoader.ImportErrorFileError";
     t[6837] = "Die Datei %s konnte nicht geladen werden.";
+    t[6842] = "CommandLine.Benchmark.BaselineLoadError";
+    t[6843] = "Die Vergleichsdatei %s konnte nicht geladen werden.";
     t[6844] = "Statistic.Viewer.Context.Filter.Select";
     t[6845] = "Werte ausw\u00e4hlen...";
+    t[6848] = "LoadCalculator.StaffingTable.ArrivalRateFrom";
+    t[6849] = "Ankunftsrate von (in % der eingestellten Ankunftsrate)";
     t[6852] = "Distribution.DiscreteUniform";
     t[6853] = "Diskrete Gleichverteilung";
     t[6856] = "QSExport.xml.SecondaryResourcePriority";
@@ -3090,6 +3172,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[7035] = "Das Nenner-Attribut im \"%s\"-Element muss eine Zahl sein, ist aber \"%s\".";
     t[7040] = "JDistributionEditor.Edit.Info";
     t[7041] = "\u00d6ffnet den Dialog zum Bearbeiten der Verteilung";
+    t[7044] = "CommandLine.TraceConvert.Description.Short";
+    t[7045] = "Wandelt eine bin\u00e4re Trace-Datei in eine Logdatei um.";
     t[7046] = "Statistic.TimeShare";
     t[7047] = "Zeitanteil";
     t[7048] = "XML.NoInputObjectSelected";
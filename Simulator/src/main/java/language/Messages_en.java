@@ -88,6 +88,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[193] = "StandardDeviation";
     t[194] = "Color.FFDAB9";
     t[195] = "Peach Puff";
+    t[202] = "LoadCalculator.StaffingTable.ArrivalRateTo";
+    t[203] = "Arrival rate to (in % of the configured arrival rate)";
     t[208] = "Distribution.Unknown";
     t[209] = "unknown distribution";
     t[210] = "Main.Menu.File.Save";
@@ -102,6 +104,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[223] = "Olive drab";
     t[228] = "Statistic.Viewer.Toolbar.Search.DialogSearchString";
     t[229] = "Search string";
+    t[230] = "SimStatistic.SystemData.WarmUpPeriod.Info";
+    t[231] = "%s fresh calls (minimum: %s, maximum: %s)";
     t[234] = "Statistic.QueueLength.of";
     t[235] = "of the queue length";
     t[236] = "Editor.NewerVersion.Title";
@@ -220,6 +224,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[469] = "number of clients in service process";
     t[472] = "Simulator.Log.CallCancelEvent";
     t[473] = "CallCancelEvent";
+    t[476] = "CommandLine.Benchmark.ResultsSaveError";
+    t[477] = "The results could not be saved to the file %s.";
     t[478] = "Distribution.FatigueLife";
     t[479] = "Fatigue life distribution";
     t[480] = "Statistics.XML.Autocorrelation";
@@ -344,6 +350,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[775] = "Lawn green";
     t[782] = "Compare.Error.NoModelKept.Info2";
     t[783] = "There is no kept model to which could be returned.";
+    t[786] = "CommandLine.Benchmark.Efficiency";
+    t[787] = "Parallel efficiency";
     t[788] = "Statistic.Viewer.Toolbar.Settings";
     t[789] = "Settings";
     t[790] = "FileType.xmz";
@@ -374,6 +382,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[845] = "of the post processing time";
     t[846] = "Distribution.LogLogistic";
     t[847] = "Log-logistic distribution";
+    t[854] = "CommandLine.Benchmark.BytesPerEvent";
+    t[855] = "Allocated memory per event";
     t[860] = "Color.8B4513";
     t[861] = "Saddle brown";
     t[864] = "QSExport.xml.Element.Connection.Element1";
@@ -450,6 +460,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[983] = "Import data";
     t[984] = "SettingsDialog.Theme";
     t[985] = "Theme";
+    t[986] = "Simulator.Trace.Error.Read";
+    t[987] = "The trace file %s could not be read.";
     t[994] = "SetupFailure.Discard";
     t[995] = "Discard changed settings, quit program.";
     t[998] = "Statistic.Tree.Parameter.Hint";
@@ -498,6 +510,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[1089] = "Inverse gaussian distribution";
     t[1090] = "Statistics.XML.AutocorrelationData.Error";
     t[1091] = "The \"Autocorrelation\" attribute in the \"%s\" element has to contain the autocorrelation values.";
+    t[1104] = "CommandLine.TraceConvert.Description.Long";
+    t[1105] = "This command expects two additional parameters: The name of the binary trace file\n(recorded to a log file with the extension \".trace\") and the name of the output file.\nThe format of the output file is determined by the file name extension\n(\".txt\", \".csv\", \".html\" or \".rtf\").";
     t[1114] = "Viewer.Title";
     t[1115] = "View model";
     t[1116] = "Statistics.XML.ThreadRunTimes";
@@ -538,6 +552,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[1195] = "Number of agents";
     t[1198] = "Dialog.Overwrite.Title";
     t[1199] = "Overwrite existing file";
+    t[1202] = "CommandLine.Benchmark.RegressionCheckPassed";
+    t[1203] = "No performance regressions compared to the reference values from %s were detected.";
     t[1204] = "Color.D8BFD8";
     t[1205] = "Thistle";
     t[1210] = "LoadCalculator.FlowFactor";
@@ -552,6 +568,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[1243] = "Description for the command";
     t[1246] = "Statistics.InterArrivalTimes";
     t[1247] = "Inter-arrival times";
+    t[1248] = "Editor.General.AutoWarmUp";
+    t[1249] = "Determine the warm-up phase automatically (MSER-5; the number above is then only used for the first simulation days)";
     t[1250] = "Distribution.ErlangInfo";
     t[1251] = "<p>The Erlang distribution is a special case of the <b>Gamma distribution</b>. When modeling, it therefore almost always makes more sense to use the gamma distribution directly.</p>\n<p>From a mathematical point of view, the Erlang distribution represents the successive execution of several exponential distributions and is therefore important in theory.</p>";
     t[1252] = "SettingsDialog.ImageResolution";
@@ -638,6 +656,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[1433] = "All pages";
     t[1434] = "Distribution.ChiSquareWikipedia";
     t[1435] = "https://en.wikipedia.org/wiki/Chi-squared_distribution";
+    t[1436] = "Simulator.Trace.Error.Write";
+    t[1437] = "The output file %s could not be written.";
     t[1440] = "Main.Menu.Help.ProgramInformation.Mnemonic";
     t[1441] = "P";
     t[1444] = "Distribution.UQuadraticWikipedia";
@@ -730,6 +750,10 @@ public class Messages_en extends java.util.ResourceBundle {
     t[1657] = "No data selected for saving";
     t[1660] = "Color.FFFFE0";
     t[1661] = "Light yellow";
+    t[1666] = "CommandLine.TraceConvert.Done";
+    t[1667] = "The trace file has been converted to the file %s.";
+    t[1668] = "Model.XML.AdaptDayLength";
+    t[1669] = "ModelAdaptDayLength";
     t[1670] = "FileType.WordTable";
     t[1671] = "Word text with embedded table";
     t[1676] = "Statistic.Viewer.Report.Settings.Reset.ThisPage";
@@ -1036,6 +1060,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[2401] = "In";
     t[2402] = "Help.StartPage.Info";
     t[2403] = "Shows the start page of the help information.";
+    t[2404] = "CommandLine.Benchmark.WarmUp";
+    t[2405] = "Warm-up run (not counted)";
     t[2406] = "SimStatistic.NumberOfCallers.byModel";
     t[2407] = "Fresh calls by model";
     t[2408] = "Simulator.Log.ScheduleCall";
@@ -1054,6 +1080,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[2429] = "PartSuccess";
     t[2430] = "Statistic.Viewer.Toolbar.Print";
     t[2431] = "Print";
+    t[2432] = "CommandLine.Benchmark.GCCount";
+    t[2433] = "garbage collections";
     t[2442] = "Compare.ReplaceKeptModel.Info";
     t[2443] = "There is already a model which is kept for comparison. Do you want to replace the kept model by the current model?";
     t[2444] = "ModelInfo.Title";
@@ -1086,6 +1114,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[2485] = "Menu in window title";
     t[2490] = "QSExport.xml.Element.Text";
     t[2491] = "ModelElementText";
+    t[2492] = "LoadCalculator.StaffingTable";
+    t[2493] = "Staffing table...";
     t[2494] = "Statistic.Viewer.Report.Settings.Footer.PageNumber";
     t[2495] = "Page number in footer";
     t[2496] = "JDistributionEditor.Title";
@@ -1148,6 +1178,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[2599] = "t";
     t[2602] = "Main.Menu.File.LoadStatistics";
     t[2603] = "Load statistics...";
+    t[2608] = "Editor.General.WarmStart";
+    t[2609] = "Start simulation days in the steady state (Erlang C approximation; the warm-up phase is shortened to 10%; the initial customers are not recorded in the statistics)";
     t[2610] = "Editor.Retry";
     t[2611] = "Retry";
     t[2618] = "InfoDialog.Version";
@@ -1178,6 +1210,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[2689] = "The element \"%s\" has to contain a list of numerical values.";
     t[2698] = "LoadCalculator.OptionHanschke";
     t[2699] = "Use Hanschke correction term";
+    t[2706] = "CommandLine.Benchmark.Imbalance";
+    t[2707] = "Thread runtime imbalance (maximum/mean)";
     t[2710] = "Color.0000FF";
     t[2711] = "Blue";
     t[2714] = "Main.Menu.Simulation.Mnemonic";
@@ -1222,6 +1256,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[2819] = "Accessibility";
     t[2820] = "Statistics.Details";
     t[2821] = "details";
+    t[2832] = "LoadCalculator.StaffingTable.AgentsTo";
+    t[2833] = "Number of agents to";
     t[2838] = "CommandLine.ReportBase.Error.Output";
     t[2839] = "The output file %s already exists.";
     t[2842] = "XML.ErrorCreatingZipFile";
@@ -1288,6 +1324,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[2983] = "Gamma distribution";
     t[2986] = "FileType.SYLK";
     t[2987] = "Symbolic link files";
+    t[2990] = "LoadCalculator.StaffingTable.TooManyRows";
+    t[2991] = "The table may contain at most %s rows.";
     t[2992] = "Color.9370DB";
     t[2993] = "Medium purple";
     t[2998] = "SimStatistic.of.Calls";
@@ -1310,6 +1348,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[3025] = "SQLite data bases";
     t[3026] = "Color.E0FFFF";
     t[3027] = "Light cyan";
+    t[3028] = "Model.XML.AutoWarmUp";
+    t[3029] = "ModelAutomaticWarmUp";
     t[3034] = "Distribution.NormalWikipedia";
     t[3035] = "https://en.wikipedia.org/wiki/Normal_distribution";
     t[3046] = "Color.B8860B";
@@ -1394,6 +1434,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[3191] = "Cosine distribution";
     t[3194] = "Statistic.Viewer.Context.SelectColumn";
     t[3195] = "Select column";
+    t[3196] = "SimStatistic.SystemData.WarmUpPeriod";
+    t[3197] = "Warm-up phase per simulation day";
     t[3198] = "QSExport.xml.Element.Text.FontBold";
     t[3199] = "bold";
     t[3202] = "Color.FF8C00";
@@ -1582,6 +1624,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[3617] = "The model can be described completely analytically.";
     t[3620] = "Statistic.Viewer.Context.Copy";
     t[3621] = "Copy";
+    t[3622] = "Model.XML.WarmStart";
+    t[3623] = "ModelSteadyStateStart";
     t[3628] = "Statistic.Viewer.Toolbar.Zoom.HintPanel";
     t[3629] = "Zoom frames can be drawn in the diagram by holding down the left mouse button. In addition, the mouse wheel can be used to zoom. If the ctrl key is held down, the area to be displayed can be moved by holding down the left mouse button.";
     t[3630] = "Color.F5FFFA";
@@ -1630,6 +1674,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[3713] = "The numerator attribute in the \"%s\" element has to be a number but is \"%s\".";
     t[3716] = "Statistics.XML.Root";
     t[3717] = "Statistics";
+    t[3726] = "CommandLine.Benchmark.RegressionCheckFailed";
+    t[3727] = "Performance regressions compared to the reference values from %s were detected.";
     t[3732] = "Simulation.OutOfMemory";
     t[3733] = "No more memory is available.";
     t[3734] = "Statistic.Viewer.Toolbar.Copy";
@@ -1660,6 +1706,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[3769] = "Comparison with analytical models";
     t[3770] = "Dialog.Button.Help";
     t[3771] = "Help";
+    t[3774] = "LoadCalculator.StaffingTable.ArrivalRateSteps";
+    t[3775] = "Number of arrival rates";
     t[3776] = "Distribution.InverseGamma";
     t[3777] = "Inverse gamma distribution";
     t[3778] = "SettingsDialog.Theme.System";
@@ -1722,6 +1770,10 @@ public class Messages_en extends java.util.ResourceBundle {
     t[3947] = "residence time of a successful caller";
     t[3948] = "Table.LoadErrorLastCellInvalid";
     t[3949] = "The given end cell \"%s\" is invalid.";
+    t[3956] = "CommandLine.TraceConvert.Name";
+    t[3957] = "TraceConvert";
+    t[3958] = "CommandLine.Benchmark.GCTime";
+    t[3959] = "Garbage collection time per run";
     t[3960] = "Color.008080";
     t[3961] = "Teal";
     t[3962] = "JDistributionEditor.Load.Error";
@@ -1772,6 +1824,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[4053] = "This file was created using %s. Download address: %s";
     t[4058] = "MainMenu.Help.ErlangScripts";
     t[4059] = "Scripts for Erlang formulas";
+    t[4070] = "LoadCalculator.StaffingTable.Title";
+    t[4071] = "Staffing table";
     t[4082] = "Distribution.BinomialInfo";
     t[4083] = "<p>The binomial distribution is a discrete probability distribution. It is therefore not suitable for describing durations, but rather random processes that can each take on discrete values.</p>\n<p>The binomial distribution describes the probabilities when <b>drawing with replacement</b> from an urn containing balls of two different colors.</p>";
     t[4084] = "Distribution.DiscreteUniformWikipedia";
@@ -1824,6 +1878,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[4175] = "Waiting room of size K";
     t[4176] = "QSExport.xml.Element.Connection.Status";
     t[4177] = "Status";
+    t[4180] = "LoadCalculator.StaffingTable.SaveError";
+    t[4181] = "The table could not be saved in file %s.";
     t[4182] = "Color.F08080";
     t[4183] = "Light coral";
     t[4184] = "Table.BoolTrue";
@@ -1844,6 +1900,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[4219] = "Percentage of callers who have to wait";
     t[4220] = "JDataLoader.ImportErrorTooManyCells";
     t[4221] = "%s cells has been selected. But no more than %s cells has to be selected.";
+    t[4222] = "CommandLine.Benchmark.ResultsSaved";
+    t[4223] = "The results have been saved to the file %s.";
     t[4226] = "Statistics.XML.ValuesError";
     t[4227] = "The ValuesSum attribute in the \"%s\" element has to be a number but is \"%s\".";
     t[4232] = "Dialog.Overwrite.No";
@@ -1978,6 +2036,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[4577] = "Function plotter";
     t[4588] = "Statistic.Description.Show.Hint";
     t[4589] = "Shows additional descriptions for the current statistics page.";
+    t[4592] = "Editor.General.AdaptDayLength";
+    t[4593] = "Adapt the length of the simulation days to the measured overhead per day (faster, but the number of days is not reproducible)";
     t[4594] = "Distribution.CauchyWikipedia";
     t[4595] = "https://en.wikipedia.org/wiki/Cauchy_distribution";
     t[4596] = "Statistic.Viewer.Toolbar.OpenODT.Hint";
@@ -2018,6 +2078,8 @@ public class Messages_en extends java.util.ResourceBundle {
   static void clinit_part_1 (java.lang.String[] t) {
     t[4690] = "Statistic.Viewer.Report.SaveHTMLImages";
     t[4691] = "Please choose how images should be saved in the report";
+    t[4698] = "LoadCalculator.StaffingTable.AgentsFrom";
+    t[4699] = "Number of agents from";
     t[4702] = "CommandLine.Benchmark.EventsPerSecond";
     t[4703] = "Events per second";
     t[4704] = "Statistic.Viewer.DiagramSettings.Outline.Width";
@@ -2108,6 +2170,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[4885] = "https://en.wikipedia.org/wiki/Triangular_distribution";
     t[4888] = "Statistics.XML.Retry";
     t[4889] = "StatisticsCallsRetry";
+    t[4894] = "Simulator.Trace.Error.Format";
+    t[4895] = "The file %s is not a valid trace file.";
     t[4896] = "Statistics.XML.BatchCount";
     t[4897] = "BatchCount";
     t[4904] = "Statistics.XML.BatchSize";
@@ -2237,11 +2301,15 @@ public class Messages_en extends java.util.ResourceBundle {
     t[5168] = "QSExport.xml.Element.Edge";
     t[5169] = "ModelElementEdge";
     t[5170] = "CommandLine.Benchmark.Description.Long";
-    t[5171] = "The command expected zero or one additional parameters.\nIf a parameter is passed, this is either the maximum number of threads\nto be used, or the file name of the model to be used.";
+    t[5171] = "The command expects up to four additional parameters (in any order):\nA number specifies the maximum number of threads; the simulation is run one after\nanother with 1, 2, ... threads up to this number. A file name ending with \".csv\" or \".json\"\nspecifies a (not yet existing) file to which the results are to be saved.\nAn already existing \".csv\" file from an earlier run is used as reference: If the events\nper second drop by more than 10% or the allocated memory per event rises by more than 10%,\na performance regression is reported as an error.\nAny other parameter is interpreted as the file name of the model to be used.";
     t[5174] = "Model.XML.NumberOfAgents";
     t[5175] = "ModelNumberOfAgents";
     t[5178] = "Color.BC8F8F";
     t[5179] = "Rosy brown";
+    t[5184] = "CommandLine.Benchmark.Regression";
+    t[5185] = "Performance regression with %s threads: %s=%s (reference value: %s)";
+    t[5186] = "LoadCalculator.StaffingTable.Info";
+    t[5187] = "Calculates the characteristics for ranges of numbers of agents and arrival rates.";
     t[5194] = "Window.Info.FolderError";
     t[5195] = "Browsing folder failed";
     t[5196] = "CalculatorDialog.Plotter.Toolbar.Copy.Hint";
@@ -2336,6 +2404,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[5369] = "Full load share";
     t[5370] = "SettingsDialog.WindowSizeProgrmStart";
     t[5371] = "Window size on program start";
+    t[5372] = "FileType.Trace";
+    t[5373] = "Binary trace files";
     t[5380] = "Statistic.Viewer.Toolbar.OpenODS.Hint";
     t[5381] = "Show table in OpenOffice/LibreOffice";
     t[5382] = "Color.5F9EA0";
@@ -2436,6 +2506,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[5571] = "infinite";
     t[5572] = "QSExport.xml.Element.Decide.Mode";
     t[5573] = "ModelElementDecideMode";
+    t[5574] = "CommandLine.Benchmark.Speedup";
+    t[5575] = "Speedup compared to one thread";
     t[5582] = "Main.Menu.Extras.KeepModel.Mnemonic";
     t[5583] = "K";
     t[5592] = "JDataLoader.Sheet";
@@ -2512,6 +2584,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[5747] = "Simulation results for comparison";
     t[5748] = "LoadCalculator.Units.Hours";
     t[5749] = "Hours";
+    t[5752] = "SimStatistic.SystemData.WarmUpPeriod.Auto";
+    t[5753] = "The warm-up phase was determined automatically from the first simulation days using the MSER-5 rule.";
     t[5756] = "CommandLine.Dialog.Results";
     t[5757] = "Results";
     t[5762] = "SettingsDialog.Languages.German";
@@ -2550,6 +2624,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[5827] = "TryStartCall";
     t[5832] = "LoadCalculator.ErlangCNotCalculateable";
     t[5833] = "not calculateable (to few agents)";
+    t[5838] = "LoadCalculator.StaffingTable.Status";
+    t[5839] = "%s rows calculated in %s ms.";
     t[5850] = "ModelInfo.ServedClients.Line1";
     t[5851] = "Served clients";
     t[5852] = "ModelInfo.ServedClients.Line2";
@@ -2644,6 +2720,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[6081] = "Queueing calculator...";
     t[6084] = "Statistic.Tree.Parameter.BookmarkOff";
     t[6085] = "Remove bookmark";
+    t[6090] = "Statistics.XML.WarmUpPeriod";
+    t[6091] = "WarmUpPeriod";
     t[6092] = "Color.ADD8E6";
     t[6093] = "Light blue";
     t[6094] = "Distribution.Frechet";
@@ -3006,8 +3084,12 @@ public class Messages_en extends java.util.ResourceBundle {
     t[6831] = "Busy signal quota";
     t[6836] = "JDataLoader.ImportErrorFileError";
     t[6837] = "The file %s could not be loaded.";
+    t[6842] = "CommandLine.Benchmark.BaselineLoadError";
+    t[6843] = "The reference file %s could not be loaded.";
     t[6844] = "Statistic.Viewer.Context.Filter.Select";
     t[6845] = "Select values...";
+    t[6848] = "LoadCalculator.StaffingTable.ArrivalRateFrom";
+    t[6849] = "Arrival rate from (in % of the configured arrival rate)";
     t[6852] = "Distribution.DiscreteUniform";
     t[6853] = "Discrete uniform distribution";
     t[6856] = "QSExport.xml.SecondaryResourcePriority";
@@ -3090,6 +3172,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[7035] = "The denominator attribute in the \"%s\" element has to be a number but is \"%s\".";
     t[7040] = "JDistributionEditor.Edit.Info";
     t[7041] = "Shows a dialog for editing the distribution";
+    t[7044] = "CommandLine.TraceConvert.Description.Short";
+    t[7045] = "Converts a binary trace file to a log file.";
     t[7046] = "Statistic.TimeShare";
     t[7047] = "Time share";
     t[7048] = "XML.NoInputObjectSelected";
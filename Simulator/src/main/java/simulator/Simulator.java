@@ -15,9 +15,13 @@
  */
 package simulator;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 import simcore.SimData;
 import simcore.SimulatorBase;
+import simcore.logging.BinaryTraceConverter;
+import simcore.logging.BinaryTraceLogger;
 import simulator.editmodel.EditModel;
 import simulator.runmodel.RunModel;
 import simulator.runmodel.SimulationData;
@@ -40,10 +44,18 @@ public class Simulator extends SimulatorBase {
 	protected EditModel editModel;
 
 	/**
-	 * Steht hier ein Wert ungleich <code>null</code>, so wird in den Single-Core-Modus geschaltet und der Lauf wird in der angegebenen Log-Datei aufgezeichnet
+	 * Steht hier ein Wert ungleich <code>null</code>, so wird der Lauf in der angegebenen Log-Datei aufgezeichnet.<br>
+	 * Bei mehreren Threads schreibt jeder Thread zunchst in eine eigene binre Teil-Aufzeichnung
+	 * (siehe {@link #getLogSegmentFile(int)}); diese werden in {@link #finalizeRun()} zusammengefhrt.
 	 */
 	protected final File logFile;
 
+	/**
+	 * Wurden die Teil-Aufzeichnungen der Threads bereits in {@link #logFile} zusammengefhrt?
+	 * @see #finalizeRun()
+	 */
+	private boolean logSegmentsMerged=false;
+
 	/**
 	 * Da die Statistik nur einmal aus den Daten erhoben wird, wird diese fr wiederholte Aufrufe von <code>getStatistic()</code> hier aufgehoben
 	 * @see #getStatistic()
@@ -52,24 +64,24 @@ public class Simulator extends SimulatorBase {
 
 	/**
 	 * Konstruktor der Klasse <code>Simulator</code>
-	 * @param multiCore	Wird hier <code>true</code> bergeben, so wird auf allen verfgbaren CPU-Kernen gerechnet. (Ausnahme: Wird in <code>logFile</code> ein Wert ungleich <code>null</code> bergeben, so wird stets nur ein Kern verwendet.)
+	 * @param multiCore	Wird hier <code>true</code> bergeben, so wird auf allen verfgbaren CPU-Kernen gerechnet.
 	 * @param editModel	Editor-Modell
 	 * @param logFile	Wird hier ein Wert ungleich <code>null</code> bergeben, so wird der Lauf in der angegebenen Datei aufgezeichnet; anonsten erfolgt nur die normale Aufzeichnung in der Statistik
 	 */
 	public Simulator(final boolean multiCore, final EditModel editModel, final File logFile) {
-		super((multiCore && logFile==null)?Integer.MAX_VALUE:1,false,false);
+		super(multiCore?Integer.MAX_VALUE:1,false,false);
 		this.editModel=editModel;
 		this.logFile=logFile;
 	}
 
 	/**
 	 * Konstruktor der Klasse <code>Simulator</code>
-	 * @param maxCoreCount	Gibt die maximale Anzahl an zu verwendenden Threads an. (Wird in <code>logFile</code> ein Wert ungleich <code>null</code> bergeben, so wird stets nur ein Kern verwendet.)
+	 * @param maxCoreCount	Gibt die maximale Anzahl an zu verwendenden Threads an.
 	 * @param editModel	Editor-Modell
 	 * @param logFile	Wird hier ein Wert ungleich <code>null</code> bergeben, so wird der Lauf in der angegebenen Datei aufgezeichnet; anonsten erfolgt nur die normale Aufzeichnung in der Statistik
 	 */
 	public Simulator(final int maxCoreCount, final EditModel editModel, final File logFile) {
-		super((logFile==null)?((maxCoreCount<1)?Integer.MAX_VALUE:maxCoreCount):1,false,false);
+		super((maxCoreCount<1)?Integer.MAX_VALUE:maxCoreCount,false,false);
 		this.editModel=editModel;
 		this.logFile=logFile;
 	}
@@ -139,10 +151,56 @@ public class Simulator extends SimulatorBase {
 	@Override
 	protected SimData getSimDataForThread(final int threadNr, final int threadCount) {
 		SimData data=new SimulationData(threadNr,threadCount,runModel);
-		if (logFile!=null) data.activateLogging(logFile);
+		if (logFile!=null) {
+			if (threadCount==1) data.activateLogging(logFile); else data.activateLogging(new BinaryTraceLogger(getLogSegmentFile(threadNr)));
+		}
 		return data;
 	}
 
+	/**
+	 * Liefert den Namen der binren Teil-Aufzeichnung eines Threads (im selben Verzeichnis wie {@link #logFile}).
+	 * @param threadNr	0-basierende Nummer des Threads
+	 * @return	Teil-Aufzeichnung des Threads
+	 */
+	private File getLogSegmentFile(final int threadNr) {
+		return new File(logFile.getAbsoluteFile().getParentFile(),logFile.getName()+"."+(threadNr+1)+BinaryTraceLogger.FILE_EXTENSION);
+	}
+
+	/**
+	 * Fhrt die Teil-Aufzeichnungen der Threads in {@link #logFile} zusammen und lscht sie anschlieend.<br>
+	 * Jeder Thread simuliert einen zusammenhngenden Block von Tagen (Thread 1 die ersten Tage usw.),
+	 * so dass das Aneinanderhngen der Teil-Aufzeichnungen in Thread-Reihenfolge die Eintrge
+	 * nach Simulationstag und innerhalb der Tage nach Zeitpunkt sortiert.
+	 * @return	Liefert im Erfolgsfall <code>null</code>, sonst eine Fehlermeldung
+	 */
+	private String mergeLogSegments() {
+		final List<File> segments=new ArrayList<>();
+		for (int i=0;i<threads.length;i++) {
+			if (threads[i]==null || threads[i].simData==null) continue;
+			threads[i].simData.disableLogging(); /* Stellt sicher, dass die Teil-Aufzeichnung auch nach einem Abbruch abgeschlossen ist. */
+			final File segment=getLogSegmentFile(i);
+			if (segment.isFile()) segments.add(segment);
+		}
+
+		final SimData data=(threads[0]==null)?null:threads[0].simData;
+		final String error=BinaryTraceConverter.convert(segments,(data==null)?BinaryTraceConverter.getLogger(logFile):data.getLogger(logFile),logFile);
+		for (File segment: segments) segment.delete();
+		return error;
+	}
+
+	/**
+	 * Wartet bis alle Simulationsthreads beendet sind und berechnet dann die gesamte Laufzeit.<br>
+	 * Wurde der Lauf mit mehreren Threads aufgezeichnet, so werden auerdem die Teil-Aufzeichnungen der Threads zusammengefhrt.
+	 * @return	Liefert <code>null</code> oder eine Fehlermeldung, wenn die Teil-Aufzeichnungen nicht zusammengefhrt werden konnten.
+	 */
+	@Override
+	public String finalizeRun() {
+		final String error=super.finalizeRun();
+		if (logFile==null || threadCount==1 || logSegmentsMerged) return error;
+		logSegmentsMerged=true;
+		return mergeLogSegments();
+	}
+
 	/**
 	 * Startet die Simulationssthreads mit normaler Prioritt.
 	 * @see SimulatorBase#start(boolean)
@@ -153,10 +211,20 @@ public class Simulator extends SimulatorBase {
 	}
 
 	/**
-	 * Liefert die Gesamtanzahl an Wiederholungen in der Simulation.
-	 * @return	Anzahl an Wiederholungen (ber alle Threafs) der Simulation.
+	 * Liefert die Gesamtanzahl an Wiederholungen in der Simulation.<br>
+	 * Da die Threads die Lnge ihrer Tage whrend der Simulation anpassen knnen
+	 * (siehe {@link EditModel#adaptDayLength}), wird die Anzahl aus den aktuellen
+	 * Planungen der Threads gebildet.
+	 * @return	Anzahl an Wiederholungen (ber alle Threads) der Simulation.
 	 */
 	public final int getSimDaysCount() {
-		return runModel.repeatCount;
+		if (!runModel.adaptDayLength) return runModel.repeatCount;
+		long sum=0;
+		for (int i=0;i<threads.length;i++) {
+			final SimData simData=(threads[i]==null)?null:threads[i].simData;
+			if (simData==null) return runModel.repeatCount;
+			sum+=simData.simDays;
+		}
+		return (int)sum;
 	}
 }
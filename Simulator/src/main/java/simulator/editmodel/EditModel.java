@@ -176,6 +176,12 @@ public class EditModel extends EditModelBase implements Cloneable {
 	 */
 	public int callsToSimulateWarmUp;
 
+	/**
+	 * Einschwingphase automatisch ber die MSER-5-Regel bestimmen?
+	 * (<code>callsToSimulateWarmUp</code> wird dann nur fr die ersten simulierten Tage verwendet, auf deren Basis die Einschwingphase bestimmt wird.)
+	 */
+	public boolean autoWarmUp;
+
 	/**
 	 * Gre des Warteraums (ein in Bedienung befindlicher Anrufer belegt keinen Warteraum mehr)
 	 */
@@ -186,6 +192,22 @@ public class EditModel extends EditModelBase implements Cloneable {
 	 */
 	public boolean collectCorrelation;
 
+	/**
+	 * Startzustand jedes simulierten Tages (belegte Agenten und Warteschlange) aus der
+	 * stationren Verteilung des zugehrigen Erlang-C-Modells ziehen, statt mit einem leeren System zu beginnen<br>
+	 * Die Einschwingphase wird dabei auf {@link simulator.runmodel.RunModel#warmStartWarmUpPeriodPart} der eingestellten
+	 * Lnge verkrzt. Die zu Beginn im System befindlichen Kunden werden nicht als Anknfte gezhlt und gehen auch
+	 * nicht in die kundenbezogenen Kenngren ein.
+	 */
+	public boolean warmStart;
+
+	/**
+	 * Lnge der simulierten Tage whrend der Simulation an den gemessenen festen Aufwand pro Tag anpassen?
+	 * (Die Gesamtanzahl an Anrufen bleibt erhalten, die Anzahl an Tagen hngt dann aber von Laufzeitmessungen ab und ist nicht reproduzierbar.)
+	 * @see simcore.DayLengthTuner
+	 */
+	public boolean adaptDayLength;
+
 	@Override
 	protected void resetData() {
 		version=systemVersion;
@@ -206,8 +228,11 @@ public class EditModel extends EditModelBase implements Cloneable {
 		retryProbability=0;
 		callsToSimulate=100000;
 		callsToSimulateWarmUp=10000;
+		autoWarmUp=false;
 		waitingRoomSize=-1;
 		collectCorrelation=false;
+		warmStart=false;
+		adaptDayLength=false;
 	}
 
 	/**
@@ -235,8 +260,11 @@ public class EditModel extends EditModelBase implements Cloneable {
 		clone.retryProbability=retryProbability;
 		clone.callsToSimulate=callsToSimulate;
 		clone.callsToSimulateWarmUp=callsToSimulateWarmUp;
+		clone.autoWarmUp=autoWarmUp;
 		clone.waitingRoomSize=waitingRoomSize;
 		clone.collectCorrelation=collectCorrelation;
+		clone.warmStart=warmStart;
+		clone.adaptDayLength=adaptDayLength;
 
 		return clone;
 	}
@@ -266,8 +294,11 @@ public class EditModel extends EditModelBase implements Cloneable {
 		if (retryProbability!=otherModel.retryProbability) return false;
 		if (callsToSimulate!=otherModel.callsToSimulate) return false;
 		if (callsToSimulateWarmUp!=otherModel.callsToSimulateWarmUp) return false;
+		if (autoWarmUp!=otherModel.autoWarmUp) return false;
 		if (waitingRoomSize!=otherModel.waitingRoomSize) return false;
 		if (collectCorrelation!=otherModel.collectCorrelation) return false;
+		if (warmStart!=otherModel.warmStart) return false;
+		if (adaptDayLength!=otherModel.adaptDayLength) return false;
 
 		return true;
 	}
@@ -392,6 +423,21 @@ public class EditModel extends EditModelBase implements Cloneable {
 			return null;
 		}
 
+		if (Language.trAll("Model.XML.AutoWarmUp",name)) {
+			autoWarmUp=(text.equals("1"));
+			return null;
+		}
+
+		if (Language.trAll("Model.XML.WarmStart",name)) {
+			warmStart=(text.equals("1"));
+			return null;
+		}
+
+		if (Language.trAll("Model.XML.AdaptDayLength",name)) {
+			adaptDayLength=(text.equals("1"));
+			return null;
+		}
+
 		return null;
 	}
 
@@ -420,5 +466,8 @@ public class EditModel extends EditModelBase implements Cloneable {
 		sub.setAttribute(Language.tr("Model.XML.ClientCountWarmUp"),""+callsToSimulateWarmUp);
 		addTextToXML(doc,node,Language.tr("Model.XML.WaitingRoomSize"),waitingRoomSize);
 		if (collectCorrelation) addTextToXML(doc,node,Language.tr("Model.XML.CollectCorrelation"),"1");
+		if (autoWarmUp) addTextToXML(doc,node,Language.tr("Model.XML.AutoWarmUp"),"1");
+		if (warmStart) addTextToXML(doc,node,Language.tr("Model.XML.WarmStart"),"1");
+		if (adaptDayLength) addTextToXML(doc,node,Language.tr("Model.XML.AdaptDayLength"),"1");
 	}
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import language.Language;
 import simcore.Event;
 import simcore.SimData;
 import simulator.runmodel.SimulationData;
+import simulator.runmodel.SimulationTraceType;
 
 /**
  * Warteabbruch-Ereignis bei der Callcenter-Simulation
@@ -30,6 +31,13 @@ public final class CallCancelEvent extends Event {
 	 */
 	public long waitingStartTime;
 
+	/**
+	 * Handelt es sich um einen Kunden, der bereits zu Beginn des Tages (ber den stationren Startzustand) in der Warteschlange stand?<br>
+	 * Da diese Kunden nicht als Anknfte gezhlt werden, werden ihre Wartezeiten, Abbrche und Wiederholungsentscheidungen nicht in der Statistik erfasst.
+	 * @see SimulationData#initWarmStart()
+	 */
+	public boolean isWarmStartCall;
+
 	/**
 	 * Konstruktor der Klasse
 	 */
@@ -48,15 +56,16 @@ public final class CallCancelEvent extends Event {
 	public void init(long now, long time) {
 		super.init(time);
 		waitingStartTime=now;
+		isWarmStartCall=false;
 	}
 
 	@Override
 	public void run(SimData data) {
 		SimulationData simData=(SimulationData)data;
-		if (simData.loggingActive) simData.logEventExecution(Language.tr("Simulator.Log.CallCancelEvent"),-1,"  "+String.format(Language.tr("Simulator.Log.CallCancelEvent.Info"),SimData.formatSimTime(time-waitingStartTime)));
+		if (simData.loggingActive && !simData.trace(SimulationTraceType.CALL_CANCEL,time-waitingStartTime)) simData.logEventExecution(Language.tr("Simulator.Log.CallCancelEvent"),-1,"  "+String.format(Language.tr("Simulator.Log.CallCancelEvent.Info"),SimData.formatSimTime(time-waitingStartTime)));
 
 		/* Erfassung von Daten in der Statistik */
-		simData.logWaitingTime((double)(time-waitingStartTime)/1000);
+		if (!isWarmStartCall) simData.logWaitingTime((double)(time-waitingStartTime)/1000);
 
 		/* Erfassung der Zwischenabgangszeiten*/
 		simData.statistics.interleaveTime.add(((double)(time-simData.runData.lastLeave))/1000);
@@ -65,7 +74,7 @@ public final class CallCancelEvent extends Event {
 		simData.runData.waitingCalls.remove(this);
 
 		/* Evtl. spter neuer Versuch */
-		simData.testAndScheduleCallRetry();
+		simData.testAndScheduleCallRetry(!isWarmStartCall);
 
 		/* Zustandsnderungen fr Statistik erfassen */
 		simData.logDistDataChange();
@@ -21,12 +21,21 @@ import language.Language;
 import simcore.Event;
 import simcore.SimData;
 import simulator.runmodel.SimulationData;
+import simulator.runmodel.SimulationTraceType;
 
 /**
  * Ereignis, das beim Ende eines Anrufs bei der Callcenter-Simulation ausgefhrt wird.<br>
  * @author Alexander Herzog
  */
 public final class CallDone1Event extends Event {
+	/**
+	 * Handelt es sich um ein Gesprch, das bereits zu Beginn des Tages (ber den stationren Startzustand) lief
+	 * oder ausschlielich mit solchen Kunden gefhrt wird?<br>
+	 * Fr diese Kunden werden Weiterleitungsentscheidungen und Nachbearbeitungszeiten nicht in der Statistik erfasst.
+	 * @see SimulationData#initWarmStart()
+	 */
+	private boolean isWarmStartCall;
+
 	/**
 	 * Konstruktor der Klasse
 	 */
@@ -37,19 +46,29 @@ public final class CallDone1Event extends Event {
 		 */
 	}
 
+	/**
+	 * (Re-)Initialisierung des Gesprchsende-Ereignisses
+	 * @param time	Zeitpunkt, zu dem das Gesprch endet
+	 * @param isWarmStartCall	Gesprch mit Kunden aus dem stationren Startzustand (wird nicht in der Statistik erfasst)
+	 */
+	public void init(final long time, final boolean isWarmStartCall) {
+		super.init(time);
+		this.isWarmStartCall=isWarmStartCall;
+	}
+
 	@Override
 	public void run(SimData data) {
 		SimulationData simData=(SimulationData)data;
-		if (data.loggingActive) data.logEventExecution(Language.tr("Simulator.Log.CallDone1Event"),-1,"  "+String.format(Language.tr("Simulator.Log.CallDone1Event.Info"),simData.runModel.batchWorking));
+		if (data.loggingActive && !simData.trace(SimulationTraceType.CALL_DONE1,simData.runModel.batchWorking)) data.logEventExecution(Language.tr("Simulator.Log.CallDone1Event"),-1,"  "+String.format(Language.tr("Simulator.Log.CallDone1Event.Info"),simData.runModel.batchWorking));
 
 		/* Weiterleitungen ?*/
 		for (int i=0;i<simData.runModel.batchWorking;i++) {
 			if (ThreadLocalRandom.current().nextDouble()<simData.runModel.callContinueProbability) {
-				simData.statistics.callContinued.add(true);
-				if (data.loggingActive) data.logEventExecution(Language.tr("Simulator.Log.CallDone1Event"),-1,"  "+Language.tr("Simulator.Log.CallDone1Event.Forwarding"));
+				if (!isWarmStartCall) simData.statistics.callContinued.add(true);
+				if (data.loggingActive && !simData.trace(SimulationTraceType.CALL_DONE1_FORWARDING)) data.logEventExecution(Language.tr("Simulator.Log.CallDone1Event"),-1,"  "+Language.tr("Simulator.Log.CallDone1Event.Forwarding"));
 				simData.scheduleCall(0,false);
 			} else {
-				simData.statistics.callContinued.add(false);
+				if (!isWarmStartCall) simData.statistics.callContinued.add(false);
 			}
 		}
 
@@ -61,10 +80,10 @@ public final class CallDone1Event extends Event {
 		simData.runData.lastLeave=time;
 
 		/* Nachbearbeitungszeit planen */
-		long postProcessingTime=simData.runModel.getPostProcessingTime();
-		if (data.loggingActive) data.logEventExecution(Language.tr("Simulator.Log.CallDone1Event"),-1,"  "+String.format(Language.tr("Simulator.Log.CallDone1Event.PostProcessing"),SimData.formatSimTime(time+postProcessingTime)));
+		long postProcessingTime=simData.runModel.getPostProcessingTime(simData.runData);
+		if (data.loggingActive && !simData.trace(SimulationTraceType.CALL_DONE1_POST_PROCESSING,time+postProcessingTime)) data.logEventExecution(Language.tr("Simulator.Log.CallDone1Event"),-1,"  "+String.format(Language.tr("Simulator.Log.CallDone1Event.PostProcessing"),SimData.formatSimTime(time+postProcessingTime)));
 
-		simData.statistics.postProcessingTime.add(((double)postProcessingTime)/1000);
+		if (!isWarmStartCall) simData.statistics.postProcessingTime.add(((double)postProcessingTime)/1000);
 
 		CallDone2Event callDone2Event=(CallDone2Event)data.getEvent(CallDone2Event.class);
 		callDone2Event.init(time+postProcessingTime);
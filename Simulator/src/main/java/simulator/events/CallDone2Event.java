@@ -19,6 +19,7 @@ import language.Language;
 import simcore.Event;
 import simcore.SimData;
 import simulator.runmodel.SimulationData;
+import simulator.runmodel.SimulationTraceType;
 
 /**
  * Ereignis, das beim Ende der Nachbearbeitungszeit bei der Callcenter-Simulation ausgefhrt wird.<br>
@@ -39,22 +40,26 @@ public class CallDone2Event extends Event {
 	@Override
 	public final void run(SimData data) {
 		SimulationData simData=(SimulationData)data;
-		if (data.loggingActive) data.logEventExecution(Language.tr("Simulator.Log.CallDone2Event"),-1,"  "+Language.tr("Simulator.Log.CallDone2Event.Info"));
+		if (data.loggingActive && !simData.trace(SimulationTraceType.CALL_DONE2)) data.logEventExecution(Language.tr("Simulator.Log.CallDone2Event"),-1,"  "+Language.tr("Simulator.Log.CallDone2Event.Info"));
 
 		/* Agent ist wieder frei */
 		simData.runData.freeAgents++;
 
 		/* Sind Kunden zum Bedienen in der Warteschlange ? */
 		if (simData.runData.waitingCalls.size()>=simData.runModel.batchWorking)	{
-			long workingTime=simData.runModel.getWorkingTime();
+			long workingTime=simData.runModel.getWorkingTime(simData.runData);
 
+			boolean isWarmStartCall=true;
 			for (int i=0;i<simData.runModel.batchWorking;i++) {
-				if (simData.loggingActive) simData.logEventExecution(Language.tr("Simulator.Log.CallDone2Event"),-1,"  "+Language.tr("Simulator.Log.CallDone2Event.WaitingClient"));
+				if (simData.loggingActive && !simData.trace(SimulationTraceType.CALL_DONE2_WAITING_CLIENT)) simData.logEventExecution(Language.tr("Simulator.Log.CallDone2Event"),-1,"  "+Language.tr("Simulator.Log.CallDone2Event.WaitingClient"));
 				final CallCancelEvent cancelEvent=simData.getNextFromQueue();
+				/* Kunden aus dem stationren Startzustand werden nicht erfasst */
+				if (cancelEvent.isWarmStartCall) continue;
+				isWarmStartCall=false;
 				simData.logWaitingTime((double)(time-cancelEvent.waitingStartTime)/1000,((double)workingTime)/1000);
 			}
 
-			simData.startTalk(workingTime);
+			simData.startTalk(workingTime,isWarmStartCall);
 		}
 
 		/* Zustandsnderungen fr Statistik erfassen */
@@ -19,6 +19,7 @@ import language.Language;
 import simcore.Event;
 import simcore.SimData;
 import simulator.runmodel.SimulationData;
+import simulator.runmodel.SimulationTraceType;
 
 /**
  * Anruf-Ereignis whrend der Callcenter-Simulation
@@ -52,8 +53,8 @@ public final class CallEvent extends Event {
 		simData.runData.calls+=count;
 
 		/* Einschwingphase zu Ende? */
-		if (simData.runData.isWarmUpPeriod && simData.runData.calls>simData.runModel.warmUpPeriod) {
-			if (simData.loggingActive) simData.logEventExecution(Language.tr("Simulator.Log.CallEvent"),-1,"  "+Language.tr("Simulator.Log.CallEvent.EndOfWarmUp"));
+		if (simData.runData.isWarmUpPeriod && simData.runData.calls>simData.runData.warmUpPeriod) {
+			if (simData.loggingActive && !simData.trace(SimulationTraceType.CALL_END_OF_WARM_UP)) simData.logEventExecution(Language.tr("Simulator.Log.CallEvent"),-1,"  "+Language.tr("Simulator.Log.CallEvent.EndOfWarmUp"));
 			simData.runData.isWarmUpPeriod=false;
 			simData.statistics.resetData();
 			simData.initDistDataChange();
@@ -63,14 +64,14 @@ public final class CallEvent extends Event {
 		if (simData.runData.calls>=simData.runData.callsToSimulate) {
 			simData.scheduleStopTest();
 		} else {
-			simData.scheduleCall(simData.runModel.getInterArrivalTime(),true);
+			simData.scheduleCall(simData.runModel.getInterArrivalTime(simData.runData),true);
 		}
 	}
 
 	@Override
 	public void run(SimData data) {
 		SimulationData simData=(SimulationData)data;
-		if (data.loggingActive) data.logEventExecution(Language.tr("Simulator.Log.CallEvent"),-1,"  "+(isNewCall?Language.tr("Simulator.Log.CallEvent.FreshCall"):Language.tr("Simulator.Log.CallEvent.Retryer")));
+		if (data.loggingActive && !simData.trace(isNewCall?SimulationTraceType.CALL_FRESH:SimulationTraceType.CALL_RETRYER)) data.logEventExecution(Language.tr("Simulator.Log.CallEvent"),-1,"  "+(isNewCall?Language.tr("Simulator.Log.CallEvent.FreshCall"):Language.tr("Simulator.Log.CallEvent.Retryer")));
 
 		int newCallCount=(isNewCall)?simData.runModel.batchArrival:1;
 
@@ -19,6 +19,7 @@ import language.Language;
 import simcore.Event;
 import simcore.SimData;
 import simulator.runmodel.SimulationData;
+import simulator.runmodel.SimulationTraceType;
 
 /**
  * Prft, ob sich noch Kunden in der Warteschlange befinden, die nicht mehr bedient werden knnen
@@ -40,7 +41,7 @@ public class StopTestEvent extends Event {
 	@Override
 	public void run(SimData data) {
 		SimulationData simData=(SimulationData)data;
-		if (simData.loggingActive) simData.logEventExecution(Language.tr("Simulator.Log.StopTestEvent"),-1,"  "+Language.tr("Simulator.Log.StopTestEvent.Info"));
+		if (simData.loggingActive && !simData.trace(SimulationTraceType.STOP_TEST)) simData.logEventExecution(Language.tr("Simulator.Log.StopTestEvent"),-1,"  "+Language.tr("Simulator.Log.StopTestEvent.Info"));
 
 		/* Keiner mehr da? - Um so besser. Nichts tun, Simulation endet. */
 		if (simData.runData.waitingCalls.size()==0) return;
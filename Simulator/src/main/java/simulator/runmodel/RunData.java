@@ -16,8 +16,11 @@
 package simulator.runmodel;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 
+import mathtools.MSER;
+import mathtools.distribution.tools.DistributionSampleBuffer;
 import simulator.events.CallCancelEvent;
 
 /**
@@ -53,6 +56,45 @@ public class RunData {
 	 */
 	public boolean isWarmUpPeriod;
 
+	/**
+	 * Lnge der Einschwingphase (in Erstanrufern) im aktuellen Lauf
+	 * @see RunModel#warmUpPeriod
+	 */
+	public int warmUpPeriod;
+
+	/**
+	 * Gibt an, ob im aktuellen Lauf die Wartezeiten fr die automatische Bestimmung der Einschwingphase aufgezeichnet werden.
+	 * @see #addWarmUpPilotValue(double)
+	 */
+	public boolean isWarmUpPilot;
+
+	/**
+	 * Batch-Mittelwerte der Wartezeiten im aktuellen Pilotlauf
+	 * @see #isWarmUpPilot
+	 */
+	private double[] warmUpBatchMeans;
+
+	/**
+	 * Anzahl an bis zum Ende des jeweiligen Batches eingetroffenen Erstanrufern im aktuellen Pilotlauf
+	 * @see #isWarmUpPilot
+	 */
+	private int[] warmUpBatchCalls;
+
+	/**
+	 * Anzahl an abgeschlossenen Batches im aktuellen Pilotlauf
+	 */
+	private int warmUpBatches;
+
+	/**
+	 * Summe der Wartezeiten im aktuellen, noch nicht abgeschlossenen Batch
+	 */
+	private double warmUpBatchSum;
+
+	/**
+	 * Anzahl an Wartezeiten im aktuellen, noch nicht abgeschlossenen Batch
+	 */
+	private int warmUpBatchCount;
+
 	/**
 	 * Anzahl an zu simulierenden Anknften im aktuellen Lauf
 	 */
@@ -68,6 +110,36 @@ public class RunData {
 	 */
 	public long lastLeave=0;
 
+	/**
+	 * Puffer fr die Zwischenankunftszeiten
+	 * @see RunModel#getInterArrivalTime(RunData)
+	 */
+	final DistributionSampleBuffer interArrivalTimes;
+
+	/**
+	 * Puffer fr die Wartezeittoleranzen (<code>null</code>, wenn die Kunden beliebig lange warten)
+	 * @see RunModel#getWaitingToleranceTime(RunData)
+	 */
+	final DistributionSampleBuffer waitingToleranceTimes;
+
+	/**
+	 * Puffer fr die Bedienzeiten
+	 * @see RunModel#getWorkingTime(RunData)
+	 */
+	final DistributionSampleBuffer workingTimes;
+
+	/**
+	 * Puffer fr die Nachbearbeitungszeiten
+	 * @see RunModel#getPostProcessingTime(RunData)
+	 */
+	final DistributionSampleBuffer postProcessingTimes;
+
+	/**
+	 * Puffer fr die Wiederholabstnde
+	 * @see RunModel#getRetryTime(RunData)
+	 */
+	final DistributionSampleBuffer retryTimes;
+
 	/**
 	 * Konstruktor der Klasse <code>CallcenterDynamicSimData</code>
 	 * @param agents	Die Variable <code>freeAgents</code> wird auf diesen Wert vorbelegt.
@@ -80,6 +152,13 @@ public class RunData {
 	public RunData(final RunModel runModel) {
 		freeAgents=runModel.agents;
 		waitingCalls=new ArrayDeque<>(10000);
+
+		/* Ein eigener Zufallszahlenstrom pro Verteilung und Thread */
+		interArrivalTimes=new DistributionSampleBuffer(runModel.interArrivalTimeSampler,true);
+		waitingToleranceTimes=(runModel.waitingTimeSampler==null)?null:new DistributionSampleBuffer(runModel.waitingTimeSampler,true);
+		workingTimes=new DistributionSampleBuffer(runModel.workingTimeSampler,true);
+		postProcessingTimes=new DistributionSampleBuffer(runModel.postProcessingTimeSampler,true);
+		retryTimes=new DistributionSampleBuffer(runModel.retryTimeSampler,true);
 	}
 
 	/**
@@ -92,11 +171,22 @@ public class RunData {
 		calls=0;
 		waitingCalls.clear();
 
-		callsToSimulate=simData.runModel.callsToSimulate+simData.runModel.warmUpPeriod;
-		isWarmUpPeriod=(simData.runModel.warmUpPeriod>0);
+		/* Einschwingphase: fest vorgegeben oder, sobald verfgbar, automatisch bestimmt */
+		warmUpPeriod=simData.runModel.warmUpPeriod;
+		isWarmUpPilot=false;
+		if (simData.runModel.warmUpDetector!=null) {
+			final int autoWarmUpPeriod=simData.runModel.warmUpDetector.getWarmUpPeriod();
+			if (autoWarmUpPeriod>=0) warmUpPeriod=autoWarmUpPeriod; else initWarmUpPilot();
+		}
+
+		callsToSimulate=((simData.dayLengthTuner==null)?simData.runModel.callsToSimulate:simData.dayLengthTuner.getArrivalsPerDay())+warmUpPeriod;
+		isWarmUpPeriod=(warmUpPeriod>0);
+
+		/* Ggf. mit einem Zustand aus der stationren Verteilung beginnen */
+		if (simData.runModel.warmStartDistribution!=null) simData.initWarmStart();
 
 		/* Ersten Anruf(-batch) einplanen */
-		simData.scheduleCall(simData.runModel.getInterArrivalTime(),true);
+		simData.scheduleCall(simData.runModel.getInterArrivalTime(this),true);
 	}
 
 	/**
@@ -107,5 +197,47 @@ public class RunData {
 	public void doneRun(final long now, final SimulationData simData) {
 		waitingCalls.clear();
 		simData.logDistDataChange();
+
+		if (isWarmUpPilot) {
+			simData.runModel.warmUpDetector.addPilotDay(warmUpBatchMeans,warmUpBatchCalls,warmUpBatches);
+			isWarmUpPilot=false;
+		}
+		simData.statistics.warmUpPeriod.add(warmUpPeriod);
+	}
+
+	/**
+	 * Bereitet die Aufzeichnung der Wartezeiten fr die automatische Bestimmung der Einschwingphase vor.
+	 * @see #isWarmUpPilot
+	 */
+	private void initWarmUpPilot() {
+		isWarmUpPilot=true;
+		if (warmUpBatchMeans==null) {
+			warmUpBatchMeans=new double[1024];
+			warmUpBatchCalls=new int[1024];
+		}
+		warmUpBatches=0;
+		warmUpBatchSum=0;
+		warmUpBatchCount=0;
+	}
+
+	/**
+	 * Erfasst in einem Pilotlauf eine Wartezeit fr die automatische Bestimmung der Einschwingphase.
+	 * @param waitingTime	Wartezeit (bzw. Abbruchzeit) eines Kunden
+	 * @see #isWarmUpPilot
+	 */
+	public void addWarmUpPilotValue(final double waitingTime) {
+		warmUpBatchSum+=waitingTime;
+		warmUpBatchCount++;
+		if (warmUpBatchCount<MSER.MSER5_BATCH_SIZE) return;
+
+		if (warmUpBatches==warmUpBatchMeans.length) {
+			warmUpBatchMeans=Arrays.copyOf(warmUpBatchMeans,warmUpBatches*2);
+			warmUpBatchCalls=Arrays.copyOf(warmUpBatchCalls,warmUpBatches*2);
+		}
+		warmUpBatchMeans[warmUpBatches]=warmUpBatchSum/warmUpBatchCount;
+		warmUpBatchCalls[warmUpBatches]=calls;
+		warmUpBatches++;
+		warmUpBatchSum=0;
+		warmUpBatchCount=0;
 	}
 }
\ No newline at end of file
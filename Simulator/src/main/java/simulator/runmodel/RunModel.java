@@ -14,10 +14,14 @@
  * limitations under the License.
  */
 package simulator.runmodel;
+import java.util.Arrays;
+
 import org.apache.commons.math3.distribution.AbstractRealDistribution;
 
+import mathtools.ErlangC;
 import mathtools.distribution.NeverDistributionImpl;
 import mathtools.distribution.tools.DistributionRandomNumber;
+import mathtools.distribution.tools.DistributionSampler;
 import mathtools.distribution.tools.DistributionTools;
 import simulator.editmodel.EditModel;
 import tools.SetupData;
@@ -38,6 +42,13 @@ public class RunModel {
 	 */
 	public static double warmUpPeriodPart=0.1;
 
+	/**
+	 * Anteil der im Modell eingestellten Einschwingphase, der verwendet wird, wenn jeder Tag im
+	 * stationren Zustand beginnt (siehe {@link #warmStartDistribution}). Da der Startzustand nur
+	 * eine Nherung darstellt, wird nicht ganz auf die Einschwingphase verzichtet.
+	 */
+	public static double warmStartWarmUpPeriodPart=0.1;
+
 	/**
 	 * Zwischenankunftzeitverteilung
 	 */
@@ -99,10 +110,19 @@ public class RunModel {
 	public int repeatCount;
 
 	/**
-	 * Anzahl der zu simulierenden Erstanrufe
+	 * Anzahl der zu simulierenden Erstanrufe pro Tag<br>
+	 * (Anfangswert; ist {@link #adaptDayLength} gesetzt, so knnen die Simulationsthreads die verbleibenden Anrufe whrend der Simulation auf weniger, lngere Tage verteilen.)
+	 * @see simcore.DayLengthTuner
 	 */
 	public int callsToSimulate;
 
+	/**
+	 * Sollen die Simulationsthreads die Lnge der Tage an den gemessenen festen Aufwand pro Tag anpassen?
+	 * (Die Anzahl an Tagen ist dann nicht mehr reproduzierbar.)
+	 * @see simcore.DayLengthTuner
+	 */
+	public boolean adaptDayLength;
+
 	/**
 	 * Gre des Warteraums (ein in Bedienung befindlicher Anrufer belegt keinen Warteraum mehr)
 	 */
@@ -110,6 +130,7 @@ public class RunModel {
 
 	/**
 	 * Anzahl an Anrufen, die nicht fr die Statistik gezhlt werden sollen
+	 * (bei einem Start im stationren Zustand verkrzt, siehe {@link #warmStartWarmUpPeriodPart})
 	 */
 	public int warmUpPeriod;
 
@@ -118,11 +139,63 @@ public class RunModel {
 	 */
 	public boolean collectCorrelation;
 
+	/**
+	 * Verteilungsfunktion der Anzahl an Bedien-Batches im System im stationren Zustand
+	 * (Erlang-C-Nherung gem M/M/c/K+M-Modell), aus der zu Beginn jedes simulierten
+	 * Tages der Startzustand gezogen wird.<br>
+	 * Ist <code>null</code>, wenn jeder Tag mit einem leeren System beginnen soll.
+	 * @see #getWarmStartState(double)
+	 */
+	public double[] warmStartDistribution;
+
+	/**
+	 * Anteil der Bedienzeit an der gesamten Belegungszeit eines Agenten (Bedien- und Nachbearbeitungszeit)
+	 * @see #warmStartDistribution
+	 */
+	public double warmStartWorkingPart;
+
 	/**
 	 * Soll fr die Erfassung der Varianzen der (langsamere, aber bei kleinen Variationskoeffizienten exaktere) Welford-Algorithmus verwendet werden?
 	 */
 	public boolean useWelford;
 
+	/**
+	 * Sampler fr die Zwischenankunftszeiten
+	 * @see RunData#interArrivalTimes
+	 */
+	DistributionSampler interArrivalTimeSampler;
+
+	/**
+	 * Sampler fr die Wartezeittoleranzen (<code>null</code>, wenn die Kunden beliebig lange warten)
+	 * @see RunData#waitingToleranceTimes
+	 */
+	DistributionSampler waitingTimeSampler;
+
+	/**
+	 * Sampler fr die Bedienzeiten
+	 * @see RunData#workingTimes
+	 */
+	DistributionSampler workingTimeSampler;
+
+	/**
+	 * Sampler fr die Nachbearbeitungszeiten
+	 * @see RunData#postProcessingTimes
+	 */
+	DistributionSampler postProcessingTimeSampler;
+
+	/**
+	 * Sampler fr die Wiederholabstnde
+	 * @see RunData#retryTimes
+	 */
+	DistributionSampler retryTimeSampler;
+
+	/**
+	 * Automatische Bestimmung der Einschwingphase ber die MSER-5-Regel
+	 * (<code>null</code>, wenn stets die feste Einschwingphase {@link #warmUpPeriod} verwendet werden soll)
+	 * @see RunData#initRun(long, SimulationData)
+	 */
+	WarmUpDetector warmUpDetector;
+
 	/**
 	 * Ein <code>RunModel</code> kann nicht direkt erzeugt werden, sondern es kann nur ein <code>EditModel</code>
 	 * mittels der Funktion <code>getRunModel</code> in ein <code>RunModel</code> umgeformt werden. Dabei wird das
@@ -165,56 +238,126 @@ public class RunModel {
 		}
 		runModel.repeatCount=split;
 		runModel.warmUpPeriod=editModel.callsToSimulateWarmUp;
+		runModel.adaptDayLength=editModel.adaptDayLength;
+		if (editModel.autoWarmUp) runModel.warmUpDetector=new WarmUpDetector(Math.min(runModel.repeatCount,Math.max(cores,WarmUpDetector.MIN_PILOT_DAYS)));
 		runModel.waitingRoomSize=editModel.waitingRoomSize;
 		runModel.collectCorrelation=editModel.collectCorrelation;
+		if (editModel.warmStart) runModel.warmStartDistribution=runModel.getWarmStartDistribution();
+		if (runModel.warmStartDistribution!=null) runModel.warmUpPeriod=(int)Math.round(runModel.warmUpPeriod*warmStartWarmUpPeriodPart);
 		runModel.useWelford=SetupData.getSetup().useWelford;
 
+		runModel.buildSamplers();
+
 		return runModel;
 	}
 
+	/**
+	 * Erstellt die Sampler-Objekte fr die Verteilungen.<br>
+	 * Die Verteilungstypen werden so nur einmal beim Anlegen des Laufzeit-Modells
+	 * und nicht bei jeder einzelnen Zufallszahl bestimmt. Fr empirische Verteilungen
+	 * wird eine Alias-Tabelle angelegt, fr Verteilungen ohne direkte Methode zur Erzeugung
+	 * von Zufallszahlen bei der ersten Zufallszahl eine Inversionstabelle.<br>
+	 * Die Sampler werden von allen Threads gemeinsam verwendet; die Zufallszahlen selbst
+	 * werden blockweise in thread-lokalen Puffern in {@link RunData} vorgehalten.
+	 * @see DistributionRandomNumber#getSampler(AbstractRealDistribution, boolean)
+	 */
+	private void buildSamplers() {
+		interArrivalTimeSampler=DistributionRandomNumber.getSampler(interArrivalTimeDist,true);
+		waitingTimeSampler=(waitingTimeDist instanceof NeverDistributionImpl)?null:DistributionRandomNumber.getSampler(waitingTimeDist,true);
+		workingTimeSampler=DistributionRandomNumber.getSampler(workingTimeDist,true);
+		postProcessingTimeSampler=DistributionRandomNumber.getSampler(postProcessingTimeDist,true);
+		retryTimeSampler=DistributionRandomNumber.getSampler(retryTimeDist,true);
+	}
+
+	/**
+	 * Berechnet die Verteilungsfunktion der Anzahl an Bedien-Batches im System im stationren Zustand.<br>
+	 * Das Modell wird dafr durch ein M/M/c/K+M-Modell angenhert: Anknfte (inkl. Weiterleitungen) werden
+	 * zu Bedien-Batches zusammengefasst, ein Agent ist fr Bedien- und Nachbearbeitungszeit belegt,
+	 * Wiederholer werden nicht bercksichtigt.
+	 * @return	Verteilungsfunktion (Index=Anzahl an Bedien-Batches im System) oder <code>null</code>, wenn das System nicht stabil ist oder die Kenngren nicht bestimmt werden knnen
+	 * @see ErlangC#extErlangCStateProbabilities(double, double, double, int, int)
+	 */
+	private double[] getWarmStartDistribution() {
+		final double interArrivalTime=DistributionTools.getMean(interArrivalTimeDist);
+		final double holdingTime=DistributionTools.getMean(workingTimeDist)+DistributionTools.getMean(postProcessingTimeDist);
+		if (!(interArrivalTime>0) || !(holdingTime>0) || Double.isInfinite(interArrivalTime) || Double.isInfinite(holdingTime)) return null;
+
+		final double lambda=batchArrival/interArrivalTime/(1-Math.min(callContinueProbability,0.99))/batchWorking;
+		final double mu=1/holdingTime;
+		warmStartWorkingPart=DistributionTools.getMean(workingTimeDist)/holdingTime;
+		double nu=0;
+		if (!(waitingTimeDist instanceof NeverDistributionImpl)) {
+			final double waitingTolerance=DistributionTools.getMean(waitingTimeDist);
+			if (waitingTolerance>0 && !Double.isInfinite(waitingTolerance)) nu=1/waitingTolerance;
+		}
+		final int K=(waitingRoomSize<0)?Integer.MAX_VALUE:(agents+waitingRoomSize/batchWorking);
+		if (nu==0 && K==Integer.MAX_VALUE && lambda>=agents*mu) return null;
+
+		final double[] distribution=ErlangC.extErlangCStateProbabilities(lambda,mu,nu,agents,K);
+		for (int i=1;i<distribution.length;i++) distribution[i]+=distribution[i-1];
+		distribution[distribution.length-1]=1.0;
+		return distribution;
+	}
+
+	/**
+	 * Zieht einen Startzustand gem {@link #warmStartDistribution}.
+	 * @param random	Im Intervall [0;1) gleichverteilte Zufallszahl
+	 * @return	Anzahl an Bedien-Batches im System (0, wenn die Tage mit einem leeren System beginnen sollen)
+	 */
+	public final int getWarmStartState(final double random) {
+		if (warmStartDistribution==null) return 0;
+		final int index=Arrays.binarySearch(warmStartDistribution,random);
+		return (index>=0)?index:(-index-1);
+	}
+
 	/**
 	 * Liefert eine Zufallszahl gem Zwischenankunftszeitverteilung
 	 * (bereits umgerechnet in einen <code>long</code>-Wert fr die Simulation)
+	 * @param runData	Thread-lokale Laufzeitdaten (enthalten die Zufallszahlenpuffer)
 	 * @return	Zufllige Zwischenankunftszeit
 	 */
-	public final long getInterArrivalTime() {
-		return (long)(1000*DistributionRandomNumber.randomNonNegative(interArrivalTimeDist));
+	public final long getInterArrivalTime(final RunData runData) {
+		return (long)(1000*runData.interArrivalTimes.next(DistributionRandomNumber.generator));
 	}
 
 	/**
 	 * Liefert eine Zufallszahl gem Wartezeittoleranzverteilung
 	 * (bereits umgerechnet in einen <code>long</code>-Wert fr die Simulation)
+	 * @param runData	Thread-lokale Laufzeitdaten (enthalten die Zufallszahlenpuffer)
 	 * @return	Zufllige Wartezeittoleranz
 	 */
-	public final long getWaitingToleranceTime() {
-		if (waitingTimeDist instanceof NeverDistributionImpl) return 1000*86400*365*100; /* Wenn der Kunde beliebig lange bereit ist zu warten: Warteabbruchzeit in 100 Jahren. */
-		return (long)(1000*DistributionRandomNumber.randomNonNegative(waitingTimeDist));
+	public final long getWaitingToleranceTime(final RunData runData) {
+		if (runData.waitingToleranceTimes==null) return 1000*86400*365*100; /* Wenn der Kunde beliebig lange bereit ist zu warten: Warteabbruchzeit in 100 Jahren. */
+		return (long)(1000*runData.waitingToleranceTimes.next(DistributionRandomNumber.generator));
 	}
 
 	/**
 	 * Liefert eine Zufallszahl gem Bedienzeitenverteilung
 	 * (bereits umgerechnet in einen <code>long</code>-Wert fr die Simulation)
+	 * @param runData	Thread-lokale Laufzeitdaten (enthalten die Zufallszahlenpuffer)
 	 * @return	Zufllige Bedienzeit
 	 */
-	public final long getWorkingTime() {
-		return (long)(1000*DistributionRandomNumber.randomNonNegative(workingTimeDist));
+	public final long getWorkingTime(final RunData runData) {
+		return (long)(1000*runData.workingTimes.next(DistributionRandomNumber.generator));
 	}
 
 	/**
 	 * Liefert eine Zufallszahl gem Nachbearbeitungszeitenverteilung
 	 * (bereits umgerechnet in einen <code>long</code>-Wert fr die Simulation)
+	 * @param runData	Thread-lokale Laufzeitdaten (enthalten die Zufallszahlenpuffer)
 	 * @return	Zufllige Nachbearbeitungszeit
 	 */
-	public final long getPostProcessingTime() {
-		return (long)(1000*DistributionRandomNumber.randomNonNegative(postProcessingTimeDist));
+	public final long getPostProcessingTime(final RunData runData) {
+		return (long)(1000*runData.postProcessingTimes.next(DistributionRandomNumber.generator));
 	}
 
 	/**
 	 * Liefert eine Zufallszahl gem Wiederholabstndeverteilung
 	 * (bereits umgerechnet in einen <code>long</code>-Wert fr die Simulation)
+	 * @param runData	Thread-lokale Laufzeitdaten (enthalten die Zufallszahlenpuffer)
 	 * @return	Zuflliger Wiederholabstand
 	 */
-	public final long getRetryTime() {
-		return (long)(1000*DistributionRandomNumber.randomNonNegative(retryTimeDist));
+	public final long getRetryTime(final RunData runData) {
+		return (long)(1000*runData.retryTimes.next(DistributionRandomNumber.generator));
 	}
 }
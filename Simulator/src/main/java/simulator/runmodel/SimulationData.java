@@ -17,12 +17,15 @@ package simulator.runmodel;
 import java.util.concurrent.ThreadLocalRandom;
 
 import language.Language;
+import simcore.DayLengthTuner;
 import simcore.SimData;
 import simcore.eventcache.HashMapEventCache;
 import simcore.eventmanager.PriorityQueueEventManager;
+import simcore.logging.BinaryTraceLogger;
 import simulator.editmodel.EditModel;
 import simulator.events.CallCancelEvent;
 import simulator.events.CallDone1Event;
+import simulator.events.CallDone2Event;
 import simulator.events.CallEvent;
 import simulator.events.StopTestEvent;
 import simulator.statistics.Statistics;
@@ -57,6 +60,19 @@ public class SimulationData extends SimData {
 	 */
 	public final Statistics collectStatistics;
 
+	/**
+	 * Anpassung der Lnge der simulierten Tage an den festen Aufwand pro Tag
+	 * (thread-lokal; <code>null</code>, wenn die Anzahl an Tagen fest bleiben soll, siehe {@link RunModel#adaptDayLength})
+	 */
+	final DayLengthTuner dayLengthTuner;
+
+	/**
+	 * Typ-IDs der Ereignistypen im binren Logger (Index ist jeweils {@link SimulationTraceType#ordinal()})
+	 * @see #registerTraceTypes(BinaryTraceLogger)
+	 * @see #trace(SimulationTraceType, double, double, double)
+	 */
+	private final int[] traceTypes;
+
 	/**
 	 * Konstruktor der Klasse <code>SimulationData</code>
 	 * @param threadNr		Gibt die Nummer des Threads an, fr den das <code>SimDat</code>-Objekt erstellt wird.
@@ -69,6 +85,8 @@ public class SimulationData extends SimData {
 		this.runData=new RunData(runModel);
 		statistics=new Statistics(runModel.collectCorrelation,runModel.useWelford);
 		collectStatistics=new Statistics(runModel.collectCorrelation,runModel.useWelford);
+		dayLengthTuner=runModel.adaptDayLength?new DayLengthTuner(runModel.callsToSimulate):null;
+		traceTypes=new int[SimulationTraceType.values().length];
 
 		simDaysByOtherThreads=0;
 		for (int i=0;i<threadNr;i++) {
@@ -82,15 +100,64 @@ public class SimulationData extends SimData {
 
 	@Override
 	public void initDay(final long day, final long dayGlobal, final boolean backgroundMode) {
+		if (dayLengthTuner!=null) dayLengthTuner.dayStarted();
 		currentTime=0;
 		statistics.resetData();
 		runData.initRun(day,this);
+		if (dayLengthTuner!=null) dayLengthTuner.arrivalsStarted();
 	}
 
 	@Override
 	public void terminateCleanUp(final long now) {
+		if (dayLengthTuner!=null) dayLengthTuner.arrivalsDone();
 		runData.doneRun(now,this);
 		collectStatistics.addData(statistics);
+		if (dayLengthTuner!=null) {
+			/* Solange die Einschwingphase noch ber Pilottage bestimmt wird, keine Tage zusammenfassen */
+			final boolean canMerge=(runModel.warmUpDetector==null || runModel.warmUpDetector.getWarmUpPeriod()>=0);
+			simDays=dayLengthTuner.dayDone(simDays,runData.calls,runData.warmUpPeriod,canMerge);
+		}
+	}
+
+	@Override
+	protected void registerTraceTypes(final BinaryTraceLogger logger) {
+		for (SimulationTraceType type: SimulationTraceType.values()) traceTypes[type.ordinal()]=type.register(logger);
+	}
+
+	/**
+	 * Zeichnet ein Ereignis ber den binren Logger auf, sofern dieser aktiv ist.
+	 * @param type	Ereignistyp
+	 * @param arg0	Erster Zahlenwert
+	 * @param arg1	Zweiter Zahlenwert
+	 * @param arg2	Dritter Zahlenwert
+	 * @return	Liefert <code>true</code>, wenn ein binrer Logger aktiv ist (das Ereignis muss dann nicht zustzlich per <code>logEventExecution</code> ausgegeben werden)
+	 * @see #traceLogging
+	 */
+	public final boolean trace(final SimulationTraceType type, final double arg0, final double arg1, final double arg2) {
+		if (traceLogging==null) return false;
+		traceEventExecution(traceTypes[type.ordinal()],-1,arg0,arg1,arg2);
+		return true;
+	}
+
+	/**
+	 * Zeichnet ein Ereignis ber den binren Logger auf, sofern dieser aktiv ist.
+	 * @param type	Ereignistyp
+	 * @param arg0	Zahlenwert
+	 * @return	Liefert <code>true</code>, wenn ein binrer Logger aktiv ist (das Ereignis muss dann nicht zustzlich per <code>logEventExecution</code> ausgegeben werden)
+	 * @see #traceLogging
+	 */
+	public final boolean trace(final SimulationTraceType type, final double arg0) {
+		return trace(type,arg0,0,0);
+	}
+
+	/**
+	 * Zeichnet ein Ereignis (ohne Zahlenwerte) ber den binren Logger auf, sofern dieser aktiv ist.
+	 * @param type	Ereignistyp
+	 * @return	Liefert <code>true</code>, wenn ein binrer Logger aktiv ist (das Ereignis muss dann nicht zustzlich per <code>logEventExecution</code> ausgegeben werden)
+	 * @see #traceLogging
+	 */
+	public final boolean trace(final SimulationTraceType type) {
+		return trace(type,0,0,0);
 	}
 
 	/**
@@ -105,7 +172,7 @@ public class SimulationData extends SimData {
 		callEvent.init(currentTime+timeFromNow);
 		callEvent.isNewCall=newCall;
 		eventManager.addEvent(callEvent);
-		if (loggingActive) {
+		if (loggingActive && !(newCall?trace(SimulationTraceType.SCHEDULE_CALL_NEW,runModel.batchArrival,currentTime+timeFromNow,0):trace(SimulationTraceType.SCHEDULE_CALL_RETRY,currentTime+timeFromNow))) {
 			final String s=(newCall)?String.format(Language.tr("Simulator.Log.ScheduleCall.Info.New"),runModel.batchArrival):Language.tr("Simulator.Log.ScheduleCall.Info.Retry");
 			logEventExecution(Language.tr("Simulator.Log.ScheduleCall"),-1,"  "+String.format(Language.tr("Simulator.Log.ScheduleCall.Info"),s,formatSimTime(currentTime+timeFromNow)));
 		}
@@ -114,28 +181,31 @@ public class SimulationData extends SimData {
 	/**
 	 * Legt ein <code>CallCancelEvent</code> an
 	 * @param timeFromNow	Zeitabstand von der aktuellen Zeit an gerechnet
+	 * @return	Eingeplantes Warteabbruch-Ereignis
 	 * @see CallCancelEvent
 	 */
-	public final void scheduleCallCancel(long timeFromNow) {
+	public final CallCancelEvent scheduleCallCancel(long timeFromNow) {
 		CallCancelEvent cancelEvent=(CallCancelEvent)getEvent(CallCancelEvent.class);
 		cancelEvent.init(currentTime,currentTime+timeFromNow);
 		runData.waitingCalls.add(cancelEvent);
 		eventManager.addEvent(cancelEvent);
-		if (loggingActive) logEventExecution(Language.tr("Simulator.Log.ScheduleCallCancel"),-1,"  "+String.format(Language.tr("Simulator.Log.ScheduleCallCancel.Info"),formatSimTime(currentTime+timeFromNow)));
+		if (loggingActive && !trace(SimulationTraceType.SCHEDULE_CALL_CANCEL,currentTime+timeFromNow)) logEventExecution(Language.tr("Simulator.Log.ScheduleCallCancel"),-1,"  "+String.format(Language.tr("Simulator.Log.ScheduleCallCancel.Info"),formatSimTime(currentTime+timeFromNow)));
+		return cancelEvent;
 	}
 
 	/**
 	 * Prft bei einem Warteabbrecher, ob dieser evtl. spter einen neuen Versuch starten mchte und plant diesen ggf. ein.
+	 * @param logStatistics	Soll die Entscheidung in der Statistik erfasst werden? (Nicht bei Kunden aus dem stationren Startzustand.)
 	 */
-	public final void testAndScheduleCallRetry() {
+	public final void testAndScheduleCallRetry(final boolean logStatistics) {
 		if (ThreadLocalRandom.current().nextDouble()<runModel.retryProbability) {
-			statistics.callRetry.add(true);
-			long retryTime=runModel.getRetryTime();
+			if (logStatistics) statistics.callRetry.add(true);
+			long retryTime=runModel.getRetryTime(runData);
 			scheduleCall(retryTime,false);
-			if (loggingActive) logEventExecution(Language.tr("Simulator.Log.TestAndScheduleCallRetry"),-1,"  "+String.format(Language.tr("Simulator.Log.TestAndScheduleCallRetry.Retry"),formatSimTime(currentTime+retryTime)));
+			if (loggingActive && !trace(SimulationTraceType.CALL_RETRY,currentTime+retryTime)) logEventExecution(Language.tr("Simulator.Log.TestAndScheduleCallRetry"),-1,"  "+String.format(Language.tr("Simulator.Log.TestAndScheduleCallRetry.Retry"),formatSimTime(currentTime+retryTime)));
 		} else {
-			statistics.callRetry.add(false);
-			if (loggingActive) logEventExecution(Language.tr("Simulator.Log.TestAndScheduleCallRetry"),-1,"  "+Language.tr("Simulator.Log.TestAndScheduleCallRetry.FinalCancelation"));
+			if (logStatistics) statistics.callRetry.add(false);
+			if (loggingActive && !trace(SimulationTraceType.CALL_FINAL_CANCELATION)) logEventExecution(Language.tr("Simulator.Log.TestAndScheduleCallRetry"),-1,"  "+Language.tr("Simulator.Log.TestAndScheduleCallRetry.FinalCancelation"));
 		}
 	}
 
@@ -159,22 +229,22 @@ public class SimulationData extends SimData {
 			runData.lastArrival=currentTime;
 		}
 
-		if (loggingActive) logEventExecution(Language.tr("Simulator.Log.TryStartCall"),-1,"  "+String.format(Language.tr("Simulator.Log.TryStartCall.Info"),runData.waitingCalls.size(),newCalls,runData.freeAgents));
+		if (loggingActive && !trace(SimulationTraceType.TRY_START_CALL,runData.waitingCalls.size(),newCalls,runData.freeAgents)) logEventExecution(Language.tr("Simulator.Log.TryStartCall"),-1,"  "+String.format(Language.tr("Simulator.Log.TryStartCall.Info"),runData.waitingCalls.size(),newCalls,runData.freeAgents));
 
 		while (runData.freeAgents>0) {
 			int availableClients=runData.waitingCalls.size()+newCalls;
 			if (availableClients<runModel.batchWorking) break;
 
 			long waitingStartTime;
-			long workingTime=runModel.getWorkingTime();
+			long workingTime=runModel.getWorkingTime(runData);
 
 			for (int i=0;i<runModel.batchWorking;i++) {
 				if (runData.waitingCalls.size()>0) {
-					if (loggingActive) logEventExecution(Language.tr("Simulator.Log.TryStartCall"),-1,"  "+Language.tr("Simulator.Log.TryStartCall.StartWaiting"));
+					if (loggingActive && !trace(SimulationTraceType.TRY_START_CALL_START_WAITING)) logEventExecution(Language.tr("Simulator.Log.TryStartCall"),-1,"  "+Language.tr("Simulator.Log.TryStartCall.StartWaiting"));
 					final CallCancelEvent cancelEvent=getNextFromQueue();
 					waitingStartTime=cancelEvent.waitingStartTime;
 				} else {
-					if (loggingActive) logEventExecution(Language.tr("Simulator.Log.TryStartCall"),-1,"  "+Language.tr("Simulator.Log.TryStartCall.StartNew"));
+					if (loggingActive && !trace(SimulationTraceType.TRY_START_CALL_START_NEW)) logEventExecution(Language.tr("Simulator.Log.TryStartCall"),-1,"  "+Language.tr("Simulator.Log.TryStartCall.StartNew"));
 					newCalls--;
 					waitingStartTime=currentTime;
 				}
@@ -196,16 +266,16 @@ public class SimulationData extends SimData {
 	 */
 	public final void trySendCallToQueue() {
 		if (runModel.waitingRoomSize>=0 && runData.waitingCalls.size()>=runModel.waitingRoomSize) {
-			if (loggingActive) logEventExecution(Language.tr("Simulator.Log.TryStartCall"),-1,"  "+Language.tr("Simulator.Log.TryStartCall.WaitingRoomFull"));
+			if (loggingActive && !trace(SimulationTraceType.TRY_START_CALL_WAITING_ROOM_FULL)) logEventExecution(Language.tr("Simulator.Log.TryStartCall"),-1,"  "+Language.tr("Simulator.Log.TryStartCall.WaitingRoomFull"));
 			statistics.interleaveTime.add(((double)(currentTime-runData.lastLeave))/1000);
 			runData.lastLeave=currentTime;
 			logWaitingTime(0.0);
 			statistics.callRejected.add(true);
-			testAndScheduleCallRetry();
+			testAndScheduleCallRetry(true);
 		} else {
-			if (loggingActive) logEventExecution(Language.tr("Simulator.Log.TryStartCall"),-1,"  "+Language.tr("Simulator.Log.TryStartCall.QueueingClient"));
+			if (loggingActive && !trace(SimulationTraceType.TRY_START_CALL_QUEUEING_CLIENT)) logEventExecution(Language.tr("Simulator.Log.TryStartCall"),-1,"  "+Language.tr("Simulator.Log.TryStartCall.QueueingClient"));
 			statistics.callRejected.add(false);
-			long waitingTimeTolerance=runModel.getWaitingToleranceTime();
+			long waitingTimeTolerance=runModel.getWaitingToleranceTime(runData);
 			scheduleCallCancel(waitingTimeTolerance);
 		}
 	}
@@ -216,17 +286,65 @@ public class SimulationData extends SimData {
 	 * @param workingTime	Bedienzeit
 	 */
 	public final void startTalk(final long workingTime) {
-		if (loggingActive) logEventExecution(Language.tr("Simulator.Log.StartTalk"),-1,"  "+String.format(Language.tr("Simulator.Log.StartTalk.Info"),SimData.formatSimTime(currentTime+workingTime)));
+		startTalk(workingTime,false);
+	}
+
+	/**
+	 * Startet die Arbeit eines Agenten<br>
+	 * (Fgt ein <code>CallDoneEvent</code>-Ereignis ein und verringert den Zhler der freien Agenten)
+	 * @param workingTime	Bedienzeit
+	 * @param isWarmStartCall	Werden ausschlielich Kunden aus dem stationren Startzustand bedient? (Dann wird das Gesprch nicht in der Statistik erfasst.)
+	 * @see #initWarmStart()
+	 */
+	public final void startTalk(final long workingTime, final boolean isWarmStartCall) {
+		if (loggingActive && !trace(SimulationTraceType.START_TALK,currentTime+workingTime)) logEventExecution(Language.tr("Simulator.Log.StartTalk"),-1,"  "+String.format(Language.tr("Simulator.Log.StartTalk.Info"),SimData.formatSimTime(currentTime+workingTime)));
 
-		statistics.workingTime.add(((double)workingTime)/1000);
+		if (!isWarmStartCall) statistics.workingTime.add(((double)workingTime)/1000);
 
 		CallDone1Event callDone1Event=(CallDone1Event)getEvent(CallDone1Event.class);
-		callDone1Event.init(currentTime+workingTime);
+		callDone1Event.init(currentTime+workingTime,isWarmStartCall);
 		eventManager.addEvent(callDone1Event);
 
 		runData.freeAgents--;
 	}
 
+	/**
+	 * Belegt das System zu Beginn eines simulierten Tages mit einem Zustand gem der stationren
+	 * Verteilung (siehe {@link RunModel#warmStartDistribution}).<br>
+	 * Fr jeden belegten Agenten wird je nach Anteil von Bedien- und Nachbearbeitungszeit an der
+	 * gesamten Belegungszeit entweder ein laufendes Gesprch oder eine laufende Nachbearbeitung
+	 * eingeplant; wartende Kunden werden mit einer neuen Wartezeittoleranz an die Warteschlange
+	 * angestellt. Die Restzeiten werden dabei wie bei exponentiell verteilten Zeiten neu gezogen.<br>
+	 * Die so vorbelegten Kunden werden nicht als Anknfte gezhlt. Entsprechend werden auch ihre
+	 * Wartezeiten, Warteabbrche, Wiederholungs- und Weiterleitungsentscheidungen sowie Bedien- und
+	 * Nachbearbeitungszeiten nicht in der Statistik erfasst (siehe {@link CallCancelEvent#isWarmStartCall}).
+	 * Zeitbasierte Kenngren (Auslastung, Warteschlangenlnge) und die Zwischenabgangszeiten beziehen
+	 * die vorbelegten Kunden dagegen ein, da sie den Systemzustand beschreiben.
+	 */
+	public final void initWarmStart() {
+		final int state=runModel.getWarmStartState(ThreadLocalRandom.current().nextDouble());
+		if (state==0) return;
+
+		final int busy=Math.min(state,runModel.agents);
+		for (int i=0;i<busy;i++) {
+			if (ThreadLocalRandom.current().nextDouble()<runModel.warmStartWorkingPart) {
+				final CallDone1Event callDone1Event=(CallDone1Event)getEvent(CallDone1Event.class);
+				callDone1Event.init(currentTime+runModel.getWorkingTime(runData),true);
+				eventManager.addEvent(callDone1Event);
+			} else {
+				final CallDone2Event callDone2Event=(CallDone2Event)getEvent(CallDone2Event.class);
+				callDone2Event.init(currentTime+runModel.getPostProcessingTime(runData));
+				eventManager.addEvent(callDone2Event);
+			}
+		}
+		runData.freeAgents-=busy;
+
+		final int waiting=(state-busy)*runModel.batchWorking;
+		for (int i=0;i<waiting;i++) scheduleCallCancel(runModel.getWaitingToleranceTime(runData)).isWarmStartCall=true;
+
+		logDistDataChange();
+	}
+
 	/**
 	 * Setzt nach einem Reset der Statistik die Startzeit der Simulation (fr die Statistik)
 	 * auf die aktuelle Zeit, um erfassen zu knnen, wie lange sich das System in welchem
@@ -268,6 +386,8 @@ public class SimulationData extends SimData {
 		statistics.waitingTimeAll.add(waitingTime);
 		statistics.waitingTimeCancel.add(waitingTime);
 		statistics.systemTimeAll.add(waitingTime);
+
+		if (runData.isWarmUpPilot) runData.addWarmUpPilotValue(waitingTime);
 	}
 
 	/**
@@ -285,6 +405,8 @@ public class SimulationData extends SimData {
 		statistics.systemTimeSuccess.add(waitingTime+workingTime);
 
 		statistics.callServiceLevel.add(waitingTime<=20);
+
+		if (runData.isWarmUpPilot) runData.addWarmUpPilotValue(waitingTime);
 	}
 
 	/**
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator.runmodel;
+
+import language.Language;
+import simcore.logging.BinaryTraceLogger;
+import simcore.logging.BinaryTraceLogger.ArgumentType;
+
+/**
+ * Ereignistypen, die bei aktivem {@link BinaryTraceLogger} ber
+ * {@link SimulationData#trace(SimulationTraceType, double, double, double)}
+ * ohne Erzeugung von Texten aufgezeichnet werden.<br>
+ * Die Texte entsprechen denen, die sonst ber <code>logEventExecution</code> ausgegeben werden;
+ * sie werden nur einmal beim Aktivieren des Loggers bersetzt.
+ * @author Alexander Herzog
+ * @see SimulationData#registerTraceTypes(BinaryTraceLogger)
+ */
+public enum SimulationTraceType {
+	/** Warteabbruch (Wartezeit) */
+	CALL_CANCEL("Simulator.Log.CallCancelEvent","Simulator.Log.CallCancelEvent.Info",ArgumentType.TIME),
+	/** Ende der Einschwingphase */
+	CALL_END_OF_WARM_UP("Simulator.Log.CallEvent","Simulator.Log.CallEvent.EndOfWarmUp"),
+	/** Erstanrufer trifft ein */
+	CALL_FRESH("Simulator.Log.CallEvent","Simulator.Log.CallEvent.FreshCall"),
+	/** Wiederholer trifft ein */
+	CALL_RETRYER("Simulator.Log.CallEvent","Simulator.Log.CallEvent.Retryer"),
+	/** Ende der Bedienung (Batch-Gre) */
+	CALL_DONE1("Simulator.Log.CallDone1Event","Simulator.Log.CallDone1Event.Info",ArgumentType.INTEGER),
+	/** Weiterleitung eines Kunden */
+	CALL_DONE1_FORWARDING("Simulator.Log.CallDone1Event","Simulator.Log.CallDone1Event.Forwarding"),
+	/** Beginn der Nachbearbeitungszeit (geplantes Ende) */
+	CALL_DONE1_POST_PROCESSING("Simulator.Log.CallDone1Event","Simulator.Log.CallDone1Event.PostProcessing",ArgumentType.TIME),
+	/** Ende der Nachbearbeitungszeit */
+	CALL_DONE2("Simulator.Log.CallDone2Event","Simulator.Log.CallDone2Event.Info"),
+	/** Wartender Anrufer wird nach der Nachbearbeitungszeit einem Agenten zugeordnet */
+	CALL_DONE2_WAITING_CLIENT("Simulator.Log.CallDone2Event","Simulator.Log.CallDone2Event.WaitingClient"),
+	/** Prfen, ob die Simulation beendet werden kann */
+	STOP_TEST("Simulator.Log.StopTestEvent","Simulator.Log.StopTestEvent.Info"),
+	/** Erstanruf eingeplant (Batch-Gre, Zeitpunkt) */
+	SCHEDULE_CALL_NEW("Simulator.Log.ScheduleCall","Simulator.Log.ScheduleCall.Info.New",ArgumentType.INTEGER,ArgumentType.TIME),
+	/** Wiederholung eingeplant (Zeitpunkt) */
+	SCHEDULE_CALL_RETRY("Simulator.Log.ScheduleCall","Simulator.Log.ScheduleCall.Info.Retry",ArgumentType.TIME),
+	/** Warteabbruch eingeplant (Zeitpunkt) */
+	SCHEDULE_CALL_CANCEL("Simulator.Log.ScheduleCallCancel","Simulator.Log.ScheduleCallCancel.Info",ArgumentType.TIME),
+	/** Kunde wird einen neuen Anrufversuch ttigen (Zeitpunkt) */
+	CALL_RETRY("Simulator.Log.TestAndScheduleCallRetry","Simulator.Log.TestAndScheduleCallRetry.Retry",ArgumentType.TIME),
+	/** Kunde gibt endgltig auf */
+	CALL_FINAL_CANCELATION("Simulator.Log.TestAndScheduleCallRetry","Simulator.Log.TestAndScheduleCallRetry.FinalCancelation"),
+	/** Zuordnung von Anrufern zu Agenten (wartende Anrufer, neue Anrufer, freie Agenten) */
+	TRY_START_CALL("Simulator.Log.TryStartCall","Simulator.Log.TryStartCall.Info",ArgumentType.INTEGER,ArgumentType.INTEGER,ArgumentType.INTEGER),
+	/** Wartender Anrufer wird einem Agenten zugeordnet */
+	TRY_START_CALL_START_WAITING("Simulator.Log.TryStartCall","Simulator.Log.TryStartCall.StartWaiting"),
+	/** Neuer Anrufer wird einem Agenten zugeordnet */
+	TRY_START_CALL_START_NEW("Simulator.Log.TryStartCall","Simulator.Log.TryStartCall.StartNew"),
+	/** Anrufer wird abgewiesen, da der Warteraum voll ist */
+	TRY_START_CALL_WAITING_ROOM_FULL("Simulator.Log.TryStartCall","Simulator.Log.TryStartCall.WaitingRoomFull"),
+	/** Kunde wird an die Warteschlange angestellt */
+	TRY_START_CALL_QUEUEING_CLIENT("Simulator.Log.TryStartCall","Simulator.Log.TryStartCall.QueueingClient"),
+	/** Beginn der Bedienung (geplantes Ende) */
+	START_TALK("Simulator.Log.StartTalk","Simulator.Log.StartTalk.Info",ArgumentType.TIME);
+
+	/** Sprach-Schlssel fr den Namen des Ereignisses */
+	private final String eventKey;
+	/** Sprach-Schlssel fr die Beschreibung des Ereignisses */
+	private final String infoKey;
+	/** Arten der Zahlenwerte */
+	private final ArgumentType[] arguments;
+
+	/**
+	 * Konstruktor des Enum
+	 * @param eventKey	Sprach-Schlssel fr den Namen des Ereignisses
+	 * @param infoKey	Sprach-Schlssel fr die Beschreibung des Ereignisses
+	 * @param arguments	Arten der Zahlenwerte
+	 */
+	SimulationTraceType(final String eventKey, final String infoKey, final ArgumentType... arguments) {
+		this.eventKey=eventKey;
+		this.infoKey=infoKey;
+		this.arguments=arguments;
+	}
+
+	/**
+	 * Liefert die Format-Zeichenkette fr die Beschreibung
+	 * (in derselben Form wie bei der Ausgabe ber <code>logEventExecution</code>).
+	 * @return	Format-Zeichenkette fr die Beschreibung
+	 */
+	private String getInfoFormat() {
+		switch (this) {
+		case SCHEDULE_CALL_NEW:
+		case SCHEDULE_CALL_RETRY:
+			return "  "+String.format(Language.tr("Simulator.Log.ScheduleCall.Info"),Language.tr(infoKey),"%s");
+		default:
+			return "  "+Language.tr(infoKey);
+		}
+	}
+
+	/**
+	 * Registriert den Ereignistyp bei einem binren Logger.
+	 * @param logger	Binrer Logger
+	 * @return	Typ-ID fr diesen Ereignistyp
+	 */
+	public int register(final BinaryTraceLogger logger) {
+		return logger.registerType(Language.tr(eventKey),getInfoFormat(),null,arguments);
+	}
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator.runmodel;
+
+import java.util.Arrays;
+
+import mathtools.MSER;
+
+/**
+ * Bestimmt die Lnge der Einschwingphase automatisch ber die MSER-5-Regel.<br>
+ * Die ersten simulierten Tage (Pilottage) werden mit der im Modell eingestellten Einschwingphase
+ * simuliert und zeichnen dabei die Batch-Mittelwerte (ber jeweils {@link MSER#MSER5_BATCH_SIZE} Kunden)
+ * der Wartezeiten auf. Sobald genug Pilottage vorliegen, wird auf die ber die Pilottage gemittelte
+ * Reihe die MSER-Regel angewandt; der so bestimmte Abschneidepunkt wird fr alle weiteren Tage verwendet.<br>
+ * Ein Objekt dieser Klasse wird von allen Simulationsthreads gemeinsam verwendet.
+ * @author Alexander Herzog
+ * @see RunModel#warmUpDetector
+ */
+final class WarmUpDetector {
+	/**
+	 * Mindestanzahl an Pilottagen (sofern insgesamt so viele Tage simuliert werden)
+	 */
+	public static final int MIN_PILOT_DAYS=4;
+
+	/**
+	 * Anzahl an Pilottagen, nach denen die Einschwingphase festgelegt wird
+	 */
+	private final int pilotDays;
+
+	/**
+	 * Summe der Batch-Mittelwerte der Wartezeiten ber die bisherigen Pilottage (Index=Nummer des Batches)
+	 */
+	private double[] sumBatchMeans;
+
+	/**
+	 * Summe der bis zum Ende des jeweiligen Batches eingetroffenen Erstanrufer ber die bisherigen Pilottage
+	 */
+	private double[] sumCalls;
+
+	/**
+	 * Anzahl an Batches, die in allen bisherigen Pilottagen vorhanden waren
+	 */
+	private int batches;
+
+	/**
+	 * Anzahl an bisher gemeldeten Pilottagen
+	 */
+	private int reportedDays;
+
+	/**
+	 * Bestimmte Lnge der Einschwingphase (in Erstanrufern) oder -1, solange diese noch nicht feststeht
+	 * @see #getWarmUpPeriod()
+	 */
+	private volatile int warmUpPeriod;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param pilotDays	Anzahl an Pilottagen, nach denen die Einschwingphase festgelegt wird
+	 */
+	public WarmUpDetector(final int pilotDays) {
+		this.pilotDays=Math.max(1,pilotDays);
+		sumBatchMeans=new double[0];
+		sumCalls=new double[0];
+		batches=Integer.MAX_VALUE;
+		warmUpPeriod=-1;
+	}
+
+	/**
+	 * Liefert die automatisch bestimmte Lnge der Einschwingphase.
+	 * @return	Lnge der Einschwingphase (in Erstanrufern) oder -1, wenn noch nicht genug Pilottage vorliegen
+	 */
+	public int getWarmUpPeriod() {
+		return warmUpPeriod;
+	}
+
+	/**
+	 * Meldet die Daten eines Pilottages.<br>
+	 * Steht die Einschwingphase bereits fest, so werden die Daten ignoriert.
+	 * @param batchMeans	Batch-Mittelwerte der Wartezeiten in der Reihenfolge ihrer Erfassung
+	 * @param batchCalls	Anzahl an bis zum Ende des jeweiligen Batches eingetroffenen Erstanrufern
+	 * @param count	Anzahl an gltigen Eintrgen in den beiden Arrays
+	 */
+	public synchronized void addPilotDay(final double[] batchMeans, final int[] batchCalls, final int count) {
+		if (warmUpPeriod>=0) return;
+
+		batches=Math.min(batches,count);
+		if (sumBatchMeans.length<batches) {
+			sumBatchMeans=Arrays.copyOf(sumBatchMeans,batches);
+			sumCalls=Arrays.copyOf(sumCalls,batches);
+		}
+		for (int i=0;i<batches;i++) {
+			sumBatchMeans[i]+=batchMeans[i];
+			sumCalls[i]+=batchCalls[i];
+		}
+		reportedDays++;
+
+		if (reportedDays<pilotDays) return;
+
+		final int d=MSER.getTruncationPoint(sumBatchMeans,batches);
+		warmUpPeriod=(d==0)?0:(int)Math.round(sumCalls[d-1]/reportedDays);
+	}
+}
@@ -145,6 +145,11 @@ public class Statistics extends StatisticsBase {
 	 */
 	public StatisticsTimePerformanceIndicator systemLength;
 
+	/**
+	 * Lnge der Einschwingphase (in Erstanrufern) pro simuliertem Tag
+	 */
+	public StatisticsDataPerformanceIndicator warmUpPeriod;
+
 	/**
 	 * Konstruktor der Klasse
 	 * @param collectCorrelation	Erfassung der Autokorrelation der Wartezeiten der Kunden
@@ -180,6 +185,8 @@ public class Statistics extends StatisticsBase {
 		addPerformanceIndicator(queueLength=new StatisticsTimePerformanceIndicator(Language.trAll("Statistics.XML.QueueLength")));
 		addPerformanceIndicator(systemLength=new StatisticsTimePerformanceIndicator(Language.trAll("Statistics.XML.SystemLength")));
 
+		addPerformanceIndicator(warmUpPeriod=new StatisticsDataPerformanceIndicator(Language.trAll("Statistics.XML.WarmUpPeriod"),1_000_000,1000));
+
 		resetData();
 	}
 
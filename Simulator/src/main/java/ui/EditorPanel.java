@@ -63,6 +63,12 @@ public final class EditorPanel extends EditorPanelBase {
 	private JTextField callsToSimulate;
 	/** Zustzlich als Einschwingphase zu simulierende Anknfte */
 	private JTextField callsToSimulateWarmUp;
+	/** Einschwingphase automatisch bestimmen? */
+	private JCheckBox autoWarmUp;
+	/** Tage im stationren Zustand (Erlang-C-Nherung) beginnen? */
+	private JCheckBox warmStart;
+	/** Lnge der simulierten Tage an den festen Aufwand pro Tag anpassen? */
+	private JCheckBox adaptDayLength;
 
 	/* Anknfte */
 
@@ -196,6 +202,9 @@ public final class EditorPanel extends EditorPanelBase {
 		addCheckInput(callsToSimulate,()->NumberTools.getPositiveLong(callsToSimulate,true));
 		callsToSimulateWarmUp=addInputLine(p,Language.tr("Editor.General.CallsToSimulateWarmUp"),readOnly);
 		addCheckInput(callsToSimulateWarmUp,()->NumberTools.getNotNegativeInteger(callsToSimulateWarmUp,true));
+		autoWarmUp=addCheckBox(p,Language.tr("Editor.General.AutoWarmUp"));
+		warmStart=addCheckBox(p,Language.tr("Editor.General.WarmStart"));
+		adaptDayLength=addCheckBox(p,Language.tr("Editor.General.AdaptDayLength"));
 		p.add(Box.createVerticalStrut(5));
 
 		/* Anknfte */
@@ -259,6 +268,9 @@ public final class EditorPanel extends EditorPanelBase {
 		model.description=description.getText();
 		L=NumberTools.getPositiveLong(callsToSimulate,true); if (L!=null) model.callsToSimulate=(int)((long)L);
 		I=NumberTools.getNotNegativeInteger(callsToSimulateWarmUp,true); if (L!=null) model.callsToSimulateWarmUp=I;
+		model.autoWarmUp=autoWarmUp.isSelected();
+		model.warmStart=warmStart.isSelected();
+		model.adaptDayLength=adaptDayLength.isSelected();
 
 		/* Anknfte */
 		L=NumberTools.getPositiveLong(batchArrival,true); if (L!=null) model.batchArrival=(int)((long)L);
@@ -297,6 +309,9 @@ public final class EditorPanel extends EditorPanelBase {
 		description.setText(model.description);
 		callsToSimulate.setText(""+model.callsToSimulate);
 		callsToSimulateWarmUp.setText(""+model.callsToSimulateWarmUp);
+		autoWarmUp.setSelected(model.autoWarmUp);
+		warmStart.setSelected(model.warmStart);
+		adaptDayLength.setSelected(model.adaptDayLength);
 
 		/* Anknfte */
 		batchArrival.setText(""+model.batchArrival);
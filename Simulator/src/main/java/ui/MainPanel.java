@@ -61,6 +61,7 @@ import mathtools.distribution.LogNormalDistributionImpl;
 import mathtools.distribution.NeverDistributionImpl;
 import mathtools.distribution.swing.CommonVariables;
 import mathtools.distribution.tools.FileDropperData;
+import simcore.logging.BinaryTraceLogger;
 import simulator.Simulator;
 import simulator.editmodel.EditModel;
 import simulator.runmodel.RunModel;
@@ -895,7 +896,9 @@ public class MainPanel extends MainPanelBase {
 		CommonVariables.initialDirectoryToJFileChooser(fc);
 		fc.setDialogTitle(Language.tr("Main.Menu.RecordSimulation.LogFile"));
 		final FileFilter txt=new FileNameExtensionFilter(Language.tr("FileType.Text")+" (*.txt)","txt");
+		final FileFilter trace=new FileNameExtensionFilter(Language.tr("FileType.Trace")+" (*"+BinaryTraceLogger.FILE_EXTENSION+")",BinaryTraceLogger.FILE_EXTENSION.substring(1));
 		fc.addChoosableFileFilter(txt);
+		fc.addChoosableFileFilter(trace);
 		fc.setFileFilter(txt);
 		fc.setAcceptAllFileFilterUsed(false);
 
@@ -905,6 +908,7 @@ public class MainPanel extends MainPanelBase {
 
 		if (file.getName().indexOf('.')<0) {
 			if (fc.getFileFilter()==txt) file=new File(file.getAbsoluteFile()+".txt");
+			if (fc.getFileFilter()==trace) file=new File(file.getAbsoluteFile()+BinaryTraceLogger.FILE_EXTENSION);
 		}
 
 		if (file.exists()) {
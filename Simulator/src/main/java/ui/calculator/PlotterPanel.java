@@ -32,9 +32,16 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
 
 import javax.imageio.ImageIO;
 import javax.print.attribute.HashPrintRequestAttributeSet;
@@ -48,6 +55,7 @@ import javax.swing.JPanel;
 import javax.swing.JTextField;
 import javax.swing.JToolBar;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.filechooser.FileFilter;
 import javax.swing.filechooser.FileNameExtensionFilter;
@@ -70,7 +78,6 @@ import language.Language;
 import mathtools.NumberTools;
 import mathtools.distribution.swing.CommonVariables;
 import parser.CalcSystem;
-import parser.MathCalcError;
 import systemtools.ImageTools;
 import systemtools.MsgBox;
 import systemtools.statistics.PDFWriter;
@@ -128,6 +135,29 @@ public class PlotterPanel extends JPanel {
 	/** Wird von {@link #unzoom()}, {@link #inputXChanged()} und {@link #inputYChanged()} temporr auf <code>true</code> gesetzt, um Benachrichtigungsschleifen zu verhindern */
 	private boolean justChangingZoom=false;
 
+	/**
+	 * Um welchen Faktor weniger Punkte werden fr die schnelle Vorschau berechnet?
+	 * @see #plot(double, double, boolean)
+	 */
+	private static final int PREVIEW_STEP_DIVISOR=8;
+
+	/**
+	 * Hintergrund-Threads, in denen die Funktionswerte der Graphen berechnet werden
+	 * @see #plot(double, double, boolean)
+	 */
+	private static final ExecutorService executor=Executors.newFixedThreadPool(Math.max(1,Runtime.getRuntime().availableProcessors()),runnable->{
+		final Thread thread=new Thread(runnable,"PlotterPanel");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Nummer der jeweils letzten Neuberechnung der Graphen<br>
+	 * Hintergrundberechnungen, deren Nummer nicht mehr der aktuellen entspricht, werden abgebrochen bzw. verworfen.
+	 * @see #plot(double, double, boolean)
+	 */
+	private final AtomicInteger plotRequest=new AtomicInteger();
+
 	/**
 	 * Konstruktor der Klasse
 	 */
@@ -191,6 +221,7 @@ public class PlotterPanel extends JPanel {
 				final Range range=plot.getDomainAxis().getRange();
 				inputMinX.setText(NumberTools.formatNumber(range.getLowerBound(),3));
 				inputMaxX.setText(NumberTools.formatNumber(range.getUpperBound(),3));
+				plot(range.getLowerBound(),range.getUpperBound(),false);
 			}
 		});
 		plot.getRangeAxis().addChangeListener(e->{
@@ -405,24 +436,70 @@ public class PlotterPanel extends JPanel {
 	 * Wird aufgerufen, wenn der Nutzer den minimalen oder den maximalen X-Wert verndert.
 	 */
 	private void inputXChanged() {
-		data.removeAllSeries();
-
 		final Double minD=NumberTools.getDouble(inputMinX,true);
 		final Double maxD=NumberTools.getDouble(inputMaxX,true);
-		if (minD==null || maxD==null) return;
+		if (minD==null || maxD==null) {
+			plotRequest.incrementAndGet();
+			data.removeAllSeries();
+			return;
+		}
 		double minX=minD;
 		double maxX=maxD;
 		if (maxX<minX) maxX=minX+1;
+
+		plot(minX,maxX,true);
+	}
+
+	/**
+	 * Startet die Berechnung der Graphen in einem x-Bereich im Hintergrund.<br>
+	 * Zunchst wird eine grobe Vorschau berechnet und angezeigt. Danach werden die Graphen
+	 * mit voller Auflsung berechnet und an Stellen mit starker Krmmung weiter verfeinert.
+	 * Noch laufende Berechnungen eines frheren Aufrufs werden abgebrochen.
+	 * @param minX	Minimaler x-Wert
+	 * @param maxX	Maximaler x-Wert
+	 * @param adjustYRange	Sollen der y-Bereich an die Funktionswerte angepasst und die x- und y-Bereiche als neuer Standardzoom verwendet werden?
+	 * @see #publishPlot(int, List, double, double, boolean)
+	 */
+	private void plot(final double minX, final double maxX, final boolean adjustYRange) {
+		final int request=plotRequest.incrementAndGet();
+		final BooleanSupplier cancelled=()->plotRequest.get()!=request;
 		final int steps=Math.max(1000,chartPanel.getWidth());
 
+		final List<GraphPlot> preview=new ArrayList<>();
+		final List<GraphPlot> full=new ArrayList<>();
+		for (Graph graph: graphs) {
+			preview.add(new GraphPlot(graph));
+			full.add(new GraphPlot(graph));
+		}
+
+		CompletableFuture.allOf(preview.stream().map(graphPlot->CompletableFuture.runAsync(()->graphPlot.calc(minX,maxX,Math.max(2,steps/PREVIEW_STEP_DIVISOR),false,cancelled),executor)).toArray(CompletableFuture[]::new)).thenRun(()->{
+			if (cancelled.getAsBoolean()) return;
+			SwingUtilities.invokeLater(()->publishPlot(request,preview,minX,maxX,adjustYRange));
+			CompletableFuture.allOf(full.stream().map(graphPlot->CompletableFuture.runAsync(()->graphPlot.calc(minX,maxX,steps,true,cancelled),executor)).toArray(CompletableFuture[]::new)).thenRun(()->{
+				if (cancelled.getAsBoolean()) return;
+				SwingUtilities.invokeLater(()->publishPlot(request,full,minX,maxX,adjustYRange));
+			});
+		});
+	}
+
+	/**
+	 * Zeigt die im Hintergrund berechneten Graphen an.<br>
+	 * Muss auf dem Event-Dispatch-Thread aufgerufen werden.
+	 * @param request	Nummer der Berechnung (ist diese nicht mehr aktuell, werden die Daten verworfen)
+	 * @param graphPlots	Berechnete Graphen
+	 * @param minX	Minimaler x-Wert
+	 * @param maxX	Maximaler x-Wert
+	 * @param adjustYRange	Sollen der y-Bereich an die Funktionswerte angepasst und die x- und y-Bereiche als neuer Standardzoom verwendet werden?
+	 * @see #plot(double, double, boolean)
+	 */
+	private void publishPlot(final int request, final List<GraphPlot> graphPlots, final double minX, final double maxX, final boolean adjustYRange) {
+		if (request!=plotRequest.get()) return;
+
 		double minY=Double.MAX_VALUE;
 		double maxY=-Double.MAX_VALUE;
-		for (Graph graph: graphs) {
-			double[] range=graph.getMinMax(minX,maxX,steps);
-			if (range!=null) {
-				minY=Math.min(minY,range[0]);
-				maxY=Math.max(maxY,range[1]);
-			}
+		for (GraphPlot graphPlot: graphPlots) if (graphPlot.series!=null) {
+			minY=Math.min(minY,graphPlot.minY);
+			maxY=Math.max(maxY,graphPlot.maxY);
 		}
 		if (minY==0 && maxY==0) {
 			minY=0;
@@ -434,29 +511,34 @@ public class PlotterPanel extends JPanel {
 		}
 		minY=Math.floor(minY);
 		maxY=Math.ceil(maxY);
-		inputMinY.setText(NumberTools.formatNumber(minY));
-		inputMaxY.setText(NumberTools.formatNumber(maxY));
-
-		final XYItemRenderer renderer=plot.getRenderer();
-		for (Graph graph: graphs) {
-			XYSeries series=graph.getSeries(minX,maxX,steps);
-			if (series==null) continue;
-			data.addSeries(series);
-			renderer.setSeriesPaint(data.getSeriesCount()-1,graph.color);
-		}
 
 		justChangingZoom=true;
 		try {
-			plot.getDomainAxis().setRange(minX,maxX);
-			plot.getRangeAxis().setRange(minY,maxY);
+			data.removeAllSeries();
+			final XYItemRenderer renderer=plot.getRenderer();
+			for (GraphPlot graphPlot: graphPlots) {
+				graphPlot.graph.lastPlotOk=graphPlot.ok;
+				if (graphPlot.series==null) continue;
+				data.addSeries(graphPlot.series);
+				renderer.setSeriesPaint(data.getSeriesCount()-1,graphPlot.color);
+			}
+
+			if (adjustYRange) {
+				inputMinY.setText(NumberTools.formatNumber(minY));
+				inputMaxY.setText(NumberTools.formatNumber(maxY));
+				plot.getDomainAxis().setRange(minX,maxX);
+				plot.getRangeAxis().setRange(minY,maxY);
+			}
 		} finally {
 			justChangingZoom=false;
 		}
 
-		currentUnzoomMinX=minX;
-		currentUnzoomMaxX=maxX;
-		currentUnzoomMinY=minY;
-		currentUnzoomMaxY=maxY;
+		if (adjustYRange) {
+			currentUnzoomMinX=minX;
+			currentUnzoomMaxX=maxX;
+			currentUnzoomMinY=minY;
+			currentUnzoomMaxY=maxY;
+		}
 
 		fireRedrawDone();
 	}
@@ -496,6 +578,8 @@ public class PlotterPanel extends JPanel {
 		inputMaxX.setText(NumberTools.formatNumber(currentUnzoomMaxX));
 		inputMinY.setText(NumberTools.formatNumber(currentUnzoomMinY));
 		inputMaxY.setText(NumberTools.formatNumber(currentUnzoomMaxY));
+
+		plot(currentUnzoomMinX,currentUnzoomMaxX,false);
 	}
 
 	/**
@@ -564,11 +648,6 @@ public class PlotterPanel extends JPanel {
 		 */
 		private final static String[] variableName=new String[]{"x"};
 
-		/**
-		 * Array mit dem Wert fr die Variable
-		 */
-		private final double[] variableValue=new double[1];
-
 		/**
 		 * Funktionsterm; Variable ist "x"
 		 */
@@ -614,12 +693,12 @@ public class PlotterPanel extends JPanel {
 		}
 
 		/**
-		 * Liefert einen Parser, der den Ausdruck {@link #expression} und die Variablen {@link #variableName} verwendet.
-		 * @return	Parser
-		 * @see #expression
+		 * Liefert einen Parser, der einen Ausdruck und die Variablen {@link #variableName} verwendet.
+		 * @param expression	Funktionsterm; Variable ist "x"
+		 * @return	Parser oder <code>null</code>, wenn der Ausdruck leer ist oder nicht interpretiert werden konnte
 		 * @see #variableName
 		 */
-		private CalcSystem getParser() {
+		private static CalcSystem getParser(final String expression) {
 			if (expression==null || expression.isBlank()) return null;
 			final CalcSystem calc=new CalcSystem(variableName);
 			if (calc.parse(expression)>=0) return null;
@@ -627,64 +706,215 @@ public class PlotterPanel extends JPanel {
 		}
 
 		/**
-		 * Berechnet den Minimal- und den Maximalwert der Funktion in einem angegebenen Bereich
+		 * Liefert die x-Werte, an denen die Funktion ausgewertet werden soll.
 		 * @param xMin	Minimaler x-Wert
 		 * @param xMax	Maximaler x-Wert
 		 * @param steps	x-Schrittweite
-		 * @return	Liefert im Erfolgsfall ein Array aus minimalem oder maximalem y-Wert; im Fehlerfall <code>null</code>.
+		 * @return	Array mit den x-Werten
 		 */
-		private double[] getMinMax(final double xMin, final double xMax, final int steps) {
-			lastPlotOk=true;
-			if (color==null) {lastPlotOk=false; return null;}
-			final CalcSystem calc=getParser();
-			if (calc==null) {lastPlotOk=false; return null;}
-
-			double min=Double.MAX_VALUE;
-			double max=-Double.MAX_VALUE;
-
-			boolean atLeastOneValueOk=false;
-			for (int i=0;i<steps;i++) {
-				double x=xMin+i*(xMax-xMin)/(steps-1);
-				variableValue[0]=x;
-				try {
-					final double d=calc.calc(variableValue);
-					if (d>max) max=d;
-					if (d<min) min=d;
-					atLeastOneValueOk=true;
-				} catch (MathCalcError e) {}
-			}
-			if (!atLeastOneValueOk) lastPlotOk=false;
+		private static double[] getXValues(final double xMin, final double xMax, final int steps) {
+			final double[] x=new double[steps];
+			for (int i=0;i<steps;i++) x[i]=xMin+i*(xMax-xMin)/(steps-1);
+			return x;
+		}
+	}
 
-			return new double[]{min,max};
+	/**
+	 * Berechnung eines Graphen im Hintergrund
+	 * @see PlotterPanel#plot(double, double, boolean)
+	 */
+	private static class GraphPlot {
+		/**
+		 * Anzahl an x-Werten, die jeweils gemeinsam (und parallel zu anderen Blcken) berechnet werden
+		 */
+		private static final int EVALUATION_BLOCK_SIZE=256;
+
+		/**
+		 * Maximale Anzahl an Verfeinerungsschritten (in jedem Schritt werden die Intervalle, in denen der Graph stark gekrmmt ist, halbiert)
+		 */
+		private static final int MAX_REFINE_LEVELS=6;
+
+		/**
+		 * Maximale Abweichung (bezogen auf den Wertebereich der Funktion) eines Intervallmittelpunkts von der Verbindungsgeraden der Intervallgrenzen, bis zu der das Intervall nicht weiter verfeinert wird
+		 */
+		private static final double REFINE_TOLERANCE=1.0/2000;
+
+		/**
+		 * Maximale Anzahl an Punkten pro Graph als Vielfaches der Anzahl an gleichmig verteilten Punkten
+		 */
+		private static final int MAX_POINTS_FACTOR=8;
+
+		/** Zu berechnender Graph */
+		public final Graph graph;
+		/** Funktionsterm (beim Start der Berechnung aus dem Graphen bernommen) */
+		private final String expression;
+		/** Farbe des Graphen (beim Start der Berechnung aus dem Graphen bernommen) */
+		public final Color color;
+
+		/** Berechnete Datenreihe (oder <code>null</code>, wenn der Graph nicht dargestellt werden kann) */
+		public XYSeries series;
+		/** Minimaler y-Wert */
+		public double minY;
+		/** Maximaler y-Wert */
+		public double maxY;
+		/** Konnte der Ausdruck fr mindestens einen x-Wert berechnet werden? */
+		public boolean ok;
+
+		/**
+		 * Konstruktor der Klasse<br>
+		 * Muss auf dem Event-Dispatch-Thread aufgerufen werden, da die Daten des Graphen hier bernommen werden.
+		 * @param graph	Zu berechnender Graph
+		 */
+		public GraphPlot(final Graph graph) {
+			this.graph=graph;
+			expression=graph.expression;
+			color=graph.color;
 		}
 
 		/**
-		 * Erstellt basierend auf dem Funktionterm eine {@link JFreeChart}-Serie ({@link XYSeries})
+		 * Berechnet den Graphen.
 		 * @param xMin	Minimaler x-Wert
 		 * @param xMax	Maximaler x-Wert
-		 * @param steps	x-Schrittweite
-		 * @return	{@link XYSeries} zur Darstellung im Diagramm
+		 * @param steps	Anzahl an gleichmig verteilten x-Werten
+		 * @param refine	Sollen Intervalle, in denen der Graph stark gekrmmt ist, weiter verfeinert werden?
+		 * @param cancelled	Liefert <code>true</code>, wenn die Berechnung abgebrochen werden soll
 		 */
-		private XYSeries getSeries(final double xMin, final double xMax, final int steps) {
-			lastPlotOk=true;
-			if (color==null) {lastPlotOk=false; return null;}
-			final CalcSystem calc=getParser();
-			if (calc==null) {lastPlotOk=false; return null;}
+		public void calc(final double xMin, final double xMax, final int steps, final boolean refine, final BooleanSupplier cancelled) {
+			series=null;
+			ok=false;
+			if (color==null || cancelled.getAsBoolean()) return;
+			final CalcSystem calc=Graph.getParser(expression);
+			if (calc==null) return;
+
+			double[] x=Graph.getXValues(xMin,xMax,steps);
+			double[] y=evaluate(calc,x,cancelled);
+			if (y==null) return;
+
+			if (refine) {
+				final double[][] refined=refine(calc,x,y,steps*MAX_POINTS_FACTOR,cancelled);
+				if (refined==null) return;
+				x=refined[0];
+				y=refined[1];
+			}
 
 			final XYSeries series=new XYSeries(expression);
+			minY=Double.MAX_VALUE;
+			maxY=-Double.MAX_VALUE;
+			for (int i=0;i<x.length;i++) {
+				final double d=y[i];
+				if (Double.isNaN(d)) continue;
+				series.add(x[i],d,false);
+				if (d>maxY) maxY=d;
+				if (d<minY) minY=d;
+				ok=true;
+			}
+			this.series=series;
+		}
 
-			boolean atLeastOneValueOk=false;
-			for (int i=0;i<steps;i++) {
-				double x=xMin+i*(xMax-xMin)/(steps-1);
-				variableValue[0]=x;
-				try {
-					series.add(x,calc.calc(variableValue));
-					atLeastOneValueOk=true;
-				} catch (MathCalcError e) {}
+		/**
+		 * Berechnet die Funktionswerte zu mehreren x-Werten.<br>
+		 * Die Berechnung erfolgt in Blcken, die parallel berechnet werden und nach denen jeweils geprft wird, ob die Berechnung abgebrochen werden soll.
+		 * @param calc	Parser
+		 * @param x	x-Werte
+		 * @param cancelled	Liefert <code>true</code>, wenn die Berechnung abgebrochen werden soll
+		 * @return	Funktionswerte (Werte, die nicht berechnet werden konnten, sind {@link Double#NaN}) oder <code>null</code>, wenn die Berechnung abgebrochen wurde
+		 */
+		private static double[] evaluate(final CalcSystem calc, final double[] x, final BooleanSupplier cancelled) {
+			final double[] y=new double[x.length];
+			final int blocks=(x.length+EVALUATION_BLOCK_SIZE-1)/EVALUATION_BLOCK_SIZE;
+			IntStream.range(0,blocks).parallel().forEach(block->{
+				if (cancelled.getAsBoolean()) return;
+				final int from=block*EVALUATION_BLOCK_SIZE;
+				final int to=Math.min(x.length,from+EVALUATION_BLOCK_SIZE);
+				final double[] part=calc.evaluateBatch(Arrays.copyOfRange(x,from,to));
+				System.arraycopy(part,0,y,from,to-from);
+			});
+			return cancelled.getAsBoolean()?null:y;
+		}
+
+		/**
+		 * Verfeinert die Sttzstellen eines Graphen in Intervallen, in denen der Graph stark gekrmmt ist
+		 * oder in denen der Definitionsbereich der Funktion endet.<br>
+		 * Dafr wird in jedem Schritt fr alle in Frage kommenden Intervalle der Mittelpunkt berechnet.
+		 * Weicht dieser zu stark von der Verbindungsgeraden der Intervallgrenzen ab, so wird
+		 * er als neue Sttzstelle bernommen und beide Hlften werden im nchsten Schritt erneut geprft.
+		 * @param calc	Parser
+		 * @param x	Bisherige x-Werte (aufsteigend sortiert)
+		 * @param y	Bisherige Funktionswerte
+		 * @param maxPoints	Maximale Anzahl an Sttzstellen
+		 * @param cancelled	Liefert <code>true</code>, wenn die Berechnung abgebrochen werden soll
+		 * @return	Zweielementiges Array aus neuen x- und y-Werten oder <code>null</code>, wenn die Berechnung abgebrochen wurde
+		 */
+		private static double[][] refine(final CalcSystem calc, double[] x, double[] y, final int maxPoints, final BooleanSupplier cancelled) {
+			boolean[] candidate=new boolean[Math.max(0,x.length-1)];
+			Arrays.fill(candidate,true);
+
+			for (int level=0;level<MAX_REFINE_LEVELS;level++) {
+				/* Toleranz bezogen auf den Wertebereich */
+				double min=Double.MAX_VALUE;
+				double max=-Double.MAX_VALUE;
+				for (double d: y) if (!Double.isNaN(d) && !Double.isInfinite(d)) {min=Math.min(min,d); max=Math.max(max,d);}
+				final double tolerance=(max>min)?(max-min)*REFINE_TOLERANCE:0;
+
+				/* Mittelpunkte der zu prfenden Intervalle */
+				int count=0;
+				for (boolean c: candidate) if (c) count++;
+				if (count==0 || x.length+count>maxPoints) break;
+				final int[] interval=new int[count];
+				final double[] midX=new double[count];
+				count=0;
+				for (int i=0;i<candidate.length;i++) if (candidate[i]) {
+					interval[count]=i;
+					midX[count]=(x[i]+x[i+1])/2;
+					count++;
+				}
+				final double[] midY=evaluate(calc,midX,cancelled);
+				if (midY==null) return null;
+
+				/* Mittelpunkte, die zu stark von der Verbindungsgeraden abweichen, bernehmen */
+				final boolean[] insert=new boolean[x.length-1];
+				int inserted=0;
+				for (int k=0;k<count;k++) {
+					final int i=interval[k];
+					final boolean nan1=Double.isNaN(y[i]);
+					final boolean nan2=Double.isNaN(y[i+1]);
+					final boolean nanMid=Double.isNaN(midY[k]);
+					final boolean needsRefinement;
+					if (nan1!=nan2 || nan1!=nanMid) {
+						needsRefinement=true;
+					} else {
+						needsRefinement=!nan1 && Math.abs(midY[k]-(y[i]+y[i+1])/2)>tolerance;
+					}
+					if (needsRefinement) {insert[i]=true; inserted++;}
+				}
+				if (inserted==0) break;
+
+				final double[] newX=new double[x.length+inserted];
+				final double[] newY=new double[x.length+inserted];
+				final boolean[] newCandidate=new boolean[newX.length-1];
+				int index=0;
+				int k=0;
+				for (int i=0;i<x.length;i++) {
+					newX[index]=x[i];
+					newY[index]=y[i];
+					index++;
+					if (i<insert.length && candidate[i]) {
+						if (insert[i]) {
+							newCandidate[index-1]=true;
+							newX[index]=midX[k];
+							newY[index]=midY[k];
+							newCandidate[index]=true;
+							index++;
+						}
+						k++;
+					}
+				}
+				x=newX;
+				y=newY;
+				candidate=newCandidate;
 			}
-			if (!atLeastOneValueOk) lastPlotOk=false;
 
-			return series;
+			return new double[][] {x,y};
 		}
 	}
-}
\ No newline at end of file
+}
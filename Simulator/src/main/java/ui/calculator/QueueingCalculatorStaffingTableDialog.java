@@ -0,0 +1,304 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ui.calculator;
+
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.FlowLayout;
+import java.awt.Toolkit;
+import java.awt.datatransfer.StringSelection;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.io.File;
+import java.io.Serializable;
+import java.util.stream.IntStream;
+
+import javax.swing.BoxLayout;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.JTextField;
+import javax.swing.table.AbstractTableModel;
+
+import language.Language;
+import mathtools.ErlangC;
+import mathtools.NumberTools;
+import mathtools.Table;
+import systemtools.BaseDialog;
+import systemtools.MsgBox;
+import ui.help.Help;
+import ui.images.Images;
+
+/**
+ * Zeigt eine Personalbedarfstabelle an: Fr Bereiche von Ankunftsraten und Agentenanzahlen
+ * werden die Kenngren eines M/M/c/infty bzw. M/M/c/infty+M Modells berechnet.
+ * @author Alexander Herzog
+ * @see QueueingCalculatorTabErlangC
+ * @see QueueingCalculatorTabErlangCExt
+ * @see ErlangC#staffing(double, double, double, int, int, double)
+ */
+public class QueueingCalculatorStaffingTableDialog extends BaseDialog {
+	/**
+	 * Serialisierungs-ID der Klasse
+	 * @see Serializable
+	 */
+	private static final long serialVersionUID=-3458236540139876224L;
+
+	/**
+	 * Maximale Anzahl an Tabellenzeilen
+	 */
+	private static final int MAX_ROWS=1_000_000;
+
+	/** Eingestellte Ankunftsrate (1/Sekunde) */
+	private final double lambda;
+	/** Bedienrate (1/Sekunde) */
+	private final double mu;
+	/** Warteabbruchrate (1/Sekunde; 0 fr ein Modell ohne Warteabbrche) */
+	private final double nu;
+	/** Wartezeitschranke fr den Service-Level (in Sekunden) */
+	private final double t;
+
+	/** Eingabefeld "Anzahl an Agenten von" */
+	private final JTextField agentsFrom;
+	/** Eingabefeld "Anzahl an Agenten bis" */
+	private final JTextField agentsTo;
+	/** Eingabefeld "Ankunftsrate von (in % der eingestellten Ankunftsrate)" */
+	private final JTextField rateFrom;
+	/** Eingabefeld "Ankunftsrate bis (in % der eingestellten Ankunftsrate)" */
+	private final JTextField rateTo;
+	/** Eingabefeld "Anzahl an Ankunftsraten" */
+	private final JTextField rateSteps;
+	/** Ausgabe der Anzahl an berechneten Zeilen bzw. von Fehlermeldungen */
+	private final JLabel status;
+
+	/** Spaltenberschriften */
+	private final String[] heading;
+	/** Tabellenmodell fr die Ausgabe der Ergebnisse */
+	private final StaffingTableModel model;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param owner	bergeordnetes Element
+	 * @param lambda	Eingestellte Ankunftsrate (1/Sekunde)
+	 * @param mu	Bedienrate (1/Sekunde)
+	 * @param nu	Warteabbruchrate (1/Sekunde; 0 fr ein Modell ohne Warteabbrche)
+	 * @param c	Eingestellte Anzahl an Agenten
+	 * @param t	Wartezeitschranke fr den Service-Level (in Sekunden)
+	 */
+	public QueueingCalculatorStaffingTableDialog(final Component owner, final double lambda, final double mu, final double nu, final long c, final double t) {
+		super(owner,Language.tr("LoadCalculator.StaffingTable.Title"));
+		this.lambda=lambda;
+		this.mu=mu;
+		this.nu=nu;
+		this.t=t;
+
+		final String unitSeconds=Language.tr("LoadCalculator.Units.Seconds");
+		final String unitMinutes=Language.tr("LoadCalculator.Units.Minutes");
+		heading=new String[] {"lambda (1/"+unitMinutes+")","a","c","rho","P(W>0)","E[W] ("+unitSeconds+")","P(W<="+NumberTools.formatNumber(t)+")","P(A)"};
+
+		/* GUI */
+		showCloseButton=true;
+		addUserButton(Language.tr("Dialog.Button.Copy.Table"),Images.COPY.getIcon());
+		addUserButton(Language.tr("Dialog.Button.Save.Table"),Images.MODEL_SAVE.getIcon());
+		final JPanel content=createGUI(()->Help.topicModal(this,"QueueingCalculator"));
+		content.setLayout(new BorderLayout());
+
+		final JPanel setup=new JPanel();
+		setup.setLayout(new BoxLayout(setup,BoxLayout.PAGE_AXIS));
+		content.add(setup,BorderLayout.NORTH);
+		agentsFrom=addLine(setup,Language.tr("LoadCalculator.StaffingTable.AgentsFrom"),""+Math.max(1,c-5));
+		agentsTo=addLine(setup,Language.tr("LoadCalculator.StaffingTable.AgentsTo"),""+(c+10));
+		rateFrom=addLine(setup,Language.tr("LoadCalculator.StaffingTable.ArrivalRateFrom"),"80");
+		rateTo=addLine(setup,Language.tr("LoadCalculator.StaffingTable.ArrivalRateTo"),"120");
+		rateSteps=addLine(setup,Language.tr("LoadCalculator.StaffingTable.ArrivalRateSteps"),"9");
+
+		final JTable table=new JTable(model=new StaffingTableModel());
+		table.setAutoResizeMode(JTable.AUTO_RESIZE_ALL_COLUMNS);
+		content.add(new JScrollPane(table),BorderLayout.CENTER);
+
+		final JPanel line=new JPanel(new FlowLayout(FlowLayout.LEFT));
+		content.add(line,BorderLayout.SOUTH);
+		line.add(status=new JLabel());
+
+		/* Dialog starten */
+		calc();
+		setSizeRespectingScreensize(800,600);
+		setLocationRelativeTo(this.owner);
+		setVisible(true);
+	}
+
+	/**
+	 * Fgt eine Eingabezeile zu dem Einstellungsbereich hinzu.
+	 * @param parent	bergeordnetes Panel
+	 * @param label	Beschriftung des Eingabefeldes
+	 * @param value	Vorgabewert fr das Eingabefeld
+	 * @return	Neues Eingabefeld
+	 */
+	private JTextField addLine(final JPanel parent, final String label, final String value) {
+		final JPanel line=new JPanel(new FlowLayout(FlowLayout.LEFT));
+		parent.add(line);
+		final JLabel labelField=new JLabel(label+":");
+		line.add(labelField);
+		final JTextField field=new JTextField(value,7);
+		line.add(field);
+		labelField.setLabelFor(field);
+		field.addKeyListener(new KeyAdapter() {
+			@Override public void keyReleased(KeyEvent e) {calc();}
+		});
+		return field;
+	}
+
+	/**
+	 * Berechnet die Tabelle auf Basis der aktuellen Eingaben neu.<br>
+	 * Die Ankunftsraten werden parallel berechnet; innerhalb einer Ankunftsrate
+	 * werden die Agentenanzahlen inkrementell berechnet.
+	 * @see ErlangC#staffing(double, double, double, int, int, double)
+	 */
+	private void calc() {
+		final Long cMin=NumberTools.getPositiveLong(agentsFrom,true);
+		final Long cMax=NumberTools.getPositiveLong(agentsTo,true);
+		final Double percentMin=NumberTools.getNotNegativeDouble(rateFrom,true);
+		final Double percentMax=NumberTools.getNotNegativeDouble(rateTo,true);
+		final Long steps=NumberTools.getPositiveLong(rateSteps,true);
+		if (cMin==null || cMax==null || percentMin==null || percentMax==null || steps==null || cMax<cMin || percentMax<percentMin) {
+			model.setData(new double[0][]);
+			status.setText("<html><body><span color=\"red\">"+Language.tr("LoadCalculator.InvalidInput")+"</span></body></html>");
+			return;
+		}
+		final long rows=(cMax-cMin+1)*steps;
+		if (cMax>Integer.MAX_VALUE || rows>MAX_ROWS) {
+			model.setData(new double[0][]);
+			status.setText("<html><body><span color=\"red\">"+String.format(Language.tr("LoadCalculator.StaffingTable.TooManyRows"),NumberTools.formatLong(MAX_ROWS))+"</span></body></html>");
+			return;
+		}
+
+		final long time=System.currentTimeMillis();
+		final int cCount=(int)(cMax-cMin+1);
+		final double[][] data=new double[(int)rows][];
+		IntStream.range(0,steps.intValue()).parallel().forEach(step->{
+			final double percent=(steps==1)?percentMin:(percentMin+(percentMax-percentMin)*step/(steps-1));
+			final double stepLambda=lambda*percent/100;
+			final double[][] results=ErlangC.staffing(stepLambda,mu,nu,cMin.intValue(),cMax.intValue(),t);
+			for (int i=0;i<cCount;i++) {
+				final int c=cMin.intValue()+i;
+				final double[] row=results[i];
+				data[step*cCount+i]=new double[] {
+						stepLambda*60,
+						stepLambda/mu,
+						c,
+						stepLambda/mu/c,
+						row[ErlangC.STAFFING_WAITING_PROBABILITY],
+						row[ErlangC.STAFFING_MEAN_WAITING_TIME],
+						row[ErlangC.STAFFING_SERVICE_LEVEL],
+						row[ErlangC.STAFFING_CANCEL_PROBABILITY]
+				};
+			}
+		});
+		model.setData(data);
+		status.setText(String.format(Language.tr("LoadCalculator.StaffingTable.Status"),NumberTools.formatLong(rows),NumberTools.formatLong(System.currentTimeMillis()-time)));
+	}
+
+	/**
+	 * Liefert die aktuelle Tabelle zum Kopieren oder Speichern.
+	 * @return	Tabelle inkl. berschriftenzeile
+	 */
+	private Table getTable() {
+		final Table table=new Table();
+		table.addLine(heading);
+		for (double[] row: model.data) table.addLine(row);
+		return table;
+	}
+
+	@Override
+	protected void userButtonClick(final int nr, final JButton button) {
+		switch (nr) {
+		case 0:
+			Toolkit.getDefaultToolkit().getSystemClipboard().setContents(new StringSelection(getTable().toStringTabs()),null);
+			break;
+		case 1:
+			final File file=Table.showSaveDialog(this,Language.tr("Dialog.Button.Save.Table"));
+			if (file==null) return;
+			if (file.exists()) {
+				if (!MsgBox.confirmOverwrite(this,file)) return;
+			}
+			if (!getTable().save(file)) {
+				MsgBox.error(this,Language.tr("LoadCalculator.StaffingTable.Title"),String.format(Language.tr("LoadCalculator.StaffingTable.SaveError"),file.toString()));
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Tabellenmodell fr die Ausgabe der Ergebnisse
+	 * @see QueueingCalculatorStaffingTableDialog#calc()
+	 */
+	private class StaffingTableModel extends AbstractTableModel {
+		/**
+		 * Serialisierungs-ID der Klasse
+		 * @see Serializable
+		 */
+		private static final long serialVersionUID=4420394563710948133L;
+
+		/** Anzuzeigende Daten (eine Zeile pro Kombination aus Ankunftsrate und Agentenanzahl) */
+		private double[][] data=new double[0][];
+
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public StaffingTableModel() {
+			/*
+			 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+			 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+			 */
+		}
+
+		/**
+		 * Stellt neue Daten ein.
+		 * @param data	Anzuzeigende Daten
+		 */
+		public void setData(final double[][] data) {
+			this.data=data;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public int getRowCount() {
+			return data.length;
+		}
+
+		@Override
+		public int getColumnCount() {
+			return heading.length;
+		}
+
+		@Override
+		public String getColumnName(final int column) {
+			return heading[column];
+		}
+
+		@Override
+		public Object getValueAt(final int rowIndex, final int columnIndex) {
+			final double value=data[rowIndex][columnIndex];
+			switch (columnIndex) {
+			case 2: return NumberTools.formatLong((long)value);
+			case 3: case 4: case 6: case 7: return NumberTools.formatPercent(value,2);
+			default: return NumberTools.formatNumber(value,3);
+			}
+		}
+	}
+}
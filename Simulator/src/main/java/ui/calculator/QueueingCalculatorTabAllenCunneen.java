@@ -20,6 +20,7 @@ import java.io.Serializable;
 import javax.swing.JCheckBox;
 
 import language.Language;
+import mathtools.ErlangC;
 import mathtools.NumberTools;
 
 /**
@@ -190,9 +191,7 @@ public class QueueingCalculatorTabAllenCunneen extends QueueingCalculatorTabBase
 		E[N]=E[NQ]+bS*c*rho
 		 */
 
-		final double PC1=powerFactorial(c*rho,c)/(1-rho);
-		double PC=0; for(int i=0;i<=c-1;i++) PC+=powerFactorial(c*rho,i);
-		PC=PC1/(PC1+PC);
+		final double PC=ErlangC.erlangC(c*rho,(int)c);
 
 		final double scvScompl=scvS+PUp*(1-PUp)*EDt*(1+cvDt*cvDt)*mu;
 
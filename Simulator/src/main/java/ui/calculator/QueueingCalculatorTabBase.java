@@ -32,6 +32,7 @@ import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.Icon;
+import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
@@ -195,6 +196,26 @@ public abstract class QueueingCalculatorTabBase extends JPanel {
 		return checkBox;
 	}
 
+	/**
+	 * Fgt eine Schaltflche zu dem Panel hinzu.
+	 * @param label	Beschriftung der Schaltflche
+	 * @param tooltip	Tooltip fr die Schaltflche (kann leer oder <code>null</code> sein)
+	 * @param icon	Icon fr die Schaltflche (kann <code>null</code> sein)
+	 * @param action	Beim Anklicken auszufhrende Aktion
+	 * @return	Schaltflche (bereits in der bergeordnete Panel eingefgt)
+	 */
+	protected final JButton addButton(final String label, final String tooltip, final Icon icon, final Runnable action) {
+		JPanel panel;
+		JButton button;
+
+		add(panel=new JPanel(new FlowLayout(FlowLayout.LEFT)));
+		panel.add(button=new JButton(label,icon));
+		if (tooltip!=null && !tooltip.isBlank()) button.setToolTipText(tooltip);
+		button.addActionListener(e->action.run());
+
+		return button;
+	}
+
 	/**
 	 * Erstellt ein Multi-Eingabeelement, fgt es aber noch nicht in den Tab ein (kann nmlich auch in Unter-Containern verwendet werden)
 	 * @param title	berschrift des Elements
@@ -339,20 +360,6 @@ public abstract class QueueingCalculatorTabBase extends JPanel {
 		setError(Language.tr("LoadCalculator.InvalidInput"));
 	}
 
-	/**
-	 * Berechnet a^c/c! ber eine Schleife, d.h. unter Vermeidung von
-	 * Auslschungen und berlufen.
-	 * @param a	Parameter a
-	 * @param c	Parameter c
-	 * @return	Ergebnis
-	 */
-	protected final double powerFactorial(final double a, final long c) {
-		/* a^c/c! */
-		double result=1;
-		for (int i=1;i<=c;i++) result*=(a/i);
-		return result;
-	}
-
 	/**
 	 * Wird aufgerufen, wenn die Ergebnisse neu berechnet werden sollen.
 	 */
@@ -18,6 +18,7 @@ package ui.calculator;
 import java.io.Serializable;
 
 import language.Language;
+import mathtools.ErlangC;
 import mathtools.NumberTools;
 
 /**
@@ -64,16 +65,10 @@ public class QueueingCalculatorTabErlangB extends QueueingCalculatorTabBase {
 		final double n=nInput.getDouble();
 
 		/* B=(A^N/N!) / sum (i=0..N; A^i/i!) */
-		/* 1/B=sum(i=0..N; prod(j)i+1..N; j/A) [Termumformung] */
-		double invB=0;
-		for (int i=0;i<=n;i++) {
-			double prod=1;
-			for (int j=i+1;j<=n;j++) prod*=j/a;
-			invB+=prod;
-		}
+		final double B=ErlangC.erlangB(a,(int)Math.floor(n));
 
-		if (invB>0) {
-			setResult(Language.tr("LoadCalculator.ProbabilityOfBlocking")+": P(B)="+NumberTools.formatPercent(1/invB));
+		if (!Double.isNaN(B)) {
+			setResult(Language.tr("LoadCalculator.ProbabilityOfBlocking")+": P(B)="+NumberTools.formatPercent(B));
 		}
 	}
 
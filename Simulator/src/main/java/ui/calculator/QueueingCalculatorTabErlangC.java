@@ -20,7 +20,9 @@ import java.io.Serializable;
 import org.apache.commons.math3.util.FastMath;
 
 import language.Language;
+import mathtools.ErlangC;
 import mathtools.NumberTools;
+import ui.images.Images;
 
 /**
  * Panel zur Berechnung von Kenngren in einem Warteschlangensystem
@@ -84,6 +86,18 @@ public class QueueingCalculatorTabErlangC extends QueueingCalculatorTabBase {
 		tInput.addOption("t ("+unitMinutes+")",60,false,null);
 		tInput.addOption("t ("+unitHours+")",3600,false,null);
 		add(tInput.get());
+
+		/* Personalbedarfstabelle */
+		addButton(Language.tr("LoadCalculator.StaffingTable"),Language.tr("LoadCalculator.StaffingTable.Info"),Images.EXTRAS_QUEUE_FUNCTION.getIcon(),()->showStaffingTable());
+	}
+
+	/**
+	 * Zeigt die Personalbedarfstabelle zu den aktuellen Eingaben an.
+	 * @see QueueingCalculatorStaffingTableDialog
+	 */
+	private void showStaffingTable() {
+		if (!lambdaInput.isValueOk() || !muInput.isValueOk() || !cInput.isValueOk() || !tInput.isValueOk()) {setError(); return;}
+		new QueueingCalculatorStaffingTableDialog(this,lambdaInput.getDouble(),muInput.getDouble(),0,cInput.getLong(),tInput.getDouble());
 	}
 
 	@Override
@@ -98,11 +112,7 @@ public class QueueingCalculatorTabErlangC extends QueueingCalculatorTabBase {
 		final double t=tInput.getDouble();
 
 		double a=lambda/mu;
-		double P1=0;
-		for (int i=0;i<=c-1;i++)
-			P1+=powerFactorial(a,i);
-		double temp=powerFactorial(a,c)*c/(c-a);
-		P1=temp/(P1+temp);
+		final double P1=ErlangC.erlangC(a,(int)c);
 
 		double EW=P1/(c*mu-lambda);
 		double EV=EW+1/mu;
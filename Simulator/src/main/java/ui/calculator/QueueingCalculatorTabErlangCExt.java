@@ -17,11 +17,10 @@ package ui.calculator;
 
 import java.io.Serializable;
 
-import org.apache.commons.math3.special.Gamma;
-
 import language.Language;
 import mathtools.ErlangC;
 import mathtools.NumberTools;
+import ui.images.Images;
 
 /**
  * Panel zur Berechnung von Kenngren in einem Warteschlangensystem
@@ -98,6 +97,18 @@ public class QueueingCalculatorTabErlangCExt extends QueueingCalculatorTabBase {
 		tInput.addOption("t ("+unitMinutes+")",60,false,null);
 		tInput.addOption("t ("+unitHours+")",3600,false,null);
 		add(tInput.get());
+
+		/* Personalbedarfstabelle */
+		addButton(Language.tr("LoadCalculator.StaffingTable"),Language.tr("LoadCalculator.StaffingTable.Info"),Images.EXTRAS_QUEUE_FUNCTION.getIcon(),()->showStaffingTable());
+	}
+
+	/**
+	 * Zeigt die Personalbedarfstabelle zu den aktuellen Eingaben an.
+	 * @see QueueingCalculatorStaffingTableDialog
+	 */
+	private void showStaffingTable() {
+		if (!lambdaInput.isValueOk() || !muInput.isValueOk() || !nuInput.isValueOk() || !cInput.isValueOk() || !tInput.isValueOk()) {setError(); return;}
+		new QueueingCalculatorStaffingTableDialog(this,lambdaInput.getDouble(),muInput.getDouble(),nuInput.getDouble(),cInput.getLong(),tInput.getDouble());
 	}
 
 	@Override
@@ -115,32 +126,13 @@ public class QueueingCalculatorTabErlangCExt extends QueueingCalculatorTabBase {
 
 		double a=lambda/mu;
 
-		final int K=1000;
-
-		double[] Cn=ErlangC.extErlangCCn(lambda,mu,nu,(int)c,K);
-		double pi0=0;
-		for (int i=0;i<Cn.length;i++) pi0+=Cn[i];
-		pi0=1/pi0;
+		final double[] pi=ErlangC.extErlangCStateProbabilities(lambda,mu,nu,(int)c,Integer.MAX_VALUE);
 
-		double Plet;
-		if (pi0==0) Plet=1; else Plet=1-Cn[K]*pi0;
-		for (int n=(int)c;n<=K-1;n++) {
-			final Double g=Gamma.regularizedGammaQ(n-c+1,(c*mu+nu)*t);
-			Plet-=pi0*Cn[n]*g;
-		}
-		if (Double.isNaN(Plet) || Plet<0) Plet=0;
-
-		double Pgt0;
-		if (pi0==0) Pgt0=1; else Pgt0=1-Cn[K]*pi0;
-		for (int n=(int)c;n<=K-1;n++) {
-			final Double g=Gamma.regularizedGammaQ(n-c+1,0);
-			Pgt0-=pi0*Cn[n]*g;
-		}
-		if (Double.isNaN(Pgt0) || Pgt0<0) Pgt0=0;
-		Pgt0=1-Pgt0;
+		final double Plet=ErlangC.extErlangCWaitingTimeProbability(pi,mu,nu,(int)c,t);
+		final double Pgt0=1-ErlangC.extErlangCWaitingTimeProbability(pi,mu,nu,(int)c,0);
 
-		double ENQ=0; for (int i=(int)(c+1);i<Cn.length;i++) ENQ+=(i-c)*Cn[i]*pi0;
-		double EN=0; for (int i=1;i<Cn.length;i++) EN+=i*Cn[i]*pi0;
+		double ENQ=0; for (int i=(int)(c+1);i<pi.length;i++) ENQ+=(i-c)*pi[i];
+		double EN=0; for (int i=1;i<pi.length;i++) EN+=i*pi[i];
 		double EW=ENQ/lambda;
 		double EV=EN/lambda;
 
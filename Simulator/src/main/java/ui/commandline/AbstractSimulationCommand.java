@@ -17,6 +17,7 @@ package ui.commandline;
 
 import java.io.File;
 import java.io.PrintStream;
+import java.util.function.Consumer;
 
 import org.w3c.dom.Element;
 
@@ -129,11 +130,24 @@ public abstract class AbstractSimulationCommand extends AbstractCommand {
 	 * @return	Gibt im Erfolgsfalls das Statistik-Objekt zurck, sonst <code>null</code>
 	 */
 	protected final Statistics singleSimulation(EditModel editModel, boolean minimalOutput, int maxThreads, PrintStream out) {
+		return singleSimulation(editModel,minimalOutput,maxThreads,out,null);
+	}
+
+	/**
+	 * Fhrt eine Simulation aus und liefert das Ergebnis-Statistik-Objekt zurck
+	 * @param editModel	Zu simulierendes Modell
+	 * @param minimalOutput	Wird hier <code>false</code> bergeben, so werden Fortschrittsmeldungen ausgegeben.
+	 * @param maxThreads Gibt an, wie viele Threads maximal verwendet werden sollen.
+	 * @param out	Ein <code>PrintStream</code>-Objekt, ber das Texte ausgegeben werden knnen.
+	 * @param simulationDone	Optionaler Callback, der nach dem Ende der Simulation (und nach dem Einsammeln der Statistikdaten) mit dem Simulator-Objekt aufgerufen wird, um z.B. Laufzeitdaten der Threads auszulesen (kann <code>null</code> sein)
+	 * @return	Gibt im Erfolgsfalls das Statistik-Objekt zurck, sonst <code>null</code>
+	 */
+	protected final Statistics singleSimulation(EditModel editModel, boolean minimalOutput, int maxThreads, PrintStream out, final Consumer<Simulator> simulationDone) {
 		/* Modell vorbereiten */
 		if (EditModelBase.isNewerVersionSystem(editModel.version,EditModel.systemVersion)) {
 			out.println(Language.tr("Dialog.Title.Warning").toUpperCase()+": "+Language.tr("Editor.NewerVersion.Info.Short"));
 		}
-		simulator=new Simulator(editModel,null);
+		simulator=(maxThreads==Integer.MAX_VALUE)?new Simulator(editModel,null):new Simulator(maxThreads,editModel,null);
 		String s=simulator.prepare();
 		if (s!=null) {out.println(BaseCommandLineSystem.errorBig+": "+Language.tr("CommandLine.Error.PreparationOfModel")+": "+s); return null;}
 
@@ -146,6 +160,7 @@ public abstract class AbstractSimulationCommand extends AbstractCommand {
 		Statistics statistics=simulator.getStatistic();
 		if (!minimalOutput) out.println(String.format(Language.tr("CommandLine.Simulation.Done"),NumberTools.formatLong(statistics.simulationData.runTime)));
 
+		if (simulationDone!=null) simulationDone.accept(simulator);
 		simulator=null;
 
 		return statistics;
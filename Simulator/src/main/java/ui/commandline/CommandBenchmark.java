@@ -18,29 +18,51 @@ package ui.commandline;
 import java.io.File;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import language.Language;
 import mathtools.NumberTools;
+import mathtools.Table;
 import simulator.editmodel.EditModel;
 import simulator.statistics.Statistics;
 import systemtools.commandline.AbstractCommand;
 import systemtools.commandline.BaseCommandLineSystem;
 
 /**
- * Fhrt einenen Benchmark-Test der Simulatorleistung durch.
+ * Fhrt einenen Benchmark-Test der Simulatorleistung durch.<br>
+ * Das Modell wird dabei nacheinander mit 1, 2, ... bis zur maximalen Anzahl an Threads
+ * simuliert (starke Skalierung: die Gesamtanzahl an Anrufen bleibt gleich). Pro Thread-Anzahl
+ * werden Ereignisse pro Sekunde, Beschleunigung, parallele Effizienz, Ungleichgewicht der
+ * Thread-Laufzeiten, Zeit fr Garbage Collection und angelegter Speicher pro Ereignis erfasst.
+ * Optional knnen die Ergebnisse als csv- oder json-Datei gespeichert werden. Wird eine bereits
+ * existierende csv-Datei (aus einem frheren Lauf) angegeben, so werden die Ergebnisse mit dieser
+ * verglichen und Leistungsrckgnge ber {@link #REGRESSION_TOLERANCE} hinaus als Fehler gemeldet.
  * @author Alexander Herzog
  * @see AbstractCommand
  * @see CommandLineSystem
  */
 public final class CommandBenchmark extends AbstractSimulationCommand {
+	/** Anzahl an Simulationslufen pro Thread-Anzahl */
+	private static final int RUNS_PER_THREAD_COUNT=3;
+
+	/** Zulssige relative Abweichung gegenber den Vergleichswerten, bevor ein Leistungsrckgang gemeldet wird */
+	private static final double REGRESSION_TOLERANCE=0.1;
+
 	/** Maximalanzahl an Threads (wird durch die Hardware weiter limitiert) */
 	private int maxThreads=Integer.MAX_VALUE;
 	/** Benchmark-Modus */
 	private int speedTestMode=0;
 	/** Zu simulierende Modelldatei */
 	private File modelFile;
+	/** Optionale Ausgabedatei fr die Ergebnisse (csv oder json; kann <code>null</code> sein) */
+	private File resultsFile;
+	/** Optionale csv-Datei mit Ergebnissen eines frheren Laufs, mit denen die aktuellen Ergebnisse verglichen werden (kann <code>null</code> sein) */
+	private File baselineFile;
 
 	/**
 	 * Konstruktor der Klasse
@@ -79,23 +101,313 @@ public final class CommandBenchmark extends AbstractSimulationCommand {
 		return Language.tr("CommandLine.Benchmark.Description.Long").split("\n");
 	}
 
+	/**
+	 * Prft, ob es sich bei einem Dateinamen um eine mgliche Ergebnisdatei handelt.
+	 * @param fileName	Zu prfender Dateiname
+	 * @return	Liefert <code>true</code>, wenn der Dateiname auf ".csv" oder ".json" endet
+	 */
+	private static boolean isResultsFileName(final String fileName) {
+		final String lower=fileName.toLowerCase();
+		return lower.endsWith(".csv") || lower.endsWith(".json");
+	}
+
 	@Override
 	public String prepare(String[] additionalArguments, InputStream in, PrintStream out) {
-		String s=parameterCountCheck(0,1,additionalArguments); if (s!=null) return s;
+		String s=parameterCountCheck(0,4,additionalArguments); if (s!=null) return s;
+
+		for (String arg: additionalArguments) {
+			Integer I=NumberTools.getNotNegativeInteger(arg);
+			if (I!=null && I!=0) {maxThreads=I; continue;}
 
-		if (additionalArguments.length==0) return null;
-		String arg=additionalArguments[0];
+			if (isResultsFileName(arg)) {
+				final File file=new File(arg);
+				if (baselineFile==null && file.isFile() && arg.toLowerCase().endsWith(".csv")) {baselineFile=file; continue;}
+				resultsFile=file;
+				if (resultsFile.exists()) return String.format(Language.tr("CommandLine.Error.File.OutputAlreadyExist"),resultsFile.toString());
+				continue;
+			}
 
-		Integer I=NumberTools.getNotNegativeInteger(additionalArguments[0]);
-		if (I!=null && I!=0) {maxThreads=I; return null;}
+			speedTestMode=1;
+			modelFile=new File(arg);
+			if (!modelFile.isFile()) return String.format(Language.tr("CommandLine.Error.File.InputDoesNotExist"),modelFile.toString());
+			if (!isModelFile(modelFile)) return String.format(Language.tr("CommandLine.Error.File.InputNoValidModelFile"),modelFile.toString());
+		}
 
-		speedTestMode=1;
-		modelFile=new File(arg);
-		if (!modelFile.isFile()) return String.format(Language.tr("CommandLine.Error.File.InputDoesNotExist"),modelFile.toString());
-		if (!isModelFile(modelFile)) return String.format(Language.tr("CommandLine.Error.File.InputNoValidModelFile"),modelFile.toString());
 		return null;
 	}
 
+	/**
+	 * Ergebnisse der Simulationslufe fr eine Thread-Anzahl
+	 */
+	private static final class SweepResult {
+		/** Vorgegebene maximale Anzahl an Threads */
+		public int maxThreads;
+		/** Tatschlich verwendete Anzahl an Threads */
+		public int threads;
+		/** Anzahl an ausgewerteten Simulationslufen */
+		public int runs;
+		/** Summe der Rechenzeiten ber alle Lufe (in ms) */
+		public long runTime;
+		/** Summe der Anzahl an Ereignissen ber alle Lufe */
+		public long events;
+		/** Grtes Verhltnis aus maximaler und mittlerer Thread-Laufzeit ber alle Lufe */
+		public double imbalance;
+		/** Summe der Zeiten fr Garbage Collection ber alle Lufe (in ms) */
+		public long gcTime;
+		/** Summe der Anzahl an Garbage Collections ber alle Lufe */
+		public long gcCount;
+		/** Summe der angelegten Bytes ber alle Lufe (-1, wenn nicht erfasst) */
+		public long allocatedBytes;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param maxThreads	Vorgegebene maximale Anzahl an Threads
+		 */
+		public SweepResult(final int maxThreads) {
+			this.maxThreads=maxThreads;
+		}
+
+		/**
+		 * Liefert die mittlere Rechenzeit pro Lauf.
+		 * @return	Mittlere Rechenzeit pro Lauf (in ms)
+		 */
+		public double getMeanRunTime() {
+			return (runs==0)?0:((double)runTime)/runs;
+		}
+
+		/**
+		 * Liefert die Anzahl an Ereignissen pro Sekunde.
+		 * @return	Ereignisse pro Sekunde
+		 */
+		public double getEventsPerSecond() {
+			return 1000.0*events/Math.max(1,runTime);
+		}
+
+		/**
+		 * Liefert den angelegten Speicher pro Ereignis.
+		 * @return	Angelegter Speicher pro Ereignis (in Bytes) oder -1, wenn nicht erfasst
+		 */
+		public double getBytesPerEvent() {
+			if (allocatedBytes<0 || events==0) return -1;
+			return ((double)allocatedBytes)/events;
+		}
+
+		/**
+		 * Liefert die Beschleunigung gegenber einem Referenzlauf.
+		 * @param reference	Referenzlauf (mit einem Thread)
+		 * @return	Beschleunigung
+		 */
+		public double getSpeedup(final SweepResult reference) {
+			return getEventsPerSecond()/reference.getEventsPerSecond();
+		}
+
+		/**
+		 * Liefert die parallele Effizienz gegenber einem Referenzlauf.
+		 * @param reference	Referenzlauf (mit einem Thread)
+		 * @return	Parallele Effizienz (Beschleunigung geteilt durch Anzahl an Threads)
+		 */
+		public double getEfficiency(final SweepResult reference) {
+			return getSpeedup(reference)/Math.max(1,threads);
+		}
+	}
+
+	/**
+	 * Liefert die bisherige Gesamtzeit fr Garbage Collection.
+	 * @return	Bisherige Gesamtzeit fr Garbage Collection (in ms)
+	 */
+	private static long getGCTime() {
+		long sum=0;
+		for (GarbageCollectorMXBean bean: ManagementFactory.getGarbageCollectorMXBeans()) sum+=Math.max(0,bean.getCollectionTime());
+		return sum;
+	}
+
+	/**
+	 * Liefert die bisherige Gesamtanzahl an Garbage Collections.
+	 * @return	Bisherige Gesamtanzahl an Garbage Collections
+	 */
+	private static long getGCCount() {
+		long sum=0;
+		for (GarbageCollectorMXBean bean: ManagementFactory.getGarbageCollectorMXBeans()) sum+=Math.max(0,bean.getCollectionCount());
+		return sum;
+	}
+
+	/**
+	 * Fhrt einen Simulationslauf aus und trgt die Ergebnisse in ein {@link SweepResult}-Objekt ein.
+	 * @param editModel	Zu simulierendes Modell
+	 * @param result	Ergebnisobjekt, in das die Daten des Laufs eingetragen werden sollen (wird <code>null</code> bergeben, so wird der Lauf nicht gewertet)
+	 * @param threads	Maximal zu verwendende Anzahl an Threads
+	 * @param out	Ein <code>PrintStream</code>-Objekt, ber das Texte ausgegeben werden knnen.
+	 * @return	Statistikergebnisse des Laufs oder <code>null</code>, wenn die Simulation fehlgeschlagen ist
+	 */
+	private Statistics benchmarkRun(final EditModel editModel, final SweepResult result, final int threads, final PrintStream out) {
+		final long gcTime=getGCTime();
+		final long gcCount=getGCCount();
+		final int[][] threadRuntimes=new int[1][];
+		final long[][] threadAllocatedBytes=new long[1][];
+
+		final Statistics statistics=singleSimulation(editModel,true,threads,out,simulator->{
+			threadRuntimes[0]=simulator.getThreadRuntimes();
+			threadAllocatedBytes[0]=simulator.getThreadAllocatedBytes();
+		});
+		if (statistics==null || result==null) return statistics;
+
+		result.threads=statistics.simulationData.runThreads;
+		result.runs++;
+		result.runTime+=statistics.simulationData.runTime;
+		result.events+=statistics.simulationData.runEvents;
+		result.gcTime+=getGCTime()-gcTime;
+		result.gcCount+=getGCCount()-gcCount;
+
+		if (threadRuntimes[0]!=null && threadRuntimes[0].length>0) {
+			long sum=0;
+			int max=0;
+			for (int runtime: threadRuntimes[0]) {sum+=runtime; max=Math.max(max,runtime);}
+			if (sum>0) result.imbalance=Math.max(result.imbalance,((double)max)*threadRuntimes[0].length/sum);
+		}
+
+		if (threadAllocatedBytes[0]!=null && result.allocatedBytes>=0) {
+			for (long bytes: threadAllocatedBytes[0]) {
+				if (bytes<0) {result.allocatedBytes=-1; break;}
+				result.allocatedBytes+=bytes;
+			}
+		} else {
+			result.allocatedBytes=-1;
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Gibt die Ergebnisse fr eine Thread-Anzahl aus.
+	 * @param result	Ergebnisse fr eine Thread-Anzahl
+	 * @param reference	Ergebnisse des Laufs mit einem Thread (Referenz fr Beschleunigung und Effizienz)
+	 * @param out	Ein <code>PrintStream</code>-Objekt, ber das Texte ausgegeben werden knnen.
+	 */
+	private static void printResult(final SweepResult result, final SweepResult reference, final PrintStream out) {
+		out.println("  "+Language.tr("CommandLine.Benchmark.NeededCalculationTime")+": "+NumberTools.formatLong(Math.round(result.getMeanRunTime()))+" ms");
+		out.println("  "+Language.tr("CommandLine.Benchmark.EventsPerSecond")+": "+NumberTools.formatLong(Math.round(result.getEventsPerSecond())));
+		out.println("  "+Language.tr("CommandLine.Benchmark.Speedup")+": "+NumberTools.formatNumber(result.getSpeedup(reference),2));
+		out.println("  "+Language.tr("CommandLine.Benchmark.Efficiency")+": "+NumberTools.formatPercent(result.getEfficiency(reference),1));
+		out.println("  "+Language.tr("CommandLine.Benchmark.Imbalance")+": "+NumberTools.formatNumber(result.imbalance,3));
+		out.println("  "+Language.tr("CommandLine.Benchmark.GCTime")+": "+NumberTools.formatLong(result.gcTime/Math.max(1,result.runs))+" ms ("+NumberTools.formatLong(result.gcCount/Math.max(1,result.runs))+" "+Language.tr("CommandLine.Benchmark.GCCount")+")");
+		if (result.getBytesPerEvent()>=0) out.println("  "+Language.tr("CommandLine.Benchmark.BytesPerEvent")+": "+NumberTools.formatNumber(result.getBytesPerEvent(),1)+" Bytes");
+	}
+
+	/**
+	 * Liefert die Ergebnisse im csv-Format (Spaltenberschriften auf Englisch, Dezimaltrenner ".").
+	 * @param results	Ergebnisse pro Thread-Anzahl (der erste Eintrag ist der Referenzlauf mit einem Thread)
+	 * @return	Ergebnisse im csv-Format
+	 */
+	private static String getCSV(final List<SweepResult> results) {
+		final StringBuilder sb=new StringBuilder();
+		sb.append("maxThreads,threads,runs,meanRunTimeMs,eventsPerSecond,speedup,efficiency,imbalance,gcTimeMsPerRun,gcCountPerRun,bytesPerEvent\n");
+		final SweepResult reference=results.get(0);
+		for (SweepResult result: results) {
+			sb.append(result.maxThreads);
+			sb.append(',').append(result.threads);
+			sb.append(',').append(result.runs);
+			sb.append(',').append(NumberTools.formatSystemNumber(result.getMeanRunTime()));
+			sb.append(',').append(NumberTools.formatSystemNumber(result.getEventsPerSecond()));
+			sb.append(',').append(NumberTools.formatSystemNumber(result.getSpeedup(reference)));
+			sb.append(',').append(NumberTools.formatSystemNumber(result.getEfficiency(reference)));
+			sb.append(',').append(NumberTools.formatSystemNumber(result.imbalance));
+			sb.append(',').append(NumberTools.formatSystemNumber(((double)result.gcTime)/Math.max(1,result.runs)));
+			sb.append(',').append(NumberTools.formatSystemNumber(((double)result.gcCount)/Math.max(1,result.runs)));
+			sb.append(',').append(NumberTools.formatSystemNumber(result.getBytesPerEvent()));
+			sb.append('\n');
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Liefert die Ergebnisse im json-Format.
+	 * @param results	Ergebnisse pro Thread-Anzahl (der erste Eintrag ist der Referenzlauf mit einem Thread)
+	 * @param modelName	Name des simulierten Modells
+	 * @return	Ergebnisse im json-Format
+	 */
+	private static String getJSON(final List<SweepResult> results, final String modelName) {
+		final StringBuilder sb=new StringBuilder();
+		sb.append("{\n");
+		sb.append("  \"model\": \"").append(modelName.replace("\\","\\\\").replace("\"","\\\"")).append("\",\n");
+		sb.append("  \"availableProcessors\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+		sb.append("  \"runsPerThreadCount\": ").append(RUNS_PER_THREAD_COUNT).append(",\n");
+		sb.append("  \"results\": [\n");
+		final SweepResult reference=results.get(0);
+		for (int i=0;i<results.size();i++) {
+			final SweepResult result=results.get(i);
+			sb.append("    {");
+			sb.append("\"maxThreads\": ").append(result.maxThreads);
+			sb.append(", \"threads\": ").append(result.threads);
+			sb.append(", \"runs\": ").append(result.runs);
+			sb.append(", \"meanRunTimeMs\": ").append(NumberTools.formatSystemNumber(result.getMeanRunTime()));
+			sb.append(", \"eventsPerSecond\": ").append(NumberTools.formatSystemNumber(result.getEventsPerSecond()));
+			sb.append(", \"speedup\": ").append(NumberTools.formatSystemNumber(result.getSpeedup(reference)));
+			sb.append(", \"efficiency\": ").append(NumberTools.formatSystemNumber(result.getEfficiency(reference)));
+			sb.append(", \"imbalance\": ").append(NumberTools.formatSystemNumber(result.imbalance));
+			sb.append(", \"gcTimeMsPerRun\": ").append(NumberTools.formatSystemNumber(((double)result.gcTime)/Math.max(1,result.runs)));
+			sb.append(", \"gcCountPerRun\": ").append(NumberTools.formatSystemNumber(((double)result.gcCount)/Math.max(1,result.runs)));
+			sb.append(", \"bytesPerEvent\": ").append((result.getBytesPerEvent()<0)?"null":NumberTools.formatSystemNumber(result.getBytesPerEvent()));
+			sb.append("}");
+			if (i<results.size()-1) sb.append(',');
+			sb.append('\n');
+		}
+		sb.append("  ]\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	/**
+	 * Ldt die Ergebnisse eines frheren Laufs aus einer csv-Datei (wie sie von {@link #getCSV(List)} erstellt wird).
+	 * @param file	Zu ladende csv-Datei
+	 * @return	Zuordnung von Thread-Anzahl zu Ereignissen pro Sekunde und angelegtem Speicher pro Ereignis oder <code>null</code>, wenn die Datei nicht geladen werden konnte
+	 */
+	private static Map<Integer,double[]> loadBaseline(final File file) {
+		final List<String> lines=Table.loadTextLinesFromFile(file);
+		if (lines==null || lines.size()<2) return null;
+
+		final List<String> header=List.of(lines.get(0).trim().split(","));
+		final int colThreads=header.indexOf("threads");
+		final int colEventsPerSecond=header.indexOf("eventsPerSecond");
+		final int colBytesPerEvent=header.indexOf("bytesPerEvent");
+		if (colThreads<0 || colEventsPerSecond<0 || colBytesPerEvent<0) return null;
+
+		final Map<Integer,double[]> baseline=new HashMap<>();
+		for (int i=1;i<lines.size();i++) {
+			final String[] cells=lines.get(i).trim().split(",");
+			if (cells.length<=Math.max(colThreads,Math.max(colEventsPerSecond,colBytesPerEvent))) continue;
+			final Integer threads=NumberTools.getNotNegativeInteger(cells[colThreads]);
+			final Double eventsPerSecond=NumberTools.getDouble(cells[colEventsPerSecond]);
+			final Double bytesPerEvent=NumberTools.getDouble(cells[colBytesPerEvent]);
+			if (threads==null || eventsPerSecond==null || bytesPerEvent==null) return null;
+			baseline.put(threads,new double[]{eventsPerSecond,bytesPerEvent});
+		}
+		return baseline.isEmpty()?null:baseline;
+	}
+
+	/**
+	 * Vergleicht die Ergebnisse mit den Ergebnissen eines frheren Laufs und gibt alle Leistungsrckgnge aus.
+	 * @param results	Ergebnisse pro Thread-Anzahl
+	 * @param baseline	Vergleichswerte pro Thread-Anzahl (siehe {@link #loadBaseline(File)})
+	 * @param out	Ein <code>PrintStream</code>-Objekt, ber das Texte ausgegeben werden knnen.
+	 * @return	Liefert <code>true</code>, wenn keine Leistungsrckgnge festgestellt wurden
+	 */
+	private static boolean checkRegression(final List<SweepResult> results, final Map<Integer,double[]> baseline, final PrintStream out) {
+		boolean ok=true;
+		for (SweepResult result: results) {
+			final double[] reference=baseline.get(result.threads);
+			if (reference==null) continue;
+			if (result.getEventsPerSecond()<reference[0]*(1-REGRESSION_TOLERANCE)) {
+				out.println(BaseCommandLineSystem.errorBig+": "+String.format(Language.tr("CommandLine.Benchmark.Regression"),NumberTools.formatLong(result.threads),Language.tr("CommandLine.Benchmark.EventsPerSecond"),NumberTools.formatLong(Math.round(result.getEventsPerSecond())),NumberTools.formatLong(Math.round(reference[0]))));
+				ok=false;
+			}
+			if (result.getBytesPerEvent()>=0 && reference[1]>=0 && result.getBytesPerEvent()>reference[1]*(1+REGRESSION_TOLERANCE)) {
+				out.println(BaseCommandLineSystem.errorBig+": "+String.format(Language.tr("CommandLine.Benchmark.Regression"),NumberTools.formatLong(result.threads),Language.tr("CommandLine.Benchmark.BytesPerEvent"),NumberTools.formatNumber(result.getBytesPerEvent(),1),NumberTools.formatNumber(reference[1],1)));
+				ok=false;
+			}
+		}
+		return ok;
+	}
+
 	@Override
 	public void run(AbstractCommand[] allCommands, InputStream in, PrintStream out) {
 		EditModel editModel=null;
@@ -114,15 +426,55 @@ public final class CommandBenchmark extends AbstractSimulationCommand {
 
 		if (editModel==null) return;
 
-		for (int i=0;i<5;i++) {
+		/* Vergleichswerte laden */
+		Map<Integer,double[]> baseline=null;
+		if (baselineFile!=null) {
+			baseline=loadBaseline(baselineFile);
+			if (baseline==null) {out.println(BaseCommandLineSystem.errorBig+": "+String.format(Language.tr("CommandLine.Benchmark.BaselineLoadError"),baselineFile.toString())); return;}
+		}
+
+		/* Aufwrmlauf (wird nicht gewertet, damit JIT-bersetzung und Klassenladen nicht in die Messung eingehen) */
+		final int maxThreadCount=Math.max(1,Math.min(maxThreads,Runtime.getRuntime().availableProcessors()));
+		out.println(Language.tr("CommandLine.Benchmark.WarmUp"));
+		if (benchmarkRun(editModel,null,maxThreadCount,out)==null) {out.println(BaseCommandLineSystem.errorBig+": "+Language.tr("CommandLine.Benchmark.SimulaionFailed")); return;}
+
+		/* Thread-Anzahlen 1..N durchlaufen */
+		final List<SweepResult> results=new ArrayList<>();
+		for (int threads=1;threads<=maxThreadCount;threads++) {
 			if (isCanceled()) break;
-			if (i>0) out.println(Language.tr("CommandLine.Benchmark.SimulaionRun")+" "+(i+1));
-			Statistics statistics=singleSimulation(editModel,true,maxThreads,out);
-			if (statistics==null) {out.println(BaseCommandLineSystem.errorBig+": "+Language.tr("CommandLine.Benchmark.SimulaionFailed")); return;}
-			if (i==0) out.println(Language.tr("CommandLine.Benchmark.Threads")+": "+NumberTools.formatLong(statistics.simulationData.runThreads));
-			if (i==0) out.println(Language.tr("CommandLine.Benchmark.SimulaionRun")+" "+(i+1));
-			out.println("  "+Language.tr("CommandLine.Benchmark.NeededCalculationTime")+": "+NumberTools.formatLong(statistics.simulationData.runTime)+" ms");
-			out.println("  "+Language.tr("CommandLine.Benchmark.EventsPerSecond")+": "+NumberTools.formatLong(1000*statistics.simulationData.runEvents/statistics.simulationData.runTime));
+			final SweepResult result=new SweepResult(threads);
+			for (int i=0;i<RUNS_PER_THREAD_COUNT;i++) {
+				if (isCanceled()) break;
+				final Statistics statistics=benchmarkRun(editModel,result,threads,out);
+				if (statistics==null) {out.println(BaseCommandLineSystem.errorBig+": "+Language.tr("CommandLine.Benchmark.SimulaionFailed")); return;}
+				if (i==0) out.println(Language.tr("CommandLine.Benchmark.Threads")+": "+NumberTools.formatLong(statistics.simulationData.runThreads));
+				out.println("  "+Language.tr("CommandLine.Benchmark.SimulaionRun")+" "+(i+1)+": "+NumberTools.formatLong(statistics.simulationData.runTime)+" ms");
+			}
+			if (result.runs==0) break;
+			results.add(result);
+			printResult(result,results.get(0),out);
+			/* Das Modell lsst sich nicht auf mehr Threads verteilen */
+			if (result.threads<threads) break;
+		}
+
+		/* Ergebnisse speichern */
+		if (resultsFile!=null && !results.isEmpty()) {
+			final String modelName=(modelFile==null)?editModel.name:modelFile.getName();
+			final String text=resultsFile.getName().toLowerCase().endsWith(".json")?getJSON(results,modelName):getCSV(results);
+			if (Table.saveTextToFile(text,resultsFile)) {
+				out.println(String.format(Language.tr("CommandLine.Benchmark.ResultsSaved"),resultsFile.toString()));
+			} else {
+				out.println(BaseCommandLineSystem.errorBig+": "+String.format(Language.tr("CommandLine.Benchmark.ResultsSaveError"),resultsFile.toString()));
+			}
+		}
+
+		/* Mit Vergleichswerten abgleichen */
+		if (baseline!=null && !results.isEmpty()) {
+			if (checkRegression(results,baseline,out)) {
+				out.println(String.format(Language.tr("CommandLine.Benchmark.RegressionCheckPassed"),baselineFile.toString()));
+			} else {
+				out.println(BaseCommandLineSystem.errorBig+": "+String.format(Language.tr("CommandLine.Benchmark.RegressionCheckFailed"),baselineFile.toString()));
+			}
 		}
 	}
-}
\ No newline at end of file
+}
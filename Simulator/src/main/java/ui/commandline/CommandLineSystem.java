@@ -56,6 +56,7 @@ public class CommandLineSystem extends BaseCommandLineSystem {
 		list.add(new CommandBenchmark(this));
 		list.add(new CommandReport(this));
 		list.add(new CommandReset(this));
+		list.add(new CommandTraceConvert(this));
 
 		return list;
 	}
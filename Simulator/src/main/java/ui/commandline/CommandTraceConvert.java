@@ -0,0 +1,86 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ui.commandline;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import language.Language;
+import simcore.logging.BinaryTraceConverter;
+import simcore.logging.BinaryTraceLogger;
+import systemtools.commandline.AbstractCommand;
+import systemtools.commandline.BaseCommandLineSystem;
+
+/**
+ * Wandelt eine binre Trace-Datei (siehe {@link BinaryTraceLogger}) in eine Text-, CSV-, HTML- oder RTF-Logdatei um.
+ * @author Alexander Herzog
+ * @see AbstractCommand
+ * @see CommandLineSystem
+ * @see BinaryTraceConverter
+ */
+public class CommandTraceConvert extends AbstractCommand {
+	/** Binre Trace-Datei */
+	private File traceFile;
+	/** Ausgabedatei */
+	private File outputFile;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param system	Referenz auf das Kommandozeilensystem
+	 */
+	public CommandTraceConvert(final BaseCommandLineSystem system) {
+		super(system);
+	}
+
+	@Override
+	public String[] getKeys() {
+		List<String> list=new ArrayList<>();
+		list.add(Language.tr("CommandLine.TraceConvert.Name"));
+		for (String s: Language.trOther("CommandLine.TraceConvert.Name")) if (!list.contains(s)) list.add(s);
+		return list.toArray(String[]::new);
+	}
+
+	@Override
+	public String getShortDescription() {
+		return Language.tr("CommandLine.TraceConvert.Description.Short");
+	}
+
+	@Override
+	public String[] getLongDescription() {
+		return Language.tr("CommandLine.TraceConvert.Description.Long").split("\n");
+	}
+
+	@Override
+	public String prepare(String[] additionalArguments, InputStream in, PrintStream out) {
+		String s=parameterCountCheck(2,additionalArguments); if (s!=null) return s;
+
+		traceFile=new File(additionalArguments[0]);
+		outputFile=new File(additionalArguments[1]);
+		if (!traceFile.isFile()) return String.format(Language.tr("CommandLine.Error.File.InputDoesNotExist"),traceFile.toString());
+		if (outputFile.exists()) return String.format(Language.tr("CommandLine.Error.File.OutputAlreadyExist"),outputFile.toString());
+		return null;
+	}
+
+	@Override
+	public void run(AbstractCommand[] allCommands, InputStream in, PrintStream out) {
+		final String error=BinaryTraceConverter.convert(traceFile,outputFile);
+		if (error!=null) {out.println(BaseCommandLineSystem.errorBig+": "+error); return;}
+		out.println(String.format(Language.tr("CommandLine.TraceConvert.Done"),outputFile.toString()));
+	}
+}
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import language.Language;
+import mathtools.ColumnTable;
 import mathtools.NumberTools;
 import mathtools.Table;
 import mathtools.distribution.DataDistributionImpl;
@@ -110,7 +111,7 @@ public class ViewerTable extends StatisticViewerTable {
 	 * @see #buildTable()
 	 */
 	private void buildLengthTable(final Mode mode) {
-		Table table=new Table();
+		final ColumnTable table=new ColumnTable();
 
 		StatisticsTimePerformanceIndicator performanceIndicator=null;
 		String[] headings=null;
@@ -136,15 +137,13 @@ public class ViewerTable extends StatisticViewerTable {
 
 		DataDistributionImpl dist=performanceIndicator.getDistribution();
 		double sum=Math.max(1,dist.sum());
-		for (int i=0;i<dist.densityData.length;i++) table.addLine(new String[]{
-				""+i,
-				NumberTools.formatPercent(dist.densityData[i]/sum,3)
-		});
-		table.addLine(new String[]{Language.tr("Statistics.Average"),NumberTools.formatNumber(dist.getMean(),3)});
-		table.addLine(new String[]{Language.tr("Distribution.StdDev"),NumberTools.formatNumber(dist.getStandardDeviation(),3)});
-		table.addLine(new String[]{Language.tr("Distribution.CV"),NumberTools.formatNumber(performanceIndicator.getTimeCV())});
-		table.addLine(new String[]{Language.tr("Statistics.Minimum"),NumberTools.formatNumber(performanceIndicator.getTimeMin())});
-		table.addLine(new String[]{Language.tr("Statistics.Maximum"),NumberTools.formatNumber(performanceIndicator.getTimeMax())});
+		table.addIndexColumn(dist.densityData.length);
+		table.addPercentColumn(dist.densityData,1/sum,3);
+		table.addFooterLine(Language.tr("Statistics.Average"),NumberTools.formatNumber(dist.getMean(),3));
+		table.addFooterLine(Language.tr("Distribution.StdDev"),NumberTools.formatNumber(dist.getStandardDeviation(),3));
+		table.addFooterLine(Language.tr("Distribution.CV"),NumberTools.formatNumber(performanceIndicator.getTimeCV()));
+		table.addFooterLine(Language.tr("Statistics.Minimum"),NumberTools.formatNumber(performanceIndicator.getTimeMin()));
+		table.addFooterLine(Language.tr("Statistics.Maximum"),NumberTools.formatNumber(performanceIndicator.getTimeMax()));
 
 		setData(table,headings);
 	}
@@ -168,7 +167,7 @@ public class ViewerTable extends StatisticViewerTable {
 	 * @see #buildTable()
 	 */
 	private void buildTimesTable(final Mode mode) {
-		Table table=new Table();
+		final ColumnTable table=new ColumnTable();
 
 		StatisticsDataPerformanceIndicator performanceIndicator=null;
 
@@ -189,14 +188,12 @@ public class ViewerTable extends StatisticViewerTable {
 
 		DataDistributionImpl dist=performanceIndicator.getDistribution();
 		double sum=Math.max(1,dist.sum());
-		for (int i=0;i<dist.densityData.length;i++) table.addLine(new String[]{
-				""+i,
-				""+Math.round(dist.densityData[i]),
-				NumberTools.formatPercent(dist.densityData[i]/sum,3)
-		});
-		table.addLine(new String[]{Language.tr("Statistics.Average"),NumberTools.formatNumber(dist.getMean(),3),""});
-		table.addLine(new String[]{Language.tr("Distribution.StdDev"),NumberTools.formatNumber(dist.getStandardDeviation(),3),""});
-		table.addLine(new String[]{Language.tr("Distribution.CV"),NumberTools.formatNumber(performanceIndicator.getCV()),""});
+		table.addIndexColumn(dist.densityData.length);
+		table.addRoundedColumn(dist.densityData);
+		table.addPercentColumn(dist.densityData,1/sum,3);
+		table.addFooterLine(Language.tr("Statistics.Average"),NumberTools.formatNumber(dist.getMean(),3),"");
+		table.addFooterLine(Language.tr("Distribution.StdDev"),NumberTools.formatNumber(dist.getStandardDeviation(),3),"");
+		table.addFooterLine(Language.tr("Distribution.CV"),NumberTools.formatNumber(performanceIndicator.getCV()),"");
 
 		setData(table,new String[]{Language.tr("Statistic.NumberOfSeconds"),Language.tr("Statistic.Viewer.Chart.Number"),Language.tr("Statistic.Viewer.Chart.Part")});
 	}
@@ -775,6 +775,14 @@ public class ViewerText extends StatisticViewerText {
 		addLine(Language.tr("Statistics.SystemData.CountedClients")+": "+NumberTools.formatLong(statistics.freshCalls.get()+statistics.callContinued.getSuccess()+statistics.callRetry.getSuccess()));
 		endParagraph();
 
+		if (statistics.warmUpPeriod.getCount()>0) {
+			beginParagraph();
+			final String warmUp=String.format(Language.tr("SimStatistic.SystemData.WarmUpPeriod.Info"),NumberTools.formatNumber(statistics.warmUpPeriod.getMean(),1),NumberTools.formatLong((long)statistics.warmUpPeriod.getMin()),NumberTools.formatLong((long)statistics.warmUpPeriod.getMax()));
+			addLine(Language.tr("SimStatistic.SystemData.WarmUpPeriod")+": "+warmUp);
+			if (statistics.editModel.autoWarmUp) addLine(Language.tr("SimStatistic.SystemData.WarmUpPeriod.Auto"));
+			endParagraph();
+		}
+
 		beginParagraph();
 		addLine(Language.tr("Statistics.SystemData.EventsPerSecond")+": "+NumberTools.formatLong(statistics.simulationData.runEvents*1000/statistics.simulationData.runTime));
 		addLine(Language.tr("Statistics.SystemData.TimePerEvent")+" (*): "+NumberTools.formatNumber(((double)statistics.simulationData.runTime)*statistics.simulationData.runThreads*1000/statistics.simulationData.runEvents,2)+" s");